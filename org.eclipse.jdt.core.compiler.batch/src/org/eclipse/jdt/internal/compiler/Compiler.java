@@ -37,6 +37,7 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 	public ProblemReporter problemReporter;
 	protected PrintWriter out; // output for messages that are not sent to problemReporter
 	public CompilerStats stats;
+	public CompilerProfiler profiler; // optional, records per unit measurements of each phase
 	public CompilationProgress progress;
 	public int remainingIterations = 1;
 
@@ -58,6 +59,14 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 	public int annotationProcessorStartIndex = 0;
 	public ReferenceBinding[] referenceBindings;
 	public boolean useSingleThread = true; // by default the compiler will not use worker threads to read/process/write
+	// number of threads parsing method bodies ahead of processing when not using a single thread
+	// only the parsing of method bodies is concurrent: the units are still resolved, analyzed and generated one after the other
+	public int parsingThreads = 1;
+	// number of threads resolving, analyzing and generating the units, each with its own lookup environment (see ParallelProcessManager)
+	public int processingThreads = 1;
+	ParseTaskManager parseTaskManager;
+	// arenas interning the identifiers of the parsers created by newParser(), emptied by reset()
+	private final List<CharArena> identifierArenas = new ArrayList<>();
 
 	// number of initial units parsed at once (-1: none)
 
@@ -423,6 +432,10 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 	}
 
 	public void compile(ICompilationUnit[] sourceUnits) {
+		if (this.processingThreads > 1 && ParallelProcessManager.canProcess(this, sourceUnits)) {
+			new ParallelProcessManager(this, this.processingThreads).compile(sourceUnits);
+			return;
+		}
 		compile(sourceUnits, false);
 	}
 	/**
@@ -562,6 +575,8 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 					unit = this.unitsToProcess[i];
 					if (unit.compilationResult != null && unit.compilationResult.hasBeenAccepted)
 						continue;
+					if (!claim(unit, i))
+						continue; // processed by another compiler
 					reportProgress(Messages.bind(Messages.compilation_processing, new String(unit.getFileName())));
 					try {
 						if (this.options.verbose)
@@ -597,6 +612,8 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 							}));
 				}
 			} else {
+				if (this.parsingThreads > 1 && this.parseTaskManager == null)
+					this.parseTaskManager = new ParseTaskManager(this, this.parsingThreads);
 				processingTask = new ProcessTaskManager(this, startingIndex);
 				int acceptedCount = 0;
 				// process all units (some more could be injected in the loop by the lookup environment)
@@ -645,6 +662,10 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 				processingTask.shutdown();
 				processingTask = null;
 			}
+			if (this.parseTaskManager != null) {
+				this.parseTaskManager.shutdown();
+				this.parseTaskManager = null;
+			}
 			reset();
 			this.annotationProcessorStartIndex  = 0;
 			this.stats.endTime = System.currentTimeMillis();
@@ -652,6 +673,27 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 		}
 	}
 
+	/*
+	 * Answers the given unit followed by the next units waiting to be processed
+	 * whose method bodies still need to be parsed, up to the given count.
+	 */
+	public synchronized CompilationUnitDeclaration[] getUnitsToParse(CompilationUnitDeclaration unit, int index, int max) {
+		CompilationUnitDeclaration[] units = new CompilationUnitDeclaration[max];
+		units[0] = unit;
+		int count = 1;
+		for (int i = index + 1; i < this.totalUnits && count < max; i++) {
+			CompilationUnitDeclaration next = this.unitsToProcess[i];
+			if (next == null || next.ignoreMethodBodies || (next.bits & ASTNode.HasAllMethodBodies) != 0)
+				continue;
+			if (next.compilationResult != null && next.compilationResult.hasBeenAccepted)
+				continue;
+			units[count++] = next;
+		}
+		if (count < max)
+			System.arraycopy(units, 0, units = new CompilationUnitDeclaration[count], 0, count);
+		return units;
+	}
+
 	public synchronized CompilationUnitDeclaration getUnitToProcess(int next) {
 		if (next < this.totalUnits) {
 			CompilationUnitDeclaration unit = this.unitsToProcess[next];
@@ -663,6 +705,15 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 		return null;
 	}
 
+	/*
+	 * Returns whether this compiler should process the compilation unit at the given
+	 * index. The compilers of a ParallelProcessManager share the units to process,
+	 * and build the bindings of the units processed by the others.
+	 */
+	protected boolean claim(CompilationUnitDeclaration unit, int index) {
+		return true;
+	}
+
 	/*
 	 * Returns whether the compilation unit at the given index should be
 	 * cleaned up after processing. This basically means whether or not
@@ -801,7 +852,40 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 
 	public void initializeParser() {
 
-		this.parser = new Parser(this.problemReporter, this.options.parseLiteralExpressionsAsConstants);
+		this.parser = newParser(this.problemReporter);
+	}
+
+	/**
+	 * Answer a new parser reporting to the given problem reporter.
+	 * Also used to create the parsers of the threads parsing method bodies ahead of processing.
+	 */
+	public Parser newParser(ProblemReporter reporter) {
+		Parser newParser = new Parser(reporter, this.options.parseLiteralExpressionsAsConstants);
+		CharArena arena = new CharArena();
+		synchronized (this.identifierArenas) {
+			this.identifierArenas.add(arena);
+		}
+		newParser.scanner.identifierArena = arena;
+		return newParser;
+	}
+
+	/*
+	 * Records the counters of the identifier arenas and empties them, so that the identifiers of a compilation
+	 * are not retained by the next one. The arenas of the parsers which parsed ahead are dropped along with
+	 * their threads.
+	 */
+	private void resetIdentifierArenas() {
+		synchronized (this.identifierArenas) {
+			CharArena parserArena = this.parser.scanner.identifierArena;
+			for (CharArena arena : this.identifierArenas) {
+				this.stats.identifierLookups += arena.lookups;
+				this.stats.identifierHits += arena.hits;
+				arena.clear();
+			}
+			this.identifierArenas.clear();
+			if (parserArena != null)
+				this.identifierArenas.add(parserArena);
+		}
 	}
 
 	private  void abortIfPreviewNotAllowed(ICompilationUnit[] sourceUnits, int maxUnits) {
@@ -826,7 +910,7 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 	protected void internalBeginToCompile(ICompilationUnit[] sourceUnits, int maxUnits) {
 		abortIfPreviewNotAllowed(sourceUnits,maxUnits);
 		if (!this.useSingleThread && maxUnits >= ReadManager.THRESHOLD)
-			this.parser.readManager = new ReadManager(sourceUnits, maxUnits);
+			this.parser.readManager = new ReadManager(sourceUnits, maxUnits, this.stats);
 		try {
 			// Switch the current policy and compilation result for this unit to the requested one.
 			for (int i = 0; i < maxUnits; i++) {
@@ -845,6 +929,7 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 					CompilationUnitDeclaration parsedUnit;
 					unitResult = new CompilationResult(sourceUnits[i], i, maxUnits, this.options.maxProblemsPerUnit);
 					long parseStart = System.currentTimeMillis();
+					long[] sample = this.profiler == null ? null : this.profiler.start();
 					if (this.totalUnits < this.parseThreshold) {
 						parsedUnit = this.parser.parse(sourceUnits[i], unitResult);
 					} else {
@@ -852,9 +937,11 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 					}
 					long resolveStart = System.currentTimeMillis();
 					this.stats.parseTime += resolveStart - parseStart;
+					sample = profile(parsedUnit, CompilerProfiler.PARSE, sample);
 					// initial type binding creation
 					this.lookupEnvironment.buildTypeBindings(parsedUnit, null /*no access restriction*/);
 					this.stats.resolveTime += System.currentTimeMillis() - resolveStart;
+					profile(parsedUnit, CompilerProfiler.RESOLVE, sample);
 					addCompilationUnit(sourceUnits[i], parsedUnit);
 					ImportReference currentPackage = parsedUnit.currentPackage;
 					if (currentPackage != null) {
@@ -886,32 +973,44 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 	 */
 	public void process(CompilationUnitDeclaration unit, int i) {
 		this.lookupEnvironment.unitBeingCompleted = unit;
+		if (this.profiler != null)
+			this.profiler.setCurrentUnit(unit.getFileName());
 		long parseStart = System.currentTimeMillis();
+		long[] sample = profile(unit, -1, null);
 
-		this.parser.getMethodBodies(unit);
+		if (this.parseTaskManager != null)
+			this.parseTaskManager.getMethodBodies(unit, i);
+		else
+			this.parser.getMethodBodies(unit);
 
 		long resolveStart = System.currentTimeMillis();
 		this.stats.parseTime += resolveStart - parseStart;
+		sample = profile(unit, CompilerProfiler.PARSE, sample);
 
 		// fault in fields & methods
 		if (unit.scope != null)
 			unit.scope.faultInTypes();
 
 		// verify inherited methods
-		if (unit.scope != null)
+		if (unit.scope != null) {
+			long[] verifySample = profile(unit, -1, null);
 			unit.scope.verifyMethods(this.lookupEnvironment.methodVerifier());
+			profile(unit, CompilerProfiler.VERIFY, verifySample);
+		}
 
 		// type checking
 		unit.resolve();
 
 		long analyzeStart = System.currentTimeMillis();
 		this.stats.resolveTime += analyzeStart - resolveStart;
+		sample = profile(unit, CompilerProfiler.RESOLVE, sample);
 
 		//No need of analysis or generation of code if statements are not required
 		if (!this.options.ignoreMethodBodies) unit.analyseCode(); // flow analysis
 
 		long generateStart = System.currentTimeMillis();
 		this.stats.analyzeTime += generateStart - analyzeStart;
+		sample = profile(unit, CompilerProfiler.ANALYZE, sample);
 
 		if (!this.options.ignoreMethodBodies) unit.generateCode(); // code generation
 
@@ -923,11 +1022,31 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 		unit.finalizeProblems();
 
 		this.stats.generateTime += System.currentTimeMillis() - generateStart;
+		profile(unit, CompilerProfiler.GENERATE, sample);
 
 		// refresh the total number of units known at this stage
 		unit.compilationResult.totalUnitsKnown = this.totalUnits;
 
 		this.lookupEnvironment.unitBeingCompleted = null;
+		if (this.profiler != null)
+			this.profiler.setCurrentUnit(null);
+	}
+
+	/*
+	 * When profiling, records the given phase of the given unit since the given sample (if any),
+	 * and answers a new sample to measure the next phase.
+	 */
+	private long[] profile(CompilationUnitDeclaration unit, int phase, long[] sample) {
+		if (this.profiler == null)
+			return null;
+		if (sample != null)
+			this.profiler.record(unit.getFileName(), phase, sample);
+		return this.profiler.start();
+	}
+
+	public void setProfiler(CompilerProfiler profiler) {
+		this.profiler = profiler;
+		this.lookupEnvironment.profiler = profiler;
 	}
 
 	protected void processAnnotations() {
@@ -950,7 +1069,10 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 			if (index != length) {
 				System.arraycopy(currentUnits, 0, (currentUnits = new CompilationUnitDeclaration[index]), 0, index);
 			}
+			long[] sample = this.profiler == null ? null : this.profiler.start();
 			this.annotationProcessorManager.processAnnotations(currentUnits, binaryTypeBindingsTemp, false);
+			if (this.profiler != null)
+				this.profiler.recordRound(currentUnits.length, sample);
 			// https://bugs.eclipse.org/bugs/show_bug.cgi?id=407841
 			// It is possible that during the #processAnnotations() call, some units in the next batch would have been
 			// brought forward and compiled already. If there are any such, process them for annotations then and there.
@@ -959,7 +1081,10 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 				length = this.totalUnits - top; // NOTE: Reuse the same variable, but make sure it's not used after this point
 				CompilationUnitDeclaration[] addedUnits = new CompilationUnitDeclaration[length];
 				System.arraycopy(this.unitsToProcess, top, addedUnits, 0, length);
+				sample = this.profiler == null ? null : this.profiler.start();
 				this.annotationProcessorManager.processAnnotations(addedUnits, binaryTypeBindingsTemp, false);
+				if (this.profiler != null)
+					this.profiler.recordRound(length, sample);
 			}
 			this.annotationProcessorStartIndex = top;
 			ICompilationUnit[] newUnits = this.annotationProcessorManager.getNewUnits();
@@ -988,7 +1113,10 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 			}
 		} while (newUnitSize != 0 || newClassFilesSize != 0);
 
+		long[] sample = this.profiler == null ? null : this.profiler.start();
 		this.annotationProcessorManager.processAnnotations(null, null, true);
+		if (this.profiler != null)
+			this.profiler.recordRound(0, sample);
 		// process potential units added in the final round see 329156
 		ICompilationUnit[] newUnits = this.annotationProcessorManager.getNewUnits();
 		newUnitSize = newUnits.length;
@@ -1014,8 +1142,14 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 	}
 
 	public void reset() {
+		InferenceCache inferenceCache = this.lookupEnvironment.inferenceCache;
+		if (inferenceCache != null) {
+			this.stats.inferenceLookups += inferenceCache.lookups;
+			this.stats.inferenceHits += inferenceCache.hits;
+		}
 		this.lookupEnvironment.reset();
 		this.parser.scanner.source = null;
+		resetIdentifierArenas();
 		this.unitsToProcess = null;
 		if (DebugRequestor != null) DebugRequestor.reset();
 		this.problemReporter.reset();
@@ -0,0 +1,455 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.internal.compiler;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.eclipse.jdt.core.compiler.CharOperation;
+import org.eclipse.jdt.core.compiler.CompilationProgress;
+import org.eclipse.jdt.internal.compiler.ast.CompilationUnitDeclaration;
+import org.eclipse.jdt.internal.compiler.env.ICompilationUnit;
+import org.eclipse.jdt.internal.compiler.env.IModule;
+import org.eclipse.jdt.internal.compiler.env.IModuleAwareNameEnvironment;
+import org.eclipse.jdt.internal.compiler.env.INameEnvironment;
+import org.eclipse.jdt.internal.compiler.env.IUpdatableModule;
+import org.eclipse.jdt.internal.compiler.env.NameEnvironmentAnswer;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.impl.CompilerStats;
+import org.eclipse.jdt.internal.compiler.lookup.LookupEnvironment;
+import org.eclipse.jdt.internal.compiler.lookup.TypeConstants;
+import org.eclipse.jdt.internal.compiler.problem.AbortCompilation;
+import org.eclipse.jdt.internal.compiler.util.Messages;
+
+/**
+ * Resolves, analyzes and generates the units of a compilation on several threads, and hands their results
+ * to the requestor of the compiler in unit order.
+ * <p>
+ * The phases complete bindings lazily (binary members, supertypes, compatibility caches, the type system),
+ * so the threads do not share a {@link LookupEnvironment}: every thread runs a compiler of its own, which
+ * builds the type bindings of all the units, then claims the units to process one at a time. A unit is only
+ * processed by the compiler which claimed it; the others just complete the bindings they need from it. The
+ * name environment is shared, and is accessed by one thread at a time.
+ * </p>
+ * <p>
+ * Every thread holds the bindings of all the units, so the memory used grows with the number of threads.
+ * </p>
+ */
+public class ParallelProcessManager {
+
+	public static final String THREADS_PROPERTY = "jdt.compiler.processingThreads"; //$NON-NLS-1$
+
+	final Compiler compiler;
+	private final int threadCount;
+	// the initial units, by identity, and their index
+	private final Map<ICompilationUnit, Integer> indexes = new IdentityHashMap<>();
+	// the following fields are guarded by this
+	private Worker[] claims;
+	private CompilationResult[] results;
+	// the units found by the lookup environments, by file name
+	private final Map<String, Worker> foundClaims = new TreeMap<>();
+	private final Map<String, CompilationResult> foundResults = new TreeMap<>();
+	private int stopIndex; // the initial units from this index on are not processed anymore
+	private int running;
+	private Throwable failure;
+
+public ParallelProcessManager(Compiler compiler, int threadCount) {
+	this.compiler = compiler;
+	this.threadCount = threadCount;
+}
+
+/**
+ * Answers the number of processing threads requested through the {@link #THREADS_PROPERTY} system property:
+ * 1 (the default) processes the units one after the other, 0 uses as many threads as there are processors.
+ */
+public static int configuredThreadCount() {
+	int threads = Integer.getInteger(THREADS_PROPERTY, 1).intValue();
+	if (threads == 0)
+		threads = Runtime.getRuntime().availableProcessors();
+	return Math.max(1, threads);
+}
+
+/**
+ * Answers whether the given units can be processed on several threads by the given compiler.
+ */
+public static boolean canProcess(Compiler compiler, ICompilationUnit[] sourceUnits) {
+	if (compiler.getClass() != Compiler.class) // subclasses may process the units differently
+		return false;
+	if (compiler.annotationProcessorManager != null || compiler.profiler != null || sourceUnits.length < 2)
+		return false;
+	if (!(compiler.lookupEnvironment.nameEnvironment instanceof IModuleAwareNameEnvironment))
+		return false;
+	for (ICompilationUnit sourceUnit : sourceUnits) {
+		// a module would be declared to the name environment by every thread
+		if (CharOperation.endsWith(sourceUnit.getFileName(), TypeConstants.MODULE_INFO_FILE_NAME))
+			return false;
+	}
+	return true;
+}
+
+/**
+ * Compiles the given units, see {@link Compiler#compile(ICompilationUnit[])}.
+ */
+public void compile(ICompilationUnit[] sourceUnits) {
+	CompilerStats stats = this.compiler.stats;
+	stats.startTime = System.currentTimeMillis();
+	int count = sourceUnits.length;
+	for (int i = 0; i < count; i++)
+		this.indexes.put(sourceUnits[i], Integer.valueOf(i));
+	this.claims = new Worker[count];
+	this.results = new CompilationResult[count];
+	this.stopIndex = count;
+	this.running = this.threadCount;
+	this.compiler.totalUnits = count;
+	INameEnvironment environment = new SynchronizedEnvironment((IModuleAwareNameEnvironment) this.compiler.lookupEnvironment.nameEnvironment);
+	for (int i = 0; i < this.threadCount; i++) {
+		ICompilationUnit[] units = sourceUnits.clone(); // released by the compiler as it parses them
+		Thread thread = new Thread(() -> run(environment, units), "Compiler Processing Task"); //$NON-NLS-1$
+		thread.setDaemon(true);
+		thread.start();
+	}
+	int accepted = 0;
+	try {
+		this.compiler.reportProgress(Messages.compilation_beginningToCompile);
+		for (int i = 0; i < count; i++) {
+			CompilationResult result = nextResult(i);
+			if (result != null)
+				accept(result, accepted++);
+		}
+		for (CompilationResult result : foundResults())
+			accept(result, accepted++);
+	} catch (AbortCompilation e) {
+		this.compiler.handleInternalException(e, null);
+	} finally {
+		stop(0); // no-op unless the compilation was canceled, or the requestor failed
+		awaitWorkers();
+		this.compiler.reset();
+		stats.endTime = System.currentTimeMillis();
+		stats.overallTime += stats.endTime - stats.startTime;
+	}
+	if (this.compiler.options.verbose) {
+		this.compiler.out.println(
+			Messages.bind(accepted > 1 ? Messages.compilation_units : Messages.compilation_unit, String.valueOf(accepted)));
+	}
+	if (this.failure instanceof Error)
+		throw (Error) this.failure;
+	if (this.failure instanceof RuntimeException)
+		throw (RuntimeException) this.failure;
+}
+
+private void accept(CompilationResult result, int acceptedCount) {
+	this.compiler.reportWorked(1, acceptedCount);
+	this.compiler.requestor.acceptResult(result);
+	if (this.compiler.options.verbose)
+		this.compiler.out.println(
+			Messages.bind(Messages.compilation_done,
+			new String[] {
+				String.valueOf(acceptedCount + 1),
+				String.valueOf(this.results.length),
+				new String(result.getFileName())
+			}));
+}
+
+private void run(INameEnvironment environment, ICompilationUnit[] sourceUnits) {
+	Worker worker = null;
+	try {
+		worker = new Worker(this, environment);
+		worker.compile(sourceUnits);
+	} catch (Error | RuntimeException e) {
+		synchronized (this) {
+			if (this.failure == null)
+				this.failure = e;
+		}
+		stop(worker == null ? 0 : worker.stopIndex());
+	} finally {
+		synchronized (this) {
+			if (worker != null)
+				add(worker.stats);
+			this.running--;
+			notifyAll();
+		}
+	}
+}
+
+/*
+ * Answers the result of the initial unit at the given index, or null if the unit was not processed.
+ */
+private synchronized CompilationResult nextResult(int index) {
+	while (this.results[index] == null && this.running > 0) {
+		if (index >= this.stopIndex && this.claims[index] == null)
+			return null;
+		await();
+	}
+	return index < this.stopIndex ? this.results[index] : null;
+}
+
+/*
+ * Answers the results of the units found by the lookup environments, sorted by file name. They are only
+ * processed if all the initial units were.
+ */
+private synchronized CompilationResult[] foundResults() {
+	while (this.running > 0)
+		await();
+	if (this.stopIndex < this.results.length)
+		return new CompilationResult[0];
+	return this.foundResults.values().toArray(new CompilationResult[this.foundResults.size()]);
+}
+
+private void await() {
+	try {
+		wait(250);
+	} catch (InterruptedException ignore) {
+		// ignore
+	}
+	CompilationProgress progress = this.compiler.progress;
+	if (progress != null && progress.isCanceled()) {
+		// Only AbortCompilation can stop the compiler cleanly.
+		throw new AbortCompilation(true, null);
+	}
+}
+
+private synchronized void awaitWorkers() {
+	while (this.running > 0) {
+		try {
+			wait(250);
+		} catch (InterruptedException ignore) {
+			// ignore
+		}
+	}
+}
+
+private void add(CompilerStats workerStats) {
+	CompilerStats stats = this.compiler.stats;
+	stats.lineCount += workerStats.lineCount;
+	stats.parseTime += workerStats.parseTime;
+	stats.resolveTime += workerStats.resolveTime;
+	stats.analyzeTime += workerStats.analyzeTime;
+	stats.generateTime += workerStats.generateTime;
+	stats.identifierLookups += workerStats.identifierLookups;
+	stats.identifierHits += workerStats.identifierHits;
+	stats.inferenceLookups += workerStats.inferenceLookups;
+	stats.inferenceHits += workerStats.inferenceHits;
+}
+
+/*
+ * Answers whether the given worker processes the given unit. Every unit is processed once, by the first
+ * worker which claims it.
+ */
+synchronized boolean claim(Worker worker, CompilationUnitDeclaration unit) {
+	Integer index = this.indexes.get(unit.compilationResult.compilationUnit);
+	if (index == null) {
+		if (this.stopIndex < this.results.length)
+			return false;
+		return this.foundClaims.putIfAbsent(new String(unit.getFileName()), worker) == null;
+	}
+	int i = index.intValue();
+	if (i >= this.stopIndex || this.claims[i] != null || this.results[i] != null)
+		return false;
+	this.claims[i] = worker;
+	worker.lastClaimed = i;
+	return true;
+}
+
+/*
+ * Records the result accepted by the given worker. A result is kept if the worker claimed its unit, or if
+ * nobody did, as when the worker could not build the bindings of the units.
+ */
+synchronized void accept(Worker worker, CompilationResult result) {
+	Integer index = this.indexes.get(result.compilationUnit);
+	if (index == null) {
+		String fileName = new String(result.getFileName());
+		Worker claimer = this.foundClaims.get(fileName);
+		if (claimer == worker || (claimer == null && !this.foundResults.containsKey(fileName)))
+			this.foundResults.put(fileName, result);
+	} else {
+		int i = index.intValue();
+		if (this.claims[i] == worker || (this.claims[i] == null && this.results[i] == null))
+			this.results[i] = result;
+		if (worker.aborting)
+			worker.lastAborted = Math.max(worker.lastAborted, i);
+	}
+	notifyAll();
+}
+
+/*
+ * Stops the processing of the initial units from the given index on, as the compiler would stop after
+ * an aborted unit.
+ */
+synchronized void stop(int index) {
+	if (index < this.stopIndex)
+		this.stopIndex = index;
+	notifyAll();
+}
+
+/*
+ * The compiler of a processing thread.
+ */
+static class Worker extends Compiler {
+	final ParallelProcessManager manager;
+	int lastClaimed = -1; // index of the last initial unit claimed
+	int lastAborted = -1; // index of the last initial unit accepted when aborting
+	boolean aborting;
+
+	Worker(ParallelProcessManager manager, INameEnvironment environment) {
+		super(
+			environment,
+			manager.compiler.problemReporter.policy,
+			copy(manager.compiler.options),
+			null, // see below
+			manager.compiler.problemReporter.problemFactory,
+			manager.compiler.out,
+			null /* progress, checked by the manager */);
+		this.manager = manager;
+		this.requestor = result -> manager.accept(this, result);
+		this.parseThreshold = manager.compiler.parseThreshold;
+	}
+
+	private static CompilerOptions copy(CompilerOptions options) {
+		// the lookup environment caches some settings in its options, so they cannot be shared
+		CompilerOptions copy = new CompilerOptions(options.getMap());
+		copy.parseLiteralExpressionsAsConstants = options.parseLiteralExpressionsAsConstants;
+		copy.produceReferenceInfo = options.produceReferenceInfo;
+		copy.performMethodsFullRecovery = options.performMethodsFullRecovery;
+		copy.performStatementsRecovery = options.performStatementsRecovery;
+		copy.ignoreMethodBodies = options.ignoreMethodBodies;
+		copy.ignoreSourceFolderWarningOption = options.ignoreSourceFolderWarningOption;
+		copy.enableJdtDebugCompileMode = options.enableJdtDebugCompileMode;
+		return copy; // not verbose: the manager reports the progress of the compilation
+	}
+
+	int stopIndex() {
+		return Math.max(this.lastClaimed, this.lastAborted) + 1;
+	}
+
+	@Override
+	protected boolean claim(CompilationUnitDeclaration unit, int index) {
+		return this.manager.claim(this, unit);
+	}
+
+	@Override
+	protected void handleInternalException(AbortCompilation abortException, CompilationUnitDeclaration unit) {
+		boolean wasAborting = this.aborting;
+		this.aborting = true;
+		try {
+			super.handleInternalException(abortException, unit);
+		} finally {
+			this.aborting = wasAborting;
+			if (!wasAborting)
+				this.manager.stop(stopIndex());
+		}
+	}
+
+	@Override
+	protected void handleInternalException(Throwable internalException, CompilationUnitDeclaration unit, CompilationResult result) {
+		boolean wasAborting = this.aborting;
+		this.aborting = true;
+		try {
+			super.handleInternalException(internalException, unit, result);
+		} finally {
+			this.aborting = wasAborting;
+			if (!wasAborting)
+				this.manager.stop(stopIndex());
+		}
+	}
+}
+
+/*
+ * Serializes the accesses of the processing threads to the name environment of the compiler.
+ */
+static class SynchronizedEnvironment implements IModuleAwareNameEnvironment {
+	private final IModuleAwareNameEnvironment environment;
+
+	SynchronizedEnvironment(IModuleAwareNameEnvironment environment) {
+		this.environment = environment;
+	}
+	@Override
+	public NameEnvironmentAnswer findType(char[][] compoundTypeName) {
+		synchronized (this.environment) {
+			return this.environment.findType(compoundTypeName);
+		}
+	}
+	@Override
+	public NameEnvironmentAnswer findType(char[] typeName, char[][] packageName) {
+		synchronized (this.environment) {
+			return this.environment.findType(typeName, packageName);
+		}
+	}
+	@Override
+	public boolean isPackage(char[][] parentPackageName, char[] packageName) {
+		synchronized (this.environment) {
+			return this.environment.isPackage(parentPackageName, packageName);
+		}
+	}
+	@Override
+	public NameEnvironmentAnswer findType(char[][] compoundName, char[] moduleName) {
+		synchronized (this.environment) {
+			return this.environment.findType(compoundName, moduleName);
+		}
+	}
+	@Override
+	public NameEnvironmentAnswer findType(char[] typeName, char[][] packageName, char[] moduleName) {
+		synchronized (this.environment) {
+			return this.environment.findType(typeName, packageName, moduleName);
+		}
+	}
+	@Override
+	public char[][] getModulesDeclaringPackage(char[][] packageName, char[] moduleName) {
+		synchronized (this.environment) {
+			return this.environment.getModulesDeclaringPackage(packageName, moduleName);
+		}
+	}
+	@Override
+	public char[][] getUniqueModulesDeclaringPackage(char[][] packageName, char[] moduleName) {
+		synchronized (this.environment) {
+			return this.environment.getUniqueModulesDeclaringPackage(packageName, moduleName);
+		}
+	}
+	@Override
+	public boolean hasCompilationUnit(char[][] qualifiedPackageName, char[] moduleName, boolean checkCUs) {
+		synchronized (this.environment) {
+			return this.environment.hasCompilationUnit(qualifiedPackageName, moduleName, checkCUs);
+		}
+	}
+	@Override
+	public IModule getModule(char[] moduleName) {
+		synchronized (this.environment) {
+			return this.environment.getModule(moduleName);
+		}
+	}
+	@Override
+	public char[][] getAllAutomaticModules() {
+		synchronized (this.environment) {
+			return this.environment.getAllAutomaticModules();
+		}
+	}
+	@Override
+	public void applyModuleUpdates(IUpdatableModule module, IUpdatableModule.UpdateKind kind) {
+		synchronized (this.environment) {
+			this.environment.applyModuleUpdates(module, kind);
+		}
+	}
+	@Override
+	public char[][] listPackages(char[] moduleName) {
+		synchronized (this.environment) {
+			return this.environment.listPackages(moduleName);
+		}
+	}
+	@Override
+	public void cleanup() {
+		// the environment is cleaned up by its owner
+	}
+}
+}
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.internal.compiler;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+import org.eclipse.jdt.internal.compiler.ast.ASTNode;
+import org.eclipse.jdt.internal.compiler.ast.CompilationUnitDeclaration;
+import org.eclipse.jdt.internal.compiler.parser.Parser;
+import org.eclipse.jdt.internal.compiler.problem.ProblemReporter;
+
+/**
+ * Parses the method bodies of the units waiting to be processed on a bounded pool of worker threads.
+ * <p>
+ * When the processing thread reaches a unit whose bodies have not been parsed yet, the bodies of that
+ * unit and of the next few units are parsed concurrently, and the processing thread waits for the whole
+ * window to complete. Nothing gets resolved, analyzed or generated while a window is being parsed, so each
+ * worker only touches the AST and the compilation result of the unit it is parsing. Every worker owns its
+ * {@link Parser} and {@link ProblemReporter}.
+ * </p>
+ * <p>
+ * Resolution, flow analysis and code generation stay on the processing thread: they complete bindings lazily
+ * (binary members, supertypes, compatibility caches, the type system) and are not safe to run concurrently
+ * against one lookup environment. See {@link ParallelProcessManager} to run them on several threads.
+ * </p>
+ */
+public class ParseTaskManager {
+
+	public static final String THREADS_PROPERTY = "jdt.compiler.parsingThreads"; //$NON-NLS-1$
+	static final int UNITS_PER_THREAD = 4; // size of the window handed to each worker
+
+	final Compiler compiler;
+	private final int windowSize;
+	private ForkJoinPool pool;
+	private final ThreadLocal<Parser> parsers;
+	// problems thrown while parsing ahead, rethrown when the processing thread reaches the unit
+	private final Map<CompilationUnitDeclaration, Throwable> failures = new ConcurrentHashMap<>();
+
+public ParseTaskManager(Compiler compiler, int threadCount) {
+	this.compiler = compiler;
+	this.windowSize = threadCount * UNITS_PER_THREAD;
+	this.parsers = ThreadLocal.withInitial(() -> compiler.newParser(
+			new ProblemReporter(compiler.problemReporter.policy, compiler.options, compiler.problemReporter.problemFactory)));
+	this.pool = new ForkJoinPool(threadCount,
+		forkJoinPool -> {
+			ForkJoinWorkerThread thread = new ForkJoinWorkerThread(forkJoinPool) {
+				// anonymous subclass to access protected constructor
+			};
+			thread.setName("Compiler Parsing Task"); //$NON-NLS-1$
+			return thread;
+		}, null, false);
+}
+
+/**
+ * Answers the number of parsing threads requested through the {@link #THREADS_PROPERTY} system property:
+ * 1 (the default) disables parallel parsing, 0 uses as many threads as there are processors.
+ */
+public static int configuredThreadCount() {
+	int threads = Integer.getInteger(THREADS_PROPERTY, 1).intValue();
+	if (threads == 0)
+		threads = Runtime.getRuntime().availableProcessors();
+	return Math.max(1, threads);
+}
+
+/**
+ * Makes sure the method bodies of the unit at the given index are parsed, parsing the following units
+ * along with it. Must be called from the processing thread.
+ */
+public void getMethodBodies(CompilationUnitDeclaration unit, int index) {
+	if ((unit.bits & ASTNode.HasAllMethodBodies) == 0 && !unit.ignoreMethodBodies && !this.failures.containsKey(unit)) {
+		CompilationUnitDeclaration[] window = this.compiler.getUnitsToParse(unit, index, this.windowSize);
+		if (window.length > 1 && this.pool != null) {
+			this.pool.invoke(ForkJoinTask.adapt(() -> Arrays.stream(window).parallel().forEach(this::parse)));
+		}
+	}
+	Throwable failure = this.failures.remove(unit);
+	if (failure != null) {
+		// rethrow the problem caught by the worker as if it happened on the processing thread
+		if (failure instanceof Error)
+			throw (Error) failure;
+		throw (RuntimeException) failure;
+	}
+	this.compiler.parser.getMethodBodies(unit); // no-op if the bodies were parsed ahead
+}
+
+private void parse(CompilationUnitDeclaration unit) {
+	try {
+		this.parsers.get().getMethodBodies(unit);
+	} catch (Error | RuntimeException e) {
+		this.failures.put(unit, e);
+	}
+}
+
+public void shutdown() {
+	if (this.pool != null) {
+		this.pool.shutdown();
+		this.pool = null;
+	}
+	this.failures.clear();
+}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2013 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,42 +14,70 @@
 
 package org.eclipse.jdt.internal.compiler;
 
+import java.util.IdentityHashMap;
+import java.util.Map;
+
 import org.eclipse.jdt.internal.compiler.env.ICompilationUnit;
+import org.eclipse.jdt.internal.compiler.impl.CompilerStats;
 
+/**
+ * Reads the contents of the units to compile ahead of the parser, in compilation order.
+ * <p>
+ * Instead of a fixed number of files, the amount of contents kept in memory is bounded by a byte budget
+ * (see {@link #BUDGET_PROPERTY}), so that many small files can be prefetched while a few huge ones cannot
+ * exhaust the heap. Contents are read and decoded from their charset by the reading threads; the parser
+ * thread only waits when the unit it asks for is still being read.
+ * </p>
+ * <p>
+ * Hits (contents were ready), misses (contents were read by the parser thread itself) and stalls
+ * (the parser thread had to wait for a reading thread) are counted into {@link CompilerStats}.
+ * </p>
+ */
 public class ReadManager implements Runnable {
 	ICompilationUnit[] units;
-	int nextFileToRead;
-	ICompilationUnit[] filesRead;
-	char[][] contentsRead;
-	int readyToReadPosition;
-	int nextAvailablePosition;
+	Map<ICompilationUnit, Integer> unitIndexes;
+	char[][] contentsRead; // contents read ahead and not consumed yet, indexed like units
+	int nextFileToRead; // next unit to be read ahead
+	int nextFileToConsume; // units before this one were asked by the parser, or skipped
+	long bufferedBytes; // bytes held by contentsRead
+	final long byteBudget;
 	Thread[] readingThreads;
 	char[] readInProcessMarker = new char[0];
 	int sleepingThreadCount;
 	private Throwable caughtException;
+	private CompilerStats stats;
 
-	static final int START_CUSHION = 5;
 	public static final int THRESHOLD = 10;
-	static final int CACHE_SIZE = 15; // do not waste memory by keeping too many files in memory
+	public static final String BUDGET_PROPERTY = "jdt.compiler.readAheadBytes"; //$NON-NLS-1$
+	static final long DEFAULT_BUDGET = 32 * 1024 * 1024; // bytes of decoded contents kept ahead of the parser
+	static final int MAX_THREADS = 15;
 
 public ReadManager(ICompilationUnit[] files, int length) {
+	this(files, length, null);
+}
+
+public ReadManager(ICompilationUnit[] files, int length, CompilerStats stats) {
+	this.stats = stats;
+	this.byteBudget = Math.max(1, Long.getLong(BUDGET_PROPERTY, DEFAULT_BUDGET).longValue());
 	// start the background threads to read the file's contents
 	int threadCount = Runtime.getRuntime().availableProcessors() + 1;
 	if (threadCount < 2) {
 		threadCount = 0;
-	} else if (threadCount > CACHE_SIZE) {
-		threadCount = CACHE_SIZE;
+	} else if (threadCount > MAX_THREADS) {
+		threadCount = MAX_THREADS;
 	}
 
 	if (threadCount > 0) {
 		synchronized (this) {
 			this.units = new ICompilationUnit[length];
 			System.arraycopy(files, 0, this.units, 0, length);
-			this.nextFileToRead = START_CUSHION; // skip some files to reduce the number of times we have to wait
-			this.filesRead = new ICompilationUnit[CACHE_SIZE];
-			this.contentsRead = new char[CACHE_SIZE][];
-			this.readyToReadPosition = 0;
-			this.nextAvailablePosition = 0;
+			this.unitIndexes = new IdentityHashMap<>(length);
+			for (int i = 0; i < length; i++)
+				this.unitIndexes.put(this.units[i], Integer.valueOf(i));
+			this.contentsRead = new char[length][];
+			this.nextFileToRead = 0;
+			this.nextFileToConsume = 0;
+			this.bufferedBytes = 0;
 			this.sleepingThreadCount = 0;
 			this.readingThreads = new Thread[threadCount];
 			for (int i = threadCount; --i >= 0;) {
@@ -64,74 +92,87 @@ public ReadManager(ICompilationUnit[] files, int length) {
 public char[] getContents(ICompilationUnit unit) throws Error {
 	Thread[] rThreads = this.readingThreads;
 	if (rThreads == null || this.units.length == 0) {
-		if (this.caughtException != null) {
-			// rethrow the caught exception from the readingThreads in the main compiler thread
-			if (this.caughtException instanceof Error)
-				throw (Error) this.caughtException;
-			throw (RuntimeException) this.caughtException;
-		}
+		rethrowCaughtException();
 		return unit.getContents();
 	}
 
-	boolean yield = this.sleepingThreadCount == rThreads.length;
 	char[] result = null;
 	synchronized (this) {
-		if (unit == this.filesRead[this.readyToReadPosition]) {
-			result = this.contentsRead[this.readyToReadPosition];
-			while (result == this.readInProcessMarker || result == null) {
-				// let the readingThread know we're waiting
-				//System.out.print('|');
-				this.contentsRead[this.readyToReadPosition] = null;
+		Integer index = this.unitIndexes.get(unit);
+		if (index == null) {
+			// attempting to read a unit that was not included in the initial files, e.g. a secondary type
+			countMiss();
+			return unit.getContents();
+		}
+		int unitIndex = index.intValue();
+		result = this.contentsRead[unitIndex];
+		if (result == this.readInProcessMarker) {
+			long stallStart = System.currentTimeMillis();
+			while ((result = this.contentsRead[unitIndex]) == this.readInProcessMarker) {
+				// let the reading threads know we're waiting
 				try {
 					wait(250);
 				} catch (InterruptedException ignore) { // ignore
 				}
-				if (this.caughtException != null) {
-					// rethrow the caught exception from the readingThreads in the main compiler thread
-					if (this.caughtException instanceof Error)
-						throw (Error) this.caughtException;
-					throw (RuntimeException) this.caughtException;
-				}
-				result = this.contentsRead[this.readyToReadPosition];
+				rethrowCaughtException();
+				if (this.readingThreads == null && this.contentsRead[unitIndex] == this.readInProcessMarker)
+					break; // shut down while the unit was being read
 			}
-			// free spot for next file
-			this.filesRead[this.readyToReadPosition] = null;
-			this.contentsRead[this.readyToReadPosition] = null;
-			if (++this.readyToReadPosition >= this.contentsRead.length)
-				this.readyToReadPosition = 0;
-			if (this.sleepingThreadCount > 0) {
-				//System.out.print('+');
-				//System.out.print(this.nextFileToRead);
-				notify();
+			if (this.stats != null) {
+				this.stats.readAheadStalls++;
+				this.stats.readAheadStallTime += System.currentTimeMillis() - stallStart;
 			}
+		} else if (result != null && this.stats != null) {
+			this.stats.readAheadHits++;
+		}
+		if (result == this.readInProcessMarker)
+			result = null;
+		// release the contents consumed by the parser, along with any unit it skipped
+		if (unitIndex >= this.nextFileToConsume) {
+			for (int i = this.nextFileToConsume; i <= unitIndex; i++)
+				release(i);
+			this.nextFileToConsume = unitIndex + 1;
 		} else {
-			// must make sure we're reading ahead of the unit
-			int unitIndex = 0;
-			for (int l = this.units.length; unitIndex < l; unitIndex++)
-				if (this.units[unitIndex] == unit) break;
-			if (unitIndex == this.units.length) {
-				// attempting to read a unit that was not included in the initial files - should not happen
-				this.units = new ICompilationUnit[0]; // stop looking for more
-			} else if (unitIndex >= this.nextFileToRead) {
-				// start over
-				//System.out.println(unitIndex + " vs " + this.nextFileToRead);
-				this.nextFileToRead = unitIndex + START_CUSHION;
-				this.readyToReadPosition = 0;
-				this.nextAvailablePosition = 0;
-				this.filesRead = new ICompilationUnit[CACHE_SIZE];
-				this.contentsRead = new char[CACHE_SIZE][];
-				notifyAll();
-			}
+			release(unitIndex);
 		}
+		if (this.nextFileToRead <= unitIndex)
+			this.nextFileToRead = unitIndex + 1; // the reading threads fell behind, read after this unit
+		if (this.sleepingThreadCount > 0)
+			notifyAll(); // budget became available
 	}
-	if (yield)
-		Thread.yield(); // ensure other threads get a chance
 	if (result != null)
 		return result;
-	//System.out.print('-');
+	countMiss();
 	return unit.getContents();
 }
 
+private void countMiss() {
+	if (this.stats != null)
+		this.stats.readAheadMisses++;
+}
+
+// must be called with the lock held
+private void release(int index) {
+	char[] contents = this.contentsRead[index];
+	if (contents != null && contents != this.readInProcessMarker) {
+		this.bufferedBytes -= bytesFor(contents.length);
+		this.contentsRead[index] = null;
+	}
+}
+
+private static long bytesFor(int charCount) {
+	return 2L * charCount;
+}
+
+private void rethrowCaughtException() {
+	if (this.caughtException != null) {
+		// rethrow the caught exception from the readingThreads in the main compiler thread
+		if (this.caughtException instanceof Error)
+			throw (Error) this.caughtException;
+		throw (RuntimeException) this.caughtException;
+	}
+}
+
 @Override
 public void run() {
 	try {
@@ -141,10 +182,12 @@ public void run() {
 			synchronized (this) {
 				if (this.readingThreads == null) return;
 
-				while (this.filesRead[this.nextAvailablePosition] != null) {
+				// wait until the parser consumed enough contents to stay within the budget
+				// (files being read are only accounted for once read, so each thread may overshoot by one file)
+				while (this.bufferedBytes >= this.byteBudget) {
 					this.sleepingThreadCount++;
 					try {
-						wait(250); // wait until a spot in contents is available
+						wait(250);
 					} catch (InterruptedException e) { // ignore
 					}
 					this.sleepingThreadCount--;
@@ -152,19 +195,20 @@ public void run() {
 				}
 
 				if (this.nextFileToRead >= this.units.length) return;
-				unit = this.units[this.nextFileToRead++];
-				position = this.nextAvailablePosition;
-				if (++this.nextAvailablePosition >= this.contentsRead.length)
-					this.nextAvailablePosition = 0;
-				this.filesRead[position] = unit;
+				position = this.nextFileToRead++;
+				unit = this.units[position];
 				this.contentsRead[position] = this.readInProcessMarker; // mark the spot so we know its being read
 			}
 			char[] result = unit.getContents();
 			synchronized (this) {
-				if (this.filesRead[position] == unit) {
-					if (this.contentsRead[position] == null) // wake up main thread which is waiting for this file
-						notifyAll();
-					this.contentsRead[position] = result;
+				if (this.contentsRead[position] == this.readInProcessMarker) {
+					if (position < this.nextFileToConsume) {
+						this.contentsRead[position] = null; // the parser did not wait for it
+					} else {
+						this.contentsRead[position] = result;
+						this.bufferedBytes += bytesFor(result.length);
+					}
+					notifyAll(); // wake up main thread which may be waiting for this file
 				}
 			}
 		}
@@ -181,4 +225,4 @@ public synchronized void shutdown() {
 	this.readingThreads = null; // mark the read manager as shutting down so that the reading threads stop
 	notifyAll();
 }
-}
\ No newline at end of file
+}
@@ -74,6 +74,14 @@ public abstract class AbstractMethodDeclaration
 	public CompilationResult compilationResult;
 	public boolean containsSwitchWithTry = false;
 
+	/**
+	 * Set while the body of this method is left to be parsed and resolved on demand,
+	 * see {@link CompilationUnitDeclaration#resolveMethodBodiesOnDemand}.
+	 */
+	public boolean hasDeferredBody = false;
+	// whether the resolution of this method skipped its deferred body, which is resolved once parsed
+	boolean deferredStatementsSkipped = false;
+
 	AbstractMethodDeclaration(CompilationResult compilationResult){
 		this.compilationResult = compilationResult;
 		this.containsSwitchWithTry = false;
@@ -413,6 +421,16 @@ public abstract class AbstractMethodDeclaration
 		return this.ignoreFurtherInvestigation;
 	}
 
+	/**
+	 * Answers whether the parsing of the body of this method may be deferred: whether it has a body
+	 * which is not filled up by the compiler.
+	 */
+	public boolean canDeferBody() {
+		return (this.modifiers & (ClassFileConstants.AccAbstract | ClassFileConstants.AccNative | ExtraCompilerModifiers.AccSemicolonBody)) == 0
+				&& !isClinit()
+				&& !isDefaultConstructor();
+	}
+
 	public boolean isAbstract() {
 
 		if (this.binding != null)
@@ -654,8 +672,47 @@ public abstract class AbstractMethodDeclaration
 		}
 	}
 
+	/**
+	 * Parses and resolves the deferred body of this method, if any (see {@link CompilationUnitDeclaration#resolveMethodBodiesOnDemand}).
+	 * The statements are resolved if the method was resolved already, otherwise they are resolved along with the method.
+	 */
+	public void resolveDeferredBody(Parser parser, CompilationUnitDeclaration unit) {
+		if (!this.hasDeferredBody)
+			return;
+		this.hasDeferredBody = false;
+		parser.getMethodBody(this, unit);
+		if (!this.deferredStatementsSkipped)
+			return;
+		this.deferredStatementsSkipped = false;
+		LookupEnvironment environment = this.scope.environment();
+		CompilationUnitDeclaration previousUnit = environment.unitBeingCompleted;
+		environment.unitBeingCompleted = unit;
+		try {
+			resolveDeferredStatements();
+		} catch (AbortMethod e) {
+			this.ignoreFurtherInvestigation = true;
+		} finally {
+			environment.unitBeingCompleted = previousUnit;
+		}
+	}
+
+	/**
+	 * Resolves the statements of a deferred body, once parsed, the rest of this method being resolved already.
+	 */
+	void resolveDeferredStatements() {
+		resolveBodyStatements();
+	}
+
 	public void resolveStatements() {
+		if (this.hasDeferredBody) {
+			// see resolveDeferredBody(..)
+			this.deferredStatementsSkipped = true;
+			return;
+		}
+		resolveBodyStatements();
+	}
 
+	private void resolveBodyStatements() {
 		if (this.statements != null) {
  			for (int i = 0, length = this.statements.length; i < length; i++) {
  				Statement stmt = this.statements[i];
@@ -50,6 +50,7 @@ import org.eclipse.jdt.internal.compiler.lookup.TypeConstants;
 import org.eclipse.jdt.internal.compiler.lookup.TypeIds;
 import org.eclipse.jdt.internal.compiler.lookup.Substitution.NullSubstitution;
 import org.eclipse.jdt.internal.compiler.parser.NLSTag;
+import org.eclipse.jdt.internal.compiler.parser.Parser;
 import org.eclipse.jdt.internal.compiler.problem.AbortCompilationUnit;
 import org.eclipse.jdt.internal.compiler.problem.AbortMethod;
 import org.eclipse.jdt.internal.compiler.problem.AbortType;
@@ -78,6 +79,20 @@ public class CompilationUnitDeclaration extends ASTNode implements ProblemSeveri
 
 	public boolean ignoreFurtherInvestigation = false; // once pointless to investigate due to errors
 	public boolean ignoreMethodBodies = false;
+	/**
+	 * Whether the bodies of the methods are parsed and resolved only when a client asks for them, for the clients
+	 * which need the bindings of the unit but only look inside a few of its methods.
+	 * <p>
+	 * When set before {@link Parser#getMethodBodies(CompilationUnitDeclaration)}, the bodies of the methods
+	 * and constructors are not parsed but deferred (the initializers are parsed as usual), and {@link #resolve()}
+	 * skips them. A deferred body is parsed and resolved by {@link #resolveMethodBodyAt(Parser, int)}, or by
+	 * {@link AbstractMethodDeclaration#resolveDeferredBody(Parser, CompilationUnitDeclaration)}.
+	 * The flow analysis skips the methods whose body is still deferred, and the problems which depend on the
+	 * bodies, like unused private members, are only accurate once all the bodies were resolved. A unit with
+	 * deferred bodies must not be generated.
+	 * </p>
+	 */
+	public boolean resolveMethodBodiesOnDemand = false;
 	public CompilationUnitScope scope;
 	public ProblemReporter problemReporter;
 	public CompilationResult compilationResult;
@@ -775,6 +790,39 @@ private void reportNLSProblems() {
 	}
 }
 
+/**
+ * Parses and resolves the deferred body of the method which declares the given position, if any
+ * (see {@link #resolveMethodBodiesOnDemand}).
+ *
+ * @return the method declaring the given position, or <code>null</code> if the position is not inside a method
+ */
+public AbstractMethodDeclaration resolveMethodBodyAt(Parser parser, int position) {
+	AbstractMethodDeclaration method = methodAt(this.types, position);
+	if (method != null)
+		method.resolveDeferredBody(parser, this);
+	return method;
+}
+
+private static AbstractMethodDeclaration methodAt(TypeDeclaration[] typeDeclarations, int position) {
+	if (typeDeclarations == null)
+		return null;
+	for (TypeDeclaration typeDeclaration : typeDeclarations) {
+		if (position < typeDeclaration.declarationSourceStart || position > typeDeclaration.declarationSourceEnd)
+			continue;
+		AbstractMethodDeclaration method = methodAt(typeDeclaration.memberTypes, position);
+		if (method != null)
+			return method;
+		if (typeDeclaration.methods != null) {
+			for (AbstractMethodDeclaration methodDeclaration : typeDeclaration.methods) {
+				if (position >= methodDeclaration.declarationSourceStart && position <= methodDeclaration.declarationSourceEnd)
+					return methodDeclaration;
+			}
+		}
+		return null;
+	}
+	return null;
+}
+
 @Override
 public void tagAsHavingErrors() {
 	this.ignoreFurtherInvestigation = true;
@@ -60,7 +60,7 @@ public ConstructorDeclaration(CompilationResult compilationResult){
  * analyzed as reachable, since it will be generated in the end.
  */
 public void analyseCode(ClassScope classScope, InitializationFlowContext initializerFlowContext, FlowInfo flowInfo, int initialReachMode) {
-	if (this.ignoreFurtherInvestigation)
+	if (this.ignoreFurtherInvestigation || this.hasDeferredBody)
 		return;
 
 	int nonStaticFieldInfoReachMode = flowInfo.reachMode();
@@ -647,6 +647,21 @@ public void resolveStatements() {
 	if (this.binding != null && !this.binding.isPrivate()) {
 		sourceType.tagBits |= TagBits.HasNonPrivateConstructor;
 	}
+	resolveConstructorCall(sourceType);
+	if ((this.modifiers & ExtraCompilerModifiers.AccSemicolonBody) != 0) {
+		this.scope.problemReporter().methodNeedBody(this);
+	}
+	super.resolveStatements();
+}
+
+@Override
+void resolveDeferredStatements() {
+	// the explicit constructor call is part of the body
+	resolveConstructorCall(this.scope.enclosingSourceType());
+	super.resolveDeferredStatements();
+}
+
+private void resolveConstructorCall(SourceTypeBinding sourceType) {
 	// if null ==> an error has occurs at parsing time ....
 	if (this.constructorCall != null) {
 		if (sourceType.id == TypeIds.T_JavaLangObject
@@ -667,10 +682,6 @@ public void resolveStatements() {
 			this.constructorCall.resolve(this.scope);
 		}
 	}
-	if ((this.modifiers & ExtraCompilerModifiers.AccSemicolonBody) != 0) {
-		this.scope.problemReporter().methodNeedBody(this);
-	}
-	super.resolveStatements();
 }
 
 @Override
@@ -71,7 +71,7 @@ public class MethodDeclaration extends AbstractMethodDeclaration {
 
 	public void analyseCode(ClassScope classScope, FlowContext flowContext, FlowInfo flowInfo) {
 		// starting of the code analysis for methods
-		if (this.ignoreFurtherInvestigation)
+		if (this.ignoreFurtherInvestigation || this.hasDeferredBody)
 			return;
 		try {
 			if (this.binding == null)
@@ -386,7 +386,17 @@ public class MethodDeclaration extends AbstractMethodDeclaration {
 				break;
 		}
 		super.resolveStatements();
+		if (!this.hasDeferredBody)
+			checkSuperInvocation(compilerOptions);
+	}
+
+	@Override
+	void resolveDeferredStatements() {
+		super.resolveDeferredStatements();
+		checkSuperInvocation(this.scope.compilerOptions());
+	}
 
+	private void checkSuperInvocation(CompilerOptions compilerOptions) {
 		// TagBits.OverridingMethodWithSupercall is set during the resolveStatements() call
 		if (compilerOptions.getSeverity(CompilerOptions.OverridingMethodWithoutSuperInvocation) != ProblemSeverities.Ignore) {
 			if (this.binding != null) {
@@ -1142,6 +1142,10 @@ public void parseMethods(Parser parser, CompilationUnitDeclaration unit) {
 		int length = this.methods.length;
 		for (int i = 0; i < length; i++) {
 			AbstractMethodDeclaration abstractMethodDeclaration = this.methods[i];
+			if (unit.resolveMethodBodiesOnDemand && abstractMethodDeclaration.canDeferBody()) {
+				abstractMethodDeclaration.hasDeferredBody = true;
+				continue;
+			}
 			abstractMethodDeclaration.parseStatements(parser, unit);
 			this.bits |= (abstractMethodDeclaration.bits & ASTNode.HasSyntaxErrors);
 		}
@@ -53,6 +53,8 @@ protected ZipFile annotationZipFile;
 protected boolean closeZipFileAtEnd;
 protected Set<String> packageCache;
 protected List<String> annotationPaths;
+protected ClasspathJarCache binaryCache; // persistent cache of the class files, if enabled
+private boolean binaryCacheOpened;
 
 public ClasspathJar(File file, boolean closeZipFileAtEnd,
 		AccessRuleSet accessRuleSet, String destinationPath) {
@@ -120,7 +122,7 @@ public NameEnvironmentAnswer findClass(char[] typeName, String qualifiedPackageN
 		return null; // most common case
 
 	try {
-		IBinaryType reader = ClassFileReader.read(this.zipFile, qualifiedBinaryFileName);
+		IBinaryType reader = readClassFile(qualifiedBinaryFileName);
 		if (reader != null) {
 			char[] modName = this.module == null ? null : this.module.name();
 			if (reader instanceof ClassFileReader) {
@@ -157,6 +159,34 @@ public NameEnvironmentAnswer findClass(char[] typeName, String qualifiedPackageN
 	}
 	return null;
 }
+/**
+ * Answers the persistent cache of the class files of this jar, or <code>null</code> if there is none
+ * or if no class file was read since the last reset.
+ */
+public ClasspathJarCache getBinaryCache() {
+	return this.binaryCache;
+}
+/**
+ * Reads the given class file, through the persistent cache of the class files when one is configured
+ * (see {@link ClasspathJarCache#DIRECTORY_PROPERTY}).
+ */
+protected ClassFileReader readClassFile(String qualifiedBinaryFileName) throws ClassFormatException, IOException {
+	if (!this.binaryCacheOpened) {
+		this.binaryCacheOpened = true;
+		this.binaryCache = ClasspathJarCache.open(this.zipFile);
+	}
+	if (this.binaryCache == null)
+		return ClassFileReader.read(this.zipFile, qualifiedBinaryFileName);
+	byte[] bytes = this.binaryCache.get(qualifiedBinaryFileName);
+	if (bytes == null) {
+		ZipEntry entry = this.zipFile.getEntry(qualifiedBinaryFileName);
+		if (entry == null)
+			return null;
+		bytes = Util.getZipEntryByteContent(entry, this.zipFile);
+		this.binaryCache.put(qualifiedBinaryFileName, bytes);
+	}
+	return new ClassFileReader(Util.toJarUri(this.zipFile.getName(), qualifiedBinaryFileName), bytes, qualifiedBinaryFileName.toCharArray());
+}
 @Override
 public boolean hasAnnotationFileFor(String qualifiedTypeName) {
 	if (this.zipFile == null)
@@ -278,6 +308,9 @@ public char[][] listPackages() {
 @Override
 public void reset() {
 	super.reset();
+	if (this.binaryCache != null) {
+		this.binaryCache.save();
+	}
 	if (this.closeZipFileAtEnd) {
 		if (this.zipFile != null) {
 			try {
@@ -287,6 +320,8 @@ public void reset() {
 			}
 			this.zipFile = null;
 		}
+		this.binaryCache = null;
+		this.binaryCacheOpened = false;
 		if (this.annotationZipFile != null) {
 			try {
 				this.annotationZipFile.close();
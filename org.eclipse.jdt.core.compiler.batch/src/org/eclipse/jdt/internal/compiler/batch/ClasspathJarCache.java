@@ -0,0 +1,238 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.batch;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Persistent cache of the uncompressed class files read from a jar, shared by all the compilations
+ * that use the same jar contents.
+ * <p>
+ * The cache directory is given by the {@link #DIRECTORY_PROPERTY} system property; there is no cache
+ * when it is not set. Each jar gets one cache file, named after a digest of the names, CRCs and sizes
+ * of its entries, so that a modified jar never hits a stale cache and identical jars at different
+ * locations share the same cache file.
+ * </p>
+ * <p>
+ * A cache file holds the class files read by the previous compilations, without compression. It is
+ * memory mapped on load, so that reading a class file found in the cache neither inflates the zip entry
+ * nor copies more than that class file. Class files missing from the cache are read from the jar and
+ * added to the cache file when the classpath is reset.
+ * </p>
+ * File format:
+ * <pre>
+ * int magic, int version, int count,
+ * count * (unsigned short nameLength, byte[nameLength] utf8Name, int offset, int length),
+ * class file bytes (offsets are relative to the end of the table)
+ * </pre>
+ */
+public class ClasspathJarCache {
+
+	public static final String DIRECTORY_PROPERTY = "jdt.compiler.binaryCache"; //$NON-NLS-1$
+	static final int MAGIC = 0x4A444A43; // JDJC
+	static final int VERSION = 1;
+	static final String SUFFIX = ".jarcache"; //$NON-NLS-1$
+
+	final File cacheFile;
+	private ByteBuffer contents; // mapped cache file, null if there was none
+	private int dataStart;
+	// entry name -> offset << 32 | length, for the class files of the mapped cache file
+	private Map<String, Long> entries = new HashMap<>();
+	// class files read from the jar since the cache file was loaded
+	private final Map<String, byte[]> added = new LinkedHashMap<>();
+	// class files found in the cache, and class files which had to be read from the jar
+	public int hits;
+	public int misses;
+
+ClasspathJarCache(File cacheFile) {
+	this.cacheFile = cacheFile;
+}
+
+/**
+ * Answers the cache for the given jar, or <code>null</code> if there is no cache directory,
+ * or if it cannot be used.
+ */
+public static ClasspathJarCache open(ZipFile zipFile) {
+	String directoryName = System.getProperty(DIRECTORY_PROPERTY);
+	if (directoryName == null || directoryName.length() == 0)
+		return null;
+	File directory = new File(directoryName);
+	if (!directory.isDirectory() && !directory.mkdirs())
+		return null;
+	String key;
+	try {
+		key = digest(zipFile);
+	} catch (NoSuchAlgorithmException | IllegalStateException e) {
+		// no digest available, or the zip file was closed concurrently
+		return null;
+	}
+	ClasspathJarCache cache = new ClasspathJarCache(new File(directory, key + SUFFIX));
+	cache.load();
+	return cache;
+}
+
+private static String digest(ZipFile zipFile) throws NoSuchAlgorithmException {
+	MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+	ByteBuffer numbers = ByteBuffer.allocate(16);
+	for (Enumeration<? extends ZipEntry> e = zipFile.entries(); e.hasMoreElements(); ) {
+		ZipEntry entry = e.nextElement();
+		digest.update(entry.getName().getBytes(StandardCharsets.UTF_8));
+		numbers.clear();
+		numbers.putLong(entry.getCrc()).putLong(entry.getSize());
+		digest.update(numbers.array());
+	}
+	StringBuilder key = new StringBuilder(64);
+	for (byte b : digest.digest()) {
+		key.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+	}
+	return key.toString();
+}
+
+void load() {
+	if (!this.cacheFile.isFile())
+		return;
+	try (FileChannel channel = FileChannel.open(this.cacheFile.toPath(), StandardOpenOption.READ)) {
+		long size = channel.size();
+		if (size > Integer.MAX_VALUE)
+			return;
+		ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+		if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION)
+			return;
+		int count = buffer.getInt();
+		Map<String, Long> table = new HashMap<>(count * 2);
+		for (int i = 0; i < count; i++) {
+			byte[] name = new byte[buffer.getShort() & 0xFFFF];
+			buffer.get(name);
+			long offset = buffer.getInt() & 0xFFFFFFFFL;
+			long length = buffer.getInt() & 0xFFFFFFFFL;
+			table.put(new String(name, StandardCharsets.UTF_8), Long.valueOf(offset << 32 | length));
+		}
+		int start = buffer.position();
+		for (Long entry : table.values()) {
+			long value = entry.longValue();
+			if (start + (value >>> 32) + (value & 0xFFFFFFFFL) > size)
+				return; // truncated file
+		}
+		this.entries = table;
+		this.dataStart = start;
+		this.contents = buffer;
+	} catch (IOException | BufferUnderflowException | IllegalArgumentException e) {
+		// unreadable or corrupted cache file, it gets rewritten on save
+	}
+}
+
+/**
+ * Answers the contents of the given class file, or <code>null</code> if it is not in the cache.
+ */
+public synchronized byte[] get(String entryName) {
+	byte[] bytes = this.added.get(entryName);
+	if (bytes != null) {
+		this.hits++;
+		return bytes;
+	}
+	Long entry = this.entries.get(entryName);
+	if (entry == null) {
+		this.misses++;
+		return null;
+	}
+	this.hits++;
+	return read(entry.longValue());
+}
+
+private byte[] read(long entry) {
+	byte[] bytes = new byte[(int) (entry & 0xFFFFFFFFL)];
+	this.contents.get(this.dataStart + (int) (entry >>> 32), bytes);
+	return bytes;
+}
+
+public synchronized void put(String entryName, byte[] bytes) {
+	if (!this.entries.containsKey(entryName) && entryName.length() <= 0xFFFF / 3)
+		this.added.put(entryName, bytes);
+}
+
+/**
+ * Writes the cache file if class files were added to the cache. The cache file is replaced atomically,
+ * so that concurrent compilations either see the previous or the new contents.
+ */
+public synchronized void save() {
+	if (this.added.isEmpty())
+		return;
+	File directory = this.cacheFile.getParentFile();
+	File temporary = null;
+	try {
+		temporary = File.createTempFile(this.cacheFile.getName(), ".tmp", directory); //$NON-NLS-1$
+		try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporary)))) {
+			output.writeInt(MAGIC);
+			output.writeInt(VERSION);
+			output.writeInt(this.entries.size() + this.added.size());
+			long offset = 0;
+			for (Map.Entry<String, Long> entry : this.entries.entrySet()) {
+				int length = (int) (entry.getValue().longValue() & 0xFFFFFFFFL);
+				writeEntry(output, entry.getKey(), offset, length);
+				offset += length;
+			}
+			for (Map.Entry<String, byte[]> entry : this.added.entrySet()) {
+				int length = entry.getValue().length;
+				writeEntry(output, entry.getKey(), offset, length);
+				offset += length;
+			}
+			if (offset > Integer.MAX_VALUE)
+				throw new IOException("Cache file too large: " + this.cacheFile); //$NON-NLS-1$
+			for (Long entry : this.entries.values())
+				output.write(read(entry.longValue()));
+			for (byte[] bytes : this.added.values())
+				output.write(bytes);
+		}
+		Files.move(temporary.toPath(), this.cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		temporary = null;
+		// the class files are now in the cache file
+		this.contents = null;
+		this.entries = new HashMap<>();
+		this.added.clear();
+		load();
+	} catch (IOException | UnsupportedOperationException e) {
+		// best effort, the cache is only an optimization
+	} finally {
+		if (temporary != null)
+			temporary.delete();
+	}
+}
+
+private static void writeEntry(DataOutputStream output, String name, long offset, int length) throws IOException {
+	byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+	output.writeShort(bytes.length);
+	output.write(bytes);
+	output.writeInt((int) offset);
+	output.writeInt(length);
+}
+}
@@ -0,0 +1,462 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.batch;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.LineNumberReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.ZipFile;
+
+import org.eclipse.jdt.internal.compiler.batch.FileSystem.Classpath;
+import org.eclipse.jdt.internal.compiler.util.Util;
+
+/**
+ * Long lived batch compiler process, serving compilation requests of local build tools so that they do not
+ * pay for starting and warming up a new VM for each module.
+ * <p>
+ * The daemon listens on the loopback interface. On startup it writes its port and a random secret to the
+ * port file, which is only readable by its owner; clients must send that secret with each request.
+ * Requests are compiled one at a time, each by a new {@link Main}, with the same command line arguments
+ * as the batch compiler. Clients send their working directory with the arguments, and the daemon resolves
+ * relative paths against it, including the ones of expanded <code>@argfiles</code>. A client that does not send
+ * its whole request within the request timeout is disconnected, so that it cannot hold up the next ones.
+ * </p>
+ * <p>
+ * What stays warm between requests is what is not tied to a single compilation: the compiled code of the
+ * compiler itself, the jrt images cached by JRTUtil, and the jars of the classpath, which the daemon keeps open
+ * so that the next compilation reuses their central directory instead of scanning the jar again. A jar is
+ * reopened when its size or its modification time changes. Bindings belong to the {@link
+ * org.eclipse.jdt.internal.compiler.lookup.LookupEnvironment} of one compilation and are not shared.
+ * </p>
+ * Usage:
+ * <pre>
+ * java -cp ecj.jar org.eclipse.jdt.internal.compiler.batch.CompilerDaemon -portFile &lt;file&gt; [-idleTimeout &lt;minutes&gt;]
+ * java -cp ecj.jar org.eclipse.jdt.internal.compiler.batch.CompilerDaemon -client &lt;file&gt; &lt;compiler arguments&gt;
+ * java -cp ecj.jar org.eclipse.jdt.internal.compiler.batch.CompilerDaemon -stop &lt;file&gt;
+ * </pre>
+ */
+public class CompilerDaemon {
+
+	static final int PROTOCOL_VERSION = 2;
+	static final int STOP_REQUEST = -1;
+	static final int DEFAULT_IDLE_TIMEOUT = 180; // minutes
+	static final String REQUEST_TIMEOUT_PROPERTY = "jdt.compiler.daemon.requestTimeout"; //$NON-NLS-1$
+
+	// options followed by a path, or by a list of paths
+	static final Set<String> PATH_OPTIONS = new HashSet<>(Arrays.asList(
+		"-d", "-log", "-s", "--system", "-properties")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+	static final Set<String> PATH_LIST_OPTIONS = new HashSet<>(Arrays.asList(
+		"-cp", "-classpath", "--class-path", "-bootclasspath", "-sourcepath", "-extdirs", "-endorseddirs", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$
+		"-processorpath", "--processor-module-path", "-p", "--module-path", "--module-source-path", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+		"--upgrade-module-path", "-annotationpath")); //$NON-NLS-1$ //$NON-NLS-2$
+	// options followed by a value that is not a path
+	static final Set<String> VALUE_OPTIONS = new HashSet<>(Arrays.asList(
+		"-encoding", "-source", "-target", "--release", "-repeat", "-maxProblems", "--add-exports", "--add-reads", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$
+		"--add-modules", "--limit-modules", "--module-version", "-processor", "-classNames")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+	// options with a path after the colon
+	static final String[] INLINE_PATH_OPTIONS = { "-incremental:", "-Xprofile:" }; //$NON-NLS-1$ //$NON-NLS-2$
+	// option with a list of paths between brackets after the colon
+	static final String NOWARN_PATHS_OPTION = "-nowarn:["; //$NON-NLS-1$
+	// value of -annotationpath reading the external annotations from the classpath, not a path
+	static final String ANNOTATION_SOURCE_CLASSPATH = "CLASSPATH"; //$NON-NLS-1$
+
+	final File portFile;
+	final int idleTimeout; // milliseconds, 0 for none
+	final String secret;
+	/**
+	 * Time given to a client to send its request, in milliseconds. Defaults to the value of the
+	 * <code>jdt.compiler.daemon.requestTimeout</code> system property, in seconds, or to one minute.
+	 */
+	public int requestTimeout = Integer.getInteger(REQUEST_TIMEOUT_PROPERTY, 60).intValue() * 1000;
+	// jars of the classpath kept open between requests, by absolute path
+	final Map<String, OpenJar> openJars = new HashMap<>();
+
+	static class OpenJar {
+		final ZipFile zipFile;
+		final long length;
+		final long lastModified;
+
+		OpenJar(File file) throws IOException {
+			this.length = file.length();
+			this.lastModified = file.lastModified();
+			this.zipFile = new ZipFile(file);
+		}
+
+		boolean isUpToDate(File file) {
+			return file.length() == this.length && file.lastModified() == this.lastModified;
+		}
+
+		void close() {
+			try {
+				this.zipFile.close();
+			} catch (IOException e) {
+				// ignore
+			}
+		}
+	}
+
+	/**
+	 * Compiler remembering the name environment it compiled against.
+	 */
+	static class DaemonMain extends Main {
+		FileSystem nameEnvironment;
+
+		DaemonMain(PrintWriter outWriter, PrintWriter errWriter) {
+			super(outWriter, errWriter, false /* systemExit */, null /* options */, null /* progress */);
+		}
+
+		@Override
+		public FileSystem getLibraryAccess() {
+			return this.nameEnvironment = super.getLibraryAccess();
+		}
+	}
+
+public CompilerDaemon(File portFile, int idleTimeoutMinutes) {
+	this.portFile = portFile;
+	this.idleTimeout = idleTimeoutMinutes * 60 * 1000;
+	byte[] bytes = new byte[16];
+	new SecureRandom().nextBytes(bytes);
+	StringBuilder buffer = new StringBuilder(32);
+	for (byte b : bytes) {
+		buffer.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+	}
+	this.secret = buffer.toString();
+}
+
+public static void main(String[] argv) throws IOException {
+	if (argv.length >= 2 && argv[0].equals("-client")) { //$NON-NLS-1$
+		String[] arguments = new String[argv.length - 2];
+		System.arraycopy(argv, 2, arguments, 0, arguments.length);
+		PrintWriter out = new PrintWriter(System.out);
+		PrintWriter err = new PrintWriter(System.err);
+		boolean succeeded = compile(new File(argv[1]), arguments, out, err);
+		out.flush();
+		err.flush();
+		System.exit(succeeded ? 0 : -1);
+	} else if (argv.length == 2 && argv[0].equals("-stop")) { //$NON-NLS-1$
+		stop(new File(argv[1]));
+	} else {
+		File file = null;
+		int idleTimeout = DEFAULT_IDLE_TIMEOUT;
+		for (int i = 0; i < argv.length - 1; i += 2) {
+			if (argv[i].equals("-portFile")) { //$NON-NLS-1$
+				file = new File(argv[i + 1]);
+			} else if (argv[i].equals("-idleTimeout")) { //$NON-NLS-1$
+				idleTimeout = Integer.parseInt(argv[i + 1]);
+			}
+		}
+		if (file == null) {
+			System.err.println(new Main(new PrintWriter(System.out), new PrintWriter(System.err), false, null, null).bind("daemon.usage")); //$NON-NLS-1$
+			System.exit(-1);
+		}
+		new CompilerDaemon(file, idleTimeout).run();
+	}
+}
+
+/**
+ * Serves requests until a stop request is received, or until no request was received for the idle timeout.
+ */
+public void run() throws IOException {
+	try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+		serverSocket.setSoTimeout(this.idleTimeout);
+		writePortFile(serverSocket.getLocalPort());
+		while (true) {
+			Socket socket;
+			try {
+				socket = serverSocket.accept();
+			} catch (SocketTimeoutException e) {
+				return; // idle for too long
+			}
+			try (Socket client = socket) {
+				client.setSoTimeout(this.requestTimeout);
+				if (!serve(client))
+					return;
+			} catch (IOException e) {
+				// the client went away or did not send its request in time, serve the next one
+			}
+		}
+	} finally {
+		for (OpenJar jar : this.openJars.values())
+			jar.close();
+		this.openJars.clear();
+		this.portFile.delete();
+	}
+}
+
+private void writePortFile(int port) throws IOException {
+	File parent = this.portFile.getAbsoluteFile().getParentFile();
+	File temporary = File.createTempFile(this.portFile.getName(), ".tmp", parent); //$NON-NLS-1$
+	// only the owner may read the secret
+	temporary.setReadable(false, false);
+	temporary.setReadable(true, true);
+	try (Writer writer = new OutputStreamWriter(new FileOutputStream(temporary), StandardCharsets.UTF_8)) {
+		writer.write(port + "\n" + this.secret + "\n"); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+	Files.move(temporary.toPath(), this.portFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+}
+
+/**
+ * Answers <code>false</code> if the daemon was asked to stop.
+ */
+private boolean serve(Socket socket) throws IOException {
+	DataInputStream input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+	DataOutputStream output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+	if (input.readInt() != PROTOCOL_VERSION
+			|| !MessageDigest.isEqual(this.secret.getBytes(StandardCharsets.UTF_8), input.readUTF().getBytes(StandardCharsets.UTF_8)))
+		return true; // not one of our clients
+	int count = input.readInt();
+	if (count == STOP_REQUEST) {
+		output.writeBoolean(true);
+		output.flush();
+		return false;
+	}
+	File directory = new File(readString(input));
+	String[] arguments = new String[count];
+	for (int i = 0; i < count; i++)
+		arguments[i] = readString(input);
+
+	StringWriter out = new StringWriter();
+	StringWriter err = new StringWriter();
+	boolean succeeded;
+	DaemonMain main = new DaemonMain(new PrintWriter(out), new PrintWriter(err));
+	try {
+		succeeded = main.compile(resolveArguments(arguments, directory));
+	} catch (RuntimeException | Error e) {
+		// keep serving the next requests
+		e.printStackTrace(new PrintWriter(err, true));
+		succeeded = false;
+	}
+	keepJarsOpen(main.nameEnvironment);
+
+	output.writeBoolean(succeeded);
+	writeString(output, out.toString());
+	writeString(output, err.toString());
+	output.flush();
+	return true;
+}
+
+/**
+ * Answers the given command line arguments, with the relative paths they contain resolved against the given
+ * directory. <code>@argfiles</code> are expanded the way {@link Main} does, since the paths they contain are
+ * relative to the same directory.
+ *
+ * @throws IllegalArgumentException if an argument file cannot be read
+ */
+static String[] resolveArguments(String[] arguments, File directory) {
+	List<String> resolved = new ArrayList<>(arguments.length);
+	String option = null; // the option the current argument is the value of
+	for (String argument : expandArguments(arguments, directory)) {
+		if (option != null) {
+			if (option.equals("-annotationpath") && argument.equals(ANNOTATION_SOURCE_CLASSPATH)) { //$NON-NLS-1$
+				// keyword, kept as is
+			} else if (PATH_LIST_OPTIONS.contains(option)) {
+				argument = resolvePathList(argument, directory);
+			} else if (PATH_OPTIONS.contains(option) && !(option.equals("-d") && argument.equals("none"))) { //$NON-NLS-1$ //$NON-NLS-2$
+				argument = resolvePath(argument, directory);
+			}
+			option = null;
+		} else if (PATH_OPTIONS.contains(argument) || PATH_LIST_OPTIONS.contains(argument) || VALUE_OPTIONS.contains(argument)) {
+			option = argument;
+		} else if (argument.startsWith(NOWARN_PATHS_OPTION) && argument.endsWith("]")) { //$NON-NLS-1$
+			String paths = argument.substring(NOWARN_PATHS_OPTION.length(), argument.length() - 1);
+			argument = NOWARN_PATHS_OPTION + resolvePathList(paths, directory) + ']';
+		} else if (argument.startsWith("-")) { //$NON-NLS-1$
+			for (String inlineOption : INLINE_PATH_OPTIONS) {
+				if (argument.startsWith(inlineOption) && argument.length() > inlineOption.length()) {
+					argument = inlineOption + resolvePath(argument.substring(inlineOption.length()), directory);
+					break;
+				}
+			}
+		} else {
+			argument = resolvePath(argument, directory); // source file or folder
+		}
+		resolved.add(argument);
+	}
+	return resolved.toArray(new String[resolved.size()]);
+}
+
+private static List<String> expandArguments(String[] arguments, File directory) {
+	List<String> expanded = new ArrayList<>(arguments.length);
+	for (String argument : arguments) {
+		argument = argument.trim();
+		if (!argument.startsWith("@")) { //$NON-NLS-1$
+			expanded.add(argument);
+			continue;
+		}
+		try {
+			File file = new File(resolvePath(argument.substring(1), directory));
+			LineNumberReader reader = new LineNumberReader(new StringReader(new String(Util.getFileCharContent(file, null))));
+			StringBuilder buffer = new StringBuilder();
+			String line;
+			while ((line = reader.readLine()) != null) {
+				line = line.trim();
+				if (!line.startsWith("#")) { //$NON-NLS-1$
+					buffer.append(line).append(" "); //$NON-NLS-1$
+				}
+			}
+			for (String token : Main.tokenize(buffer.toString()))
+				expanded.add(token);
+		} catch (IOException e) {
+			throw new IllegalArgumentException("Invalid argument file: " + argument, e); //$NON-NLS-1$
+		}
+	}
+	return expanded;
+}
+
+// the path of a list entry ends where its access rules or destination start
+private static String resolvePathList(String paths, File directory) {
+	StringBuilder buffer = new StringBuilder(paths.length());
+	String[] entries = paths.split(File.pathSeparator, -1);
+	for (int i = 0; i < entries.length; i++) {
+		if (i > 0)
+			buffer.append(File.pathSeparatorChar);
+		int rules = entries[i].indexOf('[');
+		if (rules == -1) {
+			buffer.append(resolvePath(entries[i], directory));
+		} else {
+			buffer.append(resolvePath(entries[i].substring(0, rules), directory)).append(entries[i], rules, entries[i].length());
+		}
+	}
+	return buffer.toString();
+}
+
+private static String resolvePath(String path, File directory) {
+	if (path.isEmpty() || new File(path).isAbsolute())
+		return path;
+	return new File(directory, path).getPath();
+}
+
+/**
+ * Keeps the jars of the given name environment open until the next request, and closes the ones that changed
+ * or disappeared.
+ */
+void keepJarsOpen(FileSystem nameEnvironment) {
+	for (Iterator<Map.Entry<String, OpenJar>> iterator = this.openJars.entrySet().iterator(); iterator.hasNext();) {
+		Map.Entry<String, OpenJar> entry = iterator.next();
+		if (!entry.getValue().isUpToDate(new File(entry.getKey()))) {
+			entry.getValue().close();
+			iterator.remove();
+		}
+	}
+	if (nameEnvironment == null || nameEnvironment.classpaths == null)
+		return;
+	for (Classpath classpath : nameEnvironment.classpaths) {
+		if (!(classpath instanceof ClasspathJar) || classpath instanceof ClasspathSourceJar)
+			continue;
+		File file = ((ClasspathJar) classpath).file;
+		String path = file.getAbsolutePath();
+		if (this.openJars.containsKey(path) || !file.isFile())
+			continue;
+		try {
+			this.openJars.put(path, new OpenJar(file));
+		} catch (IOException e) {
+			// not a valid archive, nothing to keep
+		}
+	}
+}
+
+/**
+ * Compiles through the daemon described by the given port file, with the relative paths of the arguments
+ * resolved against the working directory of this process.
+ *
+ * @return <code>true</code> if the compilation succeeded
+ * @throws IOException if the daemon cannot be reached
+ */
+public static boolean compile(File portFile, String[] arguments, PrintWriter outWriter, PrintWriter errWriter) throws IOException {
+	return compile(portFile, new File(System.getProperty("user.dir")), arguments, outWriter, errWriter); //$NON-NLS-1$
+}
+
+/**
+ * Compiles through the daemon described by the given port file, with the relative paths of the arguments
+ * resolved against the given directory.
+ *
+ * @return <code>true</code> if the compilation succeeded
+ * @throws IOException if the daemon cannot be reached
+ */
+public static boolean compile(File portFile, File directory, String[] arguments, PrintWriter outWriter, PrintWriter errWriter) throws IOException {
+	String[] daemon = new String(Util.getFileCharContent(portFile, Util.UTF_8)).split("\n"); //$NON-NLS-1$
+	if (daemon.length < 2)
+		throw new IOException("Invalid daemon port file: " + portFile); //$NON-NLS-1$
+	try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), Integer.parseInt(daemon[0].trim()))) {
+		DataOutputStream output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+		output.writeInt(PROTOCOL_VERSION);
+		output.writeUTF(daemon[1].trim());
+		if (arguments == null) {
+			output.writeInt(STOP_REQUEST);
+		} else {
+			output.writeInt(arguments.length);
+			writeString(output, directory.getAbsolutePath());
+			for (String argument : arguments)
+				writeString(output, argument);
+		}
+		output.flush();
+		DataInputStream input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+		boolean succeeded = input.readBoolean();
+		if (arguments != null) {
+			outWriter.write(readString(input));
+			errWriter.write(readString(input));
+		}
+		return succeeded;
+	} catch (NumberFormatException e) {
+		throw new IOException("Invalid daemon port file: " + portFile, e); //$NON-NLS-1$
+	}
+}
+
+/**
+ * Stops the daemon described by the given port file.
+ */
+public static void stop(File portFile) throws IOException {
+	compile(portFile, null, null, null, null);
+}
+
+// strings longer than what DataOutput.writeUTF() supports, like compiler output
+private static void writeString(DataOutputStream output, String value) throws IOException {
+	byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+	output.writeInt(bytes.length);
+	output.write(bytes);
+}
+
+private static String readString(DataInputStream input) throws IOException {
+	byte[] bytes = new byte[input.readInt()];
+	input.readFully(bytes);
+	return new String(bytes, StandardCharsets.UTF_8);
+}
+}
@@ -0,0 +1,432 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.batch;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.eclipse.jdt.core.compiler.CharOperation;
+import org.eclipse.jdt.internal.compiler.ClassFile;
+import org.eclipse.jdt.internal.compiler.CompilationResult;
+import org.eclipse.jdt.internal.compiler.batch.FileSystem.Classpath;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileReader;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFormatException;
+import org.eclipse.jdt.internal.compiler.util.SuffixConstants;
+import org.eclipse.jdt.internal.compiler.util.Util;
+
+/**
+ * Dependency state of the batch compiler between two runs of <code>-incremental:&lt;stateDir&gt;</code>.
+ * <p>
+ * For each source file, the state records a digest of its contents, the class files it produced and the names it
+ * references. The next run only compiles the source files whose contents changed, then the source files referencing
+ * the types whose class files changed structurally (as told by {@link ClassFileReader#hasStructuralChanges(byte[])}),
+ * were added or were removed, until no more source file is affected; this is the loop of the incremental image
+ * builder of the workspace.
+ * </p>
+ * <p>
+ * Any change to the options, to the classpath or to the contents of the classpath (jars, class folders and the
+ * source files of the sourcepath) causes a full build, as does a state written by another version.
+ * </p>
+ */
+public class IncrementalState {
+
+	static final int VERSION = 2;
+	static final String STATE_FILE_NAME = "state"; //$NON-NLS-1$
+
+	static class SourceEntry {
+		String digest; // null when the source must be compiled again, e.g. because it had errors
+		boolean found; // not given on the command line, but found on the sourcepath or on the classpath
+		String[] classFiles; // relative to the output folder, '/' separated, without the .class suffix
+		String[] qualifiedReferences; // 'p1/p2' or 'p1/p2/X'
+		String[] simpleNameReferences;
+		String[] rootReferences;
+	}
+
+	final File stateFile;
+	final String outputFolder;
+	final String configuration;
+	Map<String, SourceEntry> sources = new HashMap<>(); // by source file name, as given to the compiler
+
+	// current run
+	private Map<String, CompilationUnit> units; // all the units of the command line, by file name
+	private final Set<String> compiledUnits = new HashSet<>();
+	private Set<String> changedPackages = new HashSet<>(); // 'p1/p2' of the types with structural changes
+	private Set<String> changedTypes = new HashSet<>(); // simple names of the top level types with structural changes
+	private Set<String> changedRoots = new HashSet<>();
+	public int unitCount, compiledUnitCount;
+
+public IncrementalState(File stateDirectory, String outputFolder, String configuration) {
+	this.stateFile = new File(stateDirectory, STATE_FILE_NAME);
+	this.outputFolder = outputFolder;
+	this.configuration = configuration;
+}
+
+/**
+ * Answers a digest of everything, but the given source files, that may change the result of the compilation.
+ * The source files of the class folders and of the sourcepath are part of it, as the compiler reads the types
+ * it does not find in the given source files from them.
+ */
+public static String configurationKey(Map<String, String> options, Classpath[] classpaths, String outputFolder, String[] sourceFiles) {
+	StringBuilder buffer = new StringBuilder();
+	for (Map.Entry<String, String> option : new TreeMap<>(options).entrySet())
+		buffer.append(option.getKey()).append('=').append(option.getValue()).append('\n');
+	File output = new File(outputFolder).getAbsoluteFile();
+	Set<String> compiledFiles = new HashSet<>(sourceFiles.length * 2);
+	for (String sourceFile : sourceFiles)
+		compiledFiles.add(new File(sourceFile).getAbsolutePath());
+	for (Classpath classpath : classpaths) {
+		File location = new File(classpath.getPath());
+		buffer.append(classpath.getClass().getSimpleName()).append(':').append(location.getAbsolutePath());
+		if (location.isFile()) {
+			buffer.append(',').append(location.length()).append(',').append(location.lastModified());
+		} else if (location.isDirectory()) {
+			appendFiles(buffer, location.getAbsoluteFile(), location.getAbsolutePath().length(), output, compiledFiles);
+		}
+		buffer.append('\n');
+	}
+	return digest(buffer.toString().getBytes(StandardCharsets.UTF_8));
+}
+
+private static void appendFiles(StringBuilder buffer, File directory, int prefixLength, File output, Set<String> compiledFiles) {
+	if (directory.equals(output))
+		return; // written by the compilation
+	File[] files = directory.listFiles();
+	if (files == null)
+		return;
+	for (File file : files) {
+		String name = file.getName();
+		if (file.isDirectory()) {
+			appendFiles(buffer, file, prefixLength, output, compiledFiles);
+		} else if (name.endsWith(SuffixConstants.SUFFIX_STRING_class)
+				|| (name.endsWith(SuffixConstants.SUFFIX_STRING_java) && !compiledFiles.contains(file.getPath()))) {
+			buffer.append(',').append(file.getPath().substring(prefixLength))
+				.append(',').append(file.length()).append(',').append(file.lastModified());
+		}
+	}
+}
+
+static String digest(byte[] bytes) {
+	try {
+		StringBuilder digest = new StringBuilder(64);
+		for (byte b : MessageDigest.getInstance("SHA-256").digest(bytes)) //$NON-NLS-1$
+			digest.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+		return digest.toString();
+	} catch (NoSuchAlgorithmException e) {
+		throw new IllegalStateException(e);
+	}
+}
+
+/**
+ * Loads the previous state and answers the units to compile first: the new units, the units whose contents
+ * changed, the units that had errors, or all of them if there is no usable state. Removes the class files of the
+ * source files which are not compiled anymore, or all the class files recorded by the previous state if it is not
+ * usable; {@link #getAffectedUnits()} then answers the units referencing the removed types. The other class files
+ * of the output folder are left alone.
+ */
+public CompilationUnit[] getChangedUnits(CompilationUnit[] allUnits) {
+	this.units = new HashMap<>(allUnits.length * 2);
+	for (CompilationUnit unit : allUnits)
+		this.units.put(new String(unit.getFileName()), unit);
+	this.unitCount = allUnits.length;
+	if (!load()) {
+		// like a full build of the workspace: the output folder is on the classpath, where the class files of the
+		// previous run would be found instead of the types whose source files were removed
+		for (SourceEntry entry : this.sources.values()) {
+			for (String classFile : entry.classFiles)
+				classFile(classFile).delete();
+		}
+		this.sources = new HashMap<>();
+		return markCompiled(allUnits);
+	}
+	for (String removed : new ArrayList<>(this.sources.keySet())) {
+		if (!this.units.containsKey(removed) && !this.sources.get(removed).found) {
+			SourceEntry entry = this.sources.remove(removed);
+			for (String classFile : entry.classFiles)
+				removeClassFile(classFile);
+		}
+	}
+	List<CompilationUnit> changed = new ArrayList<>();
+	for (Map.Entry<String, CompilationUnit> unit : this.units.entrySet()) {
+		SourceEntry entry = this.sources.get(unit.getKey());
+		if (entry == null || entry.found || entry.digest == null || !entry.digest.equals(digest(unit.getKey())))
+			changed.add(unit.getValue());
+	}
+	return markCompiled(changed.toArray(new CompilationUnit[changed.size()]));
+}
+
+/**
+ * Answers the units referencing the types that changed structurally since the previous call,
+ * and which were not compiled yet during this run. The class files of the affected units found on the sourcepath
+ * are removed, so that they are compiled again by the units which need them.
+ */
+public CompilationUnit[] getAffectedUnits() {
+	List<CompilationUnit> affected = new ArrayList<>();
+	while (!this.changedTypes.isEmpty()) {
+		List<String> foundUnits = new ArrayList<>();
+		for (Map.Entry<String, SourceEntry> source : this.sources.entrySet()) {
+			if (!this.compiledUnits.contains(source.getKey()) && references(source.getValue())) {
+				this.compiledUnits.add(source.getKey());
+				CompilationUnit unit = this.units.get(source.getKey());
+				if (unit == null)
+					foundUnits.add(source.getKey());
+				else
+					affected.add(unit);
+			}
+		}
+		this.changedPackages = new HashSet<>();
+		this.changedTypes = new HashSet<>();
+		this.changedRoots = new HashSet<>();
+		for (String foundUnit : foundUnits) {
+			for (String classFile : this.sources.remove(foundUnit).classFiles)
+				removeClassFile(classFile);
+		}
+	}
+	CompilationUnit[] result = affected.toArray(new CompilationUnit[affected.size()]);
+	this.compiledUnitCount += result.length;
+	return result;
+}
+
+private CompilationUnit[] markCompiled(CompilationUnit[] compiled) {
+	for (CompilationUnit unit : compiled)
+		this.compiledUnits.add(new String(unit.getFileName()));
+	this.compiledUnitCount += compiled.length;
+	return compiled;
+}
+
+private boolean references(SourceEntry entry) {
+	boolean referencesType = false;
+	for (String simpleName : entry.simpleNameReferences) {
+		if (this.changedTypes.contains(simpleName)) {
+			referencesType = true;
+			break;
+		}
+	}
+	if (!referencesType)
+		return false;
+	if (this.changedPackages.contains(Util.EMPTY_STRING))
+		return true; // default package
+	for (String qualifiedName : entry.qualifiedReferences) {
+		if (this.changedPackages.contains(qualifiedName))
+			return true;
+	}
+	// single segment package names are only recorded as roots
+	for (String root : entry.rootReferences) {
+		if (this.changedRoots.contains(root))
+			return true;
+	}
+	return false;
+}
+
+/**
+ * Records the references and the class files of the given result, and compares its class files with the ones
+ * of the previous compilation. Must be called before the class files are written.
+ *
+ * @param classFilesWritten whether the class files of the result are written
+ */
+public void acceptResult(CompilationResult result, boolean classFilesWritten) {
+	String fileName = new String(result.getFileName());
+	SourceEntry previous = this.sources.get(fileName);
+	this.compiledUnits.add(fileName);
+	SourceEntry entry = new SourceEntry();
+	entry.digest = result.hasErrors() ? null : digest(fileName);
+	entry.found = !this.units.containsKey(fileName);
+	entry.qualifiedReferences = join(result.qualifiedReferences);
+	entry.simpleNameReferences = toStrings(result.simpleNameReferences);
+	entry.rootReferences = toStrings(result.rootReferences);
+	if (!classFilesWritten) {
+		// the previous class files stay in place
+		entry.classFiles = previous == null ? CharOperation.NO_STRINGS : previous.classFiles;
+		this.sources.put(fileName, entry);
+		return;
+	}
+	ClassFile[] classFiles = result.getClassFiles();
+	entry.classFiles = new String[classFiles.length];
+	Set<String> newClassFiles = new HashSet<>();
+	for (int i = 0; i < classFiles.length; i++) {
+		String name = new String(classFiles[i].fileName());
+		entry.classFiles[i] = name;
+		newClassFiles.add(name);
+		File file = classFile(name);
+		if (!file.isFile()) {
+			typeChanged(name); // added type
+			continue;
+		}
+		try {
+			ClassFileReader reader = ClassFileReader.read(file);
+			// local types are only visible inside a single method
+			if (!(reader.isLocal() || reader.isAnonymous()) && reader.hasStructuralChanges(classFiles[i].getBytes()))
+				typeChanged(name);
+		} catch (ClassFormatException | IOException e) {
+			typeChanged(name);
+		}
+	}
+	if (previous != null) {
+		for (String classFile : previous.classFiles) {
+			if (!newClassFiles.contains(classFile))
+				removeClassFile(classFile); // removed type
+		}
+	}
+	this.sources.put(fileName, entry);
+}
+
+private File classFile(String name) {
+	return new File(this.outputFolder, name.replace('/', File.separatorChar) + SuffixConstants.SUFFIX_STRING_class);
+}
+
+private void removeClassFile(String name) {
+	classFile(name).delete();
+	typeChanged(name);
+}
+
+// same as IncrementalImageBuilder.addDependentsOf(IPath, boolean)
+private void typeChanged(String name) {
+	int lastSlash = name.lastIndexOf('/');
+	String packageName = lastSlash == -1 ? Util.EMPTY_STRING : name.substring(0, lastSlash);
+	String typeName = name.substring(lastSlash + 1);
+	int memberIndex = typeName.indexOf('$');
+	if (memberIndex > 0)
+		typeName = typeName.substring(0, memberIndex);
+	this.changedPackages.add(packageName);
+	this.changedTypes.add(typeName);
+	int firstSlash = name.indexOf('/');
+	if (firstSlash != -1)
+		this.changedRoots.add(name.substring(0, firstSlash));
+}
+
+private static String digest(String fileName) {
+	try {
+		return digest(Files.readAllBytes(new File(fileName).toPath()));
+	} catch (IOException e) {
+		return null; // compile it again next time
+	}
+}
+
+private static String[] join(char[][][] qualifiedNames) {
+	if (qualifiedNames == null)
+		return CharOperation.NO_STRINGS;
+	String[] result = new String[qualifiedNames.length];
+	for (int i = 0; i < qualifiedNames.length; i++)
+		result[i] = new String(CharOperation.concatWith(qualifiedNames[i], '/'));
+	return result;
+}
+
+private static String[] toStrings(char[][] names) {
+	if (names == null)
+		return CharOperation.NO_STRINGS;
+	String[] result = new String[names.length];
+	for (int i = 0; i < names.length; i++)
+		result[i] = new String(names[i]);
+	return result;
+}
+
+/**
+ * Answers whether the previous state is usable. Its entries are loaded when it was written for the same output
+ * folder, even if it is not usable, so that its class files can be removed.
+ */
+boolean load() {
+	if (!this.stateFile.isFile())
+		return false;
+	try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(this.stateFile)))) {
+		if (input.readInt() != VERSION)
+			return false;
+		boolean sameConfiguration = this.configuration.equals(input.readUTF());
+		if (!this.outputFolder.equals(input.readUTF()))
+			return false;
+		int count = input.readInt();
+		Map<String, SourceEntry> entries = new HashMap<>(count * 2);
+		for (int i = 0; i < count; i++) {
+			String fileName = input.readUTF();
+			SourceEntry entry = new SourceEntry();
+			entry.digest = input.readBoolean() ? input.readUTF() : null;
+			entry.found = input.readBoolean();
+			entry.classFiles = readStrings(input);
+			entry.qualifiedReferences = readStrings(input);
+			entry.simpleNameReferences = readStrings(input);
+			entry.rootReferences = readStrings(input);
+			entries.put(fileName, entry);
+		}
+		this.sources = entries;
+		return sameConfiguration;
+	} catch (IOException e) {
+		return false; // unreadable state, do a full build
+	}
+}
+
+/**
+ * Writes the state for the next run.
+ */
+public void save() throws IOException {
+	File directory = this.stateFile.getParentFile();
+	if (!directory.isDirectory() && !directory.mkdirs())
+		throw new IOException("Cannot create " + directory); //$NON-NLS-1$
+	File temporary = File.createTempFile(STATE_FILE_NAME, ".tmp", directory); //$NON-NLS-1$
+	try {
+		try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporary)))) {
+			output.writeInt(VERSION);
+			output.writeUTF(this.configuration);
+			output.writeUTF(this.outputFolder);
+			output.writeInt(this.sources.size());
+			for (Map.Entry<String, SourceEntry> source : this.sources.entrySet()) {
+				SourceEntry entry = source.getValue();
+				output.writeUTF(source.getKey());
+				output.writeBoolean(entry.digest != null);
+				if (entry.digest != null)
+					output.writeUTF(entry.digest);
+				output.writeBoolean(entry.found);
+				writeStrings(output, entry.classFiles);
+				writeStrings(output, entry.qualifiedReferences);
+				writeStrings(output, entry.simpleNameReferences);
+				writeStrings(output, entry.rootReferences);
+			}
+		}
+		Files.move(temporary.toPath(), this.stateFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+	} finally {
+		temporary.delete();
+	}
+}
+
+private static String[] readStrings(DataInputStream input) throws IOException {
+	int length = input.readInt();
+	if (length == 0)
+		return CharOperation.NO_STRINGS;
+	String[] strings = new String[length];
+	for (int i = 0; i < length; i++)
+		strings[i] = input.readUTF();
+	return strings;
+}
+
+private static void writeStrings(DataOutputStream output, String[] strings) throws IOException {
+	output.writeInt(strings.length);
+	for (String string : strings)
+		output.writeUTF(string);
+}
+}
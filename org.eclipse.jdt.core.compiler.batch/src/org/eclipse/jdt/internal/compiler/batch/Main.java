@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -48,6 +48,7 @@ import java.io.PrintWriter;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.UnsupportedEncodingException;
+import java.io.Writer;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -86,6 +87,8 @@ import org.eclipse.jdt.internal.compiler.Compiler;
 import org.eclipse.jdt.internal.compiler.ICompilerRequestor;
 import org.eclipse.jdt.internal.compiler.IErrorHandlingPolicy;
 import org.eclipse.jdt.internal.compiler.IProblemFactory;
+import org.eclipse.jdt.internal.compiler.ParallelProcessManager;
+import org.eclipse.jdt.internal.compiler.ParseTaskManager;
 import org.eclipse.jdt.internal.compiler.ast.CompilationUnitDeclaration;
 import org.eclipse.jdt.internal.compiler.batch.FileSystem.Classpath;
 import org.eclipse.jdt.internal.compiler.batch.ModuleFinder.AddExport;
@@ -101,6 +104,7 @@ import org.eclipse.jdt.internal.compiler.env.IModule;
 import org.eclipse.jdt.internal.compiler.env.IModule.IPackageExport;
 import org.eclipse.jdt.internal.compiler.env.IUpdatableModule.UpdateKind;
 import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.impl.CompilerProfiler;
 import org.eclipse.jdt.internal.compiler.impl.CompilerStats;
 import org.eclipse.jdt.internal.compiler.lookup.LookupEnvironment;
 import org.eclipse.jdt.internal.compiler.lookup.ModuleBinding;
@@ -718,6 +722,26 @@ public class Main implements ProblemSeverities, SuffixConstants {
 			this.printlnErr(this.main.bind("configure.incorrectVMVersionforAPT")); //$NON-NLS-1$
 		}
 
+		public void logIncrementalStateNotWritten(String directory, IOException e) {
+			String message = this.main.bind("output.incrementalStateNotWritten", directory, e.getMessage()); //$NON-NLS-1$
+			if ((this.tagBits & Logger.XML) != 0) {
+				HashMap<String, Object> parameters = new HashMap<>();
+				parameters.put(Logger.MESSAGE, message);
+				printTag(Logger.ERROR_TAG, parameters, true, true);
+			}
+			this.printlnErr(message);
+		}
+
+		public void logProfileNotWritten(String fileName, IOException e) {
+			String message = this.main.bind("output.profileNotWritten", fileName, e.getMessage()); //$NON-NLS-1$
+			if ((this.tagBits & Logger.XML) != 0) {
+				HashMap<String, Object> parameters = new HashMap<>();
+				parameters.put(Logger.MESSAGE, message);
+				printTag(Logger.ERROR_TAG, parameters, true, true);
+			}
+			this.printlnErr(message);
+		}
+
 		/**
 		 *
 		 */
@@ -1060,6 +1084,34 @@ public class Main implements ProblemSeverities, SuffixConstants {
 								String.valueOf(compilerStats.generateTime),
 								String.valueOf(((int) (compilerStats.generateTime * 1000.0 / time)) / 10.0),
 							}));
+				if (compilerStats.readAheadHits + compilerStats.readAheadMisses + compilerStats.readAheadStalls != 0) {
+					printlnOut(
+						this.main.bind("compile.readAhead", //$NON-NLS-1$
+							new String[] {
+								String.valueOf(compilerStats.readAheadHits),
+								String.valueOf(compilerStats.readAheadMisses),
+								String.valueOf(compilerStats.readAheadStalls),
+								String.valueOf(compilerStats.readAheadStallTime),
+							}));
+				}
+				if (compilerStats.identifierLookups != 0) {
+					printlnOut(
+						this.main.bind("compile.identifiers", //$NON-NLS-1$
+							new String[] {
+								String.valueOf(compilerStats.identifierLookups),
+								String.valueOf(compilerStats.identifierHits),
+								String.valueOf(((int) (compilerStats.identifierHits * 1000.0 / compilerStats.identifierLookups)) / 10.0),
+							}));
+				}
+				if (compilerStats.inferenceLookups != 0) {
+					printlnOut(
+						this.main.bind("compile.inferenceCache", //$NON-NLS-1$
+							new String[] {
+								String.valueOf(compilerStats.inferenceLookups),
+								String.valueOf(compilerStats.inferenceHits),
+								String.valueOf(((int) (compilerStats.inferenceHits * 1000.0 / compilerStats.inferenceLookups)) / 10.0),
+							}));
+				}
 			}
 		}
 
@@ -1440,6 +1492,13 @@ public class Main implements ProblemSeverities, SuffixConstants {
 	public long lineCount0;
 
 	public String log;
+	// file receiving the per unit profiling report (-Xprofile), or null
+	public String profileFile;
+	// profiler of all the passes of -incremental and all the repetitions of -repeat, written after the last one
+	private CompilerProfiler profiler;
+	// directory holding the dependency state between runs (-incremental), or null
+	public String incrementalStateDirectory;
+	protected IncrementalState incrementalState;
 
 	public Logger logger;
 	public int maxProblems;
@@ -2314,6 +2373,15 @@ public void configure(String[] argv) {
 					mode = DEFAULT;
 					continue;
 				}
+				if (currentArg.startsWith("-incremental:")) { //$NON-NLS-1$
+					mode = DEFAULT;
+					this.incrementalStateDirectory = currentArg.substring("-incremental:".length()); //$NON-NLS-1$
+					if (this.incrementalStateDirectory.length() == 0) {
+						throw new IllegalArgumentException(
+							this.bind("configure.invalidIncrementalStateDirectory", currentArg)); //$NON-NLS-1$
+					}
+					continue;
+				}
 				if (currentArg.equals("-inlineJSR")) { //$NON-NLS-1$
 					mode = DEFAULT;
 					this.options.put(
@@ -2570,6 +2638,15 @@ public void configure(String[] argv) {
 					this.logger.setEmacs();
 					continue;
 				}
+				if (currentArg.startsWith("-Xprofile:")) { //$NON-NLS-1$
+					mode = DEFAULT;
+					this.profileFile = currentArg.substring("-Xprofile:".length()); //$NON-NLS-1$
+					if (this.profileFile.length() == 0) {
+						throw new IllegalArgumentException(
+							this.bind("configure.invalidProfileFile", currentArg)); //$NON-NLS-1$
+					}
+					continue;
+				}
 				// annotation processing
 				if (currentArg.startsWith("-A")) { //$NON-NLS-1$
 					mode = DEFAULT;
@@ -3105,6 +3182,10 @@ public void configure(String[] argv) {
 			endorsedDirClasspaths,
 			customEncoding);
 
+	if (this.incrementalStateDirectory != null) {
+		initializeIncrementalState();
+	}
+
 	if (specifiedEncodings != null && specifiedEncodings.size() > 1) {
 		this.logger.logWarning(this.bind("configure.multipleencodings", //$NON-NLS-1$
 				this.options.get(CompilerOptions.OPTION_Encoding),
@@ -3118,6 +3199,27 @@ public void configure(String[] argv) {
 		this.pendingErrors = null;
 	}
 }
+private void initializeIncrementalState() {
+	if (this.destinationPath == null || this.destinationPath == NONE) {
+		throw new IllegalArgumentException(this.bind("configure.incrementalNeedsDestination")); //$NON-NLS-1$
+	}
+	if (this.destinationPaths != null) {
+		for (String customDestinationPath : this.destinationPaths) {
+			if (customDestinationPath != null)
+				throw new IllegalArgumentException(this.bind("configure.incrementalNeedsDestination")); //$NON-NLS-1$
+		}
+	}
+	if (CompilerOptions.ENABLED.equals(this.options.get(CompilerOptions.OPTION_Process_Annotations))) {
+		// generated sources are not tracked
+		throw new IllegalArgumentException(this.bind("configure.incrementalWithAnnotationProcessing")); //$NON-NLS-1$
+	}
+	this.produceRefInfo = true; // needed to find the units affected by a change
+	this.incrementalState = new IncrementalState(
+		new File(this.incrementalStateDirectory),
+		new File(this.destinationPath).getAbsolutePath(),
+		IncrementalState.configurationKey(this.options, this.checkedClasspaths, this.destinationPath,
+			this.filenames == null ? CharOperation.NO_STRINGS : this.filenames));
+}
 /** Translates any supported standard version starting at 1.3 up-to latest into the corresponding constant from CompilerOptions */
 private String optionStringToVersion(String currentArg) {
 	switch (currentArg) {
@@ -4682,6 +4784,9 @@ private static boolean isParentOf(char[] folderName, char[] fileName) {
 // Dump classfiles onto disk for all compilation units that where successful
 // and do not carry a -d none spec, either directly or inherited from Main.
 public void outputClassFiles(CompilationResult unitResult) {
+	if (this.incrementalState != null && unitResult != null) {
+		this.incrementalState.acceptResult(unitResult, !unitResult.hasErrors() || this.proceedOnError);
+	}
 	if (!((unitResult == null) || (unitResult.hasErrors() && !this.proceedOnError))) {
 		ClassFile[] classFiles = unitResult.getClassFiles();
 		String currentDestinationPath = null;
@@ -4743,7 +4848,66 @@ public void outputClassFiles(CompilationResult unitResult) {
  */
 public void performCompilation() {
 	this.startTime = System.currentTimeMillis();
-
+	boolean compiled = true;
+	if (this.incrementalState == null) {
+		performCompilation(getCompilationUnits(), null);
+	} else {
+		compiled = performIncrementalCompilation();
+	}
+	if (compiled) {
+		if (this.compilerStats != null) {
+			this.compilerStats[this.currentRepetition] = this.batchCompiler.stats;
+		}
+		this.logger.printStats();
+	}
+	if (this.profiler != null && this.currentRepetition == this.maxRepetition - 1) {
+		writeProfile();
+		this.profiler = null;
+	}
+}
+/*
+ * Answers whether any unit was compiled.
+ */
+private boolean performIncrementalCompilation() {
+	CompilationUnit[] units = this.incrementalState.getChangedUnits(getCompilationUnits());
+	if (units.length == 0) {
+		// removed source files affect the units referencing their types, even when no unit changed
+		units = this.incrementalState.getAffectedUnits();
+	}
+	String[] allFileNames = this.filenames;
+	CompilerStats stats = null;
+	try {
+		while (units.length > 0) {
+			// the class files of the units which are not compiled are read from the output folder
+			this.filenames = new String[units.length];
+			for (int i = 0; i < units.length; i++)
+				this.filenames[i] = new String(units[i].getFileName());
+			performCompilation(units, stats);
+			stats = this.batchCompiler.stats; // the statistics of the passes add up
+			units = this.incrementalState.getAffectedUnits();
+		}
+	} finally {
+		this.filenames = allFileNames;
+	}
+	if (this.verbose) {
+		this.out.println(this.bind("compile.incremental", //$NON-NLS-1$
+			String.valueOf(this.incrementalState.compiledUnitCount),
+			String.valueOf(this.incrementalState.unitCount)));
+	}
+	try {
+		this.incrementalState.save();
+	} catch (IOException e) {
+		this.logger.logIncrementalStateNotWritten(this.incrementalStateDirectory, e);
+	}
+	return stats != null;
+}
+/**
+ * Compiles the given units.
+ *
+ * @param units the units to compile
+ * @param stats the statistics of the previous passes of this repetition, to add the ones of this pass to, or null
+ */
+protected void performCompilation(CompilationUnit[] units, CompilerStats stats) {
 	FileSystem environment = getLibraryAccess();
 	try {
 		this.compilerOptions = new CompilerOptions(this.options);
@@ -4758,10 +4922,21 @@ public void performCompilation() {
 						getProblemFactory(),
 						this.out,
 						this.progress);
+		if (stats != null) {
+			this.batchCompiler.stats = stats;
+		}
 		this.batchCompiler.remainingIterations = this.maxRepetition-this.currentRepetition/*remaining iterations including this one*/;
 		// temporary code to allow the compiler to revert to a single thread
 		String setting = System.getProperty("jdt.compiler.useSingleThread"); //$NON-NLS-1$
 		this.batchCompiler.useSingleThread = setting != null && setting.equals("true"); //$NON-NLS-1$
+		this.batchCompiler.parsingThreads = ParseTaskManager.configuredThreadCount();
+		this.batchCompiler.processingThreads = ParallelProcessManager.configuredThreadCount();
+		if (this.profileFile != null) {
+			if (this.profiler == null) {
+				this.profiler = new CompilerProfiler();
+			}
+			this.batchCompiler.setProfiler(this.profiler);
+		}
 
 		if (this.compilerOptions.complianceLevel >= ClassFileConstants.JDK1_6
 				&& this.compilerOptions.processAnnotations) {
@@ -4784,7 +4959,7 @@ public void performCompilation() {
 		this.compilerOptions.produceReferenceInfo = this.produceRefInfo;
 		try {
 			this.logger.startLoggingSources();
-			this.batchCompiler.compile(getCompilationUnits());
+			this.batchCompiler.compile(units);
 		} finally {
 			this.logger.endLoggingSources();
 		}
@@ -4793,16 +4968,23 @@ public void performCompilation() {
 			loggingExtraProblems();
 			this.extraProblems = null;
 		}
-		if (this.compilerStats != null) {
-			this.compilerStats[this.currentRepetition] = this.batchCompiler.stats;
-		}
-		this.logger.printStats();
 	}
 	finally {
 	// cleanup
 		environment.cleanup();
 	}
 }
+private void writeProfile() {
+	try (Writer writer = new OutputStreamWriter(new FileOutputStream(this.profileFile, false), Util.UTF_8)) {
+		if (this.profileFile.toLowerCase(Locale.ROOT).endsWith(".csv")) { //$NON-NLS-1$
+			this.profiler.writeCSV(writer);
+		} else {
+			this.profiler.writeJSON(writer);
+		}
+	} catch (IOException e) {
+		this.logger.logProfileNotWritten(this.profileFile, e);
+	}
+}
 protected void loggingExtraProblems() {
 	this.logger.loggingExtraProblems(this);
 }
@@ -5306,6 +5488,13 @@ protected void setPaths(ArrayList<String> bootclasspaths,
 	 */
 	allPaths.addAll(0, endorsed);
 	allPaths.addAll(extdirs);
+	if (this.incrementalStateDirectory != null && this.destinationPath != null && this.destinationPath != NONE) {
+		// incremental compilation reads the types of the units it does not compile from the output folder
+		new File(this.destinationPath).mkdirs();
+		FileSystem.Classpath output = FileSystem.getClasspath(this.destinationPath, customEncoding, null, this.options, this.releaseVersion);
+		if (output != null)
+			allPaths.add(output);
+	}
 	allPaths.addAll(sourcepaths);
 	allPaths.addAll(cp);
 	allPaths.addAll(mp);
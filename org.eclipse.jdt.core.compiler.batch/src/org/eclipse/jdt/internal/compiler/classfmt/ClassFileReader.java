@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -63,6 +63,9 @@ public class ClassFileReader extends ClassFileStruct implements IBinaryType {
 	private ModuleInfo moduleDeclaration;
 	public char[] moduleName;
 	private int fieldsCount;
+	// offset of the first field, fields and methods are only decoded when asked for (-1 once decoded)
+	// volatile since readers are shared between threads, see decodeMembers()
+	private volatile int membersOffset = -1;
 
 	// initialized in case the .class file is a nested type
 	private InnerClassInfo innerInfo;
@@ -337,31 +340,20 @@ public ClassFileReader(byte[] classFileBytes, char[] fileName, boolean fullyInit
 				readOffset += 2;
 			}
 		}
-		// Read the fields, use exception handlers to catch bad format
+		// Skip the fields and the methods, they are decoded on demand (see decodeMembers())
+		// but their bounds and names are checked now, so that a malformed class file is still rejected when it is read
+		int membersStart = readOffset;
 		this.fieldsCount = u2At(readOffset);
 		readOffset += 2;
-		if (this.fieldsCount != 0) {
-			FieldInfo field;
-			this.fields = new FieldInfo[this.fieldsCount];
-			for (int i = 0; i < this.fieldsCount; i++) {
-				field = FieldInfo.createField(this.reference, this.constantPoolOffsets, readOffset, this.version);
-				this.fields[i] = field;
-				readOffset += field.sizeInBytes();
-			}
+		for (int i = 0; i < this.fieldsCount; i++) {
+			readOffset = skipMember(readOffset, ClassFormatException.ErrBadFieldInfo);
 		}
-		// Read the methods
 		this.methodsCount = u2At(readOffset);
 		readOffset += 2;
-		if (this.methodsCount != 0) {
-			this.methods = new MethodInfo[this.methodsCount];
-			boolean isAnnotationType = (this.accessFlags & ClassFileConstants.AccAnnotation) != 0;
-			for (int i = 0; i < this.methodsCount; i++) {
-				this.methods[i] = isAnnotationType
-					? AnnotationMethodInfo.createAnnotationMethod(this.reference, this.constantPoolOffsets, readOffset, this.version)
-					: MethodInfo.createMethod(this.reference, this.constantPoolOffsets, readOffset, this.version);
-				readOffset += this.methods[i].sizeInBytes();
-			}
+		for (int i = 0; i < this.methodsCount; i++) {
+			readOffset = skipMember(readOffset, ClassFormatException.ErrBadMethodInfo);
 		}
+		this.membersOffset = membersStart;
 
 		// Read the attributes
 		int attributesCount = u2At(readOffset);
@@ -527,6 +519,83 @@ public ClassFileReader(byte[] classFileBytes, char[] fileName, boolean fullyInit
 	}
 }
 
+/**
+ * Answers the offset following the field_info or method_info structure at the given offset, after checking
+ * that the structure and its attributes are within the class file, and that their names are in the constant pool.
+ */
+private int skipMember(int offset, int errorCode) throws ClassFormatException {
+	checkUtf8At(u2At(offset + 2), errorCode, offset); // name
+	checkUtf8At(u2At(offset + 4), errorCode, offset); // descriptor
+	int attributesCount = u2At(offset + 6);
+	int readOffset = offset + 8;
+	for (int i = 0; i < attributesCount; i++) {
+		checkUtf8At(u2At(readOffset), errorCode, readOffset); // attribute name
+		long end = readOffset + 6 + u4At(readOffset + 2);
+		if (end > this.reference.length)
+			throw new ClassFormatException(null, this.classFileName, ClassFormatException.ErrTruncatedInput, offset);
+		readOffset = (int) end;
+	}
+	return readOffset;
+}
+
+private void checkUtf8At(int index, int errorCode, int offset) throws ClassFormatException {
+	if (index <= 0 || index >= this.constantPoolCount || u1At(this.constantPoolOffsets[index]) != ClassFileConstants.Utf8Tag)
+		throw new ClassFormatException(null, this.classFileName, errorCode, offset);
+}
+
+/**
+ * Creates the fields and the methods, which are skipped when the class file is read: a binary type that
+ * is only looked up for its name, its hierarchy or its member types does not pay for decoding its members.
+ * <p>
+ * Readers are shared between threads, so the members are decoded while holding the lock of the reader, and
+ * published by the volatile write of {@link #membersOffset}. A malformed attribute which was not detected when
+ * the class file was read is reported as an {@link IllegalStateException} caused by a {@link ClassFormatException},
+ * as when annotations are decoded on demand.
+ * </p>
+ */
+private void decodeMembers() {
+	if (this.membersOffset < 0)
+		return;
+	synchronized (this) {
+		int readOffset = this.membersOffset;
+		if (readOffset < 0)
+			return;
+		try {
+			decodeMembers(readOffset);
+		} catch (RuntimeException e) {
+			throw new IllegalStateException("Malformed members in " + String.valueOf(this.classFileName), //$NON-NLS-1$
+					new ClassFormatException(e, this.classFileName, ClassFormatException.ErrBadMethodInfo, readOffset));
+		}
+		this.membersOffset = -1;
+	}
+}
+
+private void decodeMembers(int readOffset) {
+	readOffset += 2;
+	if (this.fieldsCount != 0) {
+		FieldInfo field;
+		FieldInfo[] fieldInfos = new FieldInfo[this.fieldsCount];
+		for (int i = 0; i < this.fieldsCount; i++) {
+			field = FieldInfo.createField(this.reference, this.constantPoolOffsets, readOffset, this.version);
+			fieldInfos[i] = field;
+			readOffset += field.sizeInBytes();
+		}
+		this.fields = fieldInfos;
+	}
+	readOffset += 2;
+	if (this.methodsCount != 0) {
+		MethodInfo[] methodInfos = new MethodInfo[this.methodsCount];
+		boolean isAnnotationType = (this.accessFlags & ClassFileConstants.AccAnnotation) != 0;
+		for (int i = 0; i < this.methodsCount; i++) {
+			methodInfos[i] = isAnnotationType
+				? AnnotationMethodInfo.createAnnotationMethod(this.reference, this.constantPoolOffsets, readOffset, this.version)
+				: MethodInfo.createMethod(this.reference, this.constantPoolOffsets, readOffset, this.version);
+			readOffset += methodInfos[i].sizeInBytes();
+		}
+		this.methods = methodInfos;
+	}
+}
+
 private void decodeRecords(int readOffset, char[] attributeName) {
 	if (CharOperation.equals(attributeName, AttributeNamesConstants.RecordClass)) {
 		this.isRecord = true;
@@ -706,6 +775,7 @@ public char[] getEnclosingTypeName() {
  */
 @Override
 public IBinaryField[] getFields() {
+	decodeMembers();
 	return this.fields;
 }
 /**
@@ -830,6 +900,7 @@ public IBinaryNestedType[] getMemberTypes() {
  */
 @Override
 public IBinaryMethod[] getMethods() {
+	decodeMembers();
 	return this.methods;
 }
 
@@ -1110,6 +1181,7 @@ public boolean hasStructuralChanges(byte[] newBytes, boolean orderRequired, bool
 		}
 
 		// fields
+		decodeMembers();
 		FieldInfo[] otherFieldInfos = (FieldInfo[]) newClassFile.getFields();
 		int otherFieldInfosLength = otherFieldInfos == null ? 0 : otherFieldInfos.length;
 		boolean compareFields = true;
@@ -1189,7 +1261,8 @@ public boolean hasStructuralChanges(byte[] newBytes, boolean orderRequired, bool
 			return true;
 		}
 		return false;
-	} catch (ClassFormatException e) {
+	} catch (ClassFormatException | IllegalStateException e) {
+		// the new class file, or its members decoded on demand, are malformed
 		return true;
 	}
 }
@@ -1384,6 +1457,7 @@ private boolean affectsSignature(IBinaryTypeAnnotation typeAnnotation) {
  */
 private void initialize() throws ClassFormatException {
 	try {
+		decodeMembers();
 		for (int i = 0, max = this.fieldsCount; i < max; i++) {
 			this.fields[i].initialize();
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,12 +13,15 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.compiler.codegen;
 
+import java.util.Arrays;
+
 import org.eclipse.jdt.core.compiler.CharOperation;
 
 public class CharArrayCache {
 	// to avoid using Enumerations, walk the individual tables skipping nulls
 	public char[] keyTable[];
 	public int valueTable[];
+	int hashTable[]; // the hashes of the keys, compared before the keys themselves
 	int elementSize; // number of elements in the table
 	int threshold;
 /**
@@ -30,41 +33,53 @@ public CharArrayCache() {
 }
 /**
  * Constructs a new, empty hashtable with the specified initial
- * capacity.
+ * capacity, rounded up to a power of two so that the keys are probed with a mask.
  * @param initialCapacity int
  *	the initial number of buckets; must be less than Integer.MAX_VALUE / 2
  */
 public CharArrayCache(int initialCapacity) {
+	int capacity = initialCapacity < 2 ? 2 : Integer.highestOneBit(initialCapacity - 1) << 1;
 	this.elementSize = 0;
-	this.threshold = (initialCapacity * 2) / 3; // faster than float operation
-	this.keyTable = new char[initialCapacity][];
-	this.valueTable = new int[initialCapacity];
+	this.threshold = (capacity * 2) / 3; // faster than float operation
+	this.keyTable = new char[capacity][];
+	this.valueTable = new int[capacity];
+	this.hashTable = new int[capacity];
 }
 /**
  * Clears the hash table so that it has no more elements in it.
  */
 public void clear() {
-	for (int i = this.keyTable.length; --i >= 0;) {
-		this.keyTable[i] = null;
-		this.valueTable[i] = 0;
-	}
+	if (this.elementSize == 0)
+		return;
+	Arrays.fill(this.keyTable, null);
+	Arrays.fill(this.valueTable, 0);
 	this.elementSize = 0;
 }
+private static int hash(char[] key) {
+	// spread the hashes of similar keys, such as names ending with a counter, over the whole table
+	int hash = CharOperation.hashCode(key) * 0x9E3779B9;
+	return hash ^ (hash >>> 16);
+}
+/**
+ * Answers the index of the given key in the tables, or of the free slot where it would be put.
+ */
+private int indexOf(char[] key, int hash) {
+	int mask = this.keyTable.length - 1, index = hash & mask;
+	char[] current;
+	while ((current = this.keyTable[index]) != null) {
+		if (this.hashTable[index] == hash && CharOperation.equals(current, key))
+			return index;
+		index = (index + 1) & mask;
+	}
+	return index;
+}
 /** Returns true if the collection contains an element for the key.
  *
  * @param key char[] the key that we are looking for
  * @return boolean
  */
 public boolean containsKey(char[] key) {
-	int length = this.keyTable.length, index = CharOperation.hashCode(key) % length;
-	while (this.keyTable[index] != null) {
-		if (CharOperation.equals(this.keyTable[index], key))
-			return true;
-		if (++index == length) { // faster than modulo
-			index = 0;
-		}
-	}
-	return false;
+	return this.keyTable[indexOf(key, hash(key))] != null;
 }
 /** Gets the object associated with the specified key in the
  * hashtable.
@@ -73,15 +88,8 @@ public boolean containsKey(char[] key) {
  *	defined in the hash table.
  */
 public int get(char[] key) {
-	int length = this.keyTable.length, index = CharOperation.hashCode(key) % length;
-	while (this.keyTable[index] != null) {
-		if (CharOperation.equals(this.keyTable[index], key))
-			return this.valueTable[index];
-		if (++index == length) { // faster than modulo
-			index = 0;
-		}
-	}
-	return -1;
+	int index = indexOf(key, hash(key));
+	return this.keyTable[index] != null ? this.valueTable[index] : -1;
 }
 /**
  * Puts the specified element into the hashtable if it wasn't there already,
@@ -93,80 +101,66 @@ public int get(char[] key) {
  * @return int the old value of the key, or -value if it did not have one.
  */
 public int putIfAbsent(char[] key, int value) {
-	int length = this.keyTable.length, index = CharOperation.hashCode(key) % length;
-	while (this.keyTable[index] != null) {
-		if (CharOperation.equals(this.keyTable[index], key))
-			return this.valueTable[index];
-		if (++index == length) { // faster than modulo
-			index = 0;
-		}
-	}
+	int hash = hash(key);
+	int index = indexOf(key, hash);
+	if (this.keyTable[index] != null)
+		return this.valueTable[index];
 	this.keyTable[index] = key;
 	this.valueTable[index] = value;
+	this.hashTable[index] = hash;
 
 	// assumes the threshold is never equal to the size of the table
 	if (++this.elementSize > this.threshold)
 		rehash();
 	return -value; // negative when added (value is assumed to be > 0)
 }
-
-/**
- * Puts the specified element into the hashtable, using the specified
- * key.  The element may be retrieved by doing a get() with the same key.
- * The key and the element cannot be null.
- *
- * @param key <CODE>Object</CODE> the specified key in the hashtable
- * @param value <CODE>int</CODE> the specified element
- * @return int the old value of the key, or -1 if it did not have one.
- */
-private int put(char[] key, int value) {
-	int length = this.keyTable.length, index = CharOperation.hashCode(key) % length;
-	while (this.keyTable[index] != null) {
-		if (CharOperation.equals(this.keyTable[index], key))
-			return this.valueTable[index] = value;
-		if (++index == length) { // faster than modulo
-			index = 0;
-		}
-	}
-	this.keyTable[index] = key;
-	this.valueTable[index] = value;
-
-	// assumes the threshold is never equal to the size of the table
-	if (++this.elementSize > this.threshold)
-		rehash();
-	return value;
-}
 /**
  * Rehashes the content of the table into a bigger table.
  * This method is called automatically when the hashtable's
  * size exceeds the threshold.
  */
 private void rehash() {
-	CharArrayCache newHashtable = new CharArrayCache(this.keyTable.length * 2);
-	for (int i = this.keyTable.length; --i >= 0;)
-		if (this.keyTable[i] != null)
-			newHashtable.put(this.keyTable[i], this.valueTable[i]);
-
-	this.keyTable = newHashtable.keyTable;
-	this.valueTable = newHashtable.valueTable;
-	this.threshold = newHashtable.threshold;
+	char[][] keys = this.keyTable;
+	int[] values = this.valueTable, hashes = this.hashTable;
+	int capacity = keys.length * 2, mask = capacity - 1;
+	this.keyTable = new char[capacity][];
+	this.valueTable = new int[capacity];
+	this.hashTable = new int[capacity];
+	this.threshold = (capacity * 2) / 3;
+	for (int i = keys.length; --i >= 0;) {
+		if (keys[i] != null) {
+			int index = hashes[i] & mask;
+			while (this.keyTable[index] != null)
+				index = (index + 1) & mask;
+			this.keyTable[index] = keys[i];
+			this.valueTable[index] = values[i];
+			this.hashTable[index] = hashes[i];
+		}
+	}
 }
 /** Remove the object associated with the specified key in the
  * hashtable.
  * @param key <CODE>char[]</CODE> the specified key
  */
 public void remove(char[] key) {
-	int length = this.keyTable.length, index = CharOperation.hashCode(key) % length;
-	while (this.keyTable[index] != null) {
-		if (CharOperation.equals(this.keyTable[index], key)) {
-			this.valueTable[index] = 0;
-			this.keyTable[index] = null;
-			return;
-		}
-		if (++index == length) { // faster than modulo
-			index = 0;
+	int index = indexOf(key, hash(key));
+	if (this.keyTable[index] == null)
+		return;
+	// shift back the following keys of the probe sequence which would no longer be found past the hole
+	int mask = this.keyTable.length - 1;
+	int hole = index;
+	for (index = (index + 1) & mask; this.keyTable[index] != null; index = (index + 1) & mask) {
+		int home = this.hashTable[index] & mask;
+		if (((index - home) & mask) >= ((index - hole) & mask)) {
+			this.keyTable[hole] = this.keyTable[index];
+			this.valueTable[hole] = this.valueTable[index];
+			this.hashTable[hole] = this.hashTable[index];
+			hole = index;
 		}
 	}
+	this.keyTable[hole] = null;
+	this.valueTable[hole] = 0;
+	this.elementSize--;
 }
 /**
  * Returns the key corresponding to the value. Returns null if the
@@ -54,11 +54,11 @@ public class ConstantPool implements ClassFileConstants, TypeIds {
 	protected LongCache longCache;
 	public CharArrayCache UTF8Cache;
 	protected CharArrayCache stringCache;
-	protected HashtableOfObject methodsAndFieldsCache;
+	protected MemberRefCache methodsAndFieldsCache;
 	protected CharArrayCache classCache;
 	protected CharArrayCache moduleCache;
 	protected CharArrayCache packageCache;
-	protected HashtableOfObject nameAndTypeCacheForFieldsAndMethods;
+	protected MemberRefCache nameAndTypeCacheForFieldsAndMethods;
 	protected HashtableOfInteger dynamicCache;
 	public byte[] poolContent;
 	public int currentIndex = 1;
@@ -326,11 +326,11 @@ public class ConstantPool implements ClassFileConstants, TypeIds {
 	public ConstantPool(ClassFile classFile) {
 		this.UTF8Cache = new CharArrayCache(UTF8_INITIAL_SIZE);
 		this.stringCache = new CharArrayCache(STRING_INITIAL_SIZE);
-		this.methodsAndFieldsCache = new HashtableOfObject(METHODS_AND_FIELDS_INITIAL_SIZE);
+		this.methodsAndFieldsCache = new MemberRefCache(METHODS_AND_FIELDS_INITIAL_SIZE);
 		this.classCache = new CharArrayCache(CLASS_INITIAL_SIZE);
 		this.moduleCache = new CharArrayCache(5);
 		this.packageCache = new CharArrayCache(5);
-		this.nameAndTypeCacheForFieldsAndMethods = new HashtableOfObject(NAMEANDTYPE_INITIAL_SIZE);
+		this.nameAndTypeCacheForFieldsAndMethods = new MemberRefCache(NAMEANDTYPE_INITIAL_SIZE);
 		this.dynamicCache = new HashtableOfInteger(DYNAMIC_INITIAL_SIZE);
 		this.offsets = new int[5];
 		initialize(classFile);
@@ -415,29 +415,7 @@ public class ConstantPool implements ClassFileConstants, TypeIds {
 				resizePoolContents(2);
 			}
 			this.currentOffset += 2;
-			length = 0;
-			for (int i = 0; i < utf8Constant.length; i++) {
-				char current = utf8Constant[i];
-				if ((current >= 0x0001) && (current <= 0x007F)) {
-					// we only need one byte: ASCII table
-					writeU1(current);
-					length++;
-				} else {
-					if (current > 0x07FF) {
-						// we need 3 bytes
-						length += 3;
-						writeU1(0xE0 | ((current >> 12) & 0x0F)); // 0xE0 = 1110 0000
-						writeU1(0x80 | ((current >> 6) & 0x3F)); // 0x80 = 1000 0000
-						writeU1(0x80 | (current & 0x3F)); // 0x80 = 1000 0000
-					} else {
-						// we can be 0 or between 0x0080 and 0x07FF
-						// In that case we only need 2 bytes
-						length += 2;
-						writeU1(0xC0 | ((current >> 6) & 0x1F)); // 0xC0 = 1100 0000
-						writeU1(0x80 | (current & 0x3F)); // 0x80 = 1000 0000
-					}
-				}
-			}
+			length = writeUTF8(utf8Constant);
 			if (length >= 65535) {
 				this.currentOffset = savedCurrentOffset - 1;
 				this.classFile.referenceBinding.scope.problemReporter().noMoreAvailableSpaceForConstant(this.classFile.referenceBinding.scope.referenceType());
@@ -796,7 +774,7 @@ public class ConstantPool implements ClassFileConstants, TypeIds {
 	}
 	public int literalIndexForMethod(char[] declaringClass, char[] selector, char[] signature, boolean isInterface) {
 		int index;
-		if ((index = putInCacheIfAbsent(declaringClass, selector, signature, this.currentIndex)) < 0) {
+		if ((index = this.methodsAndFieldsCache.putIfAbsent(declaringClass, selector, signature, this.currentIndex)) < 0) {
 			// it doesn't exist yet
 			this.currentIndex++;
 			if ((index = -index) > 0xFFFF){
@@ -836,7 +814,7 @@ public class ConstantPool implements ClassFileConstants, TypeIds {
 	}
 	public int literalIndexForNameAndType(char[] name, char[] signature) {
 		int index;
-		if ((index = putInNameAndTypeCacheIfAbsent(name, signature, this.currentIndex)) < 0) {
+		if ((index = this.nameAndTypeCacheForFieldsAndMethods.putIfAbsent(CharOperation.NO_CHAR, name, signature, this.currentIndex)) < 0) {
 			// The entry doesn't exit yet
 			this.currentIndex++;
 			if ((index = -index) > 0xFFFF){
@@ -966,7 +944,7 @@ public class ConstantPool implements ClassFileConstants, TypeIds {
 	}
 	public int literalIndexForField(char[] declaringClass, char[] name, char[] signature) {
 		int index;
-		if ((index = putInCacheIfAbsent(declaringClass, name, signature, this.currentIndex)) < 0) {
+		if ((index = this.methodsAndFieldsCache.putIfAbsent(declaringClass, name, signature, this.currentIndex)) < 0) {
 			this.currentIndex++;
 			// doesn't exist yet
 			if ((index = -index) > 0xFFFF){
@@ -1052,43 +1030,7 @@ public class ConstantPool implements ClassFileConstants, TypeIds {
 					resizePoolContents(2);
 				}
 				this.currentOffset += 2;
-				length = 0;
-				for (int i = 0; i < stringCharArray.length; i++) {
-					char current = stringCharArray[i];
-					if ((current >= 0x0001) && (current <= 0x007F)) {
-						// we only need one byte: ASCII table
-						length++;
-						if (this.currentOffset + 1 >= this.poolContent.length) {
-							// we need to resize the poolContent array because we won't have
-							// enough space to write the length
-							resizePoolContents(1);
-						}
-						this.poolContent[this.currentOffset++] = (byte)(current);
-					} else
-						if (current > 0x07FF) {
-							// we need 3 bytes
-							length += 3;
-							if (this.currentOffset + 3 >= this.poolContent.length) {
-								// we need to resize the poolContent array because we won't have
-								// enough space to write the length
-								resizePoolContents(3);
-							}
-							this.poolContent[this.currentOffset++] = (byte) (0xE0 | ((current >> 12) & 0x0F)); // 0xE0 = 1110 0000
-							this.poolContent[this.currentOffset++] = (byte) (0x80 | ((current >> 6) & 0x3F)); // 0x80 = 1000 0000
-							this.poolContent[this.currentOffset++] = (byte) (0x80 | (current & 0x3F)); // 0x80 = 1000 0000
-						} else {
-							if (this.currentOffset + 2 >= this.poolContent.length) {
-								// we need to resize the poolContent array because we won't have
-								// enough space to write the length
-								resizePoolContents(2);
-							}
-							// we can be 0 or between 0x0080 and 0x07FF
-							// In that case we only need 2 bytes
-							length += 2;
-							this.poolContent[this.currentOffset++] = (byte) (0xC0 | ((current >> 6) & 0x1F)); // 0xC0 = 1100 0000
-							this.poolContent[this.currentOffset++] = (byte) (0x80 | (current & 0x3F)); // 0x80 = 1000 0000
-						}
-				}
+				length = writeUTF8(stringCharArray);
 				if (length >= 65535) {
 					this.currentOffset = savedCurrentOffset;
 					this.currentIndex = savedCurrentIndex;
@@ -1104,37 +1046,6 @@ public class ConstantPool implements ClassFileConstants, TypeIds {
 		}
 		return index;
 	}
-	/**
-	 * @param key1 the given name
-	 * @param key2 the given signature
-	 * @param value the given index
-	 * @return the new index
-	 */
-	private int putInNameAndTypeCacheIfAbsent(final char[] key1, final char[] key2, int value) {
-		int index ;
-		Object key1Value = this.nameAndTypeCacheForFieldsAndMethods.get(key1);
-		if (key1Value == null) {
-			CachedIndexEntry cachedIndexEntry = new CachedIndexEntry(key2, value);
-			index = -value;
-			this.nameAndTypeCacheForFieldsAndMethods.put(key1, cachedIndexEntry);
-		} else if (key1Value instanceof CachedIndexEntry) {
-			// adding a second entry
-			CachedIndexEntry entry = (CachedIndexEntry) key1Value;
-			if (CharOperation.equals(key2, entry.signature)) {
-				index = entry.index;
-			} else {
-				CharArrayCache charArrayCache = new CharArrayCache();
-				charArrayCache.putIfAbsent(entry.signature, entry.index);
-				index = charArrayCache.putIfAbsent(key2, value);
-				this.nameAndTypeCacheForFieldsAndMethods.put(key1, charArrayCache);
-			}
-		} else {
-			CharArrayCache charArrayCache = (CharArrayCache) key1Value;
-			index = charArrayCache.putIfAbsent(key2, value);
-		}
-		return index;
-	}
-
 	/**
 	 * @param bootstrapIndex the given bootstrap index
 	 * @param selector the given method selector
@@ -1175,46 +1086,6 @@ public class ConstantPool implements ClassFileConstants, TypeIds {
 		return index;
 	}
 
-	/**
-	 * @param key1 the given declaring class name
-	 * @param key2 the given field name or method selector
-	 * @param key3 the given signature
-	 * @param value the new index
-	 * @return the given index
-	 */
-	private int putInCacheIfAbsent(final char[] key1, final char[] key2, final char[] key3, int value) {
-		int index;
-		HashtableOfObject key1Value = (HashtableOfObject) this.methodsAndFieldsCache.get(key1);
-		if (key1Value == null) {
-			key1Value = new HashtableOfObject();
-			this.methodsAndFieldsCache.put(key1, key1Value);
-			CachedIndexEntry cachedIndexEntry = new CachedIndexEntry(key3, value);
-			index = -value;
-			key1Value.put(key2, cachedIndexEntry);
-		} else {
-			Object key2Value = key1Value.get(key2);
-			if (key2Value == null) {
-				CachedIndexEntry cachedIndexEntry = new CachedIndexEntry(key3, value);
-				index = -value;
-				key1Value.put(key2, cachedIndexEntry);
-			} else if (key2Value instanceof CachedIndexEntry) {
-				// adding a second entry
-				CachedIndexEntry entry = (CachedIndexEntry) key2Value;
-				if (CharOperation.equals(key3, entry.signature)) {
-					index = entry.index;
-				} else {
-					CharArrayCache charArrayCache = new CharArrayCache();
-					charArrayCache.putIfAbsent(entry.signature, entry.index);
-					index = charArrayCache.putIfAbsent(key3, value);
-					key1Value.put(key2, charArrayCache);
-				}
-			} else {
-				CharArrayCache charArrayCache = (CharArrayCache) key2Value;
-				index = charArrayCache.putIfAbsent(key3, value);
-			}
-		}
-		return index;
-	}
 	/**
 	 * This method is used to clean the receiver in case of a clinit header is generated, but the
 	 * clinit has no code.
@@ -1268,6 +1139,40 @@ public class ConstantPool implements ClassFileConstants, TypeIds {
 		this.poolContent[this.currentOffset++] = (byte) (value >>> 8);
 		this.poolContent[this.currentOffset++] = (byte) value;
 	}
+	/**
+	 * Write the modified UTF-8 encoding of the given characters into the byte array, making room once for the worst
+	 * case of three bytes per character.
+	 *
+	 * @return the number of bytes written
+	 */
+	private final int writeUTF8(char[] chars) {
+		int charLength = chars.length;
+		if (this.currentOffset + 3 * charLength >= this.poolContent.length) {
+			resizePoolContents(3 * charLength);
+		}
+		byte[] bytes = this.poolContent;
+		int offset = this.currentOffset;
+		for (int i = 0; i < charLength; i++) {
+			char current = chars[i];
+			if ((current >= 0x0001) && (current <= 0x007F)) {
+				// we only need one byte: ASCII table
+				bytes[offset++] = (byte) current;
+			} else if (current > 0x07FF) {
+				// we need 3 bytes
+				bytes[offset++] = (byte) (0xE0 | ((current >> 12) & 0x0F)); // 0xE0 = 1110 0000
+				bytes[offset++] = (byte) (0x80 | ((current >> 6) & 0x3F)); // 0x80 = 1000 0000
+				bytes[offset++] = (byte) (0x80 | (current & 0x3F)); // 0x80 = 1000 0000
+			} else {
+				// we can be 0 or between 0x0080 and 0x07FF
+				// In that case we only need 2 bytes
+				bytes[offset++] = (byte) (0xC0 | ((current >> 6) & 0x1F)); // 0xC0 = 1100 0000
+				bytes[offset++] = (byte) (0x80 | (current & 0x3F)); // 0x80 = 1000 0000
+			}
+		}
+		int length = offset - this.currentOffset;
+		this.currentOffset = offset;
+		return length;
+	}
 	public void reset() {
 		if (this.doubleCache != null) this.doubleCache.clear();
 		if (this.floatCache != null) this.floatCache.clear();
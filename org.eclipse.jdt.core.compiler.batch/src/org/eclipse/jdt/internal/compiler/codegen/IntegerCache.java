@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.compiler.codegen;
 
+import java.util.Arrays;
+
 public class IntegerCache {
 	public int keyTable[];
 	public int valueTable[];
@@ -42,10 +44,10 @@ public IntegerCache(int initialCapacity) {
  * Clears the hash table so that it has no more elements in it.
  */
 public void clear() {
-	for (int i = this.keyTable.length; --i >= 0;) {
-		this.keyTable[i] = 0;
-		this.valueTable[i] = 0;
-	}
+	if (this.elementSize == 0)
+		return;
+	Arrays.fill(this.keyTable, 0);
+	Arrays.fill(this.valueTable, 0);
 	this.elementSize = 0;
 }
 /** Returns true if the collection contains an element for the key.
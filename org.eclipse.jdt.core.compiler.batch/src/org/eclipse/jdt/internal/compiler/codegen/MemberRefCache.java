@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.codegen;
+
+import java.util.Arrays;
+
+import org.eclipse.jdt.core.compiler.CharOperation;
+
+/**
+ * Maps the (declaring class, name, descriptor) keys of the field and method references of a constant pool, or the
+ * (name, descriptor) keys of its name and type entries, to their index in the pool.
+ * <p>
+ * All the keys live in flat tables probed linearly, so that adding a reference does not allocate anything until
+ * the tables grow, and so that a constant pool reused for the next class file only has to clear the tables.
+ * </p>
+ */
+public class MemberRefCache {
+	char[][] ownerTable;
+	char[][] nameTable;
+	char[][] descriptorTable;
+	int[] hashTable;
+	int[] valueTable;
+	int elementSize; // number of elements in the table
+	int threshold;
+
+/**
+ * Constructs a new, empty cache with at least the specified capacity.
+ * Note that the cache will automatically grow when it gets full.
+ */
+public MemberRefCache(int initialCapacity) {
+	int capacity = initialCapacity < 2 ? 2 : Integer.highestOneBit(initialCapacity - 1) << 1;
+	this.elementSize = 0;
+	this.threshold = capacity - (capacity >> 2); // 3/4 full
+	this.ownerTable = new char[capacity][];
+	this.nameTable = new char[capacity][];
+	this.descriptorTable = new char[capacity][];
+	this.hashTable = new int[capacity];
+	this.valueTable = new int[capacity];
+}
+/**
+ * Clears the cache so that it has no more elements in it.
+ */
+public void clear() {
+	if (this.elementSize == 0)
+		return;
+	Arrays.fill(this.ownerTable, null);
+	Arrays.fill(this.nameTable, null);
+	Arrays.fill(this.descriptorTable, null);
+	this.elementSize = 0;
+}
+private static int hash(char[] owner, char[] name, char[] descriptor) {
+	// the descriptors of the overloads of a member seldom have the same length, no need to hash them
+	int hash = ((CharOperation.hashCode(owner) * 31 + CharOperation.hashCode(name)) * 31 + descriptor.length) * 0x9E3779B9;
+	return hash ^ (hash >>> 16);
+}
+/**
+ * Puts the given index for the given reference if there is none yet.
+ * Name and type entries are keyed with an owner of {@link CharOperation#NO_CHAR}.
+ *
+ * @return int the index already in the cache, or -value if it did not have one.
+ */
+public int putIfAbsent(char[] owner, char[] name, char[] descriptor, int value) {
+	int hash = hash(owner, name, descriptor);
+	int mask = this.nameTable.length - 1;
+	int index = hash & mask;
+	for (char[] current; (current = this.nameTable[index]) != null; index = (index + 1) & mask) {
+		if (this.hashTable[index] == hash
+				&& CharOperation.equals(current, name)
+				&& CharOperation.equals(this.descriptorTable[index], descriptor)
+				&& CharOperation.equals(this.ownerTable[index], owner))
+			return this.valueTable[index];
+	}
+	this.ownerTable[index] = owner;
+	this.nameTable[index] = name;
+	this.descriptorTable[index] = descriptor;
+	this.hashTable[index] = hash;
+	this.valueTable[index] = value;
+	if (++this.elementSize > this.threshold)
+		rehash();
+	return -value; // negative when added (value is assumed to be > 0)
+}
+private void rehash() {
+	char[][] owners = this.ownerTable, names = this.nameTable, descriptors = this.descriptorTable;
+	int[] hashes = this.hashTable, values = this.valueTable;
+	int capacity = names.length << 1;
+	int mask = capacity - 1;
+	this.threshold = capacity - (capacity >> 2);
+	this.ownerTable = new char[capacity][];
+	this.nameTable = new char[capacity][];
+	this.descriptorTable = new char[capacity][];
+	this.hashTable = new int[capacity];
+	this.valueTable = new int[capacity];
+	for (int i = names.length; --i >= 0;) {
+		if (names[i] == null)
+			continue;
+		int index = hashes[i] & mask;
+		while (this.nameTable[index] != null)
+			index = (index + 1) & mask;
+		this.ownerTable[index] = owners[i];
+		this.nameTable[index] = names[i];
+		this.descriptorTable[index] = descriptors[i];
+		this.hashTable[index] = hashes[i];
+		this.valueTable[index] = values[i];
+	}
+}
+/**
+ * Returns the number of elements contained in the cache.
+ */
+public int size() {
+	return this.elementSize;
+}
+@Override
+public String toString() {
+	StringBuilder buffer = new StringBuilder();
+	for (int i = 0, length = this.nameTable.length; i < length; i++) {
+		if (this.nameTable[i] != null) {
+			if (this.ownerTable[i].length > 0)
+				buffer.append(this.ownerTable[i]).append('.');
+			buffer.append(this.nameTable[i]).append(' ').append(this.descriptorTable[i]).append(" -> ").append(this.valueTable[i]).append('\n'); //$NON-NLS-1$
+		}
+	}
+	return buffer.toString();
+}
+}
@@ -102,6 +102,9 @@ public class UnconditionalFlowInfo extends FlowInfo {
 		// extra[INN] is iNNBit
 		// lifecycle is extra == null or else all extra[]'s are allocated
 		// arrays which have the same size
+	private int sharedExtra;
+		// bit j is set when extra[j] may also be referenced by another flow info,
+		// in which case it is copied before being written to (see copy())
 
 	public int maxFieldCount; // limit between fields and locals
 
@@ -109,6 +112,10 @@ public class UnconditionalFlowInfo extends FlowInfo {
 	public static final int BitCacheSize = 64; // 64 bits in a long.
 	public static final int IN = 6;
 	public static final int INN = 7;
+	// masks of extra rows for unshareExtra()
+	private static final int ASSIGNMENT_ROWS = 0x03;
+	private static final int NULL_ROWS = 0xFC;
+	private static final int ALL_ROWS = 0xFF;
 
 /* fakeInitializedFlowInfo: For Lambda expressions tentative analysis during overload resolution.
    We presume that any and all outer locals touched by the lambda are definitely assigned and
@@ -236,6 +243,7 @@ private FlowInfo addInfoFrom(FlowInfo inits, boolean handleInits) {
 	}
 	// treating extra storage
 	if (this.extra != null || otherInits.extra != null) {
+		unshareExtra(ALL_ROWS);
 		int mergeLimit = 0, copyLimit = 0;
 		if (this.extra != null) {
 			if (otherInits.extra != null) {
@@ -413,6 +421,7 @@ public FlowInfo addPotentialInitializationsFrom(FlowInfo inits) {
 	// treating extra storage
 	if (this.extra != null) {
 		if (otherInits.extra != null) {
+			unshareExtra(ASSIGNMENT_ROWS);
 			// both sides have extra storage
 			int i = 0, length, otherLength;
 			if ((length = this.extra[0].length) < (otherLength = otherInits.extra[0].length)) {
@@ -543,6 +552,7 @@ public UnconditionalFlowInfo addPotentialNullInfoFrom(
 				}
 			}
 		}
+		unshareExtra(NULL_ROWS);
 		// PREMATURE skip operations for fields
 		int i;
 		for (i = 0 ; i < mergeLimit ; i++) {
@@ -713,26 +723,26 @@ public FlowInfo copy() {
 	copy.tagBits = this.tagBits;
 	copy.maxFieldCount = this.maxFieldCount;
 	if (this.extra != null) {
-		int length;
+		// share the rows until either side writes to them (see unshareExtra())
 		copy.extra = new long[extraLength][];
-		System.arraycopy(this.extra[0], 0,
-			(copy.extra[0] = new long[length = this.extra[0].length]), 0,
-			length);
-		System.arraycopy(this.extra[1], 0,
-			(copy.extra[1] = new long[length]), 0, length);
+		copy.extra[0] = this.extra[0];
+		copy.extra[1] = this.extra[1];
 		if (hasNullInfo) {
 			for (int j = 2; j < 6; j++) {
-				System.arraycopy(this.extra[j], 0,
-					(copy.extra[j] = new long[length]), 0, length);
+				copy.extra[j] = this.extra[j];
 			}
+			this.sharedExtra = ALL_ROWS;
 		}
 		else {
+			long[] noNullInfo = new long[this.extra[0].length];
 			for (int j = 2; j < 6; j++) {
-				copy.extra[j] = new long[length];
+				copy.extra[j] = noNullInfo;
 			}
+			this.sharedExtra |= ASSIGNMENT_ROWS | 1 << IN | 1 << INN;
 		}
-		System.arraycopy(this.extra[IN], 0, (copy.extra[IN] = new long[length]), 0, length);
-		System.arraycopy(this.extra[INN], 0, (copy.extra[INN] = new long[length]), 0, length);
+		copy.extra[IN] = this.extra[IN];
+		copy.extra[INN] = this.extra[INN];
+		copy.sharedExtra = ALL_ROWS;
 	}
 	return copy;
 }
@@ -749,6 +759,7 @@ public UnconditionalFlowInfo discardInitializationInfo() {
 	this.definiteInits =
 		this.potentialInits = 0;
 	if (this.extra != null) {
+		unshareExtra(ASSIGNMENT_ROWS);
 		for (int i = 0, length = this.extra[0].length; i < length; i++) {
 			this.extra[0][i] = this.extra[1][i] = 0;
 		}
@@ -781,6 +792,7 @@ public UnconditionalFlowInfo discardNonFieldInitializations() {
 	if ((vectorIndex = (limit / BitCacheSize) - 1) >= length) {
 		return this; // not enough room yet
 	}
+	unshareExtra(ALL_ROWS);
 	if (vectorIndex >= 0) {
 		// else we only have complete non field array items left
 		long mask = (1L << (limit % BitCacheSize))-1;
@@ -1203,6 +1215,7 @@ public void markAsComparedEqualToNonNull(LocalVariableBinding local) {
 					}
 				}
 			}
+			unshareExtra(NULL_ROWS);
 			// MACRO :'b,'es/nullBit\(.\)/extra[\1 + 1][vectorIndex]/gc
 			if (((mask = 1L << (position % BitCacheSize))
   				& (a1 = this.extra[1 + 1][vectorIndex])
@@ -1295,6 +1308,7 @@ public void markAsComparedEqualToNull(LocalVariableBinding local) {
 					}
 				}
 			}
+			unshareExtra(NULL_ROWS);
 			if ((mask & this.extra[1 + 1][vectorIndex]) != 0) {
   			  	if ((mask
   			  		& (~this.extra[2 + 1][vectorIndex] | this.extra[3 + 1][vectorIndex]
@@ -1345,6 +1359,7 @@ final private void markAsDefinitelyAssigned(int position) {
 					growSpace(vectorIndex + 1, 0, oldLength);
 				}
 			}
+			unshareExtra(ASSIGNMENT_ROWS);
 			long mask;
 			this.extra[0][vectorIndex] |=
 				(mask = 1L << (position % BitCacheSize));
@@ -1402,6 +1417,7 @@ public void markAsDefinitelyNonNull(LocalVariableBinding local) {
     				growSpace(vectorIndex + 1, 0, oldLength);
     			}
     		}
+    		unshareExtra(NULL_ROWS);
     		this.extra[2][vectorIndex]
     		    |= (mask = 1L << (position % BitCacheSize));
     		this.extra[4][vectorIndex] |= mask;
@@ -1456,6 +1472,7 @@ public void markAsDefinitelyNull(LocalVariableBinding local) {
     				growSpace(vectorIndex + 1, 0, oldLength);
     			}
     		}
+    		unshareExtra(NULL_ROWS);
     		this.extra[2][vectorIndex]
     		    |= (mask = 1L << (position % BitCacheSize));
     		this.extra[3][vectorIndex] |= mask;
@@ -1517,6 +1534,7 @@ public void markAsDefinitelyUnknown(LocalVariableBinding local) {
 					growSpace(vectorIndex+1, 0, oldLength);
 				}
 			}
+			unshareExtra(NULL_ROWS);
 			this.extra[2][vectorIndex]
 			    |= (mask = 1L << (position % BitCacheSize));
 			this.extra[5][vectorIndex] |= mask;
@@ -1556,6 +1574,7 @@ public void resetNullInfo(LocalVariableBinding local) {
     			// before and for which no null bits exist.
     			return;
     		}
+    		unshareExtra(NULL_ROWS);
     		this.extra[2][vectorIndex]
     		    &= (mask = ~(1L << (position % BitCacheSize)));
     		this.extra[3][vectorIndex] &= mask;
@@ -1601,6 +1620,7 @@ public void markPotentiallyUnknownBit(LocalVariableBinding local) {
     				growSpace(vectorIndex + 1, 0, oldLength);
 				}
 			}
+			unshareExtra(NULL_ROWS);
     		mask = 1L << (position % BitCacheSize);
     		isTrue((this.extra[2][vectorIndex] & mask) == 0, "Adding 'unknown' mark in unexpected state"); //$NON-NLS-1$
     		this.extra[5][vectorIndex] |= mask;
@@ -1645,6 +1665,7 @@ public void markPotentiallyNullBit(LocalVariableBinding local) {
     				growSpace(vectorIndex + 1, 0, oldLength);
 				}
 			}
+			unshareExtra(NULL_ROWS);
     		mask = 1L << (position % BitCacheSize);
     		this.extra[3][vectorIndex] |= mask;
     		isTrue((this.extra[2][vectorIndex] & mask) == 0, "Adding 'potentially null' mark in unexpected state"); //$NON-NLS-1$
@@ -1689,6 +1710,7 @@ public void markPotentiallyNonNullBit(LocalVariableBinding local) {
 					growSpace(vectorIndex + 1, 0, oldLength);
 				}
 			}
+			unshareExtra(NULL_ROWS);
     		mask = 1L << (position % BitCacheSize);
     		isTrue((this.extra[2][vectorIndex] & mask) == 0, "Adding 'potentially non-null' mark in unexpected state"); //$NON-NLS-1$
     		this.extra[4][vectorIndex] |= mask;
@@ -1815,6 +1837,7 @@ public UnconditionalFlowInfo mergedWith(UnconditionalFlowInfo otherInits) {
 
 	// treating extra storage
 	if (this.extra != null || otherInits.extra != null) {
+		unshareExtra(ALL_ROWS);
 		// three areas, but not all combinations are possible: only one of copyLimit/resetLimit will be > 0
 		int mergeLimit = 0; // [0..mergeLimit]			: both flows have extra bits. Merge'em
 		int copyLimit = 0;  // (mergeLimit..copyLimit] 	: only other has extra bits. Copy'em, sheding some doubt
@@ -2028,19 +2051,20 @@ public UnconditionalFlowInfo nullInfoLessUnconditionalCopy() {
 	copy.tagBits |= UNROOTED;
 	copy.maxFieldCount = this.maxFieldCount;
 	if (this.extra != null) {
-		int length;
+		int length = this.extra[0].length;
 		copy.extra = new long[extraLength][];
-		System.arraycopy(this.extra[0], 0,
-			(copy.extra[0] =
-				new long[length = this.extra[0].length]), 0, length);
-		System.arraycopy(this.extra[1], 0,
-			(copy.extra[1] = new long[length]), 0, length);
-		for (int j = 2; j < extraLength; j++) {
-			copy.extra[j] = new long[length];
+		copy.extra[0] = this.extra[0];
+		copy.extra[1] = this.extra[1];
+		long[] noNullInfo = new long[length];
+		for (int j = 2; j < 6; j++) {
+			copy.extra[j] = noNullInfo;
 		}
 		// no nullness known means: any previous nullness could shine through:
-		Arrays.fill(copy.extra[IN], -1L);
-		Arrays.fill(copy.extra[INN], -1L);
+		long[] anyIncoming = new long[length];
+		Arrays.fill(anyIncoming, -1L);
+		copy.extra[IN] = copy.extra[INN] = anyIncoming;
+		copy.sharedExtra = ALL_ROWS;
+		this.sharedExtra |= ASSIGNMENT_ROWS;
 	}
 	return copy;
 }
@@ -2065,6 +2089,7 @@ public FlowInfo setReachMode(int reachMode) {
 			// see InitializationTest#test090 (and others)
 			this.potentialInits = 0;
 			if (this.extra != null) {
+				unshareExtra(ASSIGNMENT_ROWS);
 				for (int i = 0, length = this.extra[0].length;
 						i < length; i++) {
 					this.extra[1][i] = 0;
@@ -2226,6 +2251,7 @@ public UnconditionalFlowInfo mergeDefiniteInitsWith(UnconditionalFlowInfo otherI
 	// intersection of definitely assigned variables,
 	this.definiteInits &= otherInits.definiteInits;
 	if (this.extra != null) {
+		unshareExtra(ASSIGNMENT_ROWS);
 		if (otherInits.extra != null) {
 			// both sides have extra storage
 			int i = 0, length, otherLength;
@@ -2280,6 +2306,7 @@ public void resetAssignmentInfo(int position) {
 			// use extra vector
 			int vectorIndex = (position / BitCacheSize) - 1;
 			if (this.extra == null || vectorIndex >= this.extra[0].length) return;	// variable doesnt exist in flow info
+			unshareExtra(ASSIGNMENT_ROWS);
 			long mask;
 			this.extra[0][vectorIndex] &=
 				(mask = ~(1L << (position % BitCacheSize)));
@@ -2290,6 +2317,7 @@ public void resetAssignmentInfo(int position) {
 
 private void createExtraSpace(int length) {
 	this.extra = new long[extraLength][];
+	this.sharedExtra = 0;
 	for (int j = 0; j < extraLength; j++) {
 		this.extra[j] = new long[length];
 	}
@@ -2305,16 +2333,33 @@ public void growSpace(int newLength, int copyStart, int copyLength) {
 			(this.extra[j] = new long[newLength]), copyStart,
 			copyLength);
 	}
+	this.sharedExtra = 0;
 	if ((this.tagBits & UNROOTED) != 0) {
 		Arrays.fill(this.extra[IN], copyStart+copyLength, newLength, -1);
 		Arrays.fill(this.extra[INN], copyStart+copyLength, newLength, -1);
 	}
 }
 
+/*
+ * Makes sure the given rows of extra are not referenced by another flow info before writing to them.
+ */
+private void unshareExtra(int rows) {
+	int shared = this.sharedExtra & rows;
+	if (shared != 0) {
+		for (int j = 0; j < extraLength; j++) {
+			if ((shared & (1 << j)) != 0) {
+				this.extra[j] = this.extra[j].clone();
+			}
+		}
+		this.sharedExtra &= ~shared;
+	}
+}
+
 public void acceptAllIncomingNullness() {
 	this.iNBit = -1L;
 	this.iNNBit = -1L;
 	if (this.extra != null) {
+		unshareExtra(NULL_ROWS);
 		Arrays.fill(this.extra[IN], -1L);
 		Arrays.fill(this.extra[INN], -1L);
 	}
@@ -0,0 +1,290 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.impl;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Records the elapsed time, the CPU time and the allocated bytes of each compilation phase, per compilation unit.
+ * <p>
+ * CPU time and allocated bytes are those of the thread running the phase, as reported by the platform
+ * {@link ThreadMXBean}; they are reported as -1 when the VM does not support measuring them.
+ * Method verification and type inference are recorded separately, but they also count towards the
+ * resolution phase they happen in. Annotation processing works on several units at once, so it is
+ * recorded per round rather than per unit.
+ * </p>
+ * <p>
+ * The report lists units from the slowest to the fastest, as CSV or as JSON.
+ * </p>
+ */
+public class CompilerProfiler {
+
+	public static final int PARSE = 0;
+	public static final int RESOLVE = 1;
+	public static final int VERIFY = 2;
+	public static final int INFERENCE = 3;
+	public static final int ANALYZE = 4;
+	public static final int GENERATE = 5;
+	static final int PHASE_COUNT = 6;
+	static final String[] PHASE_NAMES = { "parse", "resolve", "verify", "inference", "analyze", "generate" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
+
+	static final int WALL = 0;
+	static final int CPU = 1;
+	static final int ALLOCATED = 2;
+
+	public static class Measurements {
+		public final String name;
+		// indexed by phase, then by WALL, CPU or ALLOCATED
+		final long[][] values;
+
+		Measurements(String name, int phaseCount) {
+			this.name = name;
+			this.values = new long[phaseCount][3];
+		}
+
+		long total() {
+			// verification and inference are already part of resolution
+			long total = 0;
+			for (int phase = 0; phase < this.values.length; phase++) {
+				if (phase != VERIFY && phase != INFERENCE)
+					total += this.values[phase][WALL];
+			}
+			return total;
+		}
+	}
+
+	private final ThreadMXBean threadBean;
+	private final boolean measureCpu;
+	private final boolean measureAllocations;
+	private final Map<String, Measurements> units = new LinkedHashMap<>();
+	private final List<Measurements> rounds = new ArrayList<>();
+	private final ThreadLocal<Measurements> currentUnit = new ThreadLocal<>();
+	private final ThreadLocal<int[]> nesting = ThreadLocal.withInitial(() -> new int[PHASE_COUNT]);
+
+public CompilerProfiler() {
+	this.threadBean = ManagementFactory.getThreadMXBean();
+	this.measureCpu = this.threadBean.isCurrentThreadCpuTimeSupported();
+	if (this.measureCpu && !this.threadBean.isThreadCpuTimeEnabled())
+		this.threadBean.setThreadCpuTimeEnabled(true);
+	boolean allocations = false;
+	try {
+		if (this.threadBean instanceof com.sun.management.ThreadMXBean) {
+			com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) this.threadBean;
+			allocations = bean.isThreadAllocatedMemorySupported();
+			if (allocations && !bean.isThreadAllocatedMemoryEnabled())
+				bean.setThreadAllocatedMemoryEnabled(true);
+		}
+	} catch (LinkageError e) {
+		// not a HotSpot based VM
+	}
+	this.measureAllocations = allocations;
+}
+
+/**
+ * Answers a snapshot of the current thread counters, to be passed to {@link #record(char[], int, long[])}
+ * or {@link #exit(int, long[])} at the end of the measured phase.
+ */
+public long[] start() {
+	return new long[] {
+		System.nanoTime(),
+		this.measureCpu ? this.threadBean.getCurrentThreadCpuTime() : -1,
+		this.measureAllocations ? ((com.sun.management.ThreadMXBean) this.threadBean).getCurrentThreadAllocatedBytes() : -1
+	};
+}
+
+/**
+ * Adds the time and allocations since the given snapshot to the given phase of the given unit.
+ */
+public void record(char[] fileName, int phase, long[] start) {
+	long[] end = start();
+	synchronized (this) {
+		add(unit(fileName), phase, start, end);
+	}
+}
+
+/**
+ * Makes the given unit the one measured by {@link #enter(int)} on the current thread, <code>null</code> to stop.
+ */
+public void setCurrentUnit(char[] fileName) {
+	if (fileName == null) {
+		this.currentUnit.remove();
+	} else {
+		synchronized (this) {
+			this.currentUnit.set(unit(fileName));
+		}
+	}
+}
+
+/**
+ * Starts measuring the given phase for the current unit of the current thread.
+ * Answers <code>null</code> if that phase is already being measured (recursive inference for instance),
+ * so that only the outermost occurrence is counted.
+ */
+public long[] enter(int phase) {
+	int[] depth = this.nesting.get();
+	if (depth[phase]++ > 0)
+		return null;
+	return start();
+}
+
+public void exit(int phase, long[] start) {
+	this.nesting.get()[phase]--;
+	if (start == null)
+		return;
+	Measurements unit = this.currentUnit.get();
+	if (unit == null)
+		return;
+	long[] end = start();
+	synchronized (this) {
+		add(unit, phase, start, end);
+	}
+}
+
+/**
+ * Records an annotation processing round over the given number of units.
+ */
+public void recordRound(int unitCount, long[] start) {
+	long[] end = start();
+	synchronized (this) {
+		Measurements round = new Measurements("round " + (this.rounds.size() + 1) + " (" + unitCount + " units)", 1); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		add(round, 0, start, end);
+		this.rounds.add(round);
+	}
+}
+
+private Measurements unit(char[] fileName) {
+	String name = new String(fileName);
+	Measurements unit = this.units.get(name);
+	if (unit == null)
+		this.units.put(name, unit = new Measurements(name, PHASE_COUNT));
+	return unit;
+}
+
+private void add(Measurements measurements, int phase, long[] start, long[] end) {
+	long[] values = measurements.values[phase];
+	for (int i = 0; i < 3; i++) {
+		if (start[i] < 0 || end[i] < 0)
+			values[i] = -1;
+		else if (values[i] >= 0)
+			values[i] += end[i] - start[i];
+	}
+}
+
+private synchronized List<Measurements> sortedUnits() {
+	List<Measurements> sorted = new ArrayList<>(this.units.values());
+	Collections.sort(sorted, (m1, m2) -> Long.compare(m2.total(), m1.total()));
+	return sorted;
+}
+
+/**
+ * Writes the report as comma separated values: one line per unit, slowest first.
+ */
+public void writeCSV(Writer writer) throws IOException {
+	StringBuilder buffer = new StringBuilder("file,total.wallMillis"); //$NON-NLS-1$
+	for (String phase : PHASE_NAMES) {
+		buffer.append(',').append(phase).append(".wallMillis"); //$NON-NLS-1$
+		buffer.append(',').append(phase).append(".cpuMillis"); //$NON-NLS-1$
+		buffer.append(',').append(phase).append(".allocatedBytes"); //$NON-NLS-1$
+	}
+	writer.write(buffer.append('\n').toString());
+	for (Measurements unit : sortedUnits()) {
+		buffer.setLength(0);
+		buffer.append('"').append(unit.name.replace("\"", "\"\"")).append('"'); //$NON-NLS-1$ //$NON-NLS-2$
+		buffer.append(',').append(millis(unit.total()));
+		for (long[] values : unit.values) {
+			buffer.append(',').append(millis(values[WALL]));
+			buffer.append(',').append(millis(values[CPU]));
+			buffer.append(',').append(values[ALLOCATED]);
+		}
+		writer.write(buffer.append('\n').toString());
+	}
+	for (Measurements round : this.rounds) {
+		long[] values = round.values[0];
+		writer.write("\"annotation processing " + round.name + "\"," + millis(values[WALL]) + '\n'); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+}
+
+/**
+ * Writes the report as a JSON object holding the units, slowest first, and the annotation processing rounds.
+ */
+public void writeJSON(Writer writer) throws IOException {
+	StringBuilder buffer = new StringBuilder("{\n\t\"units\": ["); //$NON-NLS-1$
+	List<Measurements> sorted = sortedUnits();
+	for (int i = 0, length = sorted.size(); i < length; i++) {
+		Measurements unit = sorted.get(i);
+		buffer.append(i == 0 ? "\n" : ",\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		buffer.append("\t\t{ \"file\": "); //$NON-NLS-1$
+		appendJSONString(buffer, unit.name);
+		buffer.append(", \"wallMillis\": ").append(millis(unit.total())); //$NON-NLS-1$
+		for (int phase = 0; phase < PHASE_COUNT; phase++) {
+			buffer.append(", \"").append(PHASE_NAMES[phase]).append("\": "); //$NON-NLS-1$ //$NON-NLS-2$
+			appendJSONValues(buffer, unit.values[phase]);
+		}
+		buffer.append(" }"); //$NON-NLS-1$
+	}
+	buffer.append("\n\t],\n\t\"annotationProcessingRounds\": ["); //$NON-NLS-1$
+	for (int i = 0, length = this.rounds.size(); i < length; i++) {
+		Measurements round = this.rounds.get(i);
+		buffer.append(i == 0 ? "\n" : ",\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		buffer.append("\t\t{ \"round\": "); //$NON-NLS-1$
+		appendJSONString(buffer, round.name);
+		buffer.append(", \"processing\": "); //$NON-NLS-1$
+		appendJSONValues(buffer, round.values[0]);
+		buffer.append(" }"); //$NON-NLS-1$
+	}
+	buffer.append("\n\t]\n}\n"); //$NON-NLS-1$
+	writer.write(buffer.toString());
+}
+
+private static void appendJSONValues(StringBuilder buffer, long[] values) {
+	buffer.append("{ \"wallMillis\": ").append(millis(values[WALL])) //$NON-NLS-1$
+		.append(", \"cpuMillis\": ").append(millis(values[CPU])) //$NON-NLS-1$
+		.append(", \"allocatedBytes\": ").append(values[ALLOCATED]) //$NON-NLS-1$
+		.append(" }"); //$NON-NLS-1$
+}
+
+private static void appendJSONString(StringBuilder buffer, String value) {
+	buffer.append('"');
+	for (int i = 0, length = value.length(); i < length; i++) {
+		char c = value.charAt(i);
+		switch (c) {
+			case '"':
+			case '\\':
+				buffer.append('\\').append(c);
+				break;
+			default:
+				if (c < 0x20)
+					buffer.append(String.format("\\u%04x", Integer.valueOf(c))); //$NON-NLS-1$
+				else
+					buffer.append(c);
+		}
+	}
+	buffer.append('"');
+}
+
+private static String millis(long nanos) {
+	if (nanos < 0)
+		return "-1"; //$NON-NLS-1$
+	return String.format(Locale.ROOT, "%.3f", Double.valueOf(nanos / 1_000_000.0)); //$NON-NLS-1$
+}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2013 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -28,6 +28,20 @@ public class CompilerStats implements Comparable {
 	public long analyzeTime;
 	public long generateTime;
 
+	// read-ahead of source contents (see ReadManager)
+	public long readAheadHits;
+	public long readAheadMisses;
+	public long readAheadStalls;
+	public long readAheadStallTime;
+
+	// interning of the scanned identifiers (see CharArena)
+	public long identifierLookups;
+	public long identifierHits;
+
+	// reuse of the inferences of generic method invocations (see InferenceCache)
+	public long inferenceLookups;
+	public long inferenceHits;
+
 /**
  * Returns the total elapsed time (between start and end)
  * @return the time spent between start and end
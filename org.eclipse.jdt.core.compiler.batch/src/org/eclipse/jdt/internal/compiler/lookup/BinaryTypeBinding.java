@@ -1433,7 +1433,7 @@ public MethodBinding getExactConstructor(TypeBinding[] argumentTypes) {
 	}
 	int argCount = argumentTypes.length;
 	long range;
-	if ((range = ReferenceBinding.binarySearch(TypeConstants.INIT, this.methods)) >= 0) {
+	if ((range = methodRange(TypeConstants.INIT, this.methods)) >= 0) {
 		nextMethod: for (int imethod = (int)range, end = (int)(range >> 32); imethod <= end; imethod++) {
 			MethodBinding method = this.methods[imethod];
 			if (method.parameters.length == argCount) {
@@ -1470,7 +1470,7 @@ public MethodBinding getExactMethod(char[] selector, TypeBinding[] argumentTypes
 	boolean foundNothing = true;
 
 	long range;
-	if ((range = ReferenceBinding.binarySearch(selector, this.methods)) >= 0) {
+	if ((range = methodRange(selector, this.methods)) >= 0) {
 		nextMethod: for (int imethod = (int)range, end = (int)(range >> 32); imethod <= end; imethod++) {
 			MethodBinding method = this.methods[imethod];
 			foundNothing = false; // inner type lookups must know that a method with this name exists
@@ -1590,7 +1590,7 @@ public MethodBinding[] getMethods(char[] selector) {
 
 	if ((this.tagBits & TagBits.AreMethodsComplete) != 0) {
 		long range;
-		if ((range = ReferenceBinding.binarySearch(selector, this.methods)) >= 0) {
+		if ((range = methodRange(selector, this.methods)) >= 0) {
 			int start = (int) range, end = (int) (range >> 32);
 			int length = end - start + 1;
 			if ((this.tagBits & TagBits.AreMethodsComplete) != 0) {
@@ -1610,7 +1610,7 @@ public MethodBinding[] getMethods(char[] selector) {
 		this.tagBits |= TagBits.AreMethodsSorted;
 	}
 	long range;
-	if ((range = ReferenceBinding.binarySearch(selector, this.methods)) >= 0) {
+	if ((range = methodRange(selector, this.methods)) >= 0) {
 		int start = (int) range, end = (int) (range >> 32);
 		int length = end - start + 1;
 		MethodBinding[] result = new MethodBinding[length];
@@ -1639,7 +1639,7 @@ public MethodBinding[] getMethods(char[] selector, int suggestedParameterLength)
 		this.tagBits |= TagBits.AreMethodsSorted;
 	}
 	long range;
-	if ((range = ReferenceBinding.binarySearch(selector, this.methods)) >= 0) {
+	if ((range = methodRange(selector, this.methods)) >= 0) {
 		int start = (int) range, end = (int) (range >> 32);
 		int length = end - start + 1;
 		int count = 0;
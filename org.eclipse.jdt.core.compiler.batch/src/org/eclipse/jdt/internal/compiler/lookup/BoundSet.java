@@ -503,8 +503,11 @@ class BoundSet {
 		if (this.unincorporatedBoundsCount == 0 && this.captures.isEmpty())
 			return true;
 
+		InferenceBudget budget = context.environment.root.inferenceBudget;
 		try {
 			do {
+				if (budget != null)
+					budget.charge(context, this, this.incorporatedBounds.length, this.unincorporatedBoundsCount);
 				TypeBound [] freshBounds;
 				System.arraycopy(this.unincorporatedBounds, 0, freshBounds = new TypeBound[this.unincorporatedBoundsCount], 0, this.unincorporatedBoundsCount);
 				this.unincorporatedBoundsCount = 0;
@@ -68,6 +68,8 @@ public class CompilationUnitScope extends Scope {
 	private boolean skipCachingImports;
 
 	private ArrayList<Invocation> inferredInvocations;
+	/** Positions of the invocations whose inference exceeded the {@link InferenceBudget}, encoded as start << 32 | end. */
+	private Set<Long> overBudgetInvocations;
 	/** Cache of interned inference variables. Access only via {@link InferenceVariable#get(TypeBinding, int, InvocationSite, Scope, ReferenceBinding, boolean)}. */
 	Map<InferenceVariable.InferenceVarKey, InferenceVariable> uniqueInferenceVariables = new HashMap<>();
 
@@ -1151,6 +1153,24 @@ public void cleanUpInferenceContexts() {
 		invocation.cleanUpInferenceContexts();
 	this.inferredInvocations = null;
 }
+/**
+ * Answers whether the inference of the given invocation was aborted for exceeding the {@link InferenceBudget}.
+ */
+public boolean isOverInferenceBudget(InvocationSite site) {
+	return this.overBudgetInvocations != null && this.overBudgetInvocations.contains(sitePosition(site));
+}
+/**
+ * Records that the inference of the given invocation exceeded the {@link InferenceBudget}, answering false if this
+ * was already recorded.
+ */
+public boolean recordOverInferenceBudget(InvocationSite site) {
+	if (this.overBudgetInvocations == null)
+		this.overBudgetInvocations = new HashSet<>();
+	return this.overBudgetInvocations.add(sitePosition(site));
+}
+private static Long sitePosition(InvocationSite site) {
+	return Long.valueOf(((long) site.sourceStart() << 32) | (site.sourceEnd() & 0xFFFFFFFFL));
+}
 public void deferException(RuntimeException exception) {
 	this.deferredException = exception;
 }
@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.lookup;
+
+/**
+ * Limits the work spent on the type inference of one invocation, so that a pathological invocation (typically
+ * overloaded methods taking nested lambdas) is reported as a problem instead of keeping the compiler busy for
+ * minutes.
+ * <p>
+ * The work is measured during incorporation (JLS 18.3), in {@link BoundSet#incorporate(InferenceContext18)}: each
+ * generation of fresh bounds is charged the number of pairs of bounds it compares, and the size of the bound set is
+ * checked. The budget is shared by all the inferences nested in the inference of an outermost invocation (see
+ * {@link LookupEnvironment#currentInferenceContext}). Once it is exceeded, incorporation fails with an
+ * {@link ExceededException} until that outermost inference is over, and
+ * {@link ParameterizedGenericMethodBinding#computeCompatibleMethod18(MethodBinding, TypeBinding[], Scope, InvocationSite)}
+ * reports {@link org.eclipse.jdt.core.compiler.IProblem#InferenceBudgetExceeded} against the invocation.
+ * </p>
+ * <p>
+ * The budget is configured with the following system properties, and is not enforced when none is set:
+ * </p>
+ * <ul>
+ * <li>{@value #MAX_INCORPORATIONS_PROPERTY}: the maximal number of pairs of bounds incorporated, 0 for no limit;</li>
+ * <li>{@value #MAX_BOUNDS_PROPERTY}: the maximal number of bounds of a bound set, 0 for no limit;</li>
+ * <li>{@value #TRACE_PROPERTY}: when {@code true}, prints the growth of the bound sets to {@link System#out}, and
+ * the bound set which exceeded the budget.</li>
+ * </ul>
+ */
+public class InferenceBudget {
+
+	public static final String MAX_INCORPORATIONS_PROPERTY = "jdt.compiler.inference.maxIncorporations"; //$NON-NLS-1$
+	public static final String MAX_BOUNDS_PROPERTY = "jdt.compiler.inference.maxBounds"; //$NON-NLS-1$
+	public static final String TRACE_PROPERTY = "jdt.compiler.inference.trace"; //$NON-NLS-1$
+
+	/**
+	 * Signals that the budget of the current inference is exceeded.
+	 */
+	public static class ExceededException extends InferenceFailureException {
+
+		private static final long serialVersionUID = 1L;
+
+		ExceededException() {
+			super("Inference budget exceeded"); //$NON-NLS-1$
+		}
+	}
+
+	final long maxIncorporations;
+	final int maxBounds;
+	final boolean trace;
+
+	InferenceBudget(long maxIncorporations, int maxBounds, boolean trace) {
+		this.maxIncorporations = maxIncorporations;
+		this.maxBounds = maxBounds;
+		this.trace = trace;
+	}
+
+/**
+ * Answers the budget configured by the system properties, or null if none is configured.
+ */
+static InferenceBudget fromSystemProperties() {
+	long maxIncorporations = Long.getLong(MAX_INCORPORATIONS_PROPERTY, 0);
+	int maxBounds = Integer.getInteger(MAX_BOUNDS_PROPERTY, 0);
+	boolean trace = Boolean.getBoolean(TRACE_PROPERTY);
+	if (maxIncorporations <= 0 && maxBounds <= 0 && !trace)
+		return null;
+	return new InferenceBudget(maxIncorporations, maxBounds, trace);
+}
+
+/**
+ * Answers the context whose budget pays for the inference work of the given context.
+ */
+static InferenceContext18 payer(InferenceContext18 context) {
+	InferenceContext18 outermost = context.environment.currentInferenceContext;
+	return outermost != null ? outermost : context;
+}
+
+/**
+ * Charges the incorporation of the given number of fresh bounds into the given number of incorporated bounds of
+ * the given bound set to the budget of the given context.
+ *
+ * @throws ExceededException if the budget is exceeded
+ */
+void charge(InferenceContext18 context, BoundSet bounds, int incorporatedCount, int freshCount) throws ExceededException {
+	InferenceContext18 payer = payer(context);
+	if (!payer.overBudget) {
+		int boundsCount = incorporatedCount + freshCount;
+		payer.incorporations += (long) freshCount * boundsCount;
+		if (boundsCount > payer.largestBoundSet)
+			payer.largestBoundSet = boundsCount;
+		if (this.trace) {
+			System.out.println("Inference of " + payer.currentInvocation + ": incorporating " + freshCount //$NON-NLS-1$ //$NON-NLS-2$
+					+ " bounds into " + incorporatedCount + ", " + payer.incorporations + " incorporations so far"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+		if ((this.maxIncorporations > 0 && payer.incorporations > this.maxIncorporations)
+				|| (this.maxBounds > 0 && boundsCount > this.maxBounds)) {
+			payer.overBudget = true;
+			if (this.trace) {
+				System.out.println("Inference of " + payer.currentInvocation + " exceeded its budget with bounds:\n" + bounds); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
+	}
+	if (payer.overBudget)
+		throw new ExceededException();
+}
+}
@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.lookup;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.internal.compiler.ast.Expression;
+import org.eclipse.jdt.internal.compiler.ast.ExpressionContext;
+import org.eclipse.jdt.internal.compiler.ast.MessageSend;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+
+/**
+ * Remembers the outcome of the inference of generic method invocations (see
+ * {@link ParameterizedGenericMethodBinding#computeCompatibleMethod18(MethodBinding, TypeBinding[], Scope, InvocationSite)}),
+ * so that invoking the same generic method with the same argument types and target type again reuses the
+ * parameterized method instead of inferring it again.
+ * <p>
+ * Only the invocations whose inference depends on nothing else are remembered: method invocations which are not
+ * nested in another inference, which are either not poly expressions or poly expressions of an assignment context
+ * with a proper target type, whose arguments are not poly expressions and have proper types, and whose inference
+ * succeeded without capturing. Annotation based null analysis, which reports problems during inference, disables
+ * the cache.
+ * </p>
+ * <p>
+ * The cache is per compilation (see {@link LookupEnvironment#reset()}) and is only used when the
+ * {@value #ENABLED_PROPERTY} system property is {@code true}.
+ * </p>
+ */
+public class InferenceCache {
+
+	public static final String ENABLED_PROPERTY = "jdt.compiler.inferenceCache"; //$NON-NLS-1$
+
+	static boolean isEnabled() {
+		return Boolean.getBoolean(ENABLED_PROPERTY);
+	}
+
+	static final class Key {
+		final MethodBinding method;
+		final TypeBinding[] arguments;
+		final TypeBinding targetType;
+		final ExpressionContext context;
+		private final int hash;
+
+		Key(MethodBinding method, TypeBinding[] arguments, TypeBinding targetType, ExpressionContext context) {
+			this.method = method;
+			this.arguments = arguments;
+			this.targetType = targetType;
+			this.context = context;
+			int h = System.identityHashCode(method);
+			for (TypeBinding argument : arguments)
+				h = 31 * h + System.identityHashCode(argument);
+			this.hash = 31 * (31 * h + System.identityHashCode(targetType)) + context.ordinal();
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hash;
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			if (!(object instanceof Key))
+				return false;
+			Key other = (Key) object;
+			// the types are compared by identity: the annotated variants of a type may be inferred differently
+			if (this.method != other.method || this.targetType != other.targetType || this.context != other.context //$IDENTITY-COMPARISON$
+					|| this.arguments.length != other.arguments.length)
+				return false;
+			for (int i = 0; i < this.arguments.length; i++) {
+				if (this.arguments[i] != other.arguments[i]) //$IDENTITY-COMPARISON$
+					return false;
+			}
+			return true;
+		}
+	}
+
+	static final class Solution {
+		final ParameterizedGenericMethodBinding method;
+		final int inferenceKind;
+		final boolean usesUncheckedConversion;
+
+		Solution(ParameterizedGenericMethodBinding method, InferenceContext18 context) {
+			this.method = method;
+			this.inferenceKind = context.inferenceKind;
+			this.usesUncheckedConversion = context.usesUncheckedConversion;
+		}
+	}
+
+	private final Map<Key, Solution> solutions = new HashMap<>();
+
+	/** Number of invocations looked up, and number of them whose inference was reused. */
+	public long lookups;
+	public long hits;
+
+/**
+ * Answers the key of the given invocation, or null if its inference may depend on more than the method and the
+ * types of the arguments and of the target.
+ */
+Key keyFor(MethodBinding method, TypeBinding[] arguments, InvocationSite site, boolean isPolyExpression,
+		boolean allArgumentsAreProper, InferenceContext18 context, Scope scope) {
+	if (!allArgumentsAreProper || !(site instanceof MessageSend) || context.outerContext != null)
+		return null;
+	CompilerOptions compilerOptions = scope.compilerOptions();
+	if (compilerOptions.isAnnotationBasedNullAnalysisEnabled)
+		return null;
+	TypeBinding targetType = site.invocationTargetType();
+	ExpressionContext expressionContext = site.getExpressionContext();
+	if (targetType != null && !targetType.isProperType(true))
+		return null;
+	if (isPolyExpression && (targetType == null || expressionContext != ExpressionContext.ASSIGNMENT_CONTEXT))
+		return null; // inferred together with an enclosing invocation
+	Expression[] argumentExpressions = ((MessageSend) site).arguments;
+	if (argumentExpressions != null) {
+		for (Expression argument : argumentExpressions) {
+			if (argument.isPolyExpression())
+				return null;
+		}
+	}
+	return new Key(method, arguments.clone(), targetType, expressionContext);
+}
+
+/**
+ * Answers the parameterized method inferred before for the given key, registering a context equivalent to the one
+ * of the first inference with the invocation, or null if the invocation has not been inferred before.
+ */
+ParameterizedGenericMethodBinding reuse(Key key, InferenceContext18 context, MessageSend invocation) {
+	this.lookups++;
+	Solution solution = this.solutions.get(key);
+	if (solution == null)
+		return null;
+	this.hits++;
+	context.inferenceKind = solution.inferenceKind;
+	context.usesUncheckedConversion = solution.usesUncheckedConversion;
+	context.stepCompleted = InferenceContext18.TYPE_INFERRED_FINAL;
+	if (key.targetType != null)
+		invocation.registerResult(key.targetType, solution.method);
+	invocation.registerInferenceContext(solution.method, context);
+	return solution.method;
+}
+
+void remember(Key key, ParameterizedGenericMethodBinding method, InferenceContext18 context) {
+	if (context.hasPrematureOverloadResolution() || context.isInexactVarargsInference())
+		return;
+	for (TypeBinding typeArgument : method.typeArguments) {
+		if (!typeArgument.isProperType(true) || mentionsCapture(typeArgument))
+			return; // captures belong to the invocation they were made for
+	}
+	this.solutions.put(key, new Solution(method, context));
+}
+
+private static boolean mentionsCapture(TypeBinding type) {
+	boolean[] found = new boolean[1];
+	TypeBindingVisitor.visit(new TypeBindingVisitor() {
+		@Override
+		public boolean visit(TypeVariableBinding typeVariable) {
+			if (typeVariable.isCapture())
+				found[0] = true;
+			return !found[0];
+		}
+	}, type);
+	return found[0];
+}
+
+/**
+ * Forgets the remembered inferences at the end of a compilation, and resets the counters.
+ */
+public void reset() {
+	this.solutions.clear();
+	this.lookups = 0;
+	this.hits = 0;
+}
+}
@@ -36,6 +36,7 @@ import org.eclipse.jdt.internal.compiler.ast.RecordPattern;
 import org.eclipse.jdt.internal.compiler.ast.ReferenceExpression;
 import org.eclipse.jdt.internal.compiler.ast.SwitchExpression;
 import org.eclipse.jdt.internal.compiler.ast.Wildcard;
+import org.eclipse.jdt.internal.compiler.impl.CompilerProfiler;
 import org.eclipse.jdt.internal.compiler.lookup.TypeConstants.BoundCheckStatus;
 import org.eclipse.jdt.internal.compiler.util.Sorting;
 
@@ -178,6 +179,10 @@ public class InferenceContext18 {
 	// the following two flags control to what degree we continue with incomplete information:
 	private boolean isInexactVarargsInference = false;
 	boolean prematureOverloadResolution = false;
+	// work done so far when this context pays for an outermost inference, see InferenceBudget:
+	long incorporations;
+	int largestBoundSet;
+	boolean overBudget;
 
 	public static boolean isSameSite(InvocationSite site1, InvocationSite site2) {
 		if (site1 == site2)
@@ -379,7 +384,14 @@ public class InferenceContext18 {
 
 	/** JLS 18.5.1 Invocation Applicability Inference. */
 	public void inferInvocationApplicability(MethodBinding method, TypeBinding[] arguments, boolean isDiamond) {
-		ConstraintExpressionFormula.inferInvocationApplicability(this, method, arguments, isDiamond, this.inferenceKind);
+		CompilerProfiler profiler = this.environment.root.profiler;
+		long[] sample = profiler == null ? null : profiler.enter(CompilerProfiler.INFERENCE);
+		try {
+			ConstraintExpressionFormula.inferInvocationApplicability(this, method, arguments, isDiamond, this.inferenceKind);
+		} finally {
+			if (profiler != null)
+				profiler.exit(CompilerProfiler.INFERENCE, sample);
+		}
 	}
 
 	/** Perform steps from JLS 18.5.2. needed for computing the bound set B3. */
@@ -398,6 +410,18 @@ public class InferenceContext18 {
 	/** JLS 18.5.2 Invocation Type Inference
 	 */
 	public BoundSet inferInvocationType(TypeBinding expectedType, InvocationSite invocationSite, MethodBinding method) throws InferenceFailureException
+	{
+		CompilerProfiler profiler = this.environment.root.profiler;
+		long[] sample = profiler == null ? null : profiler.enter(CompilerProfiler.INFERENCE);
+		try {
+			return internalInferInvocationType(expectedType, invocationSite, method);
+		} finally {
+			if (profiler != null)
+				profiler.exit(CompilerProfiler.INFERENCE, sample);
+		}
+	}
+
+	private BoundSet internalInferInvocationType(TypeBinding expectedType, InvocationSite invocationSite, MethodBinding method) throws InferenceFailureException
 	{
 		// not JLS: simply ensure that null hints from the return type have been seen even in standalone contexts:
 		if (expectedType == null && method.returnType != null)
@@ -1036,6 +1060,17 @@ public class InferenceContext18 {
 	 * @throws InferenceFailureException a compile error has been detected during inference
 	 */
 	private /*@Nullable*/ BoundSet solve(boolean inferringApplicability, boolean isRecordPatternTypeInference) throws InferenceFailureException {
+		CompilerProfiler profiler = this.environment.root.profiler;
+		long[] sample = profiler == null ? null : profiler.enter(CompilerProfiler.INFERENCE);
+		try {
+			return internalSolve(inferringApplicability, isRecordPatternTypeInference);
+		} finally {
+			if (profiler != null)
+				profiler.exit(CompilerProfiler.INFERENCE, sample);
+		}
+	}
+
+	private /*@Nullable*/ BoundSet internalSolve(boolean inferringApplicability, boolean isRecordPatternTypeInference) throws InferenceFailureException {
 
 		if (!reduce())
 			return null;
@@ -1067,12 +1102,19 @@ public class InferenceContext18 {
 	}
 
 	public /*@Nullable*/ BoundSet solve(InferenceVariable[] toResolve, boolean isRecordPatternTypeInference) throws InferenceFailureException {
-		if (!reduce())
-			return null;
-		if (!this.currentBounds.incorporate(this))
-			return null;
+		CompilerProfiler profiler = this.environment.root.profiler;
+		long[] sample = profiler == null ? null : profiler.enter(CompilerProfiler.INFERENCE);
+		try {
+			if (!reduce())
+				return null;
+			if (!this.currentBounds.incorporate(this))
+				return null;
 
-		return resolve(toResolve, isRecordPatternTypeInference);
+			return resolve(toResolve, isRecordPatternTypeInference);
+		} finally {
+			if (profiler != null)
+				profiler.exit(CompilerProfiler.INFERENCE, sample);
+		}
 	}
 
 	/**
@@ -1994,6 +2036,8 @@ public class InferenceContext18 {
 		BoundSet solution = null;
 		try {
 			solution = solve(false, true /* isRecordPatternTypeInference */);
+		} catch (InferenceBudget.ExceededException e) {
+			return null; // inference fails, reported as such by the record pattern
 		} catch (InferenceFailureException e) {
 			// TODO Auto-generated catch block
 			e.printStackTrace();
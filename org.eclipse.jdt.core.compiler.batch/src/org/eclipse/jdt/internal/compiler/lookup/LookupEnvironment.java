@@ -57,6 +57,7 @@ import org.eclipse.jdt.internal.compiler.ast.Wildcard;
 import org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants;
 import org.eclipse.jdt.internal.compiler.env.*;
 import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.impl.CompilerProfiler;
 import org.eclipse.jdt.internal.compiler.impl.ITypeRequestor;
 import org.eclipse.jdt.internal.compiler.problem.AbortCompilation;
 import org.eclipse.jdt.internal.compiler.problem.ProblemReporter;
@@ -96,6 +97,7 @@ public class LookupEnvironment implements ProblemReasons, TypeConstants {
 
 	public ProblemReporter problemReporter; 	// SHARED
 	public ClassFilePool classFilePool; 		// SHARED
+	public CompilerProfiler profiler;			// ROOT_ONLY
 	// indicate in which step on the compilation we are.
 	// step 1 : build the reference binding
 	// step 2 : conect the hierarchy (connect bindings)
@@ -137,6 +139,12 @@ public class LookupEnvironment implements ProblemReasons, TypeConstants {
 	/** Global access to the outermost active inference context as the universe for inference variable interning. */
 	InferenceContext18 currentInferenceContext;
 
+	/** Inferences of generic method invocations remembered for the current compilation, or null if not enabled. */
+	public InferenceCache inferenceCache;	// ROOT_ONLY
+
+	/** Limit of the work spent on the inference of one invocation, or null if not configured. */
+	InferenceBudget inferenceBudget;	// ROOT_ONLY
+
 	/**
 	 * Flag that should be set during annotation traversal or similar runs
 	 * to prevent caching of failures regarding imports of yet to be generated classes.
@@ -181,6 +189,9 @@ public LookupEnvironment(ITypeRequestor typeRequestor, CompilerOptions globalOpt
 	this.knownModules = new HashtableOfModule();
 	this.useModuleSystem = nameEnvironment instanceof IModuleAwareNameEnvironment && globalOptions.complianceLevel >= ClassFileConstants.JDK9;
 	this.resolutionListeners = new IQualifiedTypeResolutionListener[0];
+	if (InferenceCache.isEnabled())
+		this.inferenceCache = new InferenceCache();
+	this.inferenceBudget = InferenceBudget.fromSystemProperties();
 }
 
 /** Construct a specific LookupEnvironment, corresponding to the given module. */
@@ -2199,6 +2210,8 @@ public void reset() {
 	this.uniqueGetClassMethodBinding = null;
 	this.missingTypes = null;
 	this.typesBeingConnected = new LinkedHashSet();
+	if (this.inferenceCache != null)
+		this.inferenceCache.reset();
 
 	for (int i = this.units.length; --i >= 0;)
 		this.units[i] = null;
@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.lookup;
+
+import org.eclipse.jdt.core.compiler.CharOperation;
+
+/**
+ * Maps the selectors of the sorted methods of a type to their range in the methods, as answered by
+ * {@link ReferenceBinding#binarySearch(char[], MethodBinding[])}, so that the types declaring many methods are not
+ * searched again for each message send (see {@link ReferenceBinding#methodRange(char[], MethodBinding[])}).
+ * <p>
+ * An index is only valid for the very array it was built from: the methods of a type are never changed in place
+ * once they are complete, a new array is set instead.
+ * </p>
+ */
+final class MethodIndex {
+
+	/** Types with fewer methods are searched, see {@link ReferenceBinding#binarySearch(char[], MethodBinding[])}. */
+	static final int MIN_METHODS = 16;
+
+	final MethodBinding[] methods;
+	private final char[][] selectors;
+	private final long[] ranges;
+	private final int mask;
+
+MethodIndex(MethodBinding[] sortedMethods) {
+	this.methods = sortedMethods;
+	int length = sortedMethods.length;
+	int capacity = Integer.highestOneBit(length) << 2; // at most half full, as length >= number of selectors
+	this.selectors = new char[capacity][];
+	this.ranges = new long[capacity];
+	this.mask = capacity - 1;
+	for (int start = 0; start < length;) {
+		char[] selector = sortedMethods[start].selector;
+		int end = start;
+		while (end + 1 < length && CharOperation.equals(sortedMethods[end + 1].selector, selector))
+			end++;
+		int index = CharOperation.hashCode(selector) & this.mask;
+		while (this.selectors[index] != null)
+			index = (index + 1) & this.mask;
+		this.selectors[index] = selector;
+		this.ranges[index] = start + ((long) end << 32);
+		start = end + 1;
+	}
+}
+
+/**
+ * Answers the range of the methods named selector, or -1 if there is none.
+ */
+long rangeOf(char[] selector) {
+	int index = CharOperation.hashCode(selector) & this.mask;
+	char[] current;
+	while ((current = this.selectors[index]) != null) {
+		if (current == selector || CharOperation.equals(current, selector))
+			return this.ranges[index];
+		index = (index + 1) & this.mask;
+	}
+	return -1;
+}
+}
@@ -48,6 +48,74 @@ public abstract class MethodVerifier extends ImplicitNullAnnotationVerifier {
 	 * hierarchy - notably for bridge method generation
 	 */
 	HashtableOfObject inheritedOverriddenMethods;
+
+	/**
+	 * The methods inherited from a superclass and its own superclasses by its subclasses, as computed by
+	 * {@link MethodVerifier#computeInheritedMethods(ReferenceBinding, ReferenceBinding[], boolean)} for one of them,
+	 * remembered by the superclass ({@link ReferenceBinding#methodsInheritedBySubclasses}) so that its other
+	 * subclasses do not walk a deep hierarchy again. They are valid as long as each of the superclasses has the same
+	 * methods.
+	 */
+	static final class SuperclassMethods {
+		private final ReferenceBinding[] superclasses;
+		private final MethodBinding[][] methods;
+		private final HashtableOfObject inheritedMethods;
+		private final HashtableOfObject inheritedOverriddenMethods;
+
+		private SuperclassMethods(ReferenceBinding[] superclasses, MethodBinding[][] methods,
+				HashtableOfObject inheritedMethods, HashtableOfObject inheritedOverriddenMethods) {
+			this.superclasses = superclasses;
+			this.methods = methods;
+			this.inheritedMethods = inheritedMethods;
+			this.inheritedOverriddenMethods = inheritedOverriddenMethods;
+		}
+
+		static SuperclassMethods reusableFor(ReferenceBinding superclass) {
+			if (superclass == null)
+				return null;
+			SuperclassMethods remembered = superclass.methodsInheritedBySubclasses;
+			if (remembered == null)
+				return null;
+			ReferenceBinding superType = superclass;
+			for (int i = 0, length = remembered.superclasses.length; i < length; i++) {
+				// the very same bindings, with the very same methods
+				if (superType != remembered.superclasses[i] || superType.unResolvedMethods() != remembered.methods[i]) //$IDENTITY-COMPARISON$
+					return null;
+				superType = superType.superclass();
+			}
+			if (superType != null && superType.isValidBinding())
+				return null;
+			return remembered;
+		}
+
+		static void remember(ReferenceBinding superclass, List<ReferenceBinding> superclasses, List<MethodBinding[]> methods,
+				HashtableOfObject inheritedMethods, HashtableOfObject inheritedOverriddenMethods) {
+			if (superclass == null)
+				return;
+			superclass.methodsInheritedBySubclasses = new SuperclassMethods(
+					superclasses.toArray(new ReferenceBinding[superclasses.size()]),
+					methods.toArray(new MethodBinding[methods.size()][]),
+					copy(inheritedMethods),
+					copy(inheritedOverriddenMethods));
+		}
+
+		HashtableOfObject copyOfInheritedMethods() {
+			return copy(this.inheritedMethods);
+		}
+
+		HashtableOfObject copyOfInheritedOverriddenMethods() {
+			return copy(this.inheritedOverriddenMethods);
+		}
+
+		// the verification only replaces the arrays of methods of the tables, so that the copies can share them
+		private static HashtableOfObject copy(HashtableOfObject table) {
+			try {
+				return (HashtableOfObject) table.clone();
+			} catch (CloneNotSupportedException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+	}
 	/*
 Binding creation is responsible for reporting all problems with types:
 	- all modifier problems (duplicates & multiple visibility modifiers + incompatible combinations - abstract/final)
@@ -535,19 +603,39 @@ void computeInheritedMethods(ReferenceBinding superclass, ReferenceBinding[] sup
 	// only want to remember inheritedMethods that can have an impact on the current type
 	// if an inheritedMethod has been 'replaced' by a supertype's method then skip it, however
     // see usage of canOverridingMethodDifferInErasure below.
-	this.inheritedMethods = new HashtableOfObject(51); // maps method selectors to an array of methods... must search to match paramaters & return type
-
-	this.inheritedOverriddenMethods = new HashtableOfObject(11);
-	ReferenceBinding superType = superclass;
+	// the methods inherited from the superclasses only depend on the current type through package private methods,
+	// so the ones computed for another subclass of the same superclass are reused when there are none
+	SuperclassMethods reused = verifyingTypeVariableBounds ? null : SuperclassMethods.reusableFor(superclass);
+	if (reused != null) {
+		this.inheritedMethods = reused.copyOfInheritedMethods();
+		this.inheritedOverriddenMethods = reused.copyOfInheritedOverriddenMethods();
+	} else {
+		this.inheritedMethods = new HashtableOfObject(51); // maps method selectors to an array of methods... must search to match paramaters & return type
+		this.inheritedOverriddenMethods = new HashtableOfObject(11);
+	}
+	ReferenceBinding superType = reused != null ? null : superclass;
 	HashtableOfObject nonVisibleDefaultMethods = new HashtableOfObject(3); // maps method selectors to an array of methods
+	boolean canReuse = reused == null && !verifyingTypeVariableBounds;
+	List<ReferenceBinding> superclasses = canReuse ? new ArrayList<>() : null;
+	List<MethodBinding[]> superclassMethods = canReuse ? new ArrayList<>() : null;
 
 	while (superType != null && superType.isValidBinding()) {
 
 		MethodBinding[] methods = superType.unResolvedMethods();
+		if (canReuse) {
+			if (superType instanceof BinaryTypeBinding || (superType.tagBits & TagBits.AreMethodsComplete) != 0) {
+				superclasses.add(superType);
+				superclassMethods.add(methods);
+			} else {
+				canReuse = false;
+			}
+		}
 		nextMethod : for (int m = methods.length; --m >= 0;) {
 			MethodBinding inheritedMethod = methods[m];
 			if (inheritedMethod.isPrivate() || inheritedMethod.isConstructor() || inheritedMethod.isDefaultAbstract())
 				continue nextMethod;
+			if (inheritedMethod.isDefault())
+				canReuse = false;
 			MethodBinding[] existingMethods = (MethodBinding[]) this.inheritedMethods.get(inheritedMethod.selector);
 			if (existingMethods != null) {
 				existing : for (int i = 0, length = existingMethods.length; i < length; i++) {
@@ -612,6 +700,8 @@ void computeInheritedMethods(ReferenceBinding superclass, ReferenceBinding[] sup
 		}
 		superType = superType.superclass();
 	}
+	if (canReuse)
+		SuperclassMethods.remember(superclass, superclasses, superclassMethods, this.inheritedMethods, this.inheritedOverriddenMethods);
 
 	List superIfcList = new ArrayList();
 	HashSet seenTypes = new HashSet();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -32,11 +32,13 @@ package org.eclipse.jdt.internal.compiler.lookup;
 import org.eclipse.jdt.internal.compiler.ast.ASTNode;
 import org.eclipse.jdt.internal.compiler.ast.Expression;
 import org.eclipse.jdt.internal.compiler.ast.Invocation;
+import org.eclipse.jdt.internal.compiler.ast.MessageSend;
 import org.eclipse.jdt.internal.compiler.ast.NullAnnotationMatching;
 import org.eclipse.jdt.internal.compiler.ast.ReferenceExpression;
 import org.eclipse.jdt.internal.compiler.ast.Wildcard;
 import org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants;
 import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.problem.ProblemReporter;
 
 /**
  * Binding denoting a generic method after type parameter substitutions got performed.
@@ -207,6 +209,11 @@ public class ParameterizedGenericMethodBinding extends ParameterizedMethodBindin
 			return scope.environment().createParameterizedGenericMethod(originalMethod, typeVariables);
 		}
 
+		LookupEnvironment environment = scope.environment();
+		InferenceBudget inferenceBudget = environment.root.inferenceBudget;
+		if (inferenceBudget != null && scope.compilationUnitScope().isOverInferenceBudget(invocationSite))
+			return new ProblemMethodBinding(originalMethod, originalMethod.selector, arguments, ProblemReasons.ErrorAlreadyReported);
+
 		ParameterizedGenericMethodBinding methodSubstitute = null;
 		InferenceContext18 infCtx18 = invocationSite.freshInferenceContext(scope);
 		if (infCtx18 == null)
@@ -232,8 +239,8 @@ public class ParameterizedGenericMethodBinding extends ParameterizedMethodBindin
 		}
 		arguments = argumentsCopy; // either way, this allows the engine to update arguments without harming the callers.
 
-		LookupEnvironment environment = scope.environment();
 		InferenceContext18 previousContext = environment.currentInferenceContext;
+		InferenceContext18 outermostContext = previousContext == null ? infCtx18 : previousContext;
 		if (previousContext == null)
 			environment.currentInferenceContext = infCtx18;
 		try {
@@ -244,6 +251,16 @@ public class ParameterizedGenericMethodBinding extends ParameterizedMethodBindin
 					((Expression)invocationSite).isPolyExpression(originalMethod);
 			boolean isDiamond = isPolyExpression && originalMethod.isConstructor();
 			boolean isInexactVarargsInference = false;
+			InferenceCache inferenceCache = environment.root.inferenceCache;
+			InferenceCache.Key cacheKey = null;
+			if (inferenceCache != null && previousContext == null) {
+				cacheKey = inferenceCache.keyFor(originalMethod, arguments, invocationSite, isPolyExpression, allArgumentsAreProper, infCtx18, scope);
+				if (cacheKey != null) {
+					MethodBinding cachedMethod = inferenceCache.reuse(cacheKey, infCtx18, (MessageSend) invocationSite);
+					if (cachedMethod != null)
+						return cachedMethod;
+				}
+			}
 			if (arguments.length == parameters.length) {
 				infCtx18.inferenceKind = requireBoxing ? InferenceContext18.CHECK_LOOSE : InferenceContext18.CHECK_STRICT; // engine may still slip into loose mode and adjust level.
 				infCtx18.inferInvocationApplicability(originalMethod, arguments, isDiamond);
@@ -338,16 +355,27 @@ public class ParameterizedGenericMethodBinding extends ParameterizedMethodBindin
 								((ReferenceExpression) invocationSite).registerInferenceContext(methodSubstitute, infCtx18); // keep context so we can finish later
 						}
 					}
+					if (cacheKey != null && invocationTypeInferred && !hasReturnProblem)
+						inferenceCache.remember(cacheKey, methodSubstitute, infCtx18);
 					return methodSubstitute;
 				}
 			}
 			return null;
+		} catch (InferenceBudget.ExceededException e) {
+			return new ProblemMethodBinding(originalMethod, originalMethod.selector, arguments, ProblemReasons.ErrorAlreadyReported); // reported below
 		} catch (InferenceFailureException e) {
 			// FIXME stop-gap measure
 			scope.problemReporter().genericInferenceError(e.getMessage(), invocationSite);
 			return null;
 		} finally {
 			environment.currentInferenceContext = previousContext;
+			if (previousContext == null && outermostContext.overBudget) {
+				ProblemReporter problemReporter = scope.problemReporter();
+				// a silent policy (e.g. while resolving a copy of a lambda) drops the problem: infer again when it
+				// is reported for real, rather than rejecting the invocation without any problem
+				if (!problemReporter.policy.ignoreAllErrors() && scope.compilationUnitScope().recordOverInferenceBudget(invocationSite))
+					problemReporter.inferenceBudgetExceeded(invocationSite, outermostContext.incorporations, outermostContext.largestBoundSet);
+			}
 		}
 	}
 
@@ -712,7 +712,7 @@ public class ParameterizedTypeBinding extends ReferenceBinding implements Substi
 
 		if ((this.tagBits & TagBits.AreMethodsComplete) != 0) { // have resolved all arg types & return type of the methods
 			long range;
-			if ((range = ReferenceBinding.binarySearch(TypeConstants.INIT, this.methods)) >= 0) {
+			if ((range = methodRange(TypeConstants.INIT, this.methods)) >= 0) {
 				nextMethod: for (int imethod = (int)range, end = (int)(range >> 32); imethod <= end; imethod++) {
 					MethodBinding method = this.methods[imethod];
 					if (method.parameters.length == argCount) {
@@ -754,7 +754,7 @@ public class ParameterizedTypeBinding extends ReferenceBinding implements Substi
 
 		if ((this.tagBits & TagBits.AreMethodsComplete) != 0) { // have resolved all arg types & return type of the methods
 			long range;
-			if ((range = ReferenceBinding.binarySearch(selector, this.methods)) >= 0) {
+			if ((range = methodRange(selector, this.methods)) >= 0) {
 				nextMethod: for (int imethod = (int)range, end = (int)(range >> 32); imethod <= end; imethod++) {
 					MethodBinding method = this.methods[imethod];
 					foundNothing = false; // inner type lookups must know that a method with this name exists
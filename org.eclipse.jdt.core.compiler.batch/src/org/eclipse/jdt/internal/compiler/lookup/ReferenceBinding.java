@@ -88,6 +88,8 @@ abstract public class ReferenceBinding extends TypeBinding {
 	char[] signature;
 
 	private SimpleLookupTable compatibleCache;
+	private MethodIndex methodIndex; // index of the complete methods, see #methodRange(char[], MethodBinding[])
+	MethodVerifier.SuperclassMethods methodsInheritedBySubclasses;
 
 	int typeBits; // additional bits characterizing this type
 	protected MethodBinding [] singleAbstractMethod;
@@ -206,6 +208,20 @@ public static long binarySearch(char[] selector, MethodBinding[] sortedMethods)
 	return -1;
 }
 
+/**
+ * Answers the range of the methods named selector in the given sorted methods of this type, as
+ * {@link #binarySearch(char[], MethodBinding[])} does. The methods must not change in place anymore: when they
+ * are many, their selectors are indexed once and looked up in the index.
+ */
+long methodRange(char[] selector, MethodBinding[] sortedMethods) {
+	if (sortedMethods == null || sortedMethods.length < MethodIndex.MIN_METHODS)
+		return binarySearch(selector, sortedMethods);
+	MethodIndex index = this.methodIndex;
+	if (index == null || index.methods != sortedMethods)
+		this.methodIndex = index = new MethodIndex(sortedMethods);
+	return index.rangeOf(selector);
+}
+
 /**
  * Compares two strings lexicographically.
  * The comparison is based on the Unicode value of each character in
@@ -1677,7 +1677,7 @@ public MethodBinding getExactConstructor(TypeBinding[] argumentTypes) {
 		methods();
 	if ((this.tagBits & TagBits.AreMethodsComplete) != 0) { // have resolved all arg types & return type of the methods
 		long range;
-		if ((range = ReferenceBinding.binarySearch(TypeConstants.INIT, this.methods)) >= 0) {
+		if ((range = methodRange(TypeConstants.INIT, this.methods)) >= 0) {
 			nextMethod: for (int imethod = (int)range, end = (int)(range >> 32); imethod <= end; imethod++) {
 				MethodBinding method = this.methods[imethod];
 				if (method.parameters.length == argCount) {
@@ -1744,7 +1744,7 @@ public MethodBinding getExactMethod(char[] selector, TypeBinding[] argumentTypes
 
 	if ((this.tagBits & TagBits.AreMethodsComplete) != 0) { // have resolved all arg types & return type of the methods
 		long range;
-		if ((range = ReferenceBinding.binarySearch(selector, this.methods)) >= 0) {
+		if ((range = methodRange(selector, this.methods)) >= 0) {
 			nextMethod: for (int imethod = (int)range, end = (int)(range >> 32); imethod <= end; imethod++) {
 				MethodBinding method = this.methods[imethod];
 				foundNothing = false; // inner type lookups must know that a method with this name exists
@@ -1915,7 +1915,7 @@ public MethodBinding[] getMethods(char[] selector) {
 
 	if ((this.tagBits & TagBits.AreMethodsComplete) != 0) {
 		long range;
-		if ((range = ReferenceBinding.binarySearch(selector, this.methods)) >= 0) {
+		if ((range = methodRange(selector, this.methods)) >= 0) {
 			int start = (int) range, end = (int) (range >> 32);
 			int length = end - start + 1;
 			MethodBinding[] result;
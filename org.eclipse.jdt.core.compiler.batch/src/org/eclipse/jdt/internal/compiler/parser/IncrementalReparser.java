@@ -0,0 +1,512 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.parser;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import org.eclipse.jdt.core.compiler.CategorizedProblem;
+import org.eclipse.jdt.internal.compiler.CompilationResult;
+import org.eclipse.jdt.internal.compiler.GenericAstVisitor;
+import org.eclipse.jdt.internal.compiler.ast.ASTNode;
+import org.eclipse.jdt.internal.compiler.ast.AbstractMethodDeclaration;
+import org.eclipse.jdt.internal.compiler.ast.AbstractVariableDeclaration;
+import org.eclipse.jdt.internal.compiler.ast.Annotation;
+import org.eclipse.jdt.internal.compiler.ast.ArrayTypeReference;
+import org.eclipse.jdt.internal.compiler.ast.CaseStatement;
+import org.eclipse.jdt.internal.compiler.ast.CompilationUnitDeclaration;
+import org.eclipse.jdt.internal.compiler.ast.ConstructorDeclaration;
+import org.eclipse.jdt.internal.compiler.ast.ExplicitConstructorCall;
+import org.eclipse.jdt.internal.compiler.ast.Expression;
+import org.eclipse.jdt.internal.compiler.ast.FakeDefaultLiteral;
+import org.eclipse.jdt.internal.compiler.ast.FieldDeclaration;
+import org.eclipse.jdt.internal.compiler.ast.FieldReference;
+import org.eclipse.jdt.internal.compiler.ast.FunctionalExpression;
+import org.eclipse.jdt.internal.compiler.ast.GuardedPattern;
+import org.eclipse.jdt.internal.compiler.ast.ImportReference;
+import org.eclipse.jdt.internal.compiler.ast.Initializer;
+import org.eclipse.jdt.internal.compiler.ast.Javadoc;
+import org.eclipse.jdt.internal.compiler.ast.JavadocAllocationExpression;
+import org.eclipse.jdt.internal.compiler.ast.JavadocArrayQualifiedTypeReference;
+import org.eclipse.jdt.internal.compiler.ast.JavadocFieldReference;
+import org.eclipse.jdt.internal.compiler.ast.JavadocMessageSend;
+import org.eclipse.jdt.internal.compiler.ast.JavadocModuleReference;
+import org.eclipse.jdt.internal.compiler.ast.JavadocQualifiedTypeReference;
+import org.eclipse.jdt.internal.compiler.ast.JavadocSingleNameReference;
+import org.eclipse.jdt.internal.compiler.ast.JavadocSingleTypeReference;
+import org.eclipse.jdt.internal.compiler.ast.LabeledStatement;
+import org.eclipse.jdt.internal.compiler.ast.LambdaExpression;
+import org.eclipse.jdt.internal.compiler.ast.MessageSend;
+import org.eclipse.jdt.internal.compiler.ast.QualifiedNameReference;
+import org.eclipse.jdt.internal.compiler.ast.QualifiedTypeReference;
+import org.eclipse.jdt.internal.compiler.ast.Receiver;
+import org.eclipse.jdt.internal.compiler.ast.RecordPattern;
+import org.eclipse.jdt.internal.compiler.ast.ReferenceExpression;
+import org.eclipse.jdt.internal.compiler.ast.SwitchStatement;
+import org.eclipse.jdt.internal.compiler.ast.TypeDeclaration;
+import org.eclipse.jdt.internal.compiler.ast.TypePattern;
+import org.eclipse.jdt.internal.compiler.lookup.BlockScope;
+import org.eclipse.jdt.internal.compiler.lookup.ExtraCompilerModifiers;
+import org.eclipse.jdt.internal.compiler.problem.DefaultProblem;
+import org.eclipse.jdt.internal.compiler.util.Util;
+
+/**
+ * Parses a unit again after an edit of its source, reusing the unit parsed from its previous contents when the
+ * edit lies within the body of one of its methods, constructors or initializers, see
+ * {@link Parser#reparse(CompilationUnitDeclaration, char[], org.eclipse.jdt.internal.compiler.env.ICompilationUnit, CompilationResult)}.
+ */
+class IncrementalReparser {
+
+	private static final int BODY_BITS = ASTNode.HasSyntaxErrors | ASTNode.UndocumentedEmptyBlock | ASTNode.HasLocalType | ASTNode.HasFunctionalInterfaceTypes;
+
+	private final Parser parser;
+	private final CompilationUnitDeclaration unit;
+
+	// the edit replaced the characters from editStart to editEnd (exclusive) of the previous contents
+	private int editStart;
+	private int editEnd;
+	private int delta;
+
+	// the member whose body encloses the edit, and its enclosing types, outermost first
+	private ASTNode member;
+	private TypeDeclaration[] enclosingTypes = new TypeDeclaration[4];
+	private int enclosingTypesPtr = -1;
+	private int bodyStart;
+	private int bodyEnd;
+
+	// the comments of the unit after the edit, when the previous unit records its comments
+	private int[][] comments;
+
+	IncrementalReparser(Parser parser, CompilationUnitDeclaration unit) {
+		this.parser = parser;
+		this.unit = unit;
+	}
+
+	/**
+	 * Answers the previous unit updated to the given contents, or <code>null</code> if the unit must be parsed again
+	 * from scratch.
+	 */
+	CompilationUnitDeclaration reparse(char[] previousContents, char[] contents, CompilationResult compilationResult) {
+		if (!canReuse())
+			return null;
+
+		int previousLength = previousContents.length;
+		int length = contents.length;
+		int start = 0;
+		int max = Math.min(previousLength, length);
+		while (start < max && previousContents[start] == contents[start])
+			start++;
+		if (start == previousLength && start == length)
+			return null; // nothing to reuse the unit for
+		int suffix = 0;
+		while (suffix < max - start && previousContents[previousLength - 1 - suffix] == contents[length - 1 - suffix])
+			suffix++;
+		this.editStart = start;
+		this.editEnd = previousLength - suffix;
+		this.delta = length - previousLength;
+
+		if (!findMember(this.unit.types))
+			return null;
+		CompilationResult previousResult = this.unit.compilationResult;
+		for (int i = 0; i < previousResult.problemCount; i++) {
+			// problems of the edited body are reported again by its parse, others would need to be recorded again
+			if (!isInBody(previousResult.problems[i].getSourceStart()))
+				return null;
+		}
+		int[] lineEnds = lineEndsAfterEdit(contents, previousResult.getLineSeparatorPositions());
+		if (lineEnds == null)
+			return null; // the edit changed the extent of the body
+
+		// from here on, the previous unit is updated
+		compilationResult.lineSeparatorPositions = lineEnds;
+		if (this.comments != null)
+			this.unit.comments = this.comments;
+		for (int i = 0; i < previousResult.taskCount; i++) {
+			CategorizedProblem task = previousResult.tasks[i];
+			if (isInBody(task.getSourceStart()))
+				continue; // reported again by the parse of the body
+			if (task.getSourceStart() >= this.editEnd) {
+				int taskStart = shift(task.getSourceStart());
+				int line = Util.getLineNumber(taskStart, lineEnds, 0, lineEnds.length - 1);
+				task.setSourceStart(taskStart);
+				task.setSourceEnd(shift(task.getSourceEnd()));
+				task.setSourceLineNumber(line);
+				if (task instanceof DefaultProblem problem)
+					problem.column = Util.searchColumnNumber(lineEnds, line, taskStart);
+			}
+			compilationResult.record(task, this.unit);
+		}
+		clearBody();
+		this.unit.compilationResult = compilationResult;
+		this.unit.traverse(new PositionShifter(compilationResult), this.unit.scope, false);
+		// the body keeps its start even when the edit is inserted right after its opening brace, and
+		// extends to the new end even when the edit is inserted right before its closing brace
+		if (this.member instanceof AbstractMethodDeclaration method) {
+			method.bodyStart = this.bodyStart;
+			method.bodyEnd = this.bodyEnd + this.delta;
+		} else {
+			((Initializer) this.member).bodyStart = this.bodyStart;
+			((Initializer) this.member).bodyEnd = this.bodyEnd + this.delta;
+		}
+		parseBody(contents);
+		return this.unit;
+	}
+
+	private boolean canReuse() {
+		CompilationUnitDeclaration previous = this.unit;
+		return previous.scope == null // not resolved yet
+			&& (previous.bits & ASTNode.HasAllMethodBodies) != 0
+			&& !previous.resolveMethodBodiesOnDemand
+			&& !previous.ignoreFurtherInvestigation
+			&& !previous.ignoreMethodBodies
+			&& previous.types != null
+			&& !previous.isPackageInfo()
+			&& !previous.isModuleInfo()
+			// NLS tags and string literals are recorded for the whole unit
+			&& previous.nlsTags == null
+			&& !this.parser.checkExternalizeStrings
+			&& !this.parser.options.complainOnUninternedIdentityComparison
+			&& previous.compilationResult.recoveryScannerData == null;
+	}
+
+	/*
+	 * Finds the member whose body encloses the edit, among the members which the diet parse skipped the body of.
+	 */
+	private boolean findMember(TypeDeclaration[] types) {
+		if (types == null)
+			return false;
+		for (TypeDeclaration type : types) {
+			if (type.declarationSourceStart > this.editStart || type.declarationSourceEnd < this.editEnd)
+				continue;
+			if (++this.enclosingTypesPtr == this.enclosingTypes.length)
+				System.arraycopy(this.enclosingTypes, 0, this.enclosingTypes = new TypeDeclaration[this.enclosingTypesPtr * 2], 0, this.enclosingTypesPtr);
+			this.enclosingTypes[this.enclosingTypesPtr] = type;
+			if (findMember(type.memberTypes))
+				return true;
+			if (type.methods != null) {
+				for (AbstractMethodDeclaration method : type.methods) {
+					if (method.isAbstract() || method.isNative() || method.isClinit() || method.isDefaultConstructor()
+							|| (method.modifiers & ExtraCompilerModifiers.AccSemicolonBody) != 0)
+						continue;
+					if (enclosesEdit(method, method.bodyStart, method.bodyEnd))
+						return true;
+				}
+			}
+			if (type.fields != null) {
+				for (FieldDeclaration field : type.fields) {
+					if (field instanceof Initializer initializer && enclosesEdit(initializer, initializer.bodyStart, initializer.bodyEnd))
+						return true;
+				}
+			}
+			this.enclosingTypesPtr--;
+		}
+		return false;
+	}
+
+	private boolean enclosesEdit(ASTNode candidate, int start, int end) {
+		// the closing brace of the body is at end + 1, an insertion right before it is still inside the body
+		if (start > this.editStart || end + 1 < this.editEnd)
+			return false;
+		this.member = candidate;
+		this.bodyStart = start;
+		this.bodyEnd = end;
+		return true;
+	}
+
+	private boolean isInBody(int position) {
+		return position >= this.bodyStart && position <= this.bodyEnd;
+	}
+
+	/*
+	 * Jumps over the edited body the way the diet parse does, which tells whether the edit left the extent of the
+	 * body, hence the rest of the unit, unchanged. Answers the line ends of the given contents, or null if the
+	 * extent of the body changed. The comments of the unit are computed along, since the jump records the ones of
+	 * the body.
+	 */
+	private int[] lineEndsAfterEdit(char[] contents, int[] previousLineEnds) {
+		int previousLines = previousLineEnds.length;
+		int linesBefore = 0;
+		while (linesBefore < previousLines && previousLineEnds[linesBefore] < this.bodyStart)
+			linesBefore++;
+		int linesAfter = linesBefore;
+		while (linesAfter < previousLines && previousLineEnds[linesAfter] <= this.bodyEnd + 1)
+			linesAfter++;
+
+		Scanner scanner = this.parser.scanner;
+		boolean recordLineSeparator = scanner.recordLineSeparator;
+		scanner.setSource(contents);
+		System.arraycopy(previousLineEnds, 0, scanner.lineEnds = new int[linesBefore + 250], 0, linesBefore);
+		scanner.linePtr = linesBefore - 1;
+		scanner.recordLineSeparator = true;
+		scanner.resetTo(this.bodyStart, contents.length - 1);
+		scanner.commentPtr = -1;
+		scanner.jumpOverMethodBody();
+		scanner.recordLineSeparator = recordLineSeparator;
+		if (scanner.startPosition != this.bodyEnd + 1 + this.delta || scanner.currentPosition > contents.length)
+			return null;
+		if (this.unit.comments != null)
+			this.comments = commentsAfterEdit(scanner);
+
+		int[] bodyLineEnds = scanner.getLineEnds();
+		int bodyLines = bodyLineEnds.length;
+		int[] lineEnds = new int[bodyLines + previousLines - linesAfter];
+		System.arraycopy(bodyLineEnds, 0, lineEnds, 0, bodyLines);
+		for (int i = linesAfter; i < previousLines; i++)
+			lineEnds[bodyLines + i - linesAfter] = previousLineEnds[i] + this.delta;
+		return lineEnds;
+	}
+
+	/*
+	 * Answers the comments of the previous unit which are outside of the edited body, the ones which follow it
+	 * shifted, around the comments the scanner recorded in the body.
+	 */
+	private int[][] commentsAfterEdit(Scanner scanner) {
+		int[][] previousComments = this.unit.comments;
+		int previousCount = previousComments.length;
+		int commentsBefore = 0;
+		while (commentsBefore < previousCount && Math.abs(previousComments[commentsBefore][0]) < this.bodyStart)
+			commentsBefore++;
+		int commentsAfter = commentsBefore;
+		while (commentsAfter < previousCount && Math.abs(previousComments[commentsAfter][0]) <= this.bodyEnd)
+			commentsAfter++;
+
+		int bodyCount = scanner.commentPtr + 1;
+		int[][] newComments = new int[commentsBefore + bodyCount + previousCount - commentsAfter][];
+		System.arraycopy(previousComments, 0, newComments, 0, commentsBefore);
+		for (int i = 0; i < bodyCount; i++)
+			newComments[commentsBefore + i] = new int[] { scanner.commentStarts[i], scanner.commentStops[i] };
+		for (int i = commentsAfter; i < previousCount; i++) {
+			// non javadoc comments have negative positions
+			int[] comment = previousComments[i];
+			newComments[commentsBefore + bodyCount + i - commentsAfter] = new int[] {
+				comment[0] < 0 ? -shift(-comment[0]) : shift(comment[0]),
+				comment[1] < 0 ? -shift(-comment[1]) : shift(comment[1]) };
+		}
+		return newComments;
+	}
+
+	private void clearBody() {
+		if (this.member instanceof AbstractMethodDeclaration method) {
+			method.statements = null;
+			method.explicitDeclarations = 0;
+			method.ignoreFurtherInvestigation = false;
+			method.bits &= ~BODY_BITS;
+			if (method instanceof ConstructorDeclaration constructor)
+				constructor.constructorCall = null;
+		} else {
+			Initializer initializer = (Initializer) this.member;
+			initializer.block.statements = null;
+			initializer.block.explicitDeclarations = 0;
+			initializer.block.bits &= ~ASTNode.UndocumentedEmptyBlock;
+			initializer.bits &= ~ASTNode.HasSyntaxErrors;
+		}
+		// no other member has problems, so none has syntax errors
+		for (int i = 0; i <= this.enclosingTypesPtr; i++) {
+			this.enclosingTypes[i].ignoreFurtherInvestigation = false;
+			this.enclosingTypes[i].bits &= ~ASTNode.HasSyntaxErrors;
+		}
+	}
+
+	private void parseBody(char[] contents) {
+		Scanner scanner = this.parser.scanner;
+		// save existing values to restore them at the end of the parsing process, like Parser#getMethodBodies does
+		int[] oldLineEnds = scanner.lineEnds;
+		int oldLinePtr = scanner.linePtr;
+		scanner.setSource(contents, this.unit.compilationResult);
+		if (this.parser.javadocParser != null && this.parser.javadocParser.checkDocComment) {
+			this.parser.javadocParser.scanner.setSource(contents);
+		}
+		TypeDeclaration type = this.enclosingTypes[this.enclosingTypesPtr];
+		if (this.member instanceof AbstractMethodDeclaration method) {
+			method.parseStatements(this.parser, this.unit);
+		} else {
+			((Initializer) this.member).parseStatements(this.parser, type, this.unit);
+		}
+		scanner.lineEnds = oldLineEnds;
+		scanner.linePtr = oldLinePtr;
+
+		int syntaxErrors = this.member.bits & ASTNode.HasSyntaxErrors;
+		for (int i = this.enclosingTypesPtr; i >= 0; i--)
+			this.enclosingTypes[i].bits |= syntaxErrors;
+	}
+
+	int shift(int position) {
+		return position >= this.editEnd ? position + this.delta : position;
+	}
+
+	long shift(long positions) {
+		// (start << 32) + end
+		return ((long) shift((int) (positions >>> 32)) << 32) | (shift((int) positions) & 0xFFFFFFFFL);
+	}
+
+	/*
+	 * Shifts the source positions which follow the edit, and attaches the nodes to the result of the new contents.
+	 */
+	class PositionShifter extends GenericAstVisitor {
+
+		private final CompilationResult compilationResult;
+		// some nodes are shared, like the type of the fields of a same declaration
+		private final Set<ASTNode> shifted = Collections.newSetFromMap(new IdentityHashMap<>());
+
+		PositionShifter(CompilationResult compilationResult) {
+			this.compilationResult = compilationResult;
+		}
+
+		@Override
+		protected boolean visitNode(ASTNode node) {
+			if (!this.shifted.add(node))
+				return false;
+			node.sourceStart = shift(node.sourceStart);
+			node.sourceEnd = shift(node.sourceEnd);
+			if (node instanceof Expression expression)
+				expression.statementEnd = shift(expression.statementEnd);
+			if (node instanceof TypeDeclaration type) {
+				type.compilationResult = this.compilationResult;
+				type.modifiersSourceStart = shift(type.modifiersSourceStart);
+				type.declarationSourceStart = shift(type.declarationSourceStart);
+				type.declarationSourceEnd = shift(type.declarationSourceEnd);
+				type.restrictedIdentifierStart = shift(type.restrictedIdentifierStart);
+				type.bodyStart = shift(type.bodyStart);
+				type.bodyEnd = shift(type.bodyEnd);
+			} else if (node instanceof AbstractMethodDeclaration method) {
+				method.compilationResult = this.compilationResult;
+				method.modifiersSourceStart = shift(method.modifiersSourceStart);
+				method.declarationSourceStart = shift(method.declarationSourceStart);
+				method.declarationSourceEnd = shift(method.declarationSourceEnd);
+				method.bodyStart = shift(method.bodyStart);
+				method.bodyEnd = shift(method.bodyEnd);
+				if (method.receiver != null)
+					method.receiver.traverse(this, method.scope);
+			} else if (node instanceof AbstractVariableDeclaration variable) {
+				variable.modifiersSourceStart = shift(variable.modifiersSourceStart);
+				variable.declarationSourceStart = shift(variable.declarationSourceStart);
+				variable.declarationSourceEnd = shift(variable.declarationSourceEnd);
+				variable.declarationEnd = shift(variable.declarationEnd);
+				if (node instanceof FieldDeclaration field) {
+					field.endPart1Position = shift(field.endPart1Position);
+					field.endPart2Position = shift(field.endPart2Position);
+					if (node instanceof Initializer initializer) {
+						initializer.bodyStart = shift(initializer.bodyStart);
+						initializer.bodyEnd = shift(initializer.bodyEnd);
+					}
+				} else if (node instanceof Receiver receiver && receiver.qualifyingName != null) {
+					receiver.qualifyingName.traverse(this, (BlockScope) null);
+				}
+			} else if (node instanceof ImportReference importReference) {
+				shiftAll(importReference.sourcePositions);
+				importReference.declarationSourceStart = shift(importReference.declarationSourceStart);
+				importReference.declarationSourceEnd = shift(importReference.declarationSourceEnd);
+				importReference.declarationEnd = shift(importReference.declarationEnd);
+				importReference.trailingStarPosition = shift(importReference.trailingStarPosition);
+			} else if (node instanceof Javadoc javadoc) {
+				javadoc.valuePositions = shift(javadoc.valuePositions);
+				shiftAll(javadoc.inheritedPositions);
+				if (javadoc.invalidParameters != null) {
+					for (JavadocSingleNameReference parameter : javadoc.invalidParameters)
+						parameter.traverse(this, (BlockScope) null);
+				}
+			} else if (node instanceof FunctionalExpression functionalExpression) {
+				functionalExpression.compilationResult = this.compilationResult;
+				if (node instanceof LambdaExpression lambda)
+					lambda.arrowPosition = shift(lambda.arrowPosition);
+				else if (node instanceof ReferenceExpression reference)
+					reference.nameSourceStart = shift(reference.nameSourceStart);
+			} else if (node instanceof MessageSend messageSend) {
+				messageSend.nameSourcePosition = shift(messageSend.nameSourcePosition);
+				if (node instanceof JavadocMessageSend javadocMessageSend) {
+					javadocMessageSend.tagSourceStart = shift(javadocMessageSend.tagSourceStart);
+					javadocMessageSend.tagSourceEnd = shift(javadocMessageSend.tagSourceEnd);
+				}
+			} else if (node instanceof FieldReference fieldReference) {
+				fieldReference.nameSourcePosition = shift(fieldReference.nameSourcePosition);
+				if (node instanceof JavadocFieldReference javadocFieldReference) {
+					javadocFieldReference.tagSourceStart = shift(javadocFieldReference.tagSourceStart);
+					javadocFieldReference.tagSourceEnd = shift(javadocFieldReference.tagSourceEnd);
+				}
+			} else if (node instanceof QualifiedNameReference nameReference) {
+				shiftAll(nameReference.sourcePositions);
+			} else if (node instanceof QualifiedTypeReference typeReference) {
+				shiftAll(typeReference.sourcePositions);
+				if (node instanceof JavadocQualifiedTypeReference javadocReference) {
+					javadocReference.tagSourceStart = shift(javadocReference.tagSourceStart);
+					javadocReference.tagSourceEnd = shift(javadocReference.tagSourceEnd);
+				} else if (node instanceof JavadocArrayQualifiedTypeReference javadocReference) {
+					javadocReference.tagSourceStart = shift(javadocReference.tagSourceStart);
+					javadocReference.tagSourceEnd = shift(javadocReference.tagSourceEnd);
+				}
+			} else if (node instanceof ArrayTypeReference typeReference) {
+				typeReference.originalSourceEnd = shift(typeReference.originalSourceEnd);
+			} else if (node instanceof JavadocSingleTypeReference javadocReference) {
+				javadocReference.tagSourceStart = shift(javadocReference.tagSourceStart);
+				javadocReference.tagSourceEnd = shift(javadocReference.tagSourceEnd);
+			} else if (node instanceof JavadocSingleNameReference javadocReference) {
+				javadocReference.tagSourceStart = shift(javadocReference.tagSourceStart);
+				javadocReference.tagSourceEnd = shift(javadocReference.tagSourceEnd);
+			} else if (node instanceof JavadocAllocationExpression javadocAllocation) {
+				javadocAllocation.tagSourceStart = shift(javadocAllocation.tagSourceStart);
+				javadocAllocation.tagSourceEnd = shift(javadocAllocation.tagSourceEnd);
+				javadocAllocation.memberStart = shift(javadocAllocation.memberStart);
+			} else if (node instanceof JavadocModuleReference javadocReference) {
+				javadocReference.tagSourceStart = shift(javadocReference.tagSourceStart);
+				javadocReference.tagSourceEnd = shift(javadocReference.tagSourceEnd);
+			} else if (node instanceof Annotation annotation) {
+				annotation.declarationSourceEnd = shift(annotation.declarationSourceEnd);
+			} else if (node instanceof ExplicitConstructorCall constructorCall) {
+				constructorCall.typeArgumentsSourceStart = shift(constructorCall.typeArgumentsSourceStart);
+			} else if (node instanceof LabeledStatement labeledStatement) {
+				labeledStatement.labelEnd = shift(labeledStatement.labelEnd);
+			} else if (node instanceof SwitchStatement switchStatement) {
+				switchStatement.blockStart = shift(switchStatement.blockStart);
+			} else if (node instanceof CaseStatement caseStatement && caseStatement.constantExpressions != null) {
+				for (Expression constant : caseStatement.constantExpressions) {
+					if (constant instanceof FakeDefaultLiteral) // not traversed
+						visitNode(constant);
+				}
+			} else if (node instanceof GuardedPattern guardedPattern) {
+				guardedPattern.restrictedIdentifierStart = shift(guardedPattern.restrictedIdentifierStart);
+			}
+			return true;
+		}
+
+		private void shiftAll(long[] positions) {
+			if (positions == null)
+				return;
+			for (int i = 0; i < positions.length; i++)
+				positions[i] = shift(positions[i]);
+		}
+
+		// not handled by GenericAstVisitor
+
+		@Override
+		public boolean visit(FakeDefaultLiteral fakeDefaultLiteral, BlockScope scope) {
+			return visitNode(fakeDefaultLiteral);
+		}
+
+		@Override
+		public boolean visit(GuardedPattern guardedPattern, BlockScope scope) {
+			return visitNode(guardedPattern);
+		}
+
+		@Override
+		public boolean visit(RecordPattern recordPattern, BlockScope scope) {
+			return visitNode(recordPattern);
+		}
+
+		@Override
+		public boolean visit(TypePattern typePattern, BlockScope scope) {
+			return visitNode(typePattern);
+		}
+	}
+}
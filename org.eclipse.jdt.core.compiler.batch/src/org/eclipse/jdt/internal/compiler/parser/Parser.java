@@ -12170,6 +12170,56 @@ public void getMethodBodies(CompilationUnitDeclaration unit) {
 	// line separator positions array.
 	this.scanner.lineEnds = oldLineEnds;
 	this.scanner.linePtr = oldLinePtr;
+}
+/**
+ * Fills the body of the given method of the given diet parsed unit, like {@link #getMethodBodies(CompilationUnitDeclaration)}
+ * does for all the methods of the unit.
+ */
+public void getMethodBody(AbstractMethodDeclaration method, CompilationUnitDeclaration unit) {
+	// save existing values to restore them at the end of the parsing process
+	// see bug 47079 for more details
+	int[] oldLineEnds = this.scanner.lineEnds;
+	int oldLinePtr = this.scanner.linePtr;
+
+	CompilationResult compilationResult = unit.compilationResult;
+	char[] contents = this.readManager != null
+		? this.readManager.getContents(compilationResult.compilationUnit)
+		: compilationResult.compilationUnit.getContents();
+	this.scanner.setSource(contents, compilationResult);
+
+	if (this.javadocParser != null && this.javadocParser.checkDocComment) {
+		this.javadocParser.scanner.setSource(contents);
+	}
+	method.parseStatements(this, unit);
+
+	this.scanner.lineEnds = oldLineEnds;
+	this.scanner.linePtr = oldLinePtr;
+}
+/**
+ * Parses the given source unit after an edit of the contents the given previous unit was parsed from, answering
+ * the unit {@link #dietParse(ICompilationUnit, CompilationResult)} followed by {@link #getMethodBodies(CompilationUnitDeclaration)}
+ * would answer.
+ * <p>
+ * When the edit lies within the body of a method, constructor or initializer of the previous unit and leaves the
+ * extent of that body unchanged, only that body is parsed again: the previous unit is updated in place, with the
+ * positions which follow the edit shifted, its recorded comments updated and its nodes attached to the given result,
+ * and answered. Otherwise, or when the previous unit has problems outside of that body, the source unit is parsed
+ * again from scratch.
+ * </p><p>
+ * The previous unit must have all its method bodies and must not have been resolved, since resolution records
+ * state in the nodes which a new resolution cannot start from.
+ * </p>
+ */
+public CompilationUnitDeclaration reparse(CompilationUnitDeclaration previousUnit, char[] previousContents, ICompilationUnit sourceUnit, CompilationResult compilationResult) {
+	if (previousUnit != null && previousContents != null) {
+		char[] contents = this.readManager != null ? this.readManager.getContents(sourceUnit) : sourceUnit.getContents();
+		CompilationUnitDeclaration unit = new IncrementalReparser(this, previousUnit).reparse(previousContents, contents, compilationResult);
+		if (unit != null)
+			return unit;
+	}
+	CompilationUnitDeclaration unit = dietParse(sourceUnit, compilationResult);
+	getMethodBodies(unit);
+	return unit;
 }
 	protected char getNextCharacter(char[] comment, int[] index) {
 		char nextCharacter = comment[index[0]++];
@@ -32,6 +32,7 @@ import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
 import org.eclipse.jdt.internal.compiler.impl.JavaFeature;
 import org.eclipse.jdt.internal.compiler.problem.DefaultProblemFactory;
 import org.eclipse.jdt.internal.compiler.problem.ProblemReporter;
+import org.eclipse.jdt.internal.compiler.util.CharArena;
 import org.eclipse.jdt.internal.compiler.util.CharDeduplication;
 import org.eclipse.jdt.internal.compiler.util.Util;
 
@@ -213,7 +214,95 @@ public class Scanner implements TerminalTokens {
 	//Java 15 - first _ keyword appears
 	Map<String, Integer> _Keywords = null;
 
+	// natures of the ASCII characters which scanIdentifierOrKeyword() consumes without further checks
+	private static final int OBVIOUS_IDENT_PART =
+			ScannerHelper.C_UPPER_LETTER | ScannerHelper.C_LOWER_LETTER | ScannerHelper.C_IDENT_PART | ScannerHelper.C_DIGIT;
+
+	/*
+	 * The keywords and restricted identifiers scanned by internalScanIdentifierOrKeyword(..), in a perfect hash
+	 * table: the hash function of keywordSlot(..) was chosen so that no two of them share a slot, hence an
+	 * identifier is compared with one keyword at most.
+	 */
+	private static final int KEYWORD_HASH_BITS = 8;
+	private static final int KEYWORD_HASH_MULTIPLIER = 0xB54CAD0B;
+	private static final int MAX_KEYWORD_LENGTH = 12; // synchronized
+	private static final char[][] KEYWORDS = new char[1 << KEYWORD_HASH_BITS][];
+	private static final int[] KEYWORD_TOKENS = new int[1 << KEYWORD_HASH_BITS];
+	static {
+		registerKeyword("abstract", TokenNameabstract); //$NON-NLS-1$
+		registerKeyword("assert", TokenNameassert); //$NON-NLS-1$
+		registerKeyword("boolean", TokenNameboolean); //$NON-NLS-1$
+		registerKeyword("break", TokenNamebreak); //$NON-NLS-1$
+		registerKeyword("byte", TokenNamebyte); //$NON-NLS-1$
+		registerKeyword("case", TokenNamecase); //$NON-NLS-1$
+		registerKeyword("catch", TokenNamecatch); //$NON-NLS-1$
+		registerKeyword("char", TokenNamechar); //$NON-NLS-1$
+		registerKeyword("class", TokenNameclass); //$NON-NLS-1$
+		registerKeyword("const", TokenNameconst); //$NON-NLS-1$
+		registerKeyword("continue", TokenNamecontinue); //$NON-NLS-1$
+		registerKeyword("default", TokenNamedefault); //$NON-NLS-1$
+		registerKeyword("do", TokenNamedo); //$NON-NLS-1$
+		registerKeyword("double", TokenNamedouble); //$NON-NLS-1$
+		registerKeyword("else", TokenNameelse); //$NON-NLS-1$
+		registerKeyword("enum", TokenNameenum); //$NON-NLS-1$
+		registerKeyword("exports", TokenNameexports); //$NON-NLS-1$
+		registerKeyword("extends", TokenNameextends); //$NON-NLS-1$
+		registerKeyword("false", TokenNamefalse); //$NON-NLS-1$
+		registerKeyword("final", TokenNamefinal); //$NON-NLS-1$
+		registerKeyword("finally", TokenNamefinally); //$NON-NLS-1$
+		registerKeyword("float", TokenNamefloat); //$NON-NLS-1$
+		registerKeyword("for", TokenNamefor); //$NON-NLS-1$
+		registerKeyword("goto", TokenNamegoto); //$NON-NLS-1$
+		registerKeyword("if", TokenNameif); //$NON-NLS-1$
+		registerKeyword("implements", TokenNameimplements); //$NON-NLS-1$
+		registerKeyword("import", TokenNameimport); //$NON-NLS-1$
+		registerKeyword("instanceof", TokenNameinstanceof); //$NON-NLS-1$
+		registerKeyword("int", TokenNameint); //$NON-NLS-1$
+		registerKeyword("interface", TokenNameinterface); //$NON-NLS-1$
+		registerKeyword("long", TokenNamelong); //$NON-NLS-1$
+		registerKeyword("module", TokenNamemodule); //$NON-NLS-1$
+		registerKeyword("native", TokenNamenative); //$NON-NLS-1$
+		registerKeyword("new", TokenNamenew); //$NON-NLS-1$
+		registerKeyword("non", TokenNamenon_sealed); //$NON-NLS-1$
+		registerKeyword("null", TokenNamenull); //$NON-NLS-1$
+		registerKeyword("open", TokenNameopen); //$NON-NLS-1$
+		registerKeyword("opens", TokenNameopens); //$NON-NLS-1$
+		registerKeyword("package", TokenNamepackage); //$NON-NLS-1$
+		registerKeyword("permits", TokenNameRestrictedIdentifierpermits); //$NON-NLS-1$
+		registerKeyword("private", TokenNameprivate); //$NON-NLS-1$
+		registerKeyword("protected", TokenNameprotected); //$NON-NLS-1$
+		registerKeyword("provides", TokenNameprovides); //$NON-NLS-1$
+		registerKeyword("public", TokenNamepublic); //$NON-NLS-1$
+		registerKeyword("record", TokenNameRestrictedIdentifierrecord); //$NON-NLS-1$
+		registerKeyword("requires", TokenNamerequires); //$NON-NLS-1$
+		registerKeyword("return", TokenNamereturn); //$NON-NLS-1$
+		registerKeyword("sealed", TokenNameRestrictedIdentifiersealed); //$NON-NLS-1$
+		registerKeyword("short", TokenNameshort); //$NON-NLS-1$
+		registerKeyword("static", TokenNamestatic); //$NON-NLS-1$
+		registerKeyword("strictfp", TokenNamestrictfp); //$NON-NLS-1$
+		registerKeyword("super", TokenNamesuper); //$NON-NLS-1$
+		registerKeyword("switch", TokenNameswitch); //$NON-NLS-1$
+		registerKeyword("synchronized", TokenNamesynchronized); //$NON-NLS-1$
+		registerKeyword("this", TokenNamethis); //$NON-NLS-1$
+		registerKeyword("throw", TokenNamethrow); //$NON-NLS-1$
+		registerKeyword("throws", TokenNamethrows); //$NON-NLS-1$
+		registerKeyword("to", TokenNameto); //$NON-NLS-1$
+		registerKeyword("transient", TokenNametransient); //$NON-NLS-1$
+		registerKeyword("transitive", TokenNametransitive); //$NON-NLS-1$
+		registerKeyword("true", TokenNametrue); //$NON-NLS-1$
+		registerKeyword("try", TokenNametry); //$NON-NLS-1$
+		registerKeyword("uses", TokenNameuses); //$NON-NLS-1$
+		registerKeyword("void", TokenNamevoid); //$NON-NLS-1$
+		registerKeyword("volatile", TokenNamevolatile); //$NON-NLS-1$
+		registerKeyword("when", TokenNameRestrictedIdentifierWhen); //$NON-NLS-1$
+		registerKeyword("while", TokenNamewhile); //$NON-NLS-1$
+		registerKeyword("with", TokenNamewith); //$NON-NLS-1$
+		registerKeyword("yield", TokenNameRestrictedIdentifierYield); //$NON-NLS-1$
+	}
+
 	private CharDeduplication deduplication = CharDeduplication.getThreadLocalInstance();
+	/** When set, interns the identifiers instead of the thread local deduplication (see Compiler#newParser). */
+	public CharArena identifierArena;
 
 public Scanner() {
 	this(false /*comment*/, false /*whitespace*/, false /*nls*/, ClassFileConstants.JDK1_3 /*sourceLevel*/, null/*taskTag*/, null/*taskPriorities*/, true /*taskCaseSensitive*/);
@@ -462,6 +551,8 @@ public char[] getCurrentIdentifierSource() {
 	//return the token REAL source (aka unicodes are precomputed)
 	if (this.withoutUnicodePtr != 0) {
 		//0 is used as a fast test flag so the real first char is in position 1
+		if (this.identifierArena != null)
+			return this.identifierArena.sharedCopyOfRange(this.withoutUnicodeBuffer, 1, this.withoutUnicodePtr + 1);
 		char[] result = new char[this.withoutUnicodePtr];
 		System.arraycopy(
 			this.withoutUnicodeBuffer,
@@ -473,6 +564,8 @@ public char[] getCurrentIdentifierSource() {
 	}
 	int length = this.currentPosition - this.startPosition;
 	if (length == this.eofPosition) return this.source;
+	if (this.identifierArena != null)
+		return this.identifierArena.sharedCopyOfRange(this.source, this.startPosition, this.currentPosition);
 	return this.deduplication.sharedCopyOfRange(this.source, this.startPosition, this.currentPosition);
 }
 
@@ -1460,7 +1553,19 @@ protected int getNextToken0() throws InvalidInputException {
 			int offset;
 			int unicodePtr;
 			boolean checkIfUnicode = false;
+			int whiteLimit = Math.min(this.eofPosition, this.source.length);
 			do {
+				// bulk skip the spaces and tabs, which are neither unicode escapes nor line separators
+				int whitePosition = this.currentPosition;
+				char whiteCharacter;
+				while (whitePosition < whiteLimit
+						&& ((whiteCharacter = this.source[whitePosition]) == ' ' || whiteCharacter == '\t' || whiteCharacter == '\f')) {
+					whitePosition++;
+				}
+				if (whitePosition != this.currentPosition) {
+					this.currentPosition = whitePosition;
+					hasWhiteSpaces = true;
+				}
 				unicodePtr = this.withoutUnicodePtr;
 				offset = this.currentPosition;
 				this.startPosition = this.currentPosition;
@@ -1707,6 +1812,7 @@ protected int getNextToken0() throws InvalidInputException {
 								} //jump over the \\
 								boolean isUnicode = false;
 								while (this.currentCharacter != '\r' && this.currentCharacter != '\n') {
+									this.currentPosition = skipLineCommentCharacters(this.currentPosition);
 									if (this.currentPosition >= this.eofPosition) {
 										this.lastCommentLinePosition = this.currentPosition;
 										this.currentPosition ++;
@@ -1852,6 +1958,11 @@ protected int getNextToken0() throws InvalidInputException {
 										default:
 											star = false;
 									}
+									int next = skipBlockCommentCharacters(this.currentPosition);
+									if (next != this.currentPosition) {
+										this.currentPosition = next;
+										star = false;
+									}
 									//get next char
 									previous = this.currentPosition;
 									if (((this.currentCharacter = this.source[this.currentPosition++]) == '\\')
@@ -2320,6 +2431,44 @@ public char[] getSource(){
 protected boolean isFirstTag() {
 	return true;
 }
+/*
+ * Answers the position of the first character from the given position on which the loop over the characters
+ * of a line comment must look at: a line separator, a backslash, which may start a unicode escape, or the end
+ * of the source. The characters in between are consumed in bulk.
+ */
+private int skipLineCommentCharacters(int position) {
+	char[] src = this.source;
+	int end = Math.min(this.eofPosition, src.length);
+	while (position < end) {
+		char c = src[position];
+		if (c == '\r' || c == '\n' || c == '\\')
+			break;
+		position++;
+	}
+	return position;
+}
+/*
+ * Same as skipLineCommentCharacters(int) for a block or javadoc comment, whose loop must also look at the
+ * characters which may end the comment or start a javadoc tag. The last character of the source is left to
+ * the loop, which reports an unterminated comment there.
+ */
+private int skipBlockCommentCharacters(int position) {
+	char[] src = this.source;
+	int end = Math.min(this.eofPosition, src.length) - 1;
+	while (position < end) {
+		switch (src[position]) {
+			case '*' :
+			case '/' :
+			case '@' :
+			case '\\' :
+			case '\r' :
+			case '\n' :
+				return position;
+		}
+		position++;
+	}
+	return position;
+}
 public final void jumpOverMethodBody() {
 
 	this.wasAcr = false;
@@ -2517,6 +2666,7 @@ public final void jumpOverMethodBody() {
 								} //jump over the \\
 								boolean isUnicode = false;
 								while (this.currentCharacter != '\r' && this.currentCharacter != '\n') {
+									this.currentPosition = skipLineCommentCharacters(this.currentPosition);
 									if (this.currentPosition >= this.eofPosition) {
 										this.lastCommentLinePosition = this.currentPosition;
 										this.currentPosition ++;
@@ -2657,6 +2807,11 @@ public final void jumpOverMethodBody() {
 										default:
 											star = false;
 									}
+									int next = skipBlockCommentCharacters(this.currentPosition);
+									if (next != this.currentPosition) {
+										this.currentPosition = next;
+										star = false;
+									}
 									//get next char
 									previous = this.currentPosition;
 									if (((this.currentCharacter = this.source[this.currentPosition++]) == '\\')
@@ -3157,6 +3312,16 @@ public int scanIdentifierOrKeywordWithBoundCheck() {
 	identLoop: {
 		int pos;
 		int srcLength = this.eofPosition;
+		if (this.withoutUnicodePtr == 0) {
+			// bulk scan the ASCII identifier parts, which are neither unicode escapes nor need storing
+			pos = this.currentPosition;
+			char c;
+			while (pos < srcLength && (c = src[pos]) < ScannerHelper.MAX_OBVIOUS
+					&& (ScannerHelper.OBVIOUS_IDENT_CHAR_NATURES[c] & OBVIOUS_IDENT_PART) != 0) {
+				pos++;
+			}
+			this.currentPosition = pos;
+		}
 		while (true) {
 			if ((pos = this.currentPosition) >= srcLength) // handle the obvious case upfront
 				break identLoop;
@@ -3219,6 +3384,16 @@ public int scanIdentifierOrKeyword() {
 	identLoop: {
 		int pos;
 		int srcLength = this.eofPosition;
+		if (this.withoutUnicodePtr == 0) {
+			// bulk scan the ASCII identifier parts, which are neither unicode escapes nor need storing
+			pos = this.currentPosition;
+			char c;
+			while (pos < srcLength && (c = src[pos]) < ScannerHelper.MAX_OBVIOUS
+					&& (ScannerHelper.OBVIOUS_IDENT_CHAR_NATURES[c] & OBVIOUS_IDENT_PART) != 0) {
+				pos++;
+			}
+			this.currentPosition = pos;
+		}
 		while (true) {
 			if ((pos = this.currentPosition) >= srcLength) // handle the obvious case upfront
 				break identLoop;
@@ -3268,694 +3443,77 @@ public int scanIdentifierOrKeyword() {
 	return internalScanIdentifierOrKeyword(index, length, data);
 }
 private int internalScanIdentifierOrKeyword(int index, int length, char[] data) {
-	switch (data[index]) {
-		case 'a' :
-			switch(length) {
-				case 8: //abstract
-					if ((data[++index] == 'b')
-						&& (data[++index] == 's')
-						&& (data[++index] == 't')
-						&& (data[++index] == 'r')
-						&& (data[++index] == 'a')
-						&& (data[++index] == 'c')
-						&& (data[++index] == 't')) {
-							return TokenNameabstract;
-						} else {
-							return TokenNameIdentifier;
-						}
-				case 6: // assert
-					if ((data[++index] == 's')
-						&& (data[++index] == 's')
-						&& (data[++index] == 'e')
-						&& (data[++index] == 'r')
-						&& (data[++index] == 't')) {
-							if (this.sourceLevel >= ClassFileConstants.JDK1_4) {
-								this.containsAssertKeyword = true;
-								return TokenNameassert;
-							} else {
-								this.useAssertAsAnIndentifier = true;
-								return TokenNameIdentifier;
-							}
-						} else {
-							return TokenNameIdentifier;
-						}
-				default:
-					return TokenNameIdentifier;
-			}
-		case 'b' : //boolean break byte
-			switch (length) {
-				case 4 :
-					if ((data[++index] == 'y') && (data[++index] == 't') && (data[++index] == 'e'))
-						return TokenNamebyte;
-					else
-						return TokenNameIdentifier;
-				case 5 :
-					if ((data[++index] == 'r')
-						&& (data[++index] == 'e')
-						&& (data[++index] == 'a')
-						&& (data[++index] == 'k'))
-						return TokenNamebreak;
-					else
-						return TokenNameIdentifier;
-				case 7 :
-					if ((data[++index] == 'o')
-						&& (data[++index] == 'o')
-						&& (data[++index] == 'l')
-						&& (data[++index] == 'e')
-						&& (data[++index] == 'a')
-						&& (data[++index] == 'n'))
-						return TokenNameboolean;
-					else
-						return TokenNameIdentifier;
-				default :
-					return TokenNameIdentifier;
-			}
-
-		case 'c' : //case char catch const class continue
-			switch (length) {
-				case 4 :
-					if (data[++index] == 'a')
-						if ((data[++index] == 's') && (data[++index] == 'e'))
-							return TokenNamecase;
-						else
-							return TokenNameIdentifier;
-					else
-						if ((data[index] == 'h') && (data[++index] == 'a') && (data[++index] == 'r'))
-							return TokenNamechar;
-						else
-							return TokenNameIdentifier;
-				case 5 :
-					if (data[++index] == 'a')
-						if ((data[++index] == 't') && (data[++index] == 'c') && (data[++index] == 'h'))
-							return TokenNamecatch;
-						else
-							return TokenNameIdentifier;
-					else
-						if (data[index] == 'l')
-							if ((data[++index] == 'a')
-								&& (data[++index] == 's')
-								&& (data[++index] == 's'))
-								return TokenNameclass;
-							else
-								return TokenNameIdentifier;
-						else if ((data[index] == 'o')
-							&& (data[++index] == 'n')
-							&& (data[++index] == 's')
-							&& (data[++index] == 't'))
-							return TokenNameconst; //const is not used in java ???????
-						else
-							return TokenNameIdentifier;
-				case 8 :
-					if ((data[++index] == 'o')
-						&& (data[++index] == 'n')
-						&& (data[++index] == 't')
-						&& (data[++index] == 'i')
-						&& (data[++index] == 'n')
-						&& (data[++index] == 'u')
-						&& (data[++index] == 'e'))
-						return TokenNamecontinue;
-					else
-						return TokenNameIdentifier;
-				default :
-					return TokenNameIdentifier;
-			}
-
-		case 'd' : //default do double
-			switch (length) {
-				case 2 :
-					if ((data[++index] == 'o'))
-						return TokenNamedo;
-					else
-						return TokenNameIdentifier;
-				case 6 :
-					if ((data[++index] == 'o')
-						&& (data[++index] == 'u')
-						&& (data[++index] == 'b')
-						&& (data[++index] == 'l')
-						&& (data[++index] == 'e'))
-						return TokenNamedouble;
-					else
-						return TokenNameIdentifier;
-				case 7 :
-					if ((data[++index] == 'e')
-						&& (data[++index] == 'f')
-						&& (data[++index] == 'a')
-						&& (data[++index] == 'u')
-						&& (data[++index] == 'l')
-						&& (data[++index] == 't'))
-						return TokenNamedefault;
-					else
-						return TokenNameIdentifier;
-				default :
-					return TokenNameIdentifier;
-			}
-		case 'e' : //else extends exports
-			switch (length) {
-				case 4 :
-					if (data[++index] == 'l') {
-						if ((data[++index] == 's') && (data[++index] == 'e')) {
-							return TokenNameelse;
-						} else {
-							return TokenNameIdentifier;
-						}
-					} else if ((data[index] == 'n')
-							&& (data[++index] == 'u')
-							&& (data[++index] == 'm')) {
-						if (this.sourceLevel >= ClassFileConstants.JDK1_5) {
-							return TokenNameenum;
-						} else {
-							this.useEnumAsAnIndentifier = true;
-							return TokenNameIdentifier;
-						}
-					}
-					return TokenNameIdentifier;
-				case 7 :
-						if ((data[++index] == 'x')) {
-							if ((data[++index] == 't') && (data[++index] == 'e') && (data[++index] == 'n')
-									&& (data[++index] == 'd') && (data[++index] == 's')) {
-								return TokenNameextends;
-							} else if (areRestrictedModuleKeywordsActive()
-									&& (data[index] == 'p') && (data[++index] == 'o') && (data[++index] == 'r')
-									&& (data[++index] == 't') && (data[++index] == 's')) {
-								return TokenNameexports;
-							} else
-								return TokenNameIdentifier;
-						} else
-							return TokenNameIdentifier;
-				default :
-					return TokenNameIdentifier;
-			}
-
-		case 'f' : //final finally float for false
-			switch (length) {
-				case 3 :
-					if ((data[++index] == 'o') && (data[++index] == 'r'))
-						return TokenNamefor;
-					else
-						return TokenNameIdentifier;
-				case 5 :
-					if (data[++index] == 'i')
-						if ((data[++index] == 'n')
-							&& (data[++index] == 'a')
-							&& (data[++index] == 'l')) {
-							return TokenNamefinal;
-						} else
-							return TokenNameIdentifier;
-					else
-						if (data[index] == 'l')
-							if ((data[++index] == 'o')
-								&& (data[++index] == 'a')
-								&& (data[++index] == 't'))
-								return TokenNamefloat;
-							else
-								return TokenNameIdentifier;
-						else
-							if ((data[index] == 'a')
-								&& (data[++index] == 'l')
-								&& (data[++index] == 's')
-								&& (data[++index] == 'e'))
-								return TokenNamefalse;
-							else
-								return TokenNameIdentifier;
-				case 7 :
-					if ((data[++index] == 'i')
-						&& (data[++index] == 'n')
-						&& (data[++index] == 'a')
-						&& (data[++index] == 'l')
-						&& (data[++index] == 'l')
-						&& (data[++index] == 'y'))
-						return TokenNamefinally;
-					else
-						return TokenNameIdentifier;
-
-				default :
-					return TokenNameIdentifier;
-			}
-		case 'g' : //goto
-			if (length == 4) {
-				if ((data[++index] == 'o')
-					&& (data[++index] == 't')
-					&& (data[++index] == 'o')) {
-					return TokenNamegoto;
-				}
-			} //no goto in java are allowed, so why java removes this keyword ???
+	if (length > MAX_KEYWORD_LENGTH)
+		return TokenNameIdentifier;
+	int slot = keywordSlot(data, index, length);
+	char[] keyword = KEYWORDS[slot];
+	if (keyword == null || keyword.length != length)
+		return TokenNameIdentifier;
+	for (int i = 0; i < length; i++) {
+		if (keyword[i] != data[index + i])
 			return TokenNameIdentifier;
-
-		case 'i' : //if implements import instanceof int interface
-			switch (length) {
-				case 2 :
-					if (data[++index] == 'f')
-						return TokenNameif;
-					else
-						return TokenNameIdentifier;
-				case 3 :
-					if ((data[++index] == 'n') && (data[++index] == 't'))
-						return TokenNameint;
-					else
-						return TokenNameIdentifier;
-				case 6 :
-					if ((data[++index] == 'm')
-						&& (data[++index] == 'p')
-						&& (data[++index] == 'o')
-						&& (data[++index] == 'r')
-						&& (data[++index] == 't'))
-						return TokenNameimport;
-					else
-						return TokenNameIdentifier;
-				case 9 :
-					if ((data[++index] == 'n')
-						&& (data[++index] == 't')
-						&& (data[++index] == 'e')
-						&& (data[++index] == 'r')
-						&& (data[++index] == 'f')
-						&& (data[++index] == 'a')
-						&& (data[++index] == 'c')
-						&& (data[++index] == 'e'))
-						return TokenNameinterface;
-					else
-						return TokenNameIdentifier;
-				case 10 :
-					if (data[++index] == 'm')
-						if ((data[++index] == 'p')
-							&& (data[++index] == 'l')
-							&& (data[++index] == 'e')
-							&& (data[++index] == 'm')
-							&& (data[++index] == 'e')
-							&& (data[++index] == 'n')
-							&& (data[++index] == 't')
-							&& (data[++index] == 's'))
-							return TokenNameimplements;
-						else
-							return TokenNameIdentifier;
-					else
-						if ((data[index] == 'n')
-							&& (data[++index] == 's')
-							&& (data[++index] == 't')
-							&& (data[++index] == 'a')
-							&& (data[++index] == 'n')
-							&& (data[++index] == 'c')
-							&& (data[++index] == 'e')
-							&& (data[++index] == 'o')
-							&& (data[++index] == 'f'))
-							return TokenNameinstanceof;
-						else
-							return TokenNameIdentifier;
-
-				default :
-					return TokenNameIdentifier;
-			}
-
-		case 'l' : //long
-			if (length == 4) {
-				if ((data[++index] == 'o')
-					&& (data[++index] == 'n')
-					&& (data[++index] == 'g')) {
-					return TokenNamelong;
-				}
+	}
+	int token = KEYWORD_TOKENS[slot];
+	switch (token) {
+		case TokenNameassert :
+			if (this.sourceLevel >= ClassFileConstants.JDK1_4) {
+				this.containsAssertKeyword = true;
+				return TokenNameassert;
 			}
+			this.useAssertAsAnIndentifier = true;
 			return TokenNameIdentifier;
-
-		case 'm': //module
-			switch (length) {
-				case 6 :
-					if (areRestrictedModuleKeywordsActive()
-						&& (data[++index] == 'o')
-						&& (data[++index] == 'd')
-						&& (data[++index] == 'u')
-						&& (data[++index] == 'l')
-						&& (data[++index] == 'e'))
-						return TokenNamemodule;
-					else
-						return TokenNameIdentifier;
-				default :
-					return TokenNameIdentifier;
-			}
-
-		case 'n' : //native new null
-			switch (length) {
-				case 3 :
-					if ((data[++index] == 'e') && (data[++index] == 'w'))
-						return TokenNamenew;
-					else {
-						int token = checkFor_KeyWord(index - 1, length, data);
-						return token != TokenNameNotAToken ? token : TokenNameIdentifier;
-					}
-				case 4 :
-					if ((data[++index] == 'u') && (data[++index] == 'l') && (data[++index] == 'l'))
-						return TokenNamenull;
-					else
-						return TokenNameIdentifier;
-				case 6 :
-					if ((data[++index] == 'a')
-						&& (data[++index] == 't')
-						&& (data[++index] == 'i')
-						&& (data[++index] == 'v')
-						&& (data[++index] == 'e')) {
-						return TokenNamenative;
-					} else
-						return TokenNameIdentifier;
-				default :
-					return TokenNameIdentifier;
-			}
-
-		case 'o':
-			switch (length) {
-				case 4 :
-					if (areRestrictedModuleKeywordsActive() && (data[++index] == 'p') && (data[++index] == 'e') && (data[++index] == 'n'))
-						return TokenNameopen;
-					else
-						return TokenNameIdentifier;
-				case 5 :
-					if (areRestrictedModuleKeywordsActive()
-							&& (data[++index] == 'p')
-							&& (data[++index] == 'e')
-							&& (data[++index] == 'n')
-							&& (data[++index] == 's'))
-						return TokenNameopens;
-					else
-						return TokenNameIdentifier;
-				default :
-					return TokenNameIdentifier;
-			}
-		case 'p' : //package private protected public provides
-			switch (length) {
-				case 6 :
-					if ((data[++index] == 'u')
-						&& (data[++index] == 'b')
-						&& (data[++index] == 'l')
-						&& (data[++index] == 'i')
-						&& (data[++index] == 'c')) {
-						return TokenNamepublic;
-					} else
-						return TokenNameIdentifier;
-				case 7 :
-					if (data[++index] == 'a') {
-						if ((data[++index] == 'c')
-							&& (data[++index] == 'k')
-							&& (data[++index] == 'a')
-							&& (data[++index] == 'g')
-							&& (data[++index] == 'e'))
-							return TokenNamepackage;
-						else
-							return TokenNameIdentifier;
-					} else {
-						if ((data[index] == 'r')
-							&& (data[++index] == 'i')
-							&& (data[++index] == 'v')
-							&& (data[++index] == 'a')
-							&& (data[++index] == 't')
-							&& (data[++index] == 'e')) {
-							return TokenNameprivate;
-						} else if ((data[index] == 'e')
-								&& (data[++index] == 'r')
-								&& (data[++index] == 'm')
-								&& (data[++index] == 'i')
-								&& (data[++index] == 't')
-								&& (data[++index] == 's')) {
-							return disambiguatedRestrictedIdentifierpermits(TokenNameRestrictedIdentifierpermits);
-							} else
-							return TokenNameIdentifier;
-					}
-				case 8 :
-					if (areRestrictedModuleKeywordsActive()
-						&& (data[++index] == 'r')
-						&& (data[++index] == 'o')
-						&& (data[++index] == 'v')
-						&& (data[++index] == 'i')
-						&& (data[++index] == 'd')
-						&& (data[++index] == 'e')
-						&& (data[++index] == 's')) {
-						return TokenNameprovides;
-					} else
-						return TokenNameIdentifier;
-				case 9 :
-					if ((data[++index] == 'r')
-						&& (data[++index] == 'o')
-						&& (data[++index] == 't')
-						&& (data[++index] == 'e')
-						&& (data[++index] == 'c')
-						&& (data[++index] == 't')
-						&& (data[++index] == 'e')
-						&& (data[++index] == 'd')) {
-						return TokenNameprotected;
-					} else
-						return TokenNameIdentifier;
-
-				default :
-					return TokenNameIdentifier;
-			}
-
-		case 'r' : //return requires
-			switch (length) {
-				case 6:
-					if (data[++index] == 'e') {
-						if ((data[++index] == 't')
-							&& (data[++index] == 'u')
-							&& (data[++index] == 'r')
-							&& (data[++index] == 'n'))
-								return TokenNamereturn;
-						else if ((data[index] == 'c')
-							&& (data[++index] == 'o')
-							&& (data[++index] == 'r')
-							&& (data[++index] == 'd'))
-								return disambiguatedRestrictedIdentifierrecord(TokenNameRestrictedIdentifierrecord);
-					}
-					return TokenNameIdentifier;
-				case 8:
-					if (areRestrictedModuleKeywordsActive()
-						&& (data[++index] == 'e')
-						&& (data[++index] == 'q')
-						&& (data[++index] == 'u')
-						&& (data[++index] == 'i')
-						&& (data[++index] == 'r')
-						&& (data[++index] == 'e')
-						&& (data[++index] == 's')) {
-						return TokenNamerequires;
-					} else
-						return TokenNameIdentifier;
-			}
+		case TokenNameenum :
+			if (this.sourceLevel >= ClassFileConstants.JDK1_5)
+				return TokenNameenum;
+			this.useEnumAsAnIndentifier = true;
 			return TokenNameIdentifier;
-
-		case 's' : //short static super switch synchronized strictfp
-			switch (length) {
-				case 5 :
-					if (data[++index] == 'h')
-						if ((data[++index] == 'o') && (data[++index] == 'r') && (data[++index] == 't'))
-							return TokenNameshort;
-						else
-							return TokenNameIdentifier;
-					else
-						if ((data[index] == 'u')
-							&& (data[++index] == 'p')
-							&& (data[++index] == 'e')
-							&& (data[++index] == 'r'))
-							return TokenNamesuper;
-						else
-							return TokenNameIdentifier;
-
-				case 6 :
-					if (data[++index] == 't')
-						if ((data[++index] == 'a')
-							&& (data[++index] == 't')
-							&& (data[++index] == 'i')
-							&& (data[++index] == 'c')) {
-							return TokenNamestatic;
-						} else
-							return TokenNameIdentifier;
-					else
-						if ((data[index] == 'w')
-							&& (data[++index] == 'i')
-							&& (data[++index] == 't')
-							&& (data[++index] == 'c')
-							&& (data[++index] == 'h')) {
-							return TokenNameswitch;
-						} else if ((data[index] == 'e')
-							&& (data[++index] == 'a')
-							&& (data[++index] == 'l')
-							&& (data[++index] == 'e')
-							&& (data[++index] == 'd')) {
-								return disambiguatedRestrictedIdentifiersealed(TokenNameRestrictedIdentifiersealed);
-						} else
-							return TokenNameIdentifier;
-				case 8 :
-					if ((data[++index] == 't')
-						&& (data[++index] == 'r')
-						&& (data[++index] == 'i')
-						&& (data[++index] == 'c')
-						&& (data[++index] == 't')
-						&& (data[++index] == 'f')
-						&& (data[++index] == 'p'))
-						return TokenNamestrictfp;
-					else
-						return TokenNameIdentifier;
-				case 12 :
-					if ((data[++index] == 'y')
-						&& (data[++index] == 'n')
-						&& (data[++index] == 'c')
-						&& (data[++index] == 'h')
-						&& (data[++index] == 'r')
-						&& (data[++index] == 'o')
-						&& (data[++index] == 'n')
-						&& (data[++index] == 'i')
-						&& (data[++index] == 'z')
-						&& (data[++index] == 'e')
-						&& (data[++index] == 'd')) {
-						return TokenNamesynchronized;
-					} else
-						return TokenNameIdentifier;
-				default :
-					return TokenNameIdentifier;
-			}
-
-		case 't' : //try throw throws transient this true
-			switch (length) {
-				case 2:
-					if (areRestrictedModuleKeywordsActive() && data[++index] == 'o')
-						return TokenNameto;
-					else
-						return TokenNameIdentifier;
-				case 3 :
-					if ((data[++index] == 'r') && (data[++index] == 'y'))
-						return TokenNametry;
-					else
-						return TokenNameIdentifier;
-				case 4 :
-					if (data[++index] == 'h')
-						if ((data[++index] == 'i') && (data[++index] == 's'))
-							return TokenNamethis;
-						else
-							return TokenNameIdentifier;
-					else
-						if ((data[index] == 'r') && (data[++index] == 'u') && (data[++index] == 'e'))
-							return TokenNametrue;
-						else
-							return TokenNameIdentifier;
-				case 5 :
-					if ((data[++index] == 'h')
-						&& (data[++index] == 'r')
-						&& (data[++index] == 'o')
-						&& (data[++index] == 'w'))
-						return TokenNamethrow;
-					else
-						return TokenNameIdentifier;
-				case 6 :
-					if ((data[++index] == 'h')
-						&& (data[++index] == 'r')
-						&& (data[++index] == 'o')
-						&& (data[++index] == 'w')
-						&& (data[++index] == 's'))
-						return TokenNamethrows;
-					else
-						return TokenNameIdentifier;
-				case 9 :
-					if ((data[++index] == 'r')
-						&& (data[++index] == 'a')
-						&& (data[++index] == 'n')
-						&& (data[++index] == 's')
-						&& (data[++index] == 'i')
-						&& (data[++index] == 'e')
-						&& (data[++index] == 'n')
-						&& (data[++index] == 't')) {
-						return TokenNametransient;
-					} else
-						return TokenNameIdentifier;
-				case 10:
-					if (areRestrictedModuleKeywordsActive() && (data[++index] == 'r')
-						&& (data[++index] == 'a')
-						&& (data[++index] == 'n')
-						&& (data[++index] == 's')
-						&& (data[++index] == 'i')
-						&& (data[++index] == 't')
-						&& (data[++index] == 'i')
-						&& (data[++index] == 'v')
-						&& (data[++index] == 'e')) {
-						return TokenNametransitive;
-					} else
-						return TokenNameIdentifier;
-				default :
-					return TokenNameIdentifier;
-			}
-		case 'u' : //uses
-			switch(length) {
-				case 4 :
-					if (areRestrictedModuleKeywordsActive()
-							&& (data[++index] == 's') && (data[++index] == 'e') && (data[++index] == 's'))
-						return TokenNameuses;
-					else
-						return TokenNameIdentifier;
-				default :
-					return TokenNameIdentifier;
-			}
-		case 'v' : //void volatile
-			switch (length) {
-				case 4 :
-					if ((data[++index] == 'o') && (data[++index] == 'i') && (data[++index] == 'd'))
-						return TokenNamevoid;
-					else
-						return TokenNameIdentifier;
-				case 8 :
-					if ((data[++index] == 'o')
-						&& (data[++index] == 'l')
-						&& (data[++index] == 'a')
-						&& (data[++index] == 't')
-						&& (data[++index] == 'i')
-						&& (data[++index] == 'l')
-						&& (data[++index] == 'e')) {
-						return TokenNamevolatile;
-					} else
-						return TokenNameIdentifier;
-
-				default :
-					return TokenNameIdentifier;
-			}
-
-		case 'w' : //while widefp with
-			switch (length) {
-				case 4:
-					if (areRestrictedModuleKeywordsActive()
-						&& (data[++index] == 'i')
-						&& (data[++index] == 't')
-						&& (data[++index] == 'h'))
-						return TokenNamewith;
-					else if ((data[++index] == 'h')
-							&& (data[++index] == 'e')
-							&& (data[++index] == 'n'))
-							return disambiguatedRestrictedIdentifierWhen(TokenNameRestrictedIdentifierWhen);
-					else
-						return TokenNameIdentifier;
-				case 5 :
-					if ((data[++index] == 'h')
-						&& (data[++index] == 'i')
-						&& (data[++index] == 'l')
-						&& (data[++index] == 'e'))
-						return TokenNamewhile;
-					else
-						return TokenNameIdentifier;
-					//case 6:if ( (data[++index] =='i') && (data[++index]=='d') && (data[++index]=='e') && (data[++index]=='f')&& (data[++index]=='p'))
-					//return TokenNamewidefp ;
-					//else
-					//return TokenNameIdentifier;
-				default :
-					return TokenNameIdentifier;
-			}
-
-		case 'y' :
-			switch (length) {
-				case 5 :
-					if ((data[++index] == 'i')
-						&& (data[++index] == 'e')
-						&& (data[++index] == 'l')
-						&& (data[++index] == 'd'))
-						return disambiguatedRestrictedIdentifierYield(TokenNameRestrictedIdentifierYield);
-					//$FALL-THROUGH$
-				default :
-					return TokenNameIdentifier;
-			}
-
+		case TokenNameexports :
+		case TokenNamemodule :
+		case TokenNameopen :
+		case TokenNameopens :
+		case TokenNameprovides :
+		case TokenNamerequires :
+		case TokenNameto :
+		case TokenNametransitive :
+		case TokenNameuses :
+		case TokenNamewith :
+			return areRestrictedModuleKeywordsActive() ? token : TokenNameIdentifier;
+		case TokenNamenon_sealed : // "non", possibly followed by "-sealed"
+			token = checkFor_KeyWord(index, length, data);
+			return token != TokenNameNotAToken ? token : TokenNameIdentifier;
+		case TokenNameRestrictedIdentifierpermits :
+			return disambiguatedRestrictedIdentifierpermits(token);
+		case TokenNameRestrictedIdentifierrecord :
+			return disambiguatedRestrictedIdentifierrecord(token);
+		case TokenNameRestrictedIdentifiersealed :
+			return disambiguatedRestrictedIdentifiersealed(token);
+		case TokenNameRestrictedIdentifierWhen :
+			// not a restricted identifier of a module declaration, whose keywords include "with"
+			return areRestrictedModuleKeywordsActive() ? TokenNameIdentifier : disambiguatedRestrictedIdentifierWhen(token);
+		case TokenNameRestrictedIdentifierYield :
+			return disambiguatedRestrictedIdentifierYield(token);
 		default :
-			return TokenNameIdentifier;
+			return token;
 	}
 }
+/*
+ * Answers the slot of the given identifier in KEYWORDS, a perfect hash table of the keywords and restricted
+ * identifiers which the identifier can only match if it is the keyword of that slot. The identifier has at
+ * least two characters.
+ */
+private static int keywordSlot(char[] data, int index, int length) {
+	int end = index + length;
+	int key = ((data[index] * 31 + data[index + 1]) * 31 + data[end - 2]) * 31 + data[end - 1] + length;
+	return (key * KEYWORD_HASH_MULTIPLIER) >>> (32 - KEYWORD_HASH_BITS);
+}
+private static void registerKeyword(String keyword, int token) {
+	char[] chars = keyword.toCharArray();
+	int slot = keywordSlot(chars, 0, chars.length);
+	if (KEYWORDS[slot] != null)
+		throw new IllegalStateException("Keywords " + keyword + " and " + new String(KEYWORDS[slot]) + " share a slot"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	KEYWORDS[slot] = chars;
+	KEYWORD_TOKENS[slot] = token;
+}
 
 
 private int checkFor_KeyWord(int index, int length, char[] data) {
@@ -11430,6 +11430,15 @@ public void typeAnnotationAtQualifiedName(Annotation annotation) {
 public void genericInferenceError(String message, InvocationSite invocationSite) {
 	genericInferenceProblem(message, invocationSite, ProblemSeverities.Error);
 }
+public void inferenceBudgetExceeded(InvocationSite invocationSite, long incorporations, int bounds) {
+	String[] args = new String[] { String.valueOf(incorporations), String.valueOf(bounds) };
+	this.handle(
+		IProblem.InferenceBudgetExceeded,
+		args,
+		args,
+		invocationSite.sourceStart(),
+		invocationSite.sourceEnd());
+}
 public void genericInferenceProblem(String message, InvocationSite invocationSite, int severity) {
 	String[] args = new String[]{message};
 	int start = 0, end = 0;
@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.util;
+
+import java.util.Arrays;
+
+/**
+ * Interns the identifiers scanned during a compilation: a slice of source which was seen before is answered the
+ * char[] of its first occurrence instead of a new copy.
+ * <p>
+ * Unlike {@link CharDeduplication}, whose small tables only remember the last few identifiers of up to
+ * {@link CharDeduplication#OPTIMIZED_LENGTH} chars, an arena remembers every identifier in an open addressing
+ * table keyed by the hash of the slice. The table starts small and doubles whenever it is half full, up to
+ * {@link #MAX_CAPACITY} slots; once that many identifiers are interned, new ones are copied without being
+ * remembered.
+ * </p>
+ * <p>
+ * An arena is not thread safe. It is meant to be shared by the units parsed by a given parser, and
+ * {@link #clear() cleared} at the end of the compilation.
+ * </p>
+ */
+public final class CharArena {
+
+	public static final int INITIAL_CAPACITY = 1 << 10;
+	public static final int MAX_CAPACITY = 1 << 20;
+
+	private char[][] entries;
+	private int[] hashes;
+	private int size;
+	private int threshold;
+
+	/** Number of identifiers asked for, and number of them which were found in the arena. */
+	public long lookups;
+	public long hits;
+
+public CharArena() {
+	this(INITIAL_CAPACITY);
+}
+
+public CharArena(int initialCapacity) {
+	int capacity = Integer.highestOneBit(Math.max(2, Math.min(initialCapacity, MAX_CAPACITY)) * 2 - 1);
+	this.entries = new char[capacity][];
+	this.hashes = new int[capacity];
+	this.threshold = capacity / 2;
+}
+
+/**
+ * Like {@link Arrays#copyOfRange(char[], int, int)}, but answers the char[] interned for the same chars if any.
+ *
+ * @param from start index (inclusive)
+ * @param to end index (exclusive)
+ * @return source[from..to-1]
+ */
+public char[] sharedCopyOfRange(char[] source, int from, int to) {
+	int length = to - from;
+	if (length < 2)
+		return CharDeduplication.getThreadLocalInstance().sharedCopyOfRange(source, from, to); // single chars are already shared
+	this.lookups++;
+	int hash = 0;
+	for (int i = from; i < to; i++)
+		hash = 31 * hash + source[i];
+	hash ^= hash >>> 16; // spread the bits of the last chars to the low bits used to index the table
+	int mask = this.entries.length - 1;
+	int index = hash & mask;
+	char[] entry;
+	while ((entry = this.entries[index]) != null) {
+		if (this.hashes[index] == hash && entry.length == length && equals(entry, source, from)) {
+			this.hits++;
+			return entry;
+		}
+		index = (index + 1) & mask;
+	}
+	char[] copy = Arrays.copyOfRange(source, from, to);
+	if (this.size >= this.threshold) {
+		if (this.entries.length == MAX_CAPACITY)
+			return copy; // full
+		grow();
+		mask = this.entries.length - 1;
+		index = hash & mask;
+		while (this.entries[index] != null)
+			index = (index + 1) & mask;
+	}
+	this.entries[index] = copy;
+	this.hashes[index] = hash;
+	this.size++;
+	return copy;
+}
+
+private static boolean equals(char[] entry, char[] source, int from) {
+	for (int i = entry.length - 1; i >= 0; i--) {
+		if (entry[i] != source[from + i])
+			return false;
+	}
+	return true;
+}
+
+private void grow() {
+	char[][] oldEntries = this.entries;
+	int[] oldHashes = this.hashes;
+	int capacity = oldEntries.length * 2;
+	int mask = capacity - 1;
+	this.entries = new char[capacity][];
+	this.hashes = new int[capacity];
+	this.threshold = capacity / 2;
+	for (int i = 0; i < oldEntries.length; i++) {
+		char[] entry = oldEntries[i];
+		if (entry != null) {
+			int hash = oldHashes[i];
+			int index = hash & mask;
+			while (this.entries[index] != null)
+				index = (index + 1) & mask;
+			this.entries[index] = entry;
+			this.hashes[index] = hash;
+		}
+	}
+}
+
+/**
+ * Forgets the interned identifiers, releasing the table if it grew, and resets the counters.
+ */
+public void clear() {
+	if (this.entries.length > INITIAL_CAPACITY) {
+		this.entries = new char[INITIAL_CAPACITY][];
+		this.hashes = new int[INITIAL_CAPACITY];
+		this.threshold = INITIAL_CAPACITY / 2;
+	} else {
+		Arrays.fill(this.entries, null);
+	}
+	this.size = 0;
+	this.lookups = 0;
+	this.hits = 0;
+}
+
+/**
+ * Answers the number of interned identifiers.
+ */
+public int size() {
+	return this.size;
+}
+
+@Override
+public String toString() {
+	return "CharArena: " + this.size + " identifiers, " + this.hits + '/' + this.lookups + " hits"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+}
+}
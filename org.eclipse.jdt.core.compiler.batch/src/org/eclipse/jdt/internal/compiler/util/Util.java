@@ -650,7 +650,7 @@ public class Util implements SuffixConstants {
 		}
 	}
 
-	private static URI toJarUri(String zipName, String fileName) {
+	public static URI toJarUri(String zipName, String fileName) {
 		Path zipfile = Paths.get(zipName);
 		URI uri = URI.create("jar:file://" + zipfile.toUri().getRawPath() + "!/" + fileName); //$NON-NLS-1$ //$NON-NLS-2$
 		return uri;
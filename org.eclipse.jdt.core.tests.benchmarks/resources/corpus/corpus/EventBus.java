@@ -0,0 +1,140 @@
+package corpus;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Dispatches events to the listeners subscribed to their type or to one of its super types.
+ */
+public class EventBus {
+
+	public interface Subscription extends AutoCloseable {
+		@Override
+		void close();
+	}
+
+	public static class DeadEvent {
+		public final Object event;
+
+		DeadEvent(Object event) {
+			this.event = event;
+		}
+	}
+
+	private static final class Listener<E> implements Comparable<Listener<?>> {
+		final Class<E> type;
+		final Consumer<? super E> consumer;
+		final Predicate<? super E> filter;
+		final int priority;
+
+		Listener(Class<E> type, Consumer<? super E> consumer, Predicate<? super E> filter, int priority) {
+			this.type = type;
+			this.consumer = consumer;
+			this.filter = filter;
+			this.priority = priority;
+		}
+
+		boolean accept(Object event) {
+			if (!this.type.isInstance(event))
+				return false;
+			E typed = this.type.cast(event);
+			if (!this.filter.test(typed))
+				return false;
+			this.consumer.accept(typed);
+			return true;
+		}
+
+		@Override
+		public int compareTo(Listener<?> other) {
+			return Integer.compare(other.priority, this.priority);
+		}
+	}
+
+	private final Map<Class<?>, List<Listener<?>>> listeners = new LinkedHashMap<>();
+	private final List<Throwable> failures = new CopyOnWriteArrayList<>();
+	private final Executor executor;
+
+	public EventBus(Executor executor) {
+		this.executor = Objects.requireNonNull(executor);
+	}
+
+	public EventBus() {
+		this(Runnable::run);
+	}
+
+	public <E> Subscription subscribe(Class<E> type, Consumer<? super E> consumer) {
+		return subscribe(type, consumer, event -> true, 0);
+	}
+
+	public synchronized <E> Subscription subscribe(Class<E> type, Consumer<? super E> consumer, Predicate<? super E> filter, int priority) {
+		Listener<E> listener = new Listener<>(type, consumer, filter, priority);
+		List<Listener<?>> list = this.listeners.computeIfAbsent(type, key -> new ArrayList<>());
+		list.add(listener);
+		Collections.sort(list);
+		return () -> {
+			synchronized (EventBus.this) {
+				List<Listener<?>> current = this.listeners.get(type);
+				if (current != null && current.remove(listener) && current.isEmpty())
+					this.listeners.remove(type);
+			}
+		};
+	}
+
+	public void post(Object event) {
+		List<Listener<?>> targets = new ArrayList<>();
+		synchronized (this) {
+			for (Class<?> type = event.getClass(); type != null; type = type.getSuperclass()) {
+				collect(type, targets);
+				for (Class<?> superInterface : type.getInterfaces())
+					collect(superInterface, targets);
+			}
+		}
+		if (targets.isEmpty()) {
+			if (!(event instanceof DeadEvent))
+				post(new DeadEvent(event));
+			return;
+		}
+		targets.sort(Comparator.naturalOrder());
+		for (Listener<?> listener : targets) {
+			this.executor.execute(() -> {
+				try {
+					listener.accept(event);
+				} catch (RuntimeException | Error e) {
+					this.failures.add(e);
+				}
+			});
+		}
+	}
+
+	private void collect(Class<?> type, List<Listener<?>> targets) {
+		List<Listener<?>> list = this.listeners.get(type);
+		if (list != null) {
+			for (Listener<?> listener : list) {
+				if (!targets.contains(listener))
+					targets.add(listener);
+			}
+		}
+	}
+
+	public synchronized Map<String, Integer> listenerCounts() {
+		return this.listeners.entrySet().stream()
+			.collect(Collectors.toMap(entry -> entry.getKey().getSimpleName(), entry -> entry.getValue().size(), Integer::sum, LinkedHashMap::new));
+	}
+
+	public List<String> failureMessages() {
+		return this.failures.stream()
+			.map(failure -> failure.getClass().getSimpleName() + ": " + failure.getMessage())
+			.sorted()
+			.collect(Collectors.toList());
+	}
+}
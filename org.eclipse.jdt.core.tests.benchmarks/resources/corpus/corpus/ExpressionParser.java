@@ -0,0 +1,242 @@
+package corpus;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Recursive descent parser and evaluator of arithmetic expressions with variables and functions.
+ */
+public class ExpressionParser {
+
+	public static class ParseException extends Exception {
+		private static final long serialVersionUID = 1L;
+		public final int position;
+
+		public ParseException(String message, int position) {
+			super(message + " at " + position);
+			this.position = position;
+		}
+	}
+
+	public interface Expression {
+		double evaluate(Map<String, Double> variables);
+	}
+
+	enum Operator {
+		PLUS('+', 1), MINUS('-', 1), TIMES('*', 2), DIVIDE('/', 2), MODULO('%', 2), POWER('^', 3);
+
+		final char symbol;
+		final int precedence;
+
+		Operator(char symbol, int precedence) {
+			this.symbol = symbol;
+			this.precedence = precedence;
+		}
+
+		static Operator of(char c) {
+			for (Operator operator : values()) {
+				if (operator.symbol == c)
+					return operator;
+			}
+			return null;
+		}
+
+		double apply(double left, double right) {
+			switch (this) {
+				case PLUS: return left + right;
+				case MINUS: return left - right;
+				case TIMES: return left * right;
+				case DIVIDE: return left / right;
+				case MODULO: return left % right;
+				case POWER: return Math.pow(left, right);
+				default: throw new AssertionError(this);
+			}
+		}
+	}
+
+	static final class Binary implements Expression {
+		final Operator operator;
+		final Expression left, right;
+
+		Binary(Operator operator, Expression left, Expression right) {
+			this.operator = operator;
+			this.left = left;
+			this.right = right;
+		}
+
+		@Override
+		public double evaluate(Map<String, Double> variables) {
+			return this.operator.apply(this.left.evaluate(variables), this.right.evaluate(variables));
+		}
+
+		@Override
+		public String toString() {
+			return "(" + this.left + ' ' + this.operator.symbol + ' ' + this.right + ")";
+		}
+	}
+
+	static final class Call implements Expression {
+		final String function;
+		final List<Expression> arguments;
+
+		Call(String function, List<Expression> arguments) {
+			this.function = function;
+			this.arguments = arguments;
+		}
+
+		@Override
+		public double evaluate(Map<String, Double> variables) {
+			double[] values = new double[this.arguments.size()];
+			for (int i = 0; i < values.length; i++)
+				values[i] = this.arguments.get(i).evaluate(variables);
+			switch (this.function) {
+				case "min":
+					double min = Double.POSITIVE_INFINITY;
+					for (double value : values)
+						min = Math.min(min, value);
+					return min;
+				case "max":
+					double max = Double.NEGATIVE_INFINITY;
+					for (double value : values)
+						max = Math.max(max, value);
+					return max;
+				case "abs":
+					return Math.abs(values[0]);
+				case "sqrt":
+					return Math.sqrt(values[0]);
+				default:
+					throw new IllegalArgumentException("unknown function " + this.function);
+			}
+		}
+	}
+
+	private final String input;
+	private int position;
+	private final Map<String, Expression> cache = new HashMap<>();
+
+	public ExpressionParser(String input) {
+		this.input = input;
+	}
+
+	public static double evaluate(String input, Map<String, Double> variables) throws ParseException {
+		return new ExpressionParser(input).parse().evaluate(variables);
+	}
+
+	public Expression parse() throws ParseException {
+		Expression expression = parseBinary(0);
+		skipWhitespace();
+		if (this.position != this.input.length())
+			throw new ParseException("unexpected '" + this.input.charAt(this.position) + "'", this.position);
+		return expression;
+	}
+
+	private Expression parseBinary(int minimumPrecedence) throws ParseException {
+		Expression left = parseUnary();
+		while (true) {
+			skipWhitespace();
+			if (this.position >= this.input.length())
+				return left;
+			Operator operator = Operator.of(this.input.charAt(this.position));
+			if (operator == null || operator.precedence < minimumPrecedence)
+				return left;
+			this.position++;
+			// power is right associative
+			int next = operator == Operator.POWER ? operator.precedence : operator.precedence + 1;
+			left = new Binary(operator, left, parseBinary(next));
+		}
+	}
+
+	private Expression parseUnary() throws ParseException {
+		skipWhitespace();
+		if (this.position >= this.input.length())
+			throw new ParseException("unexpected end", this.position);
+		char c = this.input.charAt(this.position);
+		if (c == '-') {
+			this.position++;
+			Expression operand = parseUnary();
+			return variables -> -operand.evaluate(variables);
+		}
+		if (c == '(') {
+			this.position++;
+			Expression expression = parseBinary(0);
+			expect(')');
+			return expression;
+		}
+		if (Character.isDigit(c) || c == '.')
+			return parseNumber();
+		if (Character.isLetter(c))
+			return parseIdentifier();
+		throw new ParseException("unexpected '" + c + "'", this.position);
+	}
+
+	private Expression parseNumber() throws ParseException {
+		int start = this.position;
+		boolean seenDot = false;
+		loop: while (this.position < this.input.length()) {
+			char c = this.input.charAt(this.position);
+			switch (c) {
+				case '.':
+					if (seenDot)
+						throw new ParseException("second decimal point", this.position);
+					seenDot = true;
+					break;
+				case '0': case '1': case '2': case '3': case '4':
+				case '5': case '6': case '7': case '8': case '9':
+					break;
+				default:
+					break loop;
+			}
+			this.position++;
+		}
+		String text = this.input.substring(start, this.position);
+		double value;
+		try {
+			value = Double.parseDouble(text);
+		} catch (NumberFormatException e) {
+			throw new ParseException("invalid number " + text, start);
+		}
+		return variables -> value;
+	}
+
+	private Expression parseIdentifier() throws ParseException {
+		int start = this.position;
+		while (this.position < this.input.length() && Character.isLetterOrDigit(this.input.charAt(this.position)))
+			this.position++;
+		String name = this.input.substring(start, this.position);
+		skipWhitespace();
+		if (this.position < this.input.length() && this.input.charAt(this.position) == '(') {
+			this.position++;
+			List<Expression> arguments = new ArrayList<>();
+			skipWhitespace();
+			if (this.input.charAt(this.position) != ')') {
+				do {
+					arguments.add(parseBinary(0));
+					skipWhitespace();
+				} while (this.input.charAt(this.position++) == ',');
+				this.position--;
+			}
+			expect(')');
+			return new Call(name, arguments);
+		}
+		return this.cache.computeIfAbsent(name, key -> variables -> {
+			Double value = variables.get(key);
+			if (value == null)
+				throw new IllegalArgumentException("undefined variable " + key);
+			return value.doubleValue();
+		});
+	}
+
+	private void expect(char c) throws ParseException {
+		skipWhitespace();
+		if (this.position >= this.input.length() || this.input.charAt(this.position) != c)
+			throw new ParseException("expected '" + c + "'", this.position);
+		this.position++;
+	}
+
+	private void skipWhitespace() {
+		while (this.position < this.input.length() && Character.isWhitespace(this.input.charAt(this.position)))
+			this.position++;
+	}
+}
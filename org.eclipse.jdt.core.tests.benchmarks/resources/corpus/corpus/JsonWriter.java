@@ -0,0 +1,161 @@
+package corpus;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Writes maps, collections, arrays, strings, numbers and booleans as JSON.
+ */
+public class JsonWriter implements AutoCloseable {
+
+	private final Writer out;
+	private final String indent;
+	private int depth;
+	private final Map<Object, Boolean> visiting = new IdentityHashMap<>();
+
+	public JsonWriter(Writer out, String indent) {
+		this.out = out;
+		this.indent = indent;
+	}
+
+	public static String toJson(Object value) {
+		StringWriter writer = new StringWriter();
+		try (JsonWriter json = new JsonWriter(writer, "")) {
+			json.write(value);
+		} catch (IOException e) {
+			throw new IllegalStateException(e); // a StringWriter does not fail
+		}
+		return writer.toString();
+	}
+
+	public void write(Object value) throws IOException {
+		if (value == null) {
+			this.out.write("null");
+		} else if (value instanceof CharSequence) {
+			writeString(value.toString());
+		} else if (value instanceof Number || value instanceof Boolean) {
+			writeNumberOrBoolean(value);
+		} else if (value instanceof Map<?, ?>) {
+			enter(value);
+			try {
+				writeMap((Map<?, ?>) value);
+			} finally {
+				exit(value);
+			}
+		} else if (value instanceof Collection<?>) {
+			enter(value);
+			try {
+				writeElements(((Collection<?>) value).iterator());
+			} finally {
+				exit(value);
+			}
+		} else if (value instanceof Object[]) {
+			writeElements(java.util.Arrays.asList((Object[]) value).iterator());
+		} else if (value instanceof int[]) {
+			int[] ints = (int[]) value;
+			this.out.write('[');
+			for (int i = 0; i < ints.length; i++) {
+				if (i > 0)
+					this.out.write(',');
+				this.out.write(Integer.toString(ints[i]));
+			}
+			this.out.write(']');
+		} else {
+			writeString(value.toString());
+		}
+	}
+
+	private void writeNumberOrBoolean(Object value) throws IOException {
+		if (value instanceof Double || value instanceof Float) {
+			double d = ((Number) value).doubleValue();
+			if (Double.isNaN(d) || Double.isInfinite(d)) {
+				this.out.write("null");
+				return;
+			}
+		}
+		this.out.write(value.toString());
+	}
+
+	private void writeMap(Map<?, ?> map) throws IOException {
+		this.out.write('{');
+		this.depth++;
+		boolean first = true;
+		for (Map.Entry<?, ?> entry : map.entrySet()) {
+			if (!first)
+				this.out.write(',');
+			first = false;
+			newLine();
+			writeString(String.valueOf(entry.getKey()));
+			this.out.write(this.indent.isEmpty() ? ":" : ": ");
+			write(entry.getValue());
+		}
+		this.depth--;
+		if (!first)
+			newLine();
+		this.out.write('}');
+	}
+
+	private void writeElements(Iterator<?> iterator) throws IOException {
+		this.out.write('[');
+		this.depth++;
+		boolean empty = !iterator.hasNext();
+		while (iterator.hasNext()) {
+			newLine();
+			write(iterator.next());
+			if (iterator.hasNext())
+				this.out.write(',');
+		}
+		this.depth--;
+		if (!empty)
+			newLine();
+		this.out.write(']');
+	}
+
+	private void writeString(String value) throws IOException {
+		this.out.write('"');
+		for (int i = 0, length = value.length(); i < length; i++) {
+			char c = value.charAt(i);
+			switch (c) {
+				case '"': this.out.write("\\\""); break;
+				case '\\': this.out.write("\\\\"); break;
+				case '\n': this.out.write("\\n"); break;
+				case '\r': this.out.write("\\r"); break;
+				case '\t': this.out.write("\\t"); break;
+				default:
+					if (c < 0x20 || (c >= 0x7f && c <= 0x9f)) {
+						this.out.write(String.format("\\u%04x", (int) c));
+					} else {
+						this.out.write(c);
+					}
+			}
+		}
+		this.out.write('"');
+	}
+
+	private void newLine() throws IOException {
+		if (this.indent.isEmpty())
+			return;
+		this.out.write('\n');
+		for (int i = 0; i < this.depth; i++)
+			this.out.write(this.indent);
+	}
+
+	private void enter(Object container) {
+		if (this.visiting.put(container, Boolean.TRUE) != null)
+			throw new IllegalArgumentException("cycle through " + container.getClass().getName());
+	}
+
+	private void exit(Object container) {
+		this.visiting.remove(container);
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.out.flush();
+	}
+}
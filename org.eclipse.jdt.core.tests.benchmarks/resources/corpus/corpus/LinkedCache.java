@@ -0,0 +1,201 @@
+package corpus;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Least recently used cache, bounded by the weight of its values.
+ */
+public class LinkedCache<K, V> extends AbstractMap<K, V> {
+
+	public interface Weigher<T> {
+		int weigh(T value);
+	}
+
+	static final class Node<K, V> {
+		final K key;
+		V value;
+		int weight;
+		Node<K, V> previous;
+		Node<K, V> next;
+
+		Node(K key, V value, int weight) {
+			this.key = key;
+			this.value = value;
+			this.weight = weight;
+		}
+	}
+
+	private final Map<K, Node<K, V>> nodes = new HashMap<>();
+	private final Weigher<? super V> weigher;
+	private final long maximumWeight;
+	private final Node<K, V> head = new Node<>(null, null, 0);
+	private long weight;
+	private int modCount;
+	private long hits, misses, evictions;
+
+	public LinkedCache(long maximumWeight, Weigher<? super V> weigher) {
+		if (maximumWeight <= 0)
+			throw new IllegalArgumentException("maximumWeight: " + maximumWeight);
+		this.maximumWeight = maximumWeight;
+		this.weigher = weigher;
+		this.head.previous = this.head.next = this.head;
+	}
+
+	public LinkedCache(int maximumSize) {
+		this(maximumSize, value -> 1);
+	}
+
+	@Override
+	public V get(Object key) {
+		Node<K, V> node = this.nodes.get(key);
+		if (node == null) {
+			this.misses++;
+			return null;
+		}
+		this.hits++;
+		moveToFront(node);
+		return node.value;
+	}
+
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> loader) {
+		V value = get(key);
+		if (value == null) {
+			value = loader.apply(key);
+			if (value != null)
+				put(key, value);
+		}
+		return value;
+	}
+
+	@Override
+	public V put(K key, V value) {
+		int valueWeight = this.weigher.weigh(value);
+		if (valueWeight < 0)
+			throw new IllegalStateException("negative weight for " + key);
+		Node<K, V> node = this.nodes.get(key);
+		V previous = null;
+		if (node == null) {
+			node = new Node<>(key, value, valueWeight);
+			this.nodes.put(key, node);
+			linkFirst(node);
+		} else {
+			previous = node.value;
+			this.weight -= node.weight;
+			node.value = value;
+			node.weight = valueWeight;
+			moveToFront(node);
+		}
+		this.weight += valueWeight;
+		this.modCount++;
+		evict();
+		return previous;
+	}
+
+	@Override
+	public V remove(Object key) {
+		Node<K, V> node = this.nodes.remove(key);
+		if (node == null)
+			return null;
+		unlink(node);
+		this.weight -= node.weight;
+		this.modCount++;
+		return node.value;
+	}
+
+	private void evict() {
+		while (this.weight > this.maximumWeight && this.head.previous != this.head) {
+			Node<K, V> eldest = this.head.previous;
+			unlink(eldest);
+			this.nodes.remove(eldest.key);
+			this.weight -= eldest.weight;
+			this.evictions++;
+		}
+	}
+
+	private void linkFirst(Node<K, V> node) {
+		node.next = this.head.next;
+		node.previous = this.head;
+		this.head.next.previous = node;
+		this.head.next = node;
+	}
+
+	private void unlink(Node<K, V> node) {
+		node.previous.next = node.next;
+		node.next.previous = node.previous;
+		node.previous = node.next = null;
+	}
+
+	private void moveToFront(Node<K, V> node) {
+		if (this.head.next != node) {
+			unlink(node);
+			linkFirst(node);
+		}
+	}
+
+	@Override
+	public int size() {
+		return this.nodes.size();
+	}
+
+	public long weight() {
+		return this.weight;
+	}
+
+	public String stats() {
+		long requests = this.hits + this.misses;
+		double hitRate = requests == 0 ? 1.0 : (double) this.hits / requests;
+		return String.format("hits=%d misses=%d evictions=%d hitRate=%.2f", this.hits, this.misses, this.evictions, hitRate);
+	}
+
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+		return new AbstractSet<Entry<K, V>>() {
+			@Override
+			public Iterator<Entry<K, V>> iterator() {
+				return new Iterator<Entry<K, V>>() {
+					private Node<K, V> current = LinkedCache.this.head.next;
+					private Node<K, V> last;
+					private int expectedModCount = LinkedCache.this.modCount;
+
+					@Override
+					public boolean hasNext() {
+						return this.current != LinkedCache.this.head;
+					}
+
+					@Override
+					public Entry<K, V> next() {
+						if (this.expectedModCount != LinkedCache.this.modCount)
+							throw new ConcurrentModificationException();
+						if (!hasNext())
+							throw new NoSuchElementException();
+						this.last = this.current;
+						this.current = this.current.next;
+						return new SimpleImmutableEntry<>(this.last.key, this.last.value);
+					}
+
+					@Override
+					public void remove() {
+						if (this.last == null)
+							throw new IllegalStateException();
+						LinkedCache.this.remove(this.last.key);
+						this.last = null;
+						this.expectedModCount = LinkedCache.this.modCount;
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return LinkedCache.this.nodes.size();
+			}
+		};
+	}
+}
@@ -0,0 +1,146 @@
+package corpus;
+
+import java.util.Arrays;
+
+/**
+ * Dense matrix of doubles, with an LU decomposition.
+ */
+public final class Matrix {
+
+	private static final double EPSILON = 1e-12;
+
+	private final int rows, columns;
+	private final double[] values;
+
+	public Matrix(int rows, int columns) {
+		if (rows <= 0 || columns <= 0)
+			throw new IllegalArgumentException(rows + "x" + columns);
+		this.rows = rows;
+		this.columns = columns;
+		this.values = new double[rows * columns];
+	}
+
+	public static Matrix identity(int size) {
+		Matrix matrix = new Matrix(size, size);
+		for (int i = 0; i < size; i++)
+			matrix.set(i, i, 1.0);
+		return matrix;
+	}
+
+	public static Matrix of(double[][] values) {
+		Matrix matrix = new Matrix(values.length, values[0].length);
+		for (int i = 0; i < values.length; i++) {
+			if (values[i].length != matrix.columns)
+				throw new IllegalArgumentException("row " + i);
+			System.arraycopy(values[i], 0, matrix.values, i * matrix.columns, matrix.columns);
+		}
+		return matrix;
+	}
+
+	public double get(int row, int column) {
+		return this.values[row * this.columns + column];
+	}
+
+	public void set(int row, int column, double value) {
+		this.values[row * this.columns + column] = value;
+	}
+
+	public Matrix multiply(Matrix other) {
+		if (this.columns != other.rows)
+			throw new IllegalArgumentException("incompatible sizes");
+		Matrix result = new Matrix(this.rows, other.columns);
+		for (int i = 0; i < this.rows; i++) {
+			for (int k = 0; k < this.columns; k++) {
+				double a = this.values[i * this.columns + k];
+				if (a == 0)
+					continue;
+				for (int j = 0; j < other.columns; j++)
+					result.values[i * other.columns + j] += a * other.values[k * other.columns + j];
+			}
+		}
+		return result;
+	}
+
+	public Matrix transpose() {
+		Matrix result = new Matrix(this.columns, this.rows);
+		for (int i = 0; i < this.rows; i++)
+			for (int j = 0; j < this.columns; j++)
+				result.set(j, i, get(i, j));
+		return result;
+	}
+
+	/**
+	 * Answers the determinant, computed through an LU decomposition with partial pivoting.
+	 */
+	public double determinant() {
+		if (this.rows != this.columns)
+			throw new UnsupportedOperationException("not square");
+		int n = this.rows;
+		double[] lu = this.values.clone();
+		double determinant = 1.0;
+		outer: for (int k = 0; k < n; k++) {
+			int pivot = k;
+			for (int i = k + 1; i < n; i++) {
+				if (Math.abs(lu[i * n + k]) > Math.abs(lu[pivot * n + k]))
+					pivot = i;
+			}
+			if (Math.abs(lu[pivot * n + k]) < EPSILON) {
+				determinant = 0;
+				break outer;
+			}
+			if (pivot != k) {
+				for (int j = 0; j < n; j++) {
+					double swap = lu[k * n + j];
+					lu[k * n + j] = lu[pivot * n + j];
+					lu[pivot * n + j] = swap;
+				}
+				determinant = -determinant;
+			}
+			double diagonal = lu[k * n + k];
+			determinant *= diagonal;
+			for (int i = k + 1; i < n; i++) {
+				double factor = lu[i * n + k] /= diagonal;
+				for (int j = k + 1; j < n; j++)
+					lu[i * n + j] -= factor * lu[k * n + j];
+			}
+		}
+		return determinant;
+	}
+
+	public double norm() {
+		double sum = 0;
+		for (double value : this.values)
+			sum += value * value;
+		return Math.sqrt(sum);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (!(obj instanceof Matrix))
+			return false;
+		Matrix other = (Matrix) obj;
+		return this.rows == other.rows && this.columns == other.columns && Arrays.equals(this.values, other.values);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * (31 * this.rows + this.columns) + Arrays.hashCode(this.values);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < this.rows; i++) {
+			builder.append(i == 0 ? '[' : ' ');
+			for (int j = 0; j < this.columns; j++) {
+				if (j > 0)
+					builder.append(", ");
+				builder.append(String.format("%8.3f", get(i, j)));
+			}
+			builder.append(i == this.rows - 1 ? "]" : "\n");
+		}
+		return builder.toString();
+	}
+}
@@ -0,0 +1,211 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.eclipse.jdt.internal.compiler.batch.CompilationUnit;
+import org.eclipse.jdt.internal.compiler.batch.FileSystem;
+import org.eclipse.jdt.internal.compiler.env.ICompilationUnit;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.util.Util;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * The sources compiled by the benchmarks: either the checked-in corpus, generated sources which stress
+ * the inference of generic methods or of lambda expressions, the flow analysis of methods with many
+ * locals or the lookup of methods inherited through deep hierarchies, the constant pools of large classes, or the
+ * sources of a directory or of a source archive given by the {@value #SOURCES_PROPERTY} system property.
+ */
+@State(Scope.Benchmark)
+public class BenchmarkInput {
+
+	static final String CORPUS = "corpus"; //$NON-NLS-1$
+	static final String GENERICS = "generics"; //$NON-NLS-1$
+	static final String LAMBDAS = "lambdas"; //$NON-NLS-1$
+	static final String STATE_MACHINES = "statemachines"; //$NON-NLS-1$
+	static final String HIERARCHIES = "hierarchies"; //$NON-NLS-1$
+	static final String LARGE_CLASSES = "largeclasses"; //$NON-NLS-1$
+	static final String SOURCES = "sources"; //$NON-NLS-1$
+
+	/** System property giving the directory or the source archive read by the {@value #SOURCES} input. */
+	public static final String SOURCES_PROPERTY = "jdt.benchmark.sources"; //$NON-NLS-1$
+
+	// the sources input is only run when asked for, with -p input=sources
+	@Param({ CORPUS, GENERICS, LAMBDAS, STATE_MACHINES, HIERARCHIES, LARGE_CLASSES })
+	public String input;
+
+	/** Number of types of the generated inputs. */
+	@Param({ "50" })
+	public int types;
+
+	String[] fileNames;
+	char[][] contents;
+	Map<String, String> options;
+	FileSystem nameEnvironment;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		List<String> names = new ArrayList<>();
+		List<String> sources = new ArrayList<>();
+		switch (this.input) {
+			case CORPUS:
+				readCorpus(names, sources);
+				break;
+			case GENERICS:
+				SourceGenerator.generateGenerics(this.types, names, sources);
+				break;
+			case LAMBDAS:
+				SourceGenerator.generateLambdas(this.types, names, sources);
+				break;
+			case STATE_MACHINES:
+				SourceGenerator.generateStateMachines(this.types, names, sources);
+				break;
+			case HIERARCHIES:
+				SourceGenerator.generateHierarchies(this.types, names, sources);
+				break;
+			case LARGE_CLASSES:
+				SourceGenerator.generateLargeClasses(this.types, names, sources);
+				break;
+			case SOURCES:
+				readSources(names, sources);
+				break;
+			default:
+				throw new IllegalArgumentException("Unknown input: " + this.input); //$NON-NLS-1$
+		}
+		this.fileNames = names.toArray(new String[names.size()]);
+		this.contents = new char[sources.size()][];
+		for (int i = 0; i < this.contents.length; i++)
+			this.contents[i] = sources.get(i).toCharArray();
+
+		this.options = new HashMap<>();
+		this.options.put(CompilerOptions.OPTION_Compliance, CompilerOptions.VERSION_17);
+		this.options.put(CompilerOptions.OPTION_Source, CompilerOptions.VERSION_17);
+		this.options.put(CompilerOptions.OPTION_TargetPlatform, CompilerOptions.VERSION_17);
+		this.options.put(CompilerOptions.OPTION_ReportUnusedLocal, CompilerOptions.WARNING);
+		this.options.put(CompilerOptions.OPTION_ReportUnusedPrivateMember, CompilerOptions.WARNING);
+		this.options.put(CompilerOptions.OPTION_ReportRawTypeReference, CompilerOptions.WARNING);
+
+		// the class libraries of the running VM
+		String jrt = Util.getJavaHome().getAbsolutePath() + "/lib/jrt-fs.jar"; //$NON-NLS-1$
+		this.nameEnvironment = new FileSystem(new String[] { jrt }, new String[0], null);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		this.nameEnvironment.cleanup();
+	}
+
+	/**
+	 * Answers new compilation units of the sources, since the compiler forgets the units it is given.
+	 */
+	ICompilationUnit[] compilationUnits() {
+		ICompilationUnit[] units = new ICompilationUnit[this.contents.length];
+		for (int i = 0; i < units.length; i++)
+			units[i] = new CompilationUnit(this.contents[i], this.fileNames[i], null);
+		return units;
+	}
+
+	CompilerOptions compilerOptions() {
+		CompilerOptions compilerOptions = new CompilerOptions(this.options);
+		compilerOptions.performMethodsFullRecovery = false;
+		compilerOptions.performStatementsRecovery = false;
+		return compilerOptions;
+	}
+
+	private static void readCorpus(List<String> names, List<String> sources) throws IOException {
+		ClassLoader loader = BenchmarkInput.class.getClassLoader();
+		try (BufferedReader index = open(loader, "corpus/index.txt")) { //$NON-NLS-1$
+			String line;
+			while ((line = index.readLine()) != null) {
+				line = line.trim();
+				if (line.isEmpty() || line.startsWith("#")) //$NON-NLS-1$
+					continue;
+				StringBuilder source = new StringBuilder();
+				try (BufferedReader reader = open(loader, "corpus/" + line)) { //$NON-NLS-1$
+					char[] buffer = new char[8192];
+					int read;
+					while ((read = reader.read(buffer)) != -1)
+						source.append(buffer, 0, read);
+				}
+				names.add(line);
+				sources.add(source.toString());
+			}
+		}
+	}
+
+	/*
+	 * Reads the .java files of the directory or of the archive (for example the -sources.jar of a library)
+	 * given by the system property, in the order of their names.
+	 */
+	private static void readSources(List<String> names, List<String> sources) throws IOException {
+		String location = System.getProperty(SOURCES_PROPERTY);
+		if (location == null)
+			throw new IOException("Missing system property " + SOURCES_PROPERTY); //$NON-NLS-1$
+		Path path = Paths.get(location);
+		Map<String, String> contents = new TreeMap<>();
+		if (Files.isDirectory(path)) {
+			try (Stream<Path> files = Files.walk(path)) {
+				for (Path file : (Iterable<Path>) files::iterator) {
+					if (file.toString().endsWith(".java")) //$NON-NLS-1$
+						contents.put(path.relativize(file).toString(), new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+				}
+			}
+		} else {
+			try (ZipFile archive = new ZipFile(path.toFile())) {
+				Enumeration<? extends ZipEntry> entries = archive.entries();
+				while (entries.hasMoreElements()) {
+					ZipEntry entry = entries.nextElement();
+					if (entry.isDirectory() || !entry.getName().endsWith(".java")) //$NON-NLS-1$
+						continue;
+					try (InputStream stream = archive.getInputStream(entry)) {
+						contents.put(entry.getName(), new String(stream.readAllBytes(), StandardCharsets.UTF_8));
+					}
+				}
+			}
+		}
+		if (contents.isEmpty())
+			throw new IOException("No .java file in " + location); //$NON-NLS-1$
+		names.addAll(contents.keySet());
+		sources.addAll(contents.values());
+	}
+
+	private static BufferedReader open(ClassLoader loader, String resource) throws IOException {
+		InputStream stream = loader.getResourceAsStream(resource);
+		if (stream == null)
+			throw new IOException("Missing corpus resource: " + resource); //$NON-NLS-1$
+		return new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.internal.compiler.ClassFile;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileReader;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFormatException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Decodes the class files generated from the inputs with {@link ClassFileReader}: the header only, the way
+ * the compiler reads the types it only refers to, and fully, the way it reads the types whose members it looks up.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ClassFileReaderBenchmark {
+
+	byte[][] contents;
+	char[][] fileNames;
+
+	@Setup(Level.Trial)
+	public void setup(BenchmarkInput input) {
+		CompilerPipeline compiler = new CompilerPipeline(input);
+		compiler.buildTypeBindings(input.compilationUnits());
+		compiler.parseMethodBodies();
+		compiler.resolve();
+		compiler.analyseCode();
+		compiler.generateCode();
+		List<ClassFile> classFiles = compiler.classFiles();
+		this.contents = new byte[classFiles.size()][];
+		this.fileNames = new char[classFiles.size()][];
+		for (int i = 0; i < this.contents.length; i++) {
+			ClassFile classFile = classFiles.get(i);
+			this.contents[i] = classFile.getBytes();
+			this.fileNames[i] = classFile.fileName();
+		}
+		compiler.reset();
+	}
+
+	@Benchmark
+	public void decode(Blackhole blackhole) throws ClassFormatException {
+		for (int i = 0; i < this.contents.length; i++)
+			blackhole.consume(new ClassFileReader(this.contents[i], this.fileNames[i]));
+	}
+
+	@Benchmark
+	public void decodeMembers(Blackhole blackhole) throws ClassFormatException {
+		for (int i = 0; i < this.contents.length; i++) {
+			ClassFileReader reader = new ClassFileReader(this.contents[i], this.fileNames[i]);
+			blackhole.consume(reader.getMethods());
+			blackhole.consume(reader.getFields());
+		}
+	}
+
+	@Benchmark
+	public void decodeFully(Blackhole blackhole) throws ClassFormatException {
+		for (int i = 0; i < this.contents.length; i++)
+			blackhole.consume(new ClassFileReader(this.contents[i], this.fileNames[i], true /*fullyInitialize*/));
+	}
+}
@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.internal.compiler.ClassFile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the phases which follow parsing, over all the units of the inputs: the resolution of the units
+ * ({@code CompilationUnitDeclaration.resolve()}), the flow analysis ({@code analyseCode()}) and the code generation
+ * ({@code generateCode()}, which builds the {@link ClassFile}s through their {@code CodeStream}s), plus a
+ * whole compilation.
+ * <p>
+ * The compiler is brought to the phase before the measured one before each invocation. Since a phase takes
+ * milliseconds, the overhead of the invocation level setup does not matter.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(2)
+public class CompilerBenchmark {
+
+	/**
+	 * Phase the compiler is brought to before each invocation.
+	 */
+	@State(Scope.Thread)
+	public static abstract class Prepared {
+		CompilerPipeline compiler;
+
+		@Setup(Level.Invocation)
+		public void setup(BenchmarkInput input) {
+			this.compiler = new CompilerPipeline(input);
+			this.compiler.buildTypeBindings(input.compilationUnits());
+			this.compiler.parseMethodBodies();
+			prepare();
+		}
+
+		abstract void prepare();
+
+		@TearDown(Level.Invocation)
+		public void tearDown() {
+			this.compiler.reset();
+			this.compiler = null;
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class Parsed extends Prepared {
+		@Override
+		void prepare() {
+			// ready to resolve
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class Resolved extends Prepared {
+		@Override
+		void prepare() {
+			this.compiler.resolve();
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class Analysed extends Prepared {
+		@Override
+		void prepare() {
+			this.compiler.resolve();
+			this.compiler.analyseCode();
+		}
+	}
+
+	@Benchmark
+	public CompilerPipeline resolve(Parsed parsed) {
+		parsed.compiler.resolve();
+		return parsed.compiler;
+	}
+
+	@Benchmark
+	public CompilerPipeline analyseCode(Resolved resolved) {
+		resolved.compiler.analyseCode();
+		return resolved.compiler;
+	}
+
+	@Benchmark
+	public CompilerPipeline generateCode(Analysed analysed) {
+		analysed.compiler.generateCode();
+		return analysed.compiler;
+	}
+
+	@Benchmark
+	public List<ClassFile> compile(BenchmarkInput input) {
+		CompilerPipeline compiler = new CompilerPipeline(input);
+		compiler.buildTypeBindings(input.compilationUnits());
+		compiler.parseMethodBodies();
+		compiler.resolve();
+		compiler.analyseCode();
+		compiler.generateCode();
+		List<ClassFile> classFiles = compiler.classFiles();
+		compiler.reset();
+		return classFiles;
+	}
+}
@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.eclipse.jdt.internal.compiler.ClassFile;
+import org.eclipse.jdt.internal.compiler.Compiler;
+import org.eclipse.jdt.internal.compiler.DefaultErrorHandlingPolicies;
+import org.eclipse.jdt.internal.compiler.ast.CompilationUnitDeclaration;
+import org.eclipse.jdt.internal.compiler.env.ICompilationUnit;
+import org.eclipse.jdt.internal.compiler.problem.DefaultProblemFactory;
+
+/**
+ * Compiler whose phases are run one at a time over all the units, as {@link Compiler#process(CompilationUnitDeclaration, int)}
+ * runs them one unit at a time, so that each phase can be measured on its own.
+ */
+class CompilerPipeline extends Compiler {
+
+CompilerPipeline(BenchmarkInput input) {
+	super(input.nameEnvironment,
+		DefaultErrorHandlingPolicies.proceedWithAllProblems(),
+		input.compilerOptions(),
+		result -> { /* the class files are collected from the units, see #classFiles() */ },
+		new DefaultProblemFactory(Locale.getDefault()));
+}
+
+/**
+ * Diet parses the given units and builds the bindings of their types.
+ */
+void buildTypeBindings(ICompilationUnit[] units) {
+	beginToCompile(units);
+}
+
+void parseMethodBodies() {
+	for (int i = 0; i < this.totalUnits; i++)
+		this.parser.getMethodBodies(this.unitsToProcess[i]);
+}
+
+void resolve() {
+	for (int i = 0; i < this.totalUnits; i++) {
+		CompilationUnitDeclaration unit = this.unitsToProcess[i];
+		this.lookupEnvironment.unitBeingCompleted = unit;
+		if (unit.scope != null) {
+			unit.scope.faultInTypes();
+			unit.scope.verifyMethods(this.lookupEnvironment.methodVerifier());
+		}
+		unit.resolve();
+	}
+	this.lookupEnvironment.unitBeingCompleted = null;
+}
+
+void analyseCode() {
+	for (int i = 0; i < this.totalUnits; i++) {
+		CompilationUnitDeclaration unit = this.unitsToProcess[i];
+		this.lookupEnvironment.unitBeingCompleted = unit;
+		unit.analyseCode();
+	}
+	this.lookupEnvironment.unitBeingCompleted = null;
+}
+
+void generateCode() {
+	for (int i = 0; i < this.totalUnits; i++) {
+		CompilationUnitDeclaration unit = this.unitsToProcess[i];
+		this.lookupEnvironment.unitBeingCompleted = unit;
+		unit.generateCode();
+	}
+	this.lookupEnvironment.unitBeingCompleted = null;
+}
+
+/**
+ * Answers the class files generated for all the units.
+ */
+List<ClassFile> classFiles() {
+	List<ClassFile> classFiles = new ArrayList<>();
+	for (int i = 0; i < this.totalUnits; i++) {
+		for (ClassFile classFile : this.unitsToProcess[i].compilationResult.getClassFiles())
+			classFiles.add(classFile);
+	}
+	return classFiles;
+}
+}
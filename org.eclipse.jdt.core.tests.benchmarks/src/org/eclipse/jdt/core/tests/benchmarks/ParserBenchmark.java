@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.benchmarks;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.internal.compiler.CompilationResult;
+import org.eclipse.jdt.internal.compiler.DefaultErrorHandlingPolicies;
+import org.eclipse.jdt.internal.compiler.ast.CompilationUnitDeclaration;
+import org.eclipse.jdt.internal.compiler.env.ICompilationUnit;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.parser.Parser;
+import org.eclipse.jdt.internal.compiler.problem.DefaultProblemFactory;
+import org.eclipse.jdt.internal.compiler.problem.ProblemReporter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Parses all the inputs: fully with {@link Parser#parse(ICompilationUnit, CompilationResult)}, without the
+ * method bodies with {@link Parser#dietParse(ICompilationUnit, CompilationResult)}, and the method bodies of
+ * diet parsed units with {@link Parser#getMethodBodies(CompilationUnitDeclaration)}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ParserBenchmark {
+
+	Parser parser;
+	CompilerOptions options;
+
+	/**
+	 * Units diet parsed before each invocation of {@link ParserBenchmark#getMethodBodies(DietUnits)}.
+	 */
+	@State(Scope.Thread)
+	public static class DietUnits {
+		CompilationUnitDeclaration[] units;
+
+		@Setup(Level.Invocation)
+		public void setup(ParserBenchmark benchmark, BenchmarkInput input) {
+			ICompilationUnit[] units = input.compilationUnits();
+			this.units = new CompilationUnitDeclaration[units.length];
+			for (int i = 0; i < units.length; i++)
+				this.units[i] = benchmark.parser.dietParse(units[i], benchmark.newResult(units, i));
+		}
+	}
+
+	@Setup(Level.Trial)
+	public void setup(BenchmarkInput input) {
+		this.options = input.compilerOptions();
+		this.parser = new Parser(
+			new ProblemReporter(DefaultErrorHandlingPolicies.proceedWithAllProblems(), this.options, new DefaultProblemFactory(Locale.getDefault())),
+			this.options.parseLiteralExpressionsAsConstants);
+	}
+
+	@Benchmark
+	public void parse(BenchmarkInput input, Blackhole blackhole) {
+		ICompilationUnit[] units = input.compilationUnits();
+		for (int i = 0; i < units.length; i++)
+			blackhole.consume(this.parser.parse(units[i], newResult(units, i)));
+	}
+
+	@Benchmark
+	public void dietParse(BenchmarkInput input, Blackhole blackhole) {
+		ICompilationUnit[] units = input.compilationUnits();
+		for (int i = 0; i < units.length; i++)
+			blackhole.consume(this.parser.dietParse(units[i], newResult(units, i)));
+	}
+
+	@Benchmark
+	public CompilationUnitDeclaration[] getMethodBodies(DietUnits dietUnits) {
+		for (CompilationUnitDeclaration unit : dietUnits.units)
+			this.parser.getMethodBodies(unit);
+		return dietUnits.units;
+	}
+
+	CompilationResult newResult(ICompilationUnit[] units, int i) {
+		return new CompilationResult(units[i], i, units.length, this.options.maxProblemsPerUnit);
+	}
+}
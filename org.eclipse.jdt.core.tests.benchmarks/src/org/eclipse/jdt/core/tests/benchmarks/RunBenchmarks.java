@@ -0,0 +1,36 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks selected by the JMH command line options, with the allocation profiler enabled,
+ * so that the results report the bytes allocated per operation along with the time.
+ */
+public class RunBenchmarks {
+
+public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+	CommandLineOptions commandLine = new CommandLineOptions(args);
+	OptionsBuilder options = new OptionsBuilder();
+	options.parent(commandLine);
+	options.addProfiler(GCProfiler.class);
+	new Runner(options.build()).run();
+}
+}
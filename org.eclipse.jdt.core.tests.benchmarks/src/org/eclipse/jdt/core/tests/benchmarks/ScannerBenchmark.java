@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.core.compiler.InvalidInputException;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants;
+import org.eclipse.jdt.internal.compiler.parser.Scanner;
+import org.eclipse.jdt.internal.compiler.parser.TerminalTokens;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Scans all the inputs with {@link Scanner#getNextToken()}, answering the number of tokens.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class ScannerBenchmark {
+
+	@Benchmark
+	public int scan(BenchmarkInput input) throws InvalidInputException {
+		return scan(input, false);
+	}
+
+	@Benchmark
+	public int scanWithComments(BenchmarkInput input) throws InvalidInputException {
+		return scan(input, true);
+	}
+
+	private static int scan(BenchmarkInput input, boolean tokenizeComments) throws InvalidInputException {
+		Scanner scanner = new Scanner(tokenizeComments, false /*whitespace*/, false /*nls*/, ClassFileConstants.JDK17 /*sourceLevel*/,
+				null /*taskTags*/, null /*taskPriorities*/, true /*taskCaseSensitive*/);
+		int tokens = 0;
+		for (char[] contents : input.contents) {
+			scanner.setSource(contents);
+			while (scanner.getNextToken() != TerminalTokens.TokenNameEOF)
+				tokens++;
+		}
+		return tokens;
+	}
+}
@@ -0,0 +1,269 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.benchmarks;
+
+import java.util.List;
+
+/**
+ * Generates the synthetic inputs of the benchmarks. The generated sources only depend on each other and on
+ * the class libraries, and are the same for a given number of types, so that runs stay comparable.
+ */
+class SourceGenerator {
+
+/**
+ * Generates types with bounded type variables, wildcards, and invocations of generic methods whose
+ * type arguments have to be inferred, each type depending on the previous one.
+ */
+static void generateGenerics(int types, List<String> names, List<String> sources) {
+	names.add("generics/Pair.java"); //$NON-NLS-1$
+	sources.add(
+		"package generics;\n" + //$NON-NLS-1$
+		"public record Pair<A, B>(A first, B second) {\n" + //$NON-NLS-1$
+		"	public static <A, B> Pair<A, B> of(A first, B second) { return new Pair<>(first, second); }\n" + //$NON-NLS-1$
+		"	public <C> Pair<A, C> withSecond(C value) { return new Pair<>(this.first, value); }\n" + //$NON-NLS-1$
+		"	public Pair<B, A> swap() { return new Pair<>(this.second, this.first); }\n" + //$NON-NLS-1$
+		"}\n"); //$NON-NLS-1$
+	for (int i = 0; i < types; i++) {
+		String name = "Node" + i; //$NON-NLS-1$
+		String previous = i == 0 ? null : "Node" + (i - 1); //$NON-NLS-1$
+		StringBuilder source = new StringBuilder(4096);
+		source.append("package generics;\n"); //$NON-NLS-1$
+		source.append("import java.util.*;\n"); //$NON-NLS-1$
+		source.append("import java.util.function.*;\n"); //$NON-NLS-1$
+		source.append("public class ").append(name).append("<K extends Comparable<? super K>, V extends List<? extends Number>>"); //$NON-NLS-1$ //$NON-NLS-2$
+		if (previous != null)
+			source.append(" extends ").append(previous).append("<K, V>"); //$NON-NLS-1$ //$NON-NLS-2$
+		source.append(" {\n"); //$NON-NLS-1$
+		source.append("	final Map<K, Set<? extends V>> entries").append(i).append(" = new TreeMap<>();\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		source.append("	<T extends Comparable<? super T>> T max").append(i).append("(Collection<? extends T> values) {\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		source.append("		Iterator<? extends T> iterator = values.iterator();\n"); //$NON-NLS-1$
+		source.append("		T max = iterator.next();\n"); //$NON-NLS-1$
+		source.append("		while (iterator.hasNext()) { T next = iterator.next(); if (next.compareTo(max) > 0) max = next; }\n"); //$NON-NLS-1$
+		source.append("		return max;\n"); //$NON-NLS-1$
+		source.append("	}\n"); //$NON-NLS-1$
+		source.append("	<A, B extends A, C extends Collection<A>> C copy").append(i).append("(Iterable<? extends B> from, Supplier<C> factory) {\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		source.append("		C to = factory.get();\n"); //$NON-NLS-1$
+		source.append("		for (B b : from) to.add(b);\n"); //$NON-NLS-1$
+		source.append("		return to;\n"); //$NON-NLS-1$
+		source.append("	}\n"); //$NON-NLS-1$
+		source.append("	Map<K, List<Pair<K, ? extends Number>>> flatten").append(i).append("() {\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		source.append("		Map<K, List<Pair<K, ? extends Number>>> result = new HashMap<>();\n"); //$NON-NLS-1$
+		source.append("		for (Map.Entry<K, Set<? extends V>> entry : this.entries").append(i).append(".entrySet()) {\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		source.append("			for (V values : entry.getValue())\n"); //$NON-NLS-1$
+		source.append("				for (Number number : values)\n"); //$NON-NLS-1$
+		source.append("					result.computeIfAbsent(entry.getKey(), key -> new ArrayList<>()).add(Pair.of(entry.getKey(), number));\n"); //$NON-NLS-1$
+		source.append("		}\n"); //$NON-NLS-1$
+		source.append("		return result;\n"); //$NON-NLS-1$
+		source.append("	}\n"); //$NON-NLS-1$
+		source.append("	List<Pair<String, Integer>> pairs").append(i).append("(List<String> strings) {\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		source.append("		List<Pair<String, Integer>> pairs = copy").append(i).append("(Collections.<Pair<String, Integer>>emptyList(), ArrayList::new);\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		source.append("		for (String s : strings) pairs.add(Pair.of(s, s.length()).swap().swap());\n"); //$NON-NLS-1$
+		source.append("		Pair<String, Integer> longest = Collections.max(pairs, Comparator.comparing(Pair::second));\n"); //$NON-NLS-1$
+		source.append("		pairs.add(longest.withSecond(max").append(i).append("(Arrays.asList(1, 2, 3))));\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		if (previous != null) {
+			source.append("		pairs.addAll(pairs").append(i - 1).append("(strings));\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			source.append("		Map<K, List<Pair<K, ? extends Number>>> inherited = flatten").append(i - 1).append("();\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			source.append("		pairs.add(Pair.of(String.valueOf(inherited.size()), max").append(i - 1).append("(List.of(inherited.size(), 0))));\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		source.append("		return pairs;\n"); //$NON-NLS-1$
+		source.append("	}\n"); //$NON-NLS-1$
+		source.append("}\n"); //$NON-NLS-1$
+		names.add("generics/" + name + ".java"); //$NON-NLS-1$ //$NON-NLS-2$
+		sources.add(source.toString());
+	}
+}
+
+/**
+ * Generates types with nested lambda expressions, method references and stream pipelines, whose target
+ * types come from the inference of the enclosing invocations.
+ */
+static void generateLambdas(int types, List<String> names, List<String> sources) {
+	for (int i = 0; i < types; i++) {
+		String name = "Pipeline" + i; //$NON-NLS-1$
+		StringBuilder source = new StringBuilder(4096);
+		source.append("package lambdas;\n"); //$NON-NLS-1$
+		source.append("import java.util.*;\n"); //$NON-NLS-1$
+		source.append("import java.util.function.*;\n"); //$NON-NLS-1$
+		source.append("import java.util.stream.*;\n"); //$NON-NLS-1$
+		source.append("public class ").append(name).append(" {\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		source.append("	static <T, R> Function<T, R> memoize(Function<T, R> function) {\n"); //$NON-NLS-1$
+		source.append("		Map<T, R> cache = new HashMap<>();\n"); //$NON-NLS-1$
+		source.append("		return t -> cache.computeIfAbsent(t, function);\n"); //$NON-NLS-1$
+		source.append("	}\n"); //$NON-NLS-1$
+		source.append("	static <A, B, C> Function<A, C> compose(Function<? super A, ? extends B> f, Function<? super B, ? extends C> g) {\n"); //$NON-NLS-1$
+		source.append("		return a -> g.apply(f.apply(a));\n"); //$NON-NLS-1$
+		source.append("	}\n"); //$NON-NLS-1$
+		source.append("	Map<Integer, List<String>> group(List<String> words) {\n"); //$NON-NLS-1$
+		source.append("		return words.stream()\n"); //$NON-NLS-1$
+		source.append("			.filter(w -> !w.isEmpty() && Character.isLetter(w.charAt(0)))\n"); //$NON-NLS-1$
+		source.append("			.map(String::toLowerCase)\n"); //$NON-NLS-1$
+		source.append("			.collect(Collectors.groupingBy(String::length, TreeMap::new, Collectors.mapping(w -> w + ").append(i).append(", Collectors.toList())));\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		source.append("	}\n"); //$NON-NLS-1$
+		source.append("	Optional<String> longest(List<List<String>> lines) {\n"); //$NON-NLS-1$
+		source.append("		Function<String, Integer> length = memoize(String::length);\n"); //$NON-NLS-1$
+		source.append("		return lines.stream()\n"); //$NON-NLS-1$
+		source.append("			.flatMap(line -> line.stream().map(compose(String::trim, s -> s.replace('_', ' '))))\n"); //$NON-NLS-1$
+		source.append("			.sorted(Comparator.comparing(length).thenComparing(Comparator.reverseOrder()))\n"); //$NON-NLS-1$
+		source.append("			.reduce((a, b) -> length.apply(a) >= length.apply(b) ? a : b);\n"); //$NON-NLS-1$
+		source.append("	}\n"); //$NON-NLS-1$
+		source.append("	int sum(int[] values) {\n"); //$NON-NLS-1$
+		source.append("		IntBinaryOperator add = Integer::sum;\n"); //$NON-NLS-1$
+		source.append("		Supplier<IntStream> stream = () -> Arrays.stream(values).map(v -> v * ").append(i + 1).append(");\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		source.append("		BiFunction<Integer, Integer, Integer> clamp = (v, max) -> Math.min(v, max);\n"); //$NON-NLS-1$
+		source.append("		return clamp.apply(stream.get().reduce(0, add), Integer.MAX_VALUE);\n"); //$NON-NLS-1$
+		source.append("	}\n"); //$NON-NLS-1$
+		source.append("	Runnable nested(List<Runnable> done) {\n"); //$NON-NLS-1$
+		source.append("		return () -> done.forEach(r -> Optional.of(r).map(x -> (Runnable) () -> x.run()).ifPresent(Runnable::run));\n"); //$NON-NLS-1$
+		source.append("	}\n"); //$NON-NLS-1$
+		source.append("	<T extends Comparable<T>> List<T> topN(Collection<T> values, int n) {\n"); //$NON-NLS-1$
+		source.append("		return values.stream().sorted(Comparator.<T>naturalOrder().reversed()).limit(n).collect(Collectors.toCollection(ArrayList::new));\n"); //$NON-NLS-1$
+		source.append("	}\n"); //$NON-NLS-1$
+		source.append("	Map<Boolean, Long> partition(Stream<Pipeline").append(i).append("> pipelines) {\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		source.append("		return pipelines.collect(Collectors.partitioningBy(p -> p.sum(new int[] { ").append(i).append(" }) > 0, Collectors.counting()));\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		source.append("	}\n"); //$NON-NLS-1$
+		source.append("}\n"); //$NON-NLS-1$
+		names.add("lambdas/" + name + ".java"); //$NON-NLS-1$ //$NON-NLS-2$
+		sources.add(source.toString());
+	}
+}
+
+/**
+ * Generates types whose method is a state machine, like the ones of generated parsers: a loop over a
+ * switch with many cases, which assign and test hundreds of local variables, half of them for null.
+ */
+static void generateStateMachines(int types, List<String> names, List<String> sources) {
+	int locals = 256;
+	for (int i = 0; i < types; i++) {
+		String name = "StateMachine" + i; //$NON-NLS-1$
+		StringBuilder source = new StringBuilder(64 * 1024);
+		source.append("package statemachines;\n"); //$NON-NLS-1$
+		source.append("public class ").append(name).append(" {\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		source.append("	int run(char[] input) {\n"); //$NON-NLS-1$
+		for (int l = 0; l < locals; l += 2) {
+			source.append("		int i").append(l).append(" = ").append(l).append(";\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			source.append("		String s").append(l + 1).append(" = null;\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		source.append("		int state = 0;\n"); //$NON-NLS-1$
+		source.append("		for (int position = 0; position < input.length; position++) {\n"); //$NON-NLS-1$
+		source.append("			char c = input[position];\n"); //$NON-NLS-1$
+		source.append("			switch (state) {\n"); //$NON-NLS-1$
+		for (int l = 0; l < locals; l += 2) {
+			int next = (l + 2) % locals;
+			source.append("				case ").append(l / 2).append(":\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			source.append("					if (c == '").append((char) ('a' + l % 26)).append("') {\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			source.append("						i").append(l).append(" += c;\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			source.append("						s").append(l + 1).append(" = String.valueOf(c);\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			source.append("						state = ").append(next / 2).append(";\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			source.append("					} else if (s").append(l + 1).append(" != null && s").append(next + 1).append(" == null) {\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			source.append("						s").append(next + 1).append(" = s").append(l + 1).append(".trim();\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			source.append("						i").append(next).append(" = i").append(l).append(";\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			source.append("					} else {\n"); //$NON-NLS-1$
+			source.append("						state = ").append(l / 4).append(";\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			source.append("					}\n"); //$NON-NLS-1$
+			source.append("					break;\n"); //$NON-NLS-1$
+		}
+		source.append("				default:\n"); //$NON-NLS-1$
+		source.append("					return -1;\n"); //$NON-NLS-1$
+		source.append("			}\n"); //$NON-NLS-1$
+		source.append("		}\n"); //$NON-NLS-1$
+		source.append("		int result = state;\n"); //$NON-NLS-1$
+		for (int l = 0; l < locals; l += 2)
+			source.append("		result += i").append(l).append(" + (s").append(l + 1).append(" == null ? 0 : s").append(l + 1).append(".length());\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+		source.append("		return result;\n"); //$NON-NLS-1$
+		source.append("	}\n"); //$NON-NLS-1$
+		source.append("}\n"); //$NON-NLS-1$
+		names.add("statemachines/" + name + ".java"); //$NON-NLS-1$ //$NON-NLS-2$
+		sources.add(source.toString());
+	}
+}
+
+/**
+ * Generates a deep class hierarchy declaring many methods, like the widget hierarchies of UI frameworks, and
+ * types extending its deepest class which override and invoke methods inherited from every level, which
+ * stresses the lookup of inherited methods and the verification of the inherited methods of each type.
+ */
+static void generateHierarchies(int types, List<String> names, List<String> sources) {
+	int levels = 12, methods = 60;
+	for (int l = 0; l < levels; l++) {
+		String name = "Widget" + l; //$NON-NLS-1$
+		StringBuilder source = new StringBuilder(8 * 1024);
+		source.append("package hierarchies;\n"); //$NON-NLS-1$
+		source.append("public class ").append(name); //$NON-NLS-1$
+		if (l > 0)
+			source.append(" extends Widget").append(l - 1); //$NON-NLS-1$
+		source.append(" {\n"); //$NON-NLS-1$
+		for (int m = 0; m < methods; m++) {
+			source.append("	public void set").append(l).append('_').append(m).append("(int value) {}\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			source.append("	public void set").append(l).append('_').append(m).append("(String value) {}\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			source.append("	public int get").append(m).append("() { return ").append(l).append("; }\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+		source.append("}\n"); //$NON-NLS-1$
+		names.add("hierarchies/" + name + ".java"); //$NON-NLS-1$ //$NON-NLS-2$
+		sources.add(source.toString());
+	}
+	for (int i = 0; i < types; i++) {
+		String name = "Control" + i; //$NON-NLS-1$
+		StringBuilder source = new StringBuilder(8 * 1024);
+		source.append("package hierarchies;\n"); //$NON-NLS-1$
+		source.append("public class ").append(name).append(" extends Widget").append(levels - 1).append(" {\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		source.append("	@Override\n"); //$NON-NLS-1$
+		source.append("	public int get").append(i % methods).append("() { return super.get").append(i % methods).append("() + 1; }\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		source.append("	int configure(String text) {\n"); //$NON-NLS-1$
+		source.append("		int result = 0;\n"); //$NON-NLS-1$
+		for (int l = 0; l < levels; l++) {
+			for (int m = i % 5; m < methods; m += 5) {
+				source.append("		set").append(l).append('_').append(m).append("(result);\n"); //$NON-NLS-1$ //$NON-NLS-2$
+				source.append("		set").append(l).append('_').append(m).append("(text);\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
+		for (int m = 0; m < methods; m += 3)
+			source.append("		result += get").append(m).append("();\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		source.append("		return result;\n"); //$NON-NLS-1$
+		source.append("	}\n"); //$NON-NLS-1$
+		source.append("}\n"); //$NON-NLS-1$
+		names.add("hierarchies/" + name + ".java"); //$NON-NLS-1$ //$NON-NLS-2$
+		sources.add(source.toString());
+	}
+}
+
+/**
+ * Generates large types, like the ones of generated code, whose methods reference many distinct string and
+ * numeric constants, fields and methods of the other types, which fills the constant pools of their class files.
+ */
+static void generateLargeClasses(int types, List<String> names, List<String> sources) {
+	int methods = 200;
+	for (int i = 0; i < types; i++) {
+		String name = "Table" + i; //$NON-NLS-1$
+		String other = "Table" + ((i + 1) % types); //$NON-NLS-1$
+		StringBuilder source = new StringBuilder(64 * 1024);
+		source.append("package largeclasses;\n"); //$NON-NLS-1$
+		source.append("import java.util.*;\n"); //$NON-NLS-1$
+		source.append("public class ").append(name).append(" {\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		for (int m = 0; m < methods; m++)
+			source.append("	public static int field").append(m).append(";\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		for (int m = 0; m < methods; m++) {
+			source.append("	public static String entry").append(m).append("(Map<String, Object> map, List<Object> list) {\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			source.append("		map.put(\"").append(name).append(".key").append(m).append("\", Long.valueOf(").append(1_000_000_000_000L * i + m).append("L));\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+			source.append("		list.add(Double.valueOf(").append(i).append('.').append(m).append("));\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			source.append("		field").append(m).append(" += ").append(other).append(".field").append(m).append(" + ").append(100_000 + m).append(";\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+			source.append("		if (list.size() > ").append(m).append(") return ").append(other).append(".entry").append((m + 1) % methods).append("(map, list.subList(1, list.size()));\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+			source.append("		return \"").append(name).append(" entry ").append(m).append(": \" + map.get(\"key").append(m).append("\");\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+			source.append("	}\n"); //$NON-NLS-1$
+		}
+		source.append("}\n"); //$NON-NLS-1$
+		names.add("largeclasses/" + name + ".java"); //$NON-NLS-1$ //$NON-NLS-2$
+		sources.add(source.toString());
+	}
+}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -1197,6 +1197,148 @@ public class DependencyTests extends BuilderTests {
 		expectingNoProblems();
 	}
 
+	// the affected source files are still found once the reference index of the state was rebuilt
+	public void testReferenceIndexRebuilt() throws JavaModelException {
+		IPath projectPath = env.addProject("Project");
+		env.addExternalJars(projectPath, Util.getJavaClassLibs());
+		env.removePackageFragmentRoot(projectPath, "");
+		IPath root = env.addPackageFragmentRoot(projectPath, "src");
+		env.setOutputFolder(projectPath, "bin");
+
+		env.addClass(root, "p1", "A",
+			"package p1;\n" +
+			"public class A {\n" +
+			"	public int foo() { return 1; }\n" +
+			"}\n"
+		);
+		IPath bPath = env.addClass(root, "p2", "B",
+			"package p2;\n" +
+			"public class B {\n" +
+			"	int bar() { return new p1.A().foo(); }\n" +
+			"}\n"
+		);
+		fullBuild(projectPath);
+		expectingNoProblems();
+
+		// each structural change of C records its references again, until there are too many of them
+		for (int i = 0; i < 40; i++) {
+			env.addClass(root, "p3", "C",
+				"package p3;\n" +
+				"public class C {\n" +
+				"	public int foo" + i + "() { return " + i + "; }\n" +
+				"}\n"
+			);
+			incrementalBuild(projectPath);
+			expectingCompiledClasses(new String[] {"p3.C"});
+		}
+
+		env.addClass(root, "p1", "A",
+			"package p1;\n" +
+			"public class A {\n" +
+			"	public int foo(int i) { return i; }\n" +
+			"}\n"
+		);
+		incrementalBuild(projectPath);
+		expectingCompiledClasses(new String[] {"p1.A", "p2.B"});
+		expectingOnlyProblemsFor(bPath);
+	}
+
+	// the references a source file no longer has do not make it affected, the new ones do
+	public void testReferenceIndexReplacedReferences() throws JavaModelException {
+		IPath projectPath = env.addProject("Project");
+		env.addExternalJars(projectPath, Util.getJavaClassLibs());
+		env.removePackageFragmentRoot(projectPath, "");
+		IPath root = env.addPackageFragmentRoot(projectPath, "src");
+		env.setOutputFolder(projectPath, "bin");
+
+		env.addClass(root, "p1", "A",
+			"package p1;\n" +
+			"public class A {\n" +
+			"	public int foo() { return 1; }\n" +
+			"}\n"
+		);
+		env.addClass(root, "p2", "B",
+			"package p2;\n" +
+			"public class B {\n" +
+			"	int bar() { return new p1.A().foo(); }\n" +
+			"}\n"
+		);
+		env.addClass(root, "p3", "C",
+			"package p3;\n" +
+			"public class C {\n" +
+			"}\n"
+		);
+		fullBuild(projectPath);
+		expectingNoProblems();
+
+		// a first structural change, so that the index exists before the references change
+		env.addClass(root, "p1", "A",
+			"package p1;\n" +
+			"public class A {\n" +
+			"	public int foo() { return 1; }\n" +
+			"	public int foo2() { return 2; }\n" +
+			"}\n"
+		);
+		incrementalBuild(projectPath);
+		expectingCompiledClasses(new String[] {"p1.A", "p2.B"});
+
+		env.addClass(root, "p2", "B",
+			"package p2;\n" +
+			"public class B {\n" +
+			"}\n"
+		);
+		IPath cPath = env.addClass(root, "p3", "C",
+			"package p3;\n" +
+			"public class C {\n" +
+			"	int bar() { return new p1.A().foo(); }\n" +
+			"}\n"
+		);
+		incrementalBuild(projectPath);
+		expectingNoProblems();
+
+		env.addClass(root, "p1", "A",
+			"package p1;\n" +
+			"public class A {\n" +
+			"	public int foo(int i) { return i; }\n" +
+			"}\n"
+		);
+		incrementalBuild(projectPath);
+		expectingCompiledClasses(new String[] {"p1.A", "p3.C"});
+		expectingOnlyProblemsFor(cPath);
+	}
+
+	// a source file referencing a missing type is affected when the type is added to a new package
+	public void testReferenceIndexAddedPackage() throws JavaModelException {
+		IPath projectPath = env.addProject("Project");
+		env.addExternalJars(projectPath, Util.getJavaClassLibs());
+		env.removePackageFragmentRoot(projectPath, "");
+		IPath root = env.addPackageFragmentRoot(projectPath, "src");
+		env.setOutputFolder(projectPath, "bin");
+
+		IPath aPath = env.addClass(root, "p1", "A",
+			"package p1;\n" +
+			"public class A {\n" +
+			"	q1.q2.B b;\n" +
+			"}\n"
+		);
+		env.addClass(root, "p2", "C",
+			"package p2;\n" +
+			"public class C {\n" +
+			"}\n"
+		);
+		fullBuild(projectPath);
+		expectingOnlyProblemsFor(aPath);
+
+		env.addClass(root, "q1.q2", "B",
+			"package q1.q2;\n" +
+			"public class B {\n" +
+			"}\n"
+		);
+		incrementalBuild(projectPath);
+		expectingCompiledClasses(new String[] {"p1.A", "q1.q2.B"});
+		expectingNoProblems();
+	}
+
 // https://bugs.eclipse.org/bugs/show_bug.cgi?id=159709
 // Full build and incremental build behave differently for deprecation
 // warnings, which is unexpected. Guard test for DeprecatedTest#test015 (the
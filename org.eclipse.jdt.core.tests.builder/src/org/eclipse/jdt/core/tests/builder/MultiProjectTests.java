@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -25,6 +25,7 @@ import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.compiler.CategorizedProblem;
 import org.eclipse.jdt.core.tests.util.Util;
+import org.eclipse.jdt.internal.core.builder.JavaBuilder;
 import org.eclipse.test.OrderedTestSuite;
 
 import junit.framework.Test;
@@ -2208,4 +2209,58 @@ public void test461074_error() throws JavaModelException {
 	env.removeProject(p2);
 	env.removeProject(p3);
 }
+// independent projects built at the same time intern the names of their references in the same tables
+public void testConcurrentBuilds() throws JavaModelException {
+	boolean concurrentBuilds = JavaBuilder.CONCURRENT_BUILDS;
+	int maxConcurrentBuilds = env.getWorkspace().getDescription().getMaxConcurrentBuilds();
+	JavaBuilder.CONCURRENT_BUILDS = true;
+	env.setMaxConcurrentBuilds(4);
+	int typeCount = 20;
+	IPath[] projects = new IPath[4];
+	IPath[] roots = new IPath[projects.length];
+	IPath[] lastTypes = new IPath[projects.length];
+	try {
+		for (int i = 0; i < projects.length; i++) {
+			projects[i] = env.addProject("Project" + i); //$NON-NLS-1$
+			env.addExternalJars(projects[i], Util.getJavaClassLibs());
+			roots[i] = env.getPackageFragmentRootPath(projects[i], ""); //$NON-NLS-1$
+			// each type reads a field of the next one
+			for (int j = 0; j < typeCount; j++) {
+				int next = (j + 1) % typeCount;
+				lastTypes[i] = env.addClass(roots[i], "p.q" + j, "X" + j, //$NON-NLS-1$ //$NON-NLS-2$
+					"package p.q" + j + ";\n" + //$NON-NLS-1$ //$NON-NLS-2$
+					"public class X" + j + " {\n" + //$NON-NLS-1$ //$NON-NLS-2$
+					"	public int f;\n" + //$NON-NLS-1$
+					"	p.q" + next + ".X" + next + " next;\n" + //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					"	int g() { return this.next.f; }\n" + //$NON-NLS-1$
+					"}\n"); //$NON-NLS-1$
+			}
+		}
+		env.waitForManualRefresh();
+		fullBuild();
+		env.waitForAutoBuild();
+		expectingNoProblems();
+
+		// removing the field of X0 breaks the last type of each project
+		for (int i = 0; i < projects.length; i++) {
+			env.addClass(roots[i], "p.q0", "X0", //$NON-NLS-1$ //$NON-NLS-2$
+				"package p.q0;\n" + //$NON-NLS-1$
+				"public class X0 {\n" + //$NON-NLS-1$
+				"	p.q1.X1 next;\n" + //$NON-NLS-1$
+				"	int g() { return this.next.f; }\n" + //$NON-NLS-1$
+				"}\n"); //$NON-NLS-1$
+		}
+		env.waitForManualRefresh();
+		incrementalBuild();
+		env.waitForAutoBuild();
+		expectingOnlyProblemsFor(lastTypes);
+	} finally {
+		JavaBuilder.CONCURRENT_BUILDS = concurrentBuilds;
+		env.setMaxConcurrentBuilds(maxConcurrentBuilds);
+		for (IPath project : projects) {
+			if (project != null)
+				env.removeProject(project);
+		}
+	}
+}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019 Sebastian Zarnekow and others.
+ * Copyright (c) 2019, 2026 Sebastian Zarnekow and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -369,4 +369,33 @@ public class ReferenceCollectionTest extends BuilderTests {
 
 		assertTrue("Should include", collection.includes(qualifiedNames, simpleNames, rootNames));
 	}
+
+	// projects built concurrently intern the same names at the same time, and must all get the same arrays
+	public void testConcurrentInterning() throws Exception {
+		int threadCount = 8;
+		int nameCount = 2000;
+		char[][][][] results = new char[threadCount][][][];
+		Thread[] threads = new Thread[threadCount];
+		for (int i = 0; i < threadCount; i++) {
+			int thread = i;
+			threads[i] = new Thread(() -> {
+				char[][][] qualifiedNames = new char[nameCount][][];
+				for (int j = 0; j < nameCount; j++)
+					qualifiedNames[j] = CharOperation.splitOn('.', ("concurrent.p" + j + ".X" + j).toCharArray());
+				results[thread] = ReferenceCollection.internQualifiedNames(qualifiedNames);
+			});
+		}
+		for (Thread thread : threads)
+			thread.start();
+		for (Thread thread : threads)
+			thread.join();
+		for (int i = 1; i < threadCount; i++) {
+			assertEquals("Unexpected name count", nameCount, results[i].length);
+			for (int j = 0; j < nameCount; j++) {
+				assertSame("Names should be interned once", results[0][j], results[i][j]);
+				for (int k = 0; k < results[0][j].length; k++)
+					assertSame("Segments should be interned once", results[0][j][k], results[i][j][k]);
+			}
+		}
+	}
 }
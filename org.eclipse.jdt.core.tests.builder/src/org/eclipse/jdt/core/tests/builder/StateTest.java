@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019 Sebastian Zarnekow and others.
+ * Copyright (c) 2019, 2026 Sebastian Zarnekow and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -225,6 +225,65 @@ public class StateTest extends BuilderTests {
 		writeReadAndCompareExternalAnnotationLocations(project.getProject());
 	}
 
+	// the references read from a saved state are decoded on demand, those never asked for are written as they were read
+	public void testWriteAndReadLazyReferences() throws JavaModelException, Exception {
+		IPath projectPath = env.addProject("Lazy"); //$NON-NLS-1$
+		env.addExternalJars(projectPath, Util.getJavaClassLibs());
+
+		env.addClass(projectPath, "a", "A", //$NON-NLS-1$ //$NON-NLS-2$
+			"package a;\n" +
+			"public class A {\n" +
+			"	public int foo() { return 1; }\n" +
+			"}" //$NON-NLS-1$
+		);
+		IPath bPath = env.addClass(projectPath, "b", "B", //$NON-NLS-1$ //$NON-NLS-2$
+			"package b;\n" +
+			"public class B {\n" +
+			"	int bar() { return new a.A().foo(); }\n" +
+			"}" //$NON-NLS-1$
+		);
+		env.addClass(projectPath, "c", "C", //$NON-NLS-1$ //$NON-NLS-2$
+			"package c;\n" +
+			"import java.util.List;\n" +
+			"public class C {\n" +
+			"	List<String> list;\n" +
+			"}\n" +
+			"class Other {\n" +
+			"}" //$NON-NLS-1$
+		);
+		fullBuild();
+
+		IProject project = env.getProject(projectPath);
+		State savedState = (State) JavaModelManager.getJavaModelManager().getPerProjectInfoCheckExistence(project).savedState;
+		State readState = writeAndRead(project, savedState);
+		// decode a single collection, then write the state again with the other ones still encoded
+		String typeLocator = readState.getReferences().keySet().iterator().next();
+		assertEqualReferenceCollections(savedState.getReferences().get(typeLocator), readState.getReferences().get(typeLocator));
+		State rereadState = writeAndRead(project, readState);
+		assertEqualLookupTables(savedState.getReferences(), rereadState.getReferences());
+		assertEqualTypeLocators(savedState.typeLocators, rereadState.typeLocators);
+		assertEquals(rereadState, savedState);
+
+		// the next build starts from a state whose collections were never decoded
+		rereadState = writeAndRead(project, readState);
+		JavaModelManager.getJavaModelManager().setLastBuiltState(project, rereadState);
+		env.addClass(projectPath, "a", "A", //$NON-NLS-1$ //$NON-NLS-2$
+			"package a;\n" +
+			"public class A {\n" +
+			"	public int foo(int i) { return i; }\n" +
+			"}" //$NON-NLS-1$
+		);
+		incrementalBuild(projectPath);
+		expectingCompiledClasses(new String[] {"a.A", "b.B"}); //$NON-NLS-1$ //$NON-NLS-2$
+		expectingOnlyProblemsFor(bPath);
+	}
+
+	private State writeAndRead(IProject project, State state) throws IOException, CoreException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		JavaBuilder.writeState(state, new DataOutputStream(outputStream));
+		return JavaBuilder.readState(project, new DataInputStream(new ByteArrayInputStream(outputStream.toByteArray())));
+	}
+
 	private void writeReadAndCompareTestBinaryLocations(IPath projectPath)
 			throws JavaModelException, IOException, CoreException {
 		JavaModelManager javaModelManager = JavaModelManager.getJavaModelManager();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -1181,6 +1181,18 @@ public void cleanBuild(String projectName) {
 		}
 	}
 
+	public void setMaxConcurrentBuilds(int max) {
+		try {
+			IWorkspace w = getWorkspace();
+			IWorkspaceDescription d = w.getDescription();
+			d.setMaxConcurrentBuilds(max);
+			w.setDescription(d);
+		} catch (CoreException e) {
+			e.printStackTrace();
+			checkAssertion("CoreException", false); //$NON-NLS-1$
+		}
+	}
+
 	public void setBuildOrder(String[] projects) {
 		try {
 			IWorkspace w = getWorkspace();
@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.compiler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.core.compiler.InvalidInputException;
+import org.eclipse.jdt.core.tests.junit.extension.TestCase;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants;
+import org.eclipse.jdt.internal.compiler.parser.Scanner;
+import org.eclipse.jdt.internal.compiler.parser.TerminalTokens;
+import org.eclipse.jdt.internal.compiler.util.CharArena;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+public class CharArenaTest extends TestCase {
+
+	public CharArenaTest(String testName) {
+		super(testName);
+	}
+
+	public static Test suite() {
+		TestSuite suite = new TestSuite(CharArenaTest.class.getPackageName());
+		suite.addTest(new TestSuite(CharArenaTest.class));
+		return suite;
+	}
+
+	public void testInterning() {
+		CharArena arena = new CharArena();
+		String text = "abcdefghijklmnopqrstuvwxyz";
+		for (int start = 0; start < text.length(); start++) {
+			for (int end = start; end <= text.length(); end++) {
+				char[] expected = arena.sharedCopyOfRange(text.toCharArray(), start, end);
+				assertEquals(text.substring(start, end), String.valueOf(expected));
+				char[] actual = arena.sharedCopyOfRange(("." + text).toCharArray(), start + 1, end + 1);
+				assertSame(text.substring(start, end), expected, actual);
+			}
+		}
+		assertSame("non-ASCII", arena.sharedCopyOfRange(new char[] { 128, 128 }, 0, 2),
+				arena.sharedCopyOfRange(new char[] { 128, 128 }, 0, 2));
+	}
+
+	public void testCounters() {
+		CharArena arena = new CharArena();
+		arena.sharedCopyOfRange("foo".toCharArray(), 0, 3);
+		arena.sharedCopyOfRange("bar".toCharArray(), 0, 3);
+		arena.sharedCopyOfRange("foo".toCharArray(), 0, 3);
+		arena.sharedCopyOfRange("x".toCharArray(), 0, 1); // single chars are shared without the arena
+		assertEquals("lookups", 3, arena.lookups);
+		assertEquals("hits", 1, arena.hits);
+		assertEquals("size", 2, arena.size());
+
+		arena.clear();
+		assertEquals("lookups", 0, arena.lookups);
+		assertEquals("hits", 0, arena.hits);
+		assertEquals("size", 0, arena.size());
+		char[] foo = arena.sharedCopyOfRange("foo".toCharArray(), 0, 3);
+		assertEquals("hits", 0, arena.hits);
+		assertSame(foo, arena.sharedCopyOfRange("foo".toCharArray(), 0, 3));
+	}
+
+	public void testGrowth() {
+		CharArena arena = new CharArena(4);
+		List<char[]> expecteds = new ArrayList<>();
+		for (int i = 0; i < 10 * CharArena.INITIAL_CAPACITY; i++) {
+			char[] name = ("name" + i).toCharArray();
+			expecteds.add(arena.sharedCopyOfRange(name, 0, name.length));
+		}
+		assertEquals("size", expecteds.size(), arena.size());
+		for (int i = 0; i < expecteds.size(); i++) {
+			char[] name = ("name" + i).toCharArray();
+			assertSame(String.valueOf(name), expecteds.get(i), arena.sharedCopyOfRange(name, 0, name.length));
+		}
+		assertEquals("hits", expecteds.size(), arena.hits);
+	}
+
+	public void testFull() {
+		CharArena arena = new CharArena();
+		int max = CharArena.MAX_CAPACITY / 2;
+		for (int i = 0; i < max; i++) {
+			char[] name = ("n" + i).toCharArray();
+			arena.sharedCopyOfRange(name, 0, name.length);
+		}
+		assertEquals("size", max, arena.size());
+		char[] name = "overflow".toCharArray();
+		char[] copy = arena.sharedCopyOfRange(name, 0, name.length);
+		assertEquals("overflow", String.valueOf(copy));
+		assertNotSame("full arena should copy", copy, arena.sharedCopyOfRange(name, 0, name.length));
+		assertEquals("size", max, arena.size());
+		char[] first = "n0".toCharArray();
+		assertSame("interned identifiers should still be found",
+				arena.sharedCopyOfRange(first, 0, 2), arena.sharedCopyOfRange(first, 0, 2));
+	}
+
+	public void testScanner() throws InvalidInputException {
+		Scanner scanner = new Scanner(false, false, false, ClassFileConstants.JDK1_8, null, null, true);
+		scanner.identifierArena = new CharArena();
+		scanner.setSource("int count = count + \\u0063ount + counter;".toCharArray());
+		List<char[]> identifiers = new ArrayList<>();
+		int token;
+		while ((token = scanner.getNextToken()) != TerminalTokens.TokenNameEOF) {
+			if (token == TerminalTokens.TokenNameIdentifier)
+				identifiers.add(scanner.getCurrentIdentifierSource());
+		}
+		assertEquals("identifiers", 4, identifiers.size());
+		assertSame(identifiers.get(0), identifiers.get(1));
+		assertSame("identifier with a unicode escape", identifiers.get(0), identifiers.get(2));
+		assertEquals("counter", String.valueOf(identifiers.get(3)));
+		assertEquals("hits", 2, scanner.identifierArena.hits);
+	}
+}
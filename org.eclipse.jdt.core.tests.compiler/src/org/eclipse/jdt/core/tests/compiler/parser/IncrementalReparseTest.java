@@ -0,0 +1,239 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.compiler.parser;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+
+import junit.framework.Test;
+
+import org.eclipse.jdt.core.compiler.CategorizedProblem;
+import org.eclipse.jdt.core.tests.util.AbstractCompilerTest;
+import org.eclipse.jdt.internal.compiler.CompilationResult;
+import org.eclipse.jdt.internal.compiler.DefaultErrorHandlingPolicies;
+import org.eclipse.jdt.internal.compiler.GenericAstVisitor;
+import org.eclipse.jdt.internal.compiler.ast.ASTNode;
+import org.eclipse.jdt.internal.compiler.ast.CompilationUnitDeclaration;
+import org.eclipse.jdt.internal.compiler.batch.CompilationUnit;
+import org.eclipse.jdt.internal.compiler.env.ICompilationUnit;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.parser.Parser;
+import org.eclipse.jdt.internal.compiler.problem.DefaultProblemFactory;
+import org.eclipse.jdt.internal.compiler.problem.ProblemReporter;
+import org.eclipse.jdt.internal.core.util.CommentRecorderParser;
+
+/**
+ * Tests {@link Parser#reparse(CompilationUnitDeclaration, char[], ICompilationUnit, CompilationResult)} against a
+ * parse from scratch of the edited contents.
+ */
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class IncrementalReparseTest extends AbstractCompilerTest {
+
+	// whether units record their comments, like the ones parsed for the DOM
+	private boolean recordComments;
+
+	public IncrementalReparseTest(String testName) {
+		super(testName);
+	}
+
+	public static Test suite() {
+		return buildMinimalComplianceTestSuite(testClass(), F_1_8);
+	}
+
+	public static Class testClass() {
+		return IncrementalReparseTest.class;
+	}
+
+	@Override
+	protected Map getCompilerOptions() {
+		Map options = super.getCompilerOptions();
+		options.put(CompilerOptions.OPTION_TaskTags, "TODO");
+		options.put(CompilerOptions.OPTION_TaskPriorities, "NORMAL");
+		return options;
+	}
+
+	private Parser parser() {
+		ProblemReporter problemReporter = new ProblemReporter(
+			DefaultErrorHandlingPolicies.proceedWithAllProblems(),
+			new CompilerOptions(getCompilerOptions()),
+			new DefaultProblemFactory(Locale.getDefault()));
+		return this.recordComments ? new CommentRecorderParser(problemReporter, false) : new Parser(problemReporter, false);
+	}
+
+	private static CompilationResult result(ICompilationUnit sourceUnit) {
+		return new CompilationResult(sourceUnit, 0, 0, 0);
+	}
+
+	private CompilationUnitDeclaration parse(Parser parser, ICompilationUnit sourceUnit) {
+		CompilationUnitDeclaration unit = parser.dietParse(sourceUnit, result(sourceUnit));
+		parser.getMethodBodies(unit);
+		return unit;
+	}
+
+	/*
+	 * Reparses the given source after replacing its first occurrence of the given text, checks that the unit is
+	 * updated in place or not as expected, and compares it with a parse from scratch of the edited source.
+	 */
+	private CompilationUnitDeclaration checkReparse(String source, String text, String replacement, boolean inPlace) {
+		Parser parser = parser();
+		CompilationUnitDeclaration previousUnit = parse(parser, new CompilationUnit(source.toCharArray(), "X.java", null));
+		int start = source.indexOf(text);
+		assertTrue("Missing text to replace", start >= 0);
+		String newSource = source.substring(0, start) + replacement + source.substring(start + text.length());
+		ICompilationUnit sourceUnit = new CompilationUnit(newSource.toCharArray(), "X.java", null);
+		CompilationResult compilationResult = result(sourceUnit);
+		CompilationUnitDeclaration unit = parser.reparse(previousUnit, source.toCharArray(), sourceUnit, compilationResult);
+		assertEquals("Unexpected reuse of the previous unit", inPlace, unit == previousUnit);
+		assertSame("Unexpected result", compilationResult, unit.compilationResult);
+
+		CompilationUnitDeclaration expectedUnit = parse(parser(), sourceUnit);
+		assertEquals("Unexpected unit", expectedUnit.toString(), unit.toString());
+		assertEquals("Unexpected positions", positions(expectedUnit), positions(unit));
+		assertEquals("Unexpected problems", problems(expectedUnit), problems(unit));
+		assertTrue("Unexpected line ends", Arrays.equals(
+				expectedUnit.compilationResult.getLineSeparatorPositions(),
+				unit.compilationResult.getLineSeparatorPositions()));
+		assertEquals("Unexpected comments", Arrays.deepToString(expectedUnit.comments), Arrays.deepToString(unit.comments));
+		return unit;
+	}
+
+	private static String positions(CompilationUnitDeclaration unit) {
+		StringBuilder buffer = new StringBuilder();
+		unit.traverse(new GenericAstVisitor() {
+			@Override
+			protected boolean visitNode(ASTNode node) {
+				buffer.append(node.getClass().getSimpleName())
+					.append('[').append(node.sourceStart).append(',').append(node.sourceEnd).append("]\n");
+				return true;
+			}
+		}, unit.scope);
+		return buffer.toString();
+	}
+
+	private static String problems(CompilationUnitDeclaration unit) {
+		StringBuilder buffer = new StringBuilder();
+		CategorizedProblem[] problems = unit.compilationResult.getAllProblems();
+		if (problems != null) {
+			for (CategorizedProblem problem : problems) {
+				buffer.append(problem.getMessage())
+					.append(" [").append(problem.getSourceStart()).append(',').append(problem.getSourceEnd())
+					.append("] line ").append(problem.getSourceLineNumber()).append('\n');
+			}
+		}
+		return buffer.toString();
+	}
+
+	private static final String SOURCE =
+		"import java.util.function.Function;\n" +
+		"public class X {\n" +
+		"	int f = 1;\n" +
+		"	X() {\n" +
+		"		this(0);\n" +
+		"	}\n" +
+		"	X(int i) {\n" +
+		"		super();\n" +
+		"	}\n" +
+		"	int foo(int p) {\n" +
+		"		int q = p * 2;\n" +
+		"		return q;\n" +
+		"	}\n" +
+		"	// TODO after foo\n" +
+		"	void bar() {\n" +
+		"		Function<String, Integer> f = s -> s.length();\n" +
+		"		switch (this.f) {\n" +
+		"			case 1: break;\n" +
+		"			default: bar();\n" +
+		"		}\n" +
+		"	}\n" +
+		"	static {\n" +
+		"		System.out.println();\n" +
+		"	}\n" +
+		"	class Y {\n" +
+		"		void empty() {}\n" +
+		"	}\n" +
+		"}\n";
+
+	// an edit of a method body shifts the members which follow it
+	public void test001() {
+		checkReparse(SOURCE, "int q = p * 2;", "int q = p * 2 + foo(p - 1);\n\t\tq++;", true);
+	}
+
+	// an edit of a constructor body
+	public void test002() {
+		checkReparse(SOURCE, "this(0);", "this(1 + 1);\n\t\tnew Object();", true);
+	}
+
+	// an edit of an initializer and of an empty body of a member type
+	public void test003() {
+		checkReparse(SOURCE, "System.out.println();", "", true);
+		checkReparse(SOURCE, "void empty() {}", "void empty() {int z = 1;}", true);
+	}
+
+	// a syntax error in the edited body
+	public void test004() {
+		CompilationUnitDeclaration unit = checkReparse(SOURCE, "int q = p * 2;", "int q = p * ;", true);
+		assertTrue("Missing syntax error", unit.compilationResult.hasSyntaxError);
+	}
+
+	// the tasks which follow the edit are shifted, the ones of the edited body are found again
+	public void test005() {
+		checkReparse(SOURCE, "int q = p * 2;", "int q = p * 2; // TODO in foo", true);
+	}
+
+	// edits which do not leave the extent of a body unchanged are parsed from scratch
+	public void test006() {
+		checkReparse(SOURCE, "return q;", "return q; } int baz() { return 0;", false);
+		checkReparse(SOURCE, "int foo(int p)", "int foo(long p)", false);
+		checkReparse(SOURCE, "int f = 1;", "int f = 2;", false);
+		checkReparse(SOURCE, "return q;", "return q; {", false);
+	}
+
+	private static final String COMMENTED_SOURCE =
+		"/* header */\n" +
+		"public class X {\n" +
+		"	/** Javadoc of foo */\n" +
+		"	int foo(int p) {\n" +
+		"		// line comment of foo\n" +
+		"		int q = p * 2; /* block comment of foo */\n" +
+		"		return q;\n" +
+		"	}\n" +
+		"	// TODO after foo\n" +
+		"	/**\n" +
+		"	 * Javadoc of bar\n" +
+		"	 */\n" +
+		"	void bar(String... s) {\n" +
+		"		/** misplaced javadoc */\n" +
+		"		int r = ((foo(1)));\n" +
+		"	}\n" +
+		"	int g; // trailing comment\n" +
+		"}\n" +
+		"// footer";
+
+	// the comments which follow the edit are shifted, the ones of the edited body are found again
+	public void test007() {
+		this.recordComments = true;
+		checkReparse(COMMENTED_SOURCE, "int q = p * 2;", "int q = p * 2 + 1;", true);
+		checkReparse(COMMENTED_SOURCE, "// line comment of foo\n", "", true);
+		checkReparse(COMMENTED_SOURCE, "/** misplaced javadoc */", "/* block */ int s = 0; // line\n", true);
+		checkReparse(COMMENTED_SOURCE, "return q;", "return q; // TODO in foo", true);
+	}
+
+	// an edit within a comment outside of a body is parsed from scratch
+	public void test008() {
+		this.recordComments = true;
+		checkReparse(COMMENTED_SOURCE, "Javadoc of bar", "Javadoc of baz", false);
+		checkReparse(COMMENTED_SOURCE, "footer", "end", false);
+	}
+}
@@ -288,6 +288,7 @@ private static void addJava1_8Tests(ArrayList tests_1_8) {
 	tests_1_8.add(TypeAnnotationSyntaxTest.class);
 	tests_1_8.add(CompletionParserTest18.class);
 	tests_1_8.add(SelectionParserTest18.class);
+	tests_1_8.add(IncrementalReparseTest.class);
 }
 public static Test suite() {
 	return getTestSuite(true);
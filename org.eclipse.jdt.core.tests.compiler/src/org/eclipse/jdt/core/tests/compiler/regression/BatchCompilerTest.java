@@ -44,6 +44,9 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.net.InetAddress;
+import java.net.Socket;
 import java.text.MessageFormat;
 import java.util.Iterator;
 import java.util.List;
@@ -58,6 +61,8 @@ import org.eclipse.jdt.core.tests.util.AbstractCompilerTest;
 import org.eclipse.jdt.core.tests.util.Util;
 import org.eclipse.jdt.internal.compiler.batch.ClasspathDirectory;
 import org.eclipse.jdt.internal.compiler.batch.ClasspathJar;
+import org.eclipse.jdt.internal.compiler.batch.ClasspathJarCache;
+import org.eclipse.jdt.internal.compiler.batch.CompilerDaemon;
 import org.eclipse.jdt.internal.compiler.batch.FileSystem;
 import org.eclipse.jdt.internal.compiler.batch.Main;
 import org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants;
@@ -763,6 +768,9 @@ public void test012(){
         "    -failOnWarning     fail compilation if there are warnings\n" +
         "    -verbose           enable verbose output\n" +
         "    -referenceInfo     compute reference info\n" +
+        "    -incremental:<dir> only compile the changed files and the files affected\n" +
+        "                       by their changes, keeping the dependency state in <dir>\n" +
+        "                       (requires -d <dir> and -proc:none)\n" +
         "    -progress          show progress (only in -log mode)\n" +
         "    -time              display speed information \n" +
         "    -noExit            do not call System.exit(n) at end of compilation (n==0\n" +
@@ -774,6 +782,9 @@ public void test012(){
         "    -genericsignature  generate generic signature for lambda expressions\n" +
         "    -Xemacs            used to enable emacs-style output in the console.\n" +
         "                       It does not affect the xml log output\n" +
+        "    -Xprofile:<file>   write the time, CPU time and allocations spent in each\n" +
+        "                       compilation phase per unit to <file>, as CSV when\n" +
+        "                       its name ends with .csv and as JSON otherwise\n" +
         "    -missingNullDefault  report missing default nullness annotation\n" +
         "    -annotationpath <directories and ZIP archives separated by " + File.pathSeparator + ">\n" +
         "                       specify locations where to find external annotations\n" +
@@ -13518,4 +13529,535 @@ public void testGitHub1122(){
 		+ "",
 		true);
 }
-}
\ No newline at end of file
+// method bodies parsed ahead of processing by several threads
+public void testParallelMethodBodyParsing() {
+	String singleThread = System.getProperty("jdt.compiler.useSingleThread");
+	String parsingThreads = System.getProperty("jdt.compiler.parsingThreads");
+	try {
+		System.setProperty("jdt.compiler.useSingleThread", "false");
+		System.setProperty("jdt.compiler.parsingThreads", "3");
+		this.runNegativeTest(
+			new String[] {
+				"X.java",
+				"public class X {\n" +
+				"	void foo() { int i = ; }\n" +
+				"	Y y;\n" +
+				"}",
+				"Y.java",
+				"public class Y {\n" +
+				"	Z z() { return new Z(); }\n" +
+				"}",
+				"Z.java",
+				"public class Z {\n" +
+				"	void bar() { bar(; }\n" +
+				"}"
+			},
+			"\"" + OUTPUT_DIR +  File.separator + "X.java\""
+			+ " \"" + OUTPUT_DIR +  File.separator + "Y.java\""
+			+ " \"" + OUTPUT_DIR +  File.separator + "Z.java\""
+			+ " -1.5 -d none",
+			"",
+			"----------\n" +
+			"1. ERROR in ---OUTPUT_DIR_PLACEHOLDER---/X.java (at line 2)\n" +
+			"	void foo() { int i = ; }\n" +
+			"	                   ^\n" +
+			"Syntax error on token \"=\", Expression expected after this token\n" +
+			"----------\n" +
+			"----------\n" +
+			"2. ERROR in ---OUTPUT_DIR_PLACEHOLDER---/Z.java (at line 2)\n" +
+			"	void bar() { bar(; }\n" +
+			"	                ^\n" +
+			"Syntax error, insert \")\" to complete Expression\n" +
+			"----------\n" +
+			"2 problems (2 errors)\n",
+			true);
+	} finally {
+		System.setProperty("jdt.compiler.useSingleThread", singleThread == null ? "false" : singleThread);
+		if (parsingThreads == null)
+			System.clearProperty("jdt.compiler.parsingThreads");
+		else
+			System.setProperty("jdt.compiler.parsingThreads", parsingThreads);
+	}
+}
+// -Xprofile writes one entry per unit, with the time spent in each phase
+public void testProfile() {
+	String profileFileName = OUTPUT_DIR + File.separator + "profile.csv";
+	this.runConformTest(
+		new String[] {
+			"X.java",
+			"public class X {\n" +
+			"	java.util.List<String> list = java.util.Arrays.asList(\"a\");\n" +
+			"}",
+			"Y.java",
+			"public class Y extends X {\n" +
+			"}"
+		},
+		"\"" + OUTPUT_DIR +  File.separator + "X.java\""
+		+ " \"" + OUTPUT_DIR +  File.separator + "Y.java\""
+		+ " -1.8 -proc:none -Xprofile:\"" + profileFileName + "\" -d \"" + OUTPUT_DIR + "\"",
+		"",
+		"",
+		true);
+	String[] lines = Util.fileContent(profileFileName).split("\n");
+	assertEquals("Unexpected number of lines", 3, lines.length);
+	assertTrue("Unexpected header: " + lines[0], lines[0].startsWith("file,total.wallMillis,parse.wallMillis,"));
+	for (int i = 1; i < 3; i++) {
+		assertTrue("Unexpected entry: " + lines[i],
+			lines[i].contains("X.java\",") || lines[i].contains("Y.java\","));
+		assertEquals("Unexpected number of columns: " + lines[i], 2 + 6 * 3, lines[i].split(",").length);
+	}
+}
+// -Xprofile reports the units of all the passes of -incremental
+public void testProfile_incremental() {
+	String profileFileName = OUTPUT_DIR + File.separator + "profile.csv";
+	String commandLine =
+		"\"" + OUTPUT_DIR + File.separator + "p" + File.separator + "A.java\""
+		+ " \"" + OUTPUT_DIR + File.separator + "q" + File.separator + "B.java\""
+		+ " -1.8 -proc:none -incremental:\"" + OUTPUT_DIR + File.separator + "state\""
+		+ " -Xprofile:\"" + profileFileName + "\" -d \"" + OUTPUT_DIR + File.separator + "bin\"";
+	String b =
+		"package q;\n" +
+		"public class B {\n" +
+		"	int bar() { return new p.A().foo(); }\n" +
+		"}";
+	this.runConformTest(
+		new String[] {
+			"p/A.java",
+			"package p;\n" +
+			"public class A {\n" +
+			"	public int foo() { return 1; }\n" +
+			"}",
+			"q/B.java", b
+		},
+		commandLine, "", "", true);
+	// structural change: A is compiled, then B
+	this.runConformTest(
+		new String[] {
+			"p/A.java",
+			"package p;\n" +
+			"public class A {\n" +
+			"	public int foo() { return 1; }\n" +
+			"	public int foo(int i) { return i; }\n" +
+			"}",
+			"q/B.java", b
+		},
+		commandLine, "", "", false);
+	String profile = Util.fileContent(profileFileName);
+	assertEquals("Unexpected number of lines", 3, profile.split("\n").length);
+	assertTrue("Missing A: " + profile, profile.contains("A.java\","));
+	assertTrue("Missing B: " + profile, profile.contains("B.java\","));
+}
+public void testProfile_missingFile() {
+	this.runNegativeTest(
+		new String[] {
+			"X.java",
+			"public class X {\n" +
+			"}"
+		},
+		"\"" + OUTPUT_DIR +  File.separator + "X.java\""
+		+ " -1.8 -Xprofile: -d none",
+		"",
+		"missing file name for the profiling report: -Xprofile:\n",
+		true);
+}
+// the class files read from a jar are cached on disk, and read from the cache by the next compilations
+public void testBinaryCache() throws IOException {
+	String libPath = OUTPUT_DIR + File.separator + "lib.jar";
+	String cachePath = OUTPUT_DIR + File.separator + "cache";
+	String setting = System.getProperty("jdt.compiler.binaryCache");
+	try {
+		Util.createJar(new String[] {
+				"p/Z.java",
+				"package p;\n" +
+				"public class Z {\n" +
+				"	public static String foo() { return \"\"; }\n" +
+				"}",
+			},
+			libPath,
+			JavaCore.VERSION_1_8);
+		Util.delete(cachePath);
+		System.setProperty("jdt.compiler.binaryCache", cachePath);
+		for (int i = 0; i < 2; i++) {
+			this.runConformTest(
+				new String[] {
+					"X.java",
+					"public class X {\n" +
+					"	String s = p.Z.foo();\n" +
+					"}",
+				},
+				"\"" + OUTPUT_DIR +  File.separator + "X.java\""
+				+ " -cp \"" + libPath + "\""
+				+ " -1.8 -proc:none -d \"" + OUTPUT_DIR + "\"",
+				"",
+				"",
+				false);
+			String[] cacheFiles = new File(cachePath).list();
+			assertEquals("Unexpected cache files", 1, cacheFiles == null ? 0 : cacheFiles.length);
+			assertTrue("Unexpected cache file " + cacheFiles[0], cacheFiles[0].endsWith(".jarcache"));
+		}
+		// the class files read by the previous compilations are not read from the jar again
+		assertBinaryCacheCounts(libPath, 1, 0);
+
+		// a modified jar does not hit the cache of its previous contents
+		Util.createJar(new String[] {
+				"p/Z.java",
+				"package p;\n" +
+				"public class Z {\n" +
+				"	public static String bar() { return \"\"; }\n" +
+				"}",
+			},
+			libPath,
+			JavaCore.VERSION_1_8);
+		assertBinaryCacheCounts(libPath, 0, 1);
+		String[] cacheFiles = new File(cachePath).list();
+		assertEquals("Unexpected cache files", 2, cacheFiles == null ? 0 : cacheFiles.length);
+		assertBinaryCacheCounts(libPath, 1, 0);
+	} finally {
+		if (setting == null)
+			System.clearProperty("jdt.compiler.binaryCache");
+		else
+			System.setProperty("jdt.compiler.binaryCache", setting);
+	}
+}
+private void assertBinaryCacheCounts(String libPath, int hits, int misses) throws IOException {
+	ClasspathJar jar = (ClasspathJar) FileSystem.getClasspath(libPath, null, null);
+	try {
+		jar.initialize();
+		assertNotNull("p.Z not found", jar.findClass("Z".toCharArray(), "p", null, "p/Z.class"));
+		ClasspathJarCache cache = jar.getBinaryCache();
+		assertNotNull("No cache", cache);
+		assertEquals("Unexpected cache hits", hits, cache.hits);
+		assertEquals("Unexpected cache misses", misses, cache.misses);
+	} finally {
+		jar.reset(); // writes the class files read from the jar to the cache
+	}
+}
+// requests compiled by a daemon get the same output as when compiled directly
+public void testCompilerDaemon() throws Exception {
+	File portFile = new File(OUTPUT_DIR, "daemon.port");
+	portFile.delete();
+	CompilerDaemon daemon = new CompilerDaemon(portFile, 1);
+	Thread thread = new Thread(() -> {
+		try {
+			daemon.run();
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}, "Compiler Daemon");
+	thread.start();
+	try {
+		for (int i = 0; i < 100 && !portFile.isFile(); i++)
+			Thread.sleep(50);
+		assertTrue("Daemon did not start", portFile.isFile());
+		Util.writeToFile(
+			"public class X {\n" +
+			"	Zork z;\n" +
+			"}",
+			OUTPUT_DIR + File.separator + "X.java");
+		for (int i = 0; i < 2; i++) {
+			StringWriter out = new StringWriter();
+			StringWriter err = new StringWriter();
+			boolean succeeded = CompilerDaemon.compile(portFile,
+				new String[] { OUTPUT_DIR + File.separator + "X.java", "-1.8", "-proc:none", "-d", "none" },
+				new PrintWriter(out), new PrintWriter(err));
+			assertFalse("Compilation should have failed", succeeded);
+			assertEquals("Unexpected output", "", out.toString());
+			assertTrue("Unexpected errors: " + err, err.toString().contains("Zork cannot be resolved to a type"));
+		}
+	} finally {
+		CompilerDaemon.stop(portFile);
+		thread.join(10000);
+	}
+	assertFalse("Port file should be removed", portFile.exists());
+}
+// relative paths are resolved against the directory of the client, and a silent client does not block the daemon
+public void testCompilerDaemon2() throws Exception {
+	File portFile = new File(OUTPUT_DIR, "daemon.port");
+	portFile.delete();
+	CompilerDaemon daemon = new CompilerDaemon(portFile, 1);
+	daemon.requestTimeout = 500;
+	Thread thread = new Thread(() -> {
+		try {
+			daemon.run();
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}, "Compiler Daemon");
+	thread.start();
+	try {
+		for (int i = 0; i < 100 && !portFile.isFile(); i++)
+			Thread.sleep(50);
+		assertTrue("Daemon did not start", portFile.isFile());
+		File directory = new File(OUTPUT_DIR, "client");
+		Util.writeToFile(
+			"package p;\n" +
+			"public class X extends Y {\n" +
+			"}",
+			directory.getPath() + File.separator + "src" + File.separator + "p" + File.separator + "X.java");
+		Util.writeToFile(
+			"package p;\n" +
+			"public class Y {\n" +
+			"}",
+			directory.getPath() + File.separator + "lib" + File.separator + "p" + File.separator + "Y.java");
+		Util.writeToFile(
+			"-1.8 -proc:none\n" +
+			"# comment\n" +
+			"-sourcepath lib\n",
+			directory.getPath() + File.separator + "args.txt");
+		String port = new String(org.eclipse.jdt.internal.compiler.util.Util.getFileCharContent(portFile, "UTF-8")).split("\n")[0];
+		// connects without ever sending a request
+		try (Socket silent = new Socket(InetAddress.getLoopbackAddress(), Integer.parseInt(port.trim()))) {
+			StringWriter out = new StringWriter();
+			StringWriter err = new StringWriter();
+			boolean succeeded = CompilerDaemon.compile(portFile, directory,
+				new String[] { "src" + File.separator + "p" + File.separator + "X.java", "@args.txt", "-d", "bin" },
+				new PrintWriter(out), new PrintWriter(err));
+			assertTrue("Compilation failed: " + err, succeeded);
+			assertEquals("Unexpected output", "", out.toString());
+		}
+		assertTrue("X.class not found", new File(directory, "bin" + File.separator + "p" + File.separator + "X.class").isFile());
+		assertTrue("Y.class not found", new File(directory, "bin" + File.separator + "p" + File.separator + "Y.class").isFile());
+		assertFalse("Output in the directory of the daemon", new File("bin" + File.separator + "p" + File.separator + "X.class").exists());
+	} finally {
+		CompilerDaemon.stop(portFile);
+		thread.join(10000);
+	}
+	assertFalse("Port file should be removed", portFile.exists());
+}
+// the folders of -nowarn are resolved against the directory of the client, the CLASSPATH keyword of -annotationpath is not
+public void testCompilerDaemon3() throws Exception {
+	File portFile = new File(OUTPUT_DIR, "daemon.port");
+	portFile.delete();
+	CompilerDaemon daemon = new CompilerDaemon(portFile, 1);
+	Thread thread = new Thread(() -> {
+		try {
+			daemon.run();
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}, "Compiler Daemon");
+	thread.start();
+	try {
+		for (int i = 0; i < 100 && !portFile.isFile(); i++)
+			Thread.sleep(50);
+		assertTrue("Daemon did not start", portFile.isFile());
+		File directory = new File(OUTPUT_DIR, "client");
+		Util.writeToFile(
+			"package p;\n" +
+			"import java.util.List;\n" +
+			"public class X {\n" +
+			"}",
+			directory.getPath() + File.separator + "gen" + File.separator + "p" + File.separator + "X.java");
+		StringWriter out = new StringWriter();
+		StringWriter err = new StringWriter();
+		boolean succeeded = CompilerDaemon.compile(portFile, directory,
+			new String[] { "gen" + File.separator + "p" + File.separator + "X.java", "-1.8", "-proc:none", "-warn:+unusedImport",
+				"-nowarn:[gen]", "-annotationpath", "CLASSPATH", "-d", "bin" },
+			new PrintWriter(out), new PrintWriter(err));
+		assertTrue("Compilation failed: " + err, succeeded);
+		assertEquals("Unexpected output", "", out.toString());
+		assertEquals("Unexpected errors", "", err.toString());
+		assertTrue("X.class not found", new File(directory, "bin" + File.separator + "p" + File.separator + "X.class").isFile());
+	} finally {
+		CompilerDaemon.stop(portFile);
+		thread.join(10000);
+	}
+	assertFalse("Port file should be removed", portFile.exists());
+}
+// -incremental only compiles the changed units and the units affected by their structural changes
+public void testIncrementalCompilation() {
+	String commandLine =
+		"\"" + OUTPUT_DIR + File.separator + "p" + File.separator + "A.java\""
+		+ " \"" + OUTPUT_DIR + File.separator + "q" + File.separator + "B.java\""
+		+ " \"" + OUTPUT_DIR + File.separator + "q" + File.separator + "C.java\""
+		+ " -1.8 -proc:none -incremental:\"" + OUTPUT_DIR + File.separator + "state\""
+		+ " -d \"" + OUTPUT_DIR + File.separator + "bin\"";
+	String b =
+		"package q;\n" +
+		"public class B {\n" +
+		"	int bar() { return new p.A().foo(); }\n" +
+		"}";
+	String c =
+		"package q;\n" +
+		"public class C {\n" +
+		"}";
+	File[] classFiles = {
+		new File(OUTPUT_DIR, "bin" + File.separator + "p" + File.separator + "A.class"),
+		new File(OUTPUT_DIR, "bin" + File.separator + "q" + File.separator + "B.class"),
+		new File(OUTPUT_DIR, "bin" + File.separator + "q" + File.separator + "C.class")
+	};
+	this.runConformTest(
+		new String[] {
+			"p/A.java",
+			"package p;\n" +
+			"public class A {\n" +
+			"	public int foo() { return 1; }\n" +
+			"}",
+			"q/B.java", b,
+			"q/C.java", c
+		},
+		commandLine, "", "", true);
+	for (File classFile : classFiles)
+		assertTrue("Missing " + classFile, classFile.setLastModified(1000));
+	// method body change: only A is compiled
+	this.runConformTest(
+		new String[] {
+			"p/A.java",
+			"package p;\n" +
+			"public class A {\n" +
+			"	public int foo() { return 2; }\n" +
+			"}",
+			"q/B.java", b,
+			"q/C.java", c
+		},
+		commandLine, "", "", false);
+	assertTrue("A should have been compiled", classFiles[0].lastModified() != 1000);
+	assertEquals("B should not have been compiled", 1000, classFiles[1].lastModified());
+	assertEquals("C should not have been compiled", 1000, classFiles[2].lastModified());
+	for (File classFile : classFiles)
+		classFile.setLastModified(1000);
+	// structural change: B references A and is compiled as well
+	this.runConformTest(
+		new String[] {
+			"p/A.java",
+			"package p;\n" +
+			"public class A {\n" +
+			"	public int foo() { return 2; }\n" +
+			"	public int foo(int i) { return i; }\n" +
+			"}",
+			"q/B.java", b,
+			"q/C.java", c
+		},
+		commandLine, "", "", false);
+	assertTrue("A should have been compiled", classFiles[0].lastModified() != 1000);
+	assertTrue("B should have been compiled", classFiles[1].lastModified() != 1000);
+	assertEquals("C should not have been compiled", 1000, classFiles[2].lastModified());
+}
+// -incremental compiles the units referencing the types of removed source files, even when no unit changed
+public void testIncrementalCompilation2() {
+	runIncrementalCompilationWithRemovedSource(false);
+}
+// a full build after a change of the options does not see the class files of removed source files,
+// which are still in the output folder
+public void testIncrementalCompilation3() {
+	runIncrementalCompilationWithRemovedSource(true);
+}
+private void runIncrementalCompilationWithRemovedSource(boolean fullBuild) {
+	String options =
+		" -1.8 -proc:none -incremental:\"" + OUTPUT_DIR + File.separator + "state\""
+		+ " -d \"" + OUTPUT_DIR + File.separator + "bin\"";
+	String b =
+		"package q;\n" +
+		"public class B {\n" +
+		"	int bar() { return new p.A().foo(); }\n" +
+		"}";
+	String c =
+		"package q;\n" +
+		"public class C {\n" +
+		"}";
+	this.runConformTest(
+		new String[] {
+			"p/A.java",
+			"package p;\n" +
+			"public class A {\n" +
+			"	public int foo() { return 1; }\n" +
+			"}",
+			"q/B.java", b,
+			"q/C.java", c
+		},
+		"\"" + OUTPUT_DIR + File.separator + "p" + File.separator + "A.java\""
+		+ " \"" + OUTPUT_DIR + File.separator + "q" + File.separator + "B.java\""
+		+ " \"" + OUTPUT_DIR + File.separator + "q" + File.separator + "C.java\""
+		+ options,
+		"", "", true);
+	File classFile = new File(OUTPUT_DIR, "bin" + File.separator + "p" + File.separator + "A.class");
+	assertTrue("Missing " + classFile, classFile.isFile());
+	assertTrue("A.java not removed", new File(OUTPUT_DIR, "p" + File.separator + "A.java").delete());
+	this.runNegativeTest(
+		new String[] {
+			"q/B.java", b,
+			"q/C.java", c
+		},
+		"\"" + OUTPUT_DIR + File.separator + "q" + File.separator + "B.java\""
+		+ " \"" + OUTPUT_DIR + File.separator + "q" + File.separator + "C.java\""
+		+ options + (fullBuild ? " -g" : ""),
+		"",
+		"----------\n" +
+		"1. ERROR in ---OUTPUT_DIR_PLACEHOLDER---/q/B.java (at line 3)\n" +
+		"	int bar() { return new p.A().foo(); }\n" +
+		"	                       ^^^\n" +
+		"p.A cannot be resolved to a type\n" +
+		"----------\n" +
+		"1 problem (1 error)\n",
+		false);
+	assertFalse("A.class should have been removed", classFile.exists());
+}
+// -incremental only removes the class files it wrote, neither on a first run nor on a full build
+public void testIncrementalCompilation4() {
+	String commandLine =
+		"\"" + OUTPUT_DIR + File.separator + "p" + File.separator + "A.java\""
+		+ " -1.8 -proc:none -incremental:\"" + OUTPUT_DIR + File.separator + "state\""
+		+ " -d \"" + OUTPUT_DIR + File.separator + "bin\"";
+	String a =
+		"package p;\n" +
+		"public class A {\n" +
+		"}";
+	File foreign = new File(OUTPUT_DIR, "bin" + File.separator + "r" + File.separator + "R.class");
+	File classFile = new File(OUTPUT_DIR, "bin" + File.separator + "p" + File.separator + "A.class");
+	this.runConformTest(
+		new String[] {
+			"p/A.java", a,
+			"bin/r/R.class", "not written by the compiler"
+		},
+		commandLine, "", "", true);
+	assertTrue("R.class should not have been removed", foreign.isFile());
+	assertTrue("Missing " + classFile, classFile.setLastModified(1000));
+	this.runConformTest(new String[] { "p/A.java", a }, commandLine + " -g", "", "", false);
+	assertTrue("R.class should not have been removed", foreign.isFile());
+	assertTrue("A should have been compiled", classFile.lastModified() != 1000);
+}
+// -incremental does a full build when a source file of the sourcepath changes
+public void testIncrementalCompilation5() {
+	String commandLine =
+		"\"" + OUTPUT_DIR + File.separator + "q" + File.separator + "B.java\""
+		+ " -1.8 -proc:none -incremental:\"" + OUTPUT_DIR + File.separator + "state\""
+		+ " -sourcepath \"" + OUTPUT_DIR + File.separator + "src\""
+		+ " -d \"" + OUTPUT_DIR + File.separator + "bin\"";
+	String b =
+		"package q;\n" +
+		"public class B {\n" +
+		"	int bar() { return new p.A().foo(); }\n" +
+		"}";
+	File classFile = new File(OUTPUT_DIR, "bin" + File.separator + "q" + File.separator + "B.class");
+	this.runConformTest(
+		new String[] {
+			"src/p/A.java",
+			"package p;\n" +
+			"public class A {\n" +
+			"	public int foo() { return 1; }\n" +
+			"}",
+			"q/B.java", b
+		},
+		commandLine, "", "", true);
+	assertTrue("Missing " + classFile, classFile.setLastModified(1000));
+	this.runNegativeTest(
+		new String[] {
+			"src/p/A.java",
+			"package p;\n" +
+			"public class A {\n" +
+			"	public int foo(int i) { return i; }\n" +
+			"}",
+			"q/B.java", b
+		},
+		commandLine,
+		"",
+		"----------\n" +
+		"1. ERROR in ---OUTPUT_DIR_PLACEHOLDER---/q/B.java (at line 3)\n" +
+		"	int bar() { return new p.A().foo(); }\n" +
+		"	                             ^^^\n" +
+		"The method foo(int) in the type A is not applicable for the arguments ()\n" +
+		"----------\n" +
+		"1 problem (1 error)\n",
+		false);
+}
+}
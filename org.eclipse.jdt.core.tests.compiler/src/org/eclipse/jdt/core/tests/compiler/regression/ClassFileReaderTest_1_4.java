@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2014 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,11 +13,19 @@
  *******************************************************************************/
 package org.eclipse.jdt.core.tests.compiler.regression;
 
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+
 import junit.framework.Test;
 
 import org.eclipse.jdt.core.compiler.CharOperation;
 import org.eclipse.jdt.core.util.ClassFileBytesDisassembler;
 import org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileReader;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFormatException;
+import org.eclipse.jdt.internal.compiler.env.IBinaryField;
 import org.eclipse.jdt.internal.compiler.env.IBinaryMethod;
 
 @SuppressWarnings({ "rawtypes" })
@@ -2875,4 +2883,119 @@ public class ClassFileReaderTest_1_4 extends AbstractRegressionTest {
 		}
 	}
 
+	// the fields and methods of a reader which is not fully initialized are decoded on demand
+	public void test081() throws Exception {
+		String source =
+			"public class X {\n" +
+			"	int i;\n" +
+			"	String s;\n" +
+			"	void foo(int j) {}\n" +
+			"	<T> T bar(T t) { return t; }\n" +
+			"}";
+		ClassFileReader initialized = getInternalClassFile("", "X", "X", source);
+		byte[] bytes = org.eclipse.jdt.internal.compiler.util.Util.getFileByteContent(new File(EVAL_DIRECTORY, "X.class"));
+		ClassFileReader reader = new ClassFileReader(bytes, "X.class".toCharArray());
+		IBinaryField[] fields = reader.getFields();
+		IBinaryMethod[] methods = reader.getMethods();
+		assertSame("Fields decoded twice", fields, reader.getFields());
+		assertSame("Methods decoded twice", methods, reader.getMethods());
+		assertEquals("Wrong number of fields", initialized.getFields().length, fields.length);
+		assertEquals("Wrong number of methods", initialized.getMethods().length, methods.length);
+		for (int i = 0; i < fields.length; i++) {
+			assertEquals("Wrong field", new String(initialized.getFields()[i].getName()), new String(fields[i].getName()));
+			assertEquals("Wrong field type", new String(initialized.getFields()[i].getTypeName()), new String(fields[i].getTypeName()));
+		}
+		for (int i = 0; i < methods.length; i++) {
+			assertEquals("Wrong method", new String(initialized.getMethods()[i].getSelector()), new String(methods[i].getSelector()));
+			assertEquals("Wrong method descriptor", new String(initialized.getMethods()[i].getMethodDescriptor()), new String(methods[i].getMethodDescriptor()));
+			assertTrue("Wrong method signature", CharOperation.equals(initialized.getMethods()[i].getGenericSignature(), methods[i].getGenericSignature()));
+		}
+		assertFalse("Unexpected structural change", reader.hasStructuralChanges(bytes));
+	}
+
+	// malformed members are still rejected when the class file is read, although they are decoded on demand
+	public void test082() throws Exception {
+		ClassFileReader reader = new ClassFileReader(classFile(3, 2, 2), "X.class".toCharArray());
+		IBinaryMethod[] methods = reader.getMethods();
+		assertEquals("Wrong number of methods", 1, methods.length);
+		assertEquals("Wrong method", "foo", new String(methods[0].getSelector()));
+
+		int[][] malformed = {
+			{ 0, 2, 2 }, // no name
+			{ 100, 2, 2 }, // name out of the constant pool
+			{ 2, 2, 2 }, // name is not a Utf8 constant
+			{ 3, 1000, 2 }, // attribute beyond the end of the class file
+			{ 3, -1, 2 }, // attribute longer than any class file
+		};
+		for (int i = 0; i < malformed.length; i++) {
+			byte[] bytes = classFile(malformed[i][0], malformed[i][1], malformed[i][2]);
+			try {
+				new ClassFileReader(bytes, "X.class".toCharArray());
+				fail("Malformed class file #" + i + " should be rejected");
+			} catch (ClassFormatException e) {
+				// expected
+			}
+		}
+	}
+
+	// readers are shared between threads, the members are decoded once for all threads
+	public void test083() throws Exception {
+		for (int round = 0; round < 20; round++) {
+			ClassFileReader reader = new ClassFileReader(classFile(3, 2, 2), "X.class".toCharArray());
+			IBinaryMethod[][] results = new IBinaryMethod[8][];
+			Thread[] threads = new Thread[results.length];
+			for (int i = 0; i < threads.length; i++) {
+				int index = i;
+				threads[i] = new Thread(() -> results[index] = reader.getMethods());
+				threads[i].start();
+			}
+			for (int i = 0; i < threads.length; i++) {
+				threads[i].join();
+				assertSame("Methods decoded twice", results[0], results[i]);
+				assertEquals("Wrong method", "foo", new String(results[i][0].getSelector()));
+			}
+		}
+	}
+
+	/*
+	 * Answers the bytes of a class X with a method foo()V, given the constant pool index of the name of the method,
+	 * and the length and the actual number of bytes of its only attribute.
+	 */
+	private static byte[] classFile(int methodNameIndex, int attributeLength, int attributeBytes) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream output = new DataOutputStream(bytes);
+		output.writeInt(0xCAFEBABE);
+		output.writeShort(0); // minor version
+		output.writeShort(48); // major version
+		output.writeShort(7); // constant pool count
+		output.writeByte(ClassFileConstants.Utf8Tag);
+		output.writeUTF("X"); // #1
+		output.writeByte(ClassFileConstants.ClassTag);
+		output.writeShort(1); // #2
+		output.writeByte(ClassFileConstants.Utf8Tag);
+		output.writeUTF("foo"); // #3
+		output.writeByte(ClassFileConstants.Utf8Tag);
+		output.writeUTF("()V"); // #4
+		output.writeByte(ClassFileConstants.Utf8Tag);
+		output.writeUTF("java/lang/Object"); // #5
+		output.writeByte(ClassFileConstants.ClassTag);
+		output.writeShort(5); // #6
+		output.writeShort(ClassFileConstants.AccPublic | ClassFileConstants.AccSuper);
+		output.writeShort(2); // this class
+		output.writeShort(6); // super class
+		output.writeShort(0); // interfaces
+		output.writeShort(0); // fields
+		output.writeShort(1); // methods
+		output.writeShort(ClassFileConstants.AccPublic | ClassFileConstants.AccAbstract);
+		output.writeShort(methodNameIndex);
+		output.writeShort(4); // descriptor
+		output.writeShort(1); // attributes
+		output.writeShort(3); // name of an unknown attribute
+		output.writeInt(attributeLength);
+		for (int i = 0; i < attributeBytes; i++)
+			output.writeByte(0);
+		output.writeShort(0); // class attributes
+		output.close();
+		return bytes.toByteArray();
+	}
 }
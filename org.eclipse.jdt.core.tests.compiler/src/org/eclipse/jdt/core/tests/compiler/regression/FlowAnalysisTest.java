@@ -4706,6 +4706,46 @@ public void testBug548318_030() {
 			null,
 			true);
 }
+// the definite assignment of locals beyond the first 64 variables, whose bits are shared by the copies of the flow info
+public void testManyLocals() {
+	StringBuilder locals = new StringBuilder("v0");
+	for (int i = 1; i < 100; i++)
+		locals.append(", v").append(i);
+	this.runNegativeTest(
+		new String[] {
+			"X.java", // =================
+			"public class X {\n" +
+			"	int foo(boolean b) {\n" +
+			"		int " + locals + ";\n" +
+			"		v80 = 0;\n" +
+			"		if (b) {\n" +
+			"			v90 = 1;\n" +
+			"		} else {\n" +
+			"			v90 = 2;\n" +
+			"		}\n" +
+			"		int r = v80 + v90;\n" +
+			"		if (b) {\n" +
+			"			v95 = 1;\n" +
+			"		}\n" +
+			"		if (!b) {\n" +
+			"			v70 = 1;\n" +
+			"		}\n" +
+			"		return r + v95 + v70;\n" +
+			"	}\n" +
+			"}\n",
+		},
+		"----------\n" +
+		"1. ERROR in X.java (at line 17)\n" +
+		"	return r + v95 + v70;\n" +
+		"	           ^^^\n" +
+		"The local variable v95 may not have been initialized\n" +
+		"----------\n" +
+		"2. ERROR in X.java (at line 17)\n" +
+		"	return r + v95 + v70;\n" +
+		"	                 ^^^\n" +
+		"The local variable v70 may not have been initialized\n" +
+		"----------\n");
+}
 public static Class testClass() {
 	return FlowAnalysisTest.class;
 }
@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.compiler.regression;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.Map;
+
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.lookup.InferenceBudget;
+
+import junit.framework.Test;
+
+/**
+ * Checks that the type inference of an invocation is aborted when it exceeds the budget set with the
+ * {@link InferenceBudget} system properties.
+ */
+public class InferenceBudgetTest extends AbstractRegressionTest {
+
+public InferenceBudgetTest(String name) {
+	super(name);
+}
+public static Class<?> testClass() {
+	return InferenceBudgetTest.class;
+}
+public static Test suite() {
+	return buildMinimalComplianceTestSuite(testClass(), F_1_8);
+}
+@Override
+protected void tearDown() throws Exception {
+	System.clearProperty(InferenceBudget.MAX_INCORPORATIONS_PROPERTY);
+	System.clearProperty(InferenceBudget.MAX_BOUNDS_PROPERTY);
+	super.tearDown();
+}
+// within budget
+public void test001() {
+	System.setProperty(InferenceBudget.MAX_INCORPORATIONS_PROPERTY, "1000");
+	System.setProperty(InferenceBudget.MAX_BOUNDS_PROPERTY, "100");
+	this.runConformTest(
+		new String[] {
+			"X.java",
+			"public class X {\n" +
+			"	static <T> T id(T t) {\n" +
+			"		return t;\n" +
+			"	}\n" +
+			"	public static void main(String[] args) {\n" +
+			"		String s = id(\"a\");\n" +
+			"		System.out.print(s + id(id(\"b\")));\n" +
+			"	}\n" +
+			"}\n"
+		},
+		"ab");
+}
+// over the incorporation budget
+public void test002() {
+	System.setProperty(InferenceBudget.MAX_INCORPORATIONS_PROPERTY, "3");
+	this.runNegativeTest(
+		new String[] {
+			"X.java",
+			"public class X {\n" +
+			"	static <T> T id(T t) {\n" +
+			"		return t;\n" +
+			"	}\n" +
+			"	String foo() {\n" +
+			"		return id(\"b\");\n" +
+			"	}\n" +
+			"}\n"
+		},
+		"----------\n" +
+		"1. ERROR in X.java (at line 6)\n" +
+		"	return id(\"b\");\n" +
+		"	       ^^^^^^^\n" +
+		"Type inference aborted after 5 bound incorporations with 2 bounds, exceeding the configured budget\n" +
+		"----------\n");
+}
+// over the bound budget
+public void test003() {
+	System.setProperty(InferenceBudget.MAX_BOUNDS_PROPERTY, "1");
+	this.runNegativeTest(
+		new String[] {
+			"X.java",
+			"public class X {\n" +
+			"	static <T> T id(T t) {\n" +
+			"		return t;\n" +
+			"	}\n" +
+			"	String foo() {\n" +
+			"		return id(\"b\");\n" +
+			"	}\n" +
+			"}\n"
+		},
+		"----------\n" +
+		"1. ERROR in X.java (at line 6)\n" +
+		"	return id(\"b\");\n" +
+		"	       ^^^^^^^\n" +
+		"Type inference aborted after 3 bound incorporations with 2 bounds, exceeding the configured budget\n" +
+		"----------\n");
+}
+// over the budget while a copy of the lambda is resolved against each overload: still reported
+public void test004() {
+	System.setProperty(InferenceBudget.MAX_BOUNDS_PROPERTY, "1");
+	this.runNegativeTest(
+		new String[] {
+			"X.java",
+			"import java.util.function.Supplier;\n" +
+			"public class X {\n" +
+			"	static <T extends Comparable<T>> T max(T t) {\n" +
+			"		return t;\n" +
+			"	}\n" +
+			"	static void h(Supplier<Object> s) {}\n" +
+			"	static void h(Runnable r) {}\n" +
+			"	void foo(String s) {\n" +
+			"		h(() -> { return max(s); });\n" +
+			"	}\n" +
+			"}\n"
+		},
+		"----------\n" +
+		"1. ERROR in X.java (at line 9)\n" +
+		"	h(() -> { return max(s); });\n" +
+		"	^\n" +
+		"The method h(java.util.function.Supplier<java.lang.Object>) in the type X is not applicable for the arguments (java.util.function.Supplier<java.lang.Object>)\n" +
+		"----------\n" +
+		"2. ERROR in X.java (at line 9)\n" +
+		"	h(() -> { return max(s); });\n" +
+		"	                 ^^^^^^\n" +
+		"Type inference aborted after 4 bound incorporations with 2 bounds, exceeding the configured budget\n" +
+		"----------\n");
+}
+// over the budget while inferring the type of a record pattern: inference fails quietly
+public void test005() {
+	if (this.complianceLevel < ClassFileConstants.JDK20)
+		return;
+	System.setProperty(InferenceBudget.MAX_BOUNDS_PROPERTY, "1");
+	Map<String, String> options = getCompilerOptions();
+	options.put(CompilerOptions.OPTION_EnablePreviews, CompilerOptions.ENABLED);
+	options.put(CompilerOptions.OPTION_ReportPreviewFeatures, CompilerOptions.IGNORE);
+	PrintStream err = System.err;
+	ByteArrayOutputStream errors = new ByteArrayOutputStream();
+	System.setErr(new PrintStream(errors));
+	try {
+		this.runNegativeTest(
+			new String[] {
+				"X.java",
+				"public class X {\n" +
+				"	record Pair<A extends Comparable<A>, B extends A>(A a, B b) {}\n" +
+				"	static Object foo(Pair<String, String> p) {\n" +
+				"		if (p instanceof Pair(var a, var b))\n" +
+				"			return a;\n" +
+				"		return null;\n" +
+				"	}\n" +
+				"}\n"
+			},
+			"----------\n" +
+			"1. ERROR in X.java (at line 4)\n" +
+			"	if (p instanceof Pair(var a, var b))\n" +
+			"	                 ^^^^^^^^^^^^^^^^^^\n" +
+			"Cannot infer record pattern types for Pair(sealed var a, sealed var b)\n" +
+			"----------\n",
+			null,
+			true,
+			options);
+	} finally {
+		System.setErr(err);
+	}
+	assertEquals("Unexpected error output", "", errors.toString());
+}
+}
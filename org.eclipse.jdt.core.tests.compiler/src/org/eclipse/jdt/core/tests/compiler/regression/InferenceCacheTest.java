@@ -0,0 +1,194 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.compiler.regression;
+
+import org.eclipse.jdt.internal.compiler.Compiler;
+import org.eclipse.jdt.internal.compiler.batch.CompilationUnit;
+import org.eclipse.jdt.internal.compiler.env.ICompilationUnit;
+import org.eclipse.jdt.internal.compiler.env.INameEnvironment;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.impl.CompilerStats;
+import org.eclipse.jdt.internal.compiler.lookup.InferenceCache;
+
+import junit.framework.Test;
+
+/**
+ * Compiles repeated invocations of generic methods with the inference cache enabled, to check that reusing an
+ * inference answers the same as inferring again.
+ */
+public class InferenceCacheTest extends AbstractRegressionTest {
+
+public InferenceCacheTest(String name) {
+	super(name);
+}
+public static Class<?> testClass() {
+	return InferenceCacheTest.class;
+}
+public static Test suite() {
+	return buildMinimalComplianceTestSuite(testClass(), F_1_8);
+}
+@Override
+protected void setUp() throws Exception {
+	super.setUp();
+	System.setProperty(InferenceCache.ENABLED_PROPERTY, "true");
+}
+@Override
+protected void tearDown() throws Exception {
+	System.clearProperty(InferenceCache.ENABLED_PROPERTY);
+	super.tearDown();
+}
+// repeated invocations, standalone and in assignment contexts
+public void test001() {
+	this.runConformTest(
+		new String[] {
+			"X.java",
+			"import java.util.*;\n" +
+			"public class X {\n" +
+			"	static <T extends Comparable<? super T>> T max(List<T> list) {\n" +
+			"		return Collections.max(list);\n" +
+			"	}\n" +
+			"	static <T> List<T> copy(List<T> list) {\n" +
+			"		return new ArrayList<>(list);\n" +
+			"	}\n" +
+			"	public static void main(String[] args) {\n" +
+			"		List<String> strings = Arrays.asList(\"b\", \"c\", \"a\");\n" +
+			"		String s1 = max(strings);\n" +
+			"		String s2 = max(strings);\n" +
+			"		Object o = max(strings);\n" +
+			"		List<Integer> integers = Arrays.asList(2, 1);\n" +
+			"		Integer i = max(integers);\n" +
+			"		System.out.print(s1 + s2 + o + i + copy(strings).size() + copy(strings).get(0) + copy(integers).get(0));\n" +
+			"	}\n" +
+			"}\n"
+		},
+		"ccc23b2");
+}
+// the unchecked warnings of a reused inference are reported again
+public void test002() {
+	this.runNegativeTest(
+		new String[] {
+			"X.java",
+			"import java.util.*;\n" +
+			"public class X {\n" +
+			"	static <T> List<T> copy(List<T> list) {\n" +
+			"		return new ArrayList<>(list);\n" +
+			"	}\n" +
+			"	@SuppressWarnings(\"rawtypes\")\n" +
+			"	int foo(List raw) {\n" +
+			"		List<String> l1 = copy(raw);\n" +
+			"		List<String> l2 = copy(raw);\n" +
+			"		return l1.size() + l2.size();\n" +
+			"	}\n" +
+			"}\n"
+		},
+		"----------\n" +
+		"1. WARNING in X.java (at line 8)\n" +
+		"	List<String> l1 = copy(raw);\n" +
+		"	                  ^^^^^^^^^\n" +
+		"Type safety: Unchecked invocation copy(List) of the generic method copy(List<T>) of type X\n" +
+		"----------\n" +
+		"2. WARNING in X.java (at line 8)\n" +
+		"	List<String> l1 = copy(raw);\n" +
+		"	                  ^^^^^^^^^\n" +
+		"Type safety: The expression of type List needs unchecked conversion to conform to List<String>\n" +
+		"----------\n" +
+		"3. WARNING in X.java (at line 8)\n" +
+		"	List<String> l1 = copy(raw);\n" +
+		"	                       ^^^\n" +
+		"Type safety: The expression of type List needs unchecked conversion to conform to List<Object>\n" +
+		"----------\n" +
+		"4. WARNING in X.java (at line 9)\n" +
+		"	List<String> l2 = copy(raw);\n" +
+		"	                  ^^^^^^^^^\n" +
+		"Type safety: Unchecked invocation copy(List) of the generic method copy(List<T>) of type X\n" +
+		"----------\n" +
+		"5. WARNING in X.java (at line 9)\n" +
+		"	List<String> l2 = copy(raw);\n" +
+		"	                  ^^^^^^^^^\n" +
+		"Type safety: The expression of type List needs unchecked conversion to conform to List<String>\n" +
+		"----------\n" +
+		"6. WARNING in X.java (at line 9)\n" +
+		"	List<String> l2 = copy(raw);\n" +
+		"	                       ^^^\n" +
+		"Type safety: The expression of type List needs unchecked conversion to conform to List<Object>\n" +
+		"----------\n");
+}
+// a failed inference is reported for each invocation
+public void test003() {
+	this.runNegativeTest(
+		new String[] {
+			"X.java",
+			"import java.util.*;\n" +
+			"public class X {\n" +
+			"	static <T extends Comparable<? super T>> T max(List<T> list) {\n" +
+			"		return Collections.max(list);\n" +
+			"	}\n" +
+			"	void foo(List<Object> objects) {\n" +
+			"		max(objects);\n" +
+			"		max(objects);\n" +
+			"	}\n" +
+			"}\n"
+		},
+		"----------\n" +
+		"1. ERROR in X.java (at line 7)\n" +
+		"	max(objects);\n" +
+		"	^^^\n" +
+		"The method max(List<T>) in the type X is not applicable for the arguments (List<Object>)\n" +
+		"----------\n" +
+		"2. ERROR in X.java (at line 8)\n" +
+		"	max(objects);\n" +
+		"	^^^\n" +
+		"The method max(List<T>) in the type X is not applicable for the arguments (List<Object>)\n" +
+		"----------\n");
+}
+// the second identical invocation reuses the inference of the first one, the other ones are inferred
+public void test004() {
+	CompilerStats stats = compile(
+		"import java.util.*;\n" +
+		"public class X {\n" +
+		"	static <T> List<T> copy(List<T> list) {\n" +
+		"		return list;\n" +
+		"	}\n" +
+		"	void foo(List<String> strings, List<Integer> integers) {\n" +
+		"		List<String> l1 = copy(strings);\n" +
+		"		List<String> l2 = copy(strings);\n" +
+		"		List<Integer> l3 = copy(integers);\n" +
+		"		Object o = copy(strings);\n" +
+		"	}\n" +
+		"}\n");
+	assertEquals("Unexpected lookups", 4, stats.inferenceLookups);
+	assertEquals("Unexpected hits", 1, stats.inferenceHits);
+}
+// the counters of the cache are reset with the lookup environment, after being added to the stats of the compiler
+private CompilerStats compile(String source) {
+	INameEnvironment nameEnvironment = getNameEnvironment(new String[0], null);
+	try {
+		StringBuilder errors = new StringBuilder();
+		Compiler compiler = new Compiler(
+			nameEnvironment,
+			getErrorHandlingPolicy(),
+			new CompilerOptions(getCompilerOptions()),
+			result -> {
+				if (result.hasErrors())
+					errors.append(result.getErrors()[0].getMessage());
+			},
+			getProblemFactory());
+		compiler.compile(new ICompilationUnit[] { new CompilationUnit(source.toCharArray(), "X.java", null) });
+		assertEquals("Unexpected errors", "", errors.toString());
+		return compiler.stats;
+	} finally {
+		nameEnvironment.cleanup();
+	}
+}
+}
@@ -0,0 +1,195 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.compiler.regression;
+
+import junit.framework.Test;
+
+/**
+ * Compiles several subclasses of the same superclass, whose inherited methods are computed once and reused, and
+ * looks methods up in types declaring many methods, whose selectors are indexed.
+ */
+public class InheritedMethodsTest extends AbstractRegressionTest {
+
+public InheritedMethodsTest(String name) {
+	super(name);
+}
+public static Class<?> testClass() {
+	return InheritedMethodsTest.class;
+}
+public static Test suite() {
+	return buildMinimalComplianceTestSuite(testClass(), F_1_8);
+}
+// overriding methods and bridge methods of sibling subclasses
+public void test001() {
+	this.runConformTest(
+		new String[] {
+			"X.java",
+			"public class X {\n" +
+			"	static class A {\n" +
+			"		public Object value() { return \"A\"; }\n" +
+			"		public int size() { return 1; }\n" +
+			"	}\n" +
+			"	static class B extends A {\n" +
+			"		@Override\n" +
+			"		public String value() { return \"B\"; }\n" +
+			"	}\n" +
+			"	static class C extends B {\n" +
+			"		@Override\n" +
+			"		public int size() { return 3; }\n" +
+			"	}\n" +
+			"	static class D extends B {\n" +
+			"	}\n" +
+			"	static class E extends B {\n" +
+			"		@Override\n" +
+			"		public String value() { return \"E\"; }\n" +
+			"	}\n" +
+			"	public static void main(String[] args) {\n" +
+			"		A[] all = { new A(), new B(), new C(), new D(), new E() };\n" +
+			"		for (A a : all)\n" +
+			"			System.out.print(a.value() + \"\" + a.size());\n" +
+			"	}\n" +
+			"}\n"
+		},
+		"A1B1B3B1E1");
+}
+// the missing implementations of an inherited abstract method are reported for each subclass
+public void test002() {
+	this.runNegativeTest(
+		new String[] {
+			"X.java",
+			"public class X {\n" +
+			"	static abstract class A {\n" +
+			"		public abstract void run();\n" +
+			"		public abstract String name(int i);\n" +
+			"	}\n" +
+			"	static abstract class B extends A {\n" +
+			"		@Override\n" +
+			"		public String name(int i) { return \"B\" + i; }\n" +
+			"	}\n" +
+			"	static class C extends B {\n" +
+			"	}\n" +
+			"	static class D extends B {\n" +
+			"		@Override\n" +
+			"		public void run() {}\n" +
+			"	}\n" +
+			"	static class E extends B {\n" +
+			"	}\n" +
+			"}\n"
+		},
+			"----------\n" +
+			"1. ERROR in X.java (at line 10)\n" +
+			"	static class C extends B {\n" +
+			"	             ^\n" +
+			"The type X.C must implement the inherited abstract method X.A.run()\n" +
+			"----------\n" +
+			"2. ERROR in X.java (at line 16)\n" +
+			"	static class E extends B {\n" +
+			"	             ^\n" +
+			"The type X.E must implement the inherited abstract method X.A.run()\n" +
+			"----------\n");
+}
+// package private methods inherited from another package are reported for each subclass
+public void test003() {
+	this.runNegativeTest(
+		new String[] {
+			"p/A.java",
+			"package p;\n" +
+			"public abstract class A {\n" +
+			"	void hidden() {}\n" +
+			"	public abstract void run();\n" +
+			"	public Object value() { return null; }\n" +
+			"}\n",
+			"p/B.java",
+			"package p;\n" +
+			"public abstract class B extends A {\n" +
+			"	public String value() { return \"B\"; }\n" +
+			"}\n",
+			"p/E.java",
+			"package p;\n" +
+			"public class E extends B {\n" +
+			"	void hidden() {}\n" +
+			"	public void run() {}\n" +
+			"}\n",
+			"q/C.java",
+			"package q;\n" +
+			"public class C extends p.B {\n" +
+			"	void hidden() {}\n" +
+			"}\n",
+			"q/D.java",
+			"package q;\n" +
+			"public class D extends p.B {\n" +
+			"	void hidden() {}\n" +
+			"	public void run() {}\n" +
+			"}\n"
+		},
+			"----------\n" +
+			"1. ERROR in q\\C.java (at line 2)\n" +
+			"	public class C extends p.B {\n" +
+			"	             ^\n" +
+			"The type C must implement the inherited abstract method A.run()\n" +
+			"----------\n" +
+			"2. WARNING in q\\C.java (at line 3)\n" +
+			"	void hidden() {}\n" +
+			"	     ^^^^^^^^\n" +
+			"The method C.hidden() does not override the inherited method from A since it is private to a different package\n" +
+			"----------\n" +
+			"----------\n" +
+			"1. WARNING in q\\D.java (at line 3)\n" +
+			"	void hidden() {}\n" +
+			"	     ^^^^^^^^\n" +
+			"The method D.hidden() does not override the inherited method from A since it is private to a different package\n" +
+			"----------\n");
+}
+// overloaded methods of a type declaring many methods, invoked on a subclass
+public void test004() {
+	this.runConformTest(
+		new String[] {
+			"X.java",
+			"public class X {\n" +
+			"	static class A {\n" +
+			"		String m(int i) { return \"i\"; }\n" +
+			"		String m(long l) { return \"l\"; }\n" +
+			"		String m(String s) { return \"s\"; }\n" +
+			"		String m(Object o) { return \"o\"; }\n" +
+			"		String m(int i, int j) { return \"ii\"; }\n" +
+			"		String a() { return \"a\"; }\n" +
+			"		String b() { return \"b\"; }\n" +
+			"		String c() { return \"c\"; }\n" +
+			"		String d() { return \"d\"; }\n" +
+			"		String e() { return \"e\"; }\n" +
+			"		String f() { return \"f\"; }\n" +
+			"		String g() { return \"g\"; }\n" +
+			"		String h() { return \"h\"; }\n" +
+			"		String k() { return \"k\"; }\n" +
+			"		String n() { return \"n\"; }\n" +
+			"		String p() { return \"p\"; }\n" +
+			"		String q() { return \"q\"; }\n" +
+			"	}\n" +
+			"	static class B extends A {\n" +
+			"		String m(Integer i) { return \"I\"; }\n" +
+			"	}\n" +
+			"	static class C extends B {\n" +
+			"		@Override\n" +
+			"		String k() { return \"K\"; }\n" +
+			"	}\n" +
+			"	public static void main(String[] args) {\n" +
+			"		C c = new C();\n" +
+			"		System.out.print(c.m(1) + c.m(1L) + c.m(\"\") + c.m(c) + c.m(1, 2) + c.m(Integer.valueOf(1)));\n" +
+			"		System.out.print(c.a() + c.h() + c.k() + c.q() + new A().k());\n" +
+			"	}\n" +
+			"}\n"
+		},
+		"ilsoiiIahKqk");
+}
+}
@@ -0,0 +1,219 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.compiler.regression;
+
+import junit.framework.Test;
+
+import org.eclipse.jdt.internal.compiler.CompilationResult;
+import org.eclipse.jdt.internal.compiler.Compiler;
+import org.eclipse.jdt.internal.compiler.ast.AbstractMethodDeclaration;
+import org.eclipse.jdt.internal.compiler.ast.CompilationUnitDeclaration;
+import org.eclipse.jdt.internal.compiler.ast.ConstructorDeclaration;
+import org.eclipse.jdt.internal.compiler.ast.LambdaExpression;
+import org.eclipse.jdt.internal.compiler.ast.LocalDeclaration;
+import org.eclipse.jdt.internal.compiler.ast.ReturnStatement;
+import org.eclipse.jdt.internal.compiler.batch.CompilationUnit;
+import org.eclipse.jdt.internal.compiler.env.ICompilationUnit;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+
+/**
+ * Tests the units whose method bodies are parsed and resolved on demand, see
+ * {@link CompilationUnitDeclaration#resolveMethodBodiesOnDemand}.
+ */
+@SuppressWarnings({ "rawtypes" })
+public class MethodBodiesOnDemandTest extends AbstractRegressionTest {
+
+	Compiler compiler;
+
+	public MethodBodiesOnDemandTest(String name) {
+		super(name);
+	}
+
+	public static Test suite() {
+		return buildMinimalComplianceTestSuite(testClass(), F_1_8);
+	}
+
+	public static Class testClass() {
+		return MethodBodiesOnDemandTest.class;
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		if (this.compiler != null) {
+			this.compiler.lookupEnvironment.nameEnvironment.cleanup();
+			this.compiler = null;
+		}
+		super.tearDown();
+	}
+
+	/*
+	 * Diet parses the given source with the bodies of its methods deferred, then resolves it if asked to.
+	 */
+	private CompilationUnitDeclaration parse(String source, boolean resolve) {
+		CompilerOptions compilerOptions = new CompilerOptions(getCompilerOptions());
+		this.compiler = new Compiler(
+			getNameEnvironment(new String[0], null),
+			getErrorHandlingPolicy(),
+			compilerOptions,
+			result -> { /* units are not accepted */ },
+			getProblemFactory());
+		ICompilationUnit sourceUnit = new CompilationUnit(source.toCharArray(), "X.java", null);
+		CompilationResult result = new CompilationResult(sourceUnit, 0, 1, compilerOptions.maxProblemsPerUnit);
+		CompilationUnitDeclaration unit = this.compiler.parser.dietParse(sourceUnit, result);
+		unit.resolveMethodBodiesOnDemand = true;
+		this.compiler.lookupEnvironment.buildTypeBindings(unit, null /*no access restriction*/);
+		this.compiler.lookupEnvironment.completeTypeBindings();
+		this.compiler.parser.getMethodBodies(unit);
+		if (resolve)
+			resolve(unit);
+		return unit;
+	}
+
+	private void resolve(CompilationUnitDeclaration unit) {
+		this.compiler.lookupEnvironment.unitBeingCompleted = unit;
+		try {
+			unit.scope.faultInTypes();
+			unit.scope.verifyMethods(this.compiler.lookupEnvironment.methodVerifier());
+			unit.resolve();
+		} finally {
+			this.compiler.lookupEnvironment.unitBeingCompleted = null;
+		}
+	}
+
+	private static AbstractMethodDeclaration method(CompilationUnitDeclaration unit, String selector) {
+		for (AbstractMethodDeclaration method : unit.types[0].methods) {
+			if (selector.equals(new String(method.selector)))
+				return method;
+		}
+		return null;
+	}
+
+	private static String errors(CompilationUnitDeclaration unit) {
+		StringBuilder buffer = new StringBuilder();
+		if (unit.compilationResult.hasErrors()) {
+			for (org.eclipse.jdt.core.compiler.CategorizedProblem problem : unit.compilationResult.getErrors())
+				buffer.append(problem.getMessage()).append('\n');
+		}
+		return buffer.toString();
+	}
+
+	public void test001() {
+		String source =
+			"public class X {\n" +
+			"	int foo() {\n" +
+			"		String s = \"foo\";\n" +
+			"		return s.length();\n" +
+			"	}\n" +
+			"	int bar() {\n" +
+			"		Unknown u = null;\n" +
+			"		return 0;\n" +
+			"	}\n" +
+			"}\n";
+		CompilationUnitDeclaration unit = parse(source, true);
+		AbstractMethodDeclaration foo = method(unit, "foo");
+		AbstractMethodDeclaration bar = method(unit, "bar");
+		assertTrue("foo should be deferred", foo.hasDeferredBody);
+		assertTrue("bar should be deferred", bar.hasDeferredBody);
+		assertNull("foo should not be parsed", foo.statements);
+		assertNotNull("foo should be resolved", foo.binding);
+		assertEquals("Unexpected errors", "", errors(unit));
+
+		AbstractMethodDeclaration method = unit.resolveMethodBodyAt(this.compiler.parser, source.indexOf("s.length()"));
+		assertSame("Unexpected method", foo, method);
+		assertFalse("foo should not be deferred", foo.hasDeferredBody);
+		assertEquals("Unexpected statements", 2, foo.statements.length);
+		LocalDeclaration local = (LocalDeclaration) foo.statements[0];
+		assertNotNull("local should be resolved", local.binding);
+		assertEquals("Unexpected local type", "java.lang.String", new String(local.binding.type.readableName()));
+		assertNotNull("return should be resolved", ((ReturnStatement) foo.statements[1]).expression.resolvedType);
+		assertTrue("bar should still be deferred", bar.hasDeferredBody);
+		assertEquals("Unexpected errors", "", errors(unit));
+
+		unit.resolveMethodBodyAt(this.compiler.parser, source.indexOf("Unknown"));
+		assertFalse("bar should not be deferred", bar.hasDeferredBody);
+		assertEquals("Unexpected errors",
+			"Unknown cannot be resolved to a type\n",
+			errors(unit));
+	}
+
+	// a body asked for before the unit is resolved is resolved along with the unit
+	public void test002() {
+		String source =
+			"public class X {\n" +
+			"	void foo() {\n" +
+			"		Unknown u = null;\n" +
+			"	}\n" +
+			"	void bar() {\n" +
+			"		Unknown u = null;\n" +
+			"	}\n" +
+			"}\n";
+		CompilationUnitDeclaration unit = parse(source, false);
+		AbstractMethodDeclaration foo = unit.resolveMethodBodyAt(this.compiler.parser, source.indexOf("Unknown"));
+		assertNotNull("foo should be parsed", foo.statements);
+		assertNull("foo should not be resolved yet", ((LocalDeclaration) foo.statements[0]).binding);
+		resolve(unit);
+		assertNotNull("foo should be resolved", ((LocalDeclaration) foo.statements[0]).binding);
+		assertTrue("bar should still be deferred", method(unit, "bar").hasDeferredBody);
+		assertEquals("Unexpected errors",
+			"Unknown cannot be resolved to a type\n",
+			errors(unit));
+	}
+
+	// explicit constructor calls and lambda expressions of deferred bodies
+	public void test003() {
+		String source =
+			"import java.util.function.Function;\n" +
+			"public class X {\n" +
+			"	X(int i) {\n" +
+			"	}\n" +
+			"	X() {\n" +
+			"		this(1);\n" +
+			"		Function<String, Integer> f = s -> s.length();\n" +
+			"	}\n" +
+			"}\n";
+		CompilationUnitDeclaration unit = parse(source, true);
+		ConstructorDeclaration constructor = (ConstructorDeclaration) unit.resolveMethodBodyAt(this.compiler.parser, source.indexOf("this(1)"));
+		assertNotNull("Missing constructor", constructor);
+		assertNotNull("constructor call should be resolved", constructor.constructorCall.binding);
+		LocalDeclaration local = (LocalDeclaration) constructor.statements[0];
+		LambdaExpression lambda = (LambdaExpression) local.initialization;
+		assertEquals("Unexpected lambda target type",
+			"java.util.function.Function<java.lang.String,java.lang.Integer>",
+			new String(lambda.resolvedType.readableName()));
+		assertEquals("Unexpected errors", "", errors(unit));
+	}
+
+	// the flow analysis skips the deferred bodies instead of reporting a missing return
+	public void test004() {
+		String source =
+			"public class X {\n" +
+			"	int foo() {\n" +
+			"		return 1;\n" +
+			"	}\n" +
+			"	abstract static class Y {\n" +
+			"		abstract int bar();\n" +
+			"	}\n" +
+			"}\n";
+		CompilationUnitDeclaration unit = parse(source, true);
+		assertFalse("abstract methods have no body to defer", unit.types[0].memberTypes[0].methods[1].hasDeferredBody);
+		this.compiler.lookupEnvironment.unitBeingCompleted = unit;
+		try {
+			unit.analyseCode();
+		} finally {
+			this.compiler.lookupEnvironment.unitBeingCompleted = null;
+		}
+		assertEquals("Unexpected errors", "", errors(unit));
+		assertTrue("foo should still be deferred", method(unit, "foo").hasDeferredBody);
+	}
+}
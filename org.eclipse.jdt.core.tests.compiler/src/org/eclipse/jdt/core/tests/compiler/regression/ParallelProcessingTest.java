@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.compiler.regression;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.jdt.core.compiler.CategorizedProblem;
+import org.eclipse.jdt.core.compiler.CharOperation;
+import org.eclipse.jdt.core.tests.util.Util;
+import org.eclipse.jdt.internal.compiler.ClassFile;
+import org.eclipse.jdt.internal.compiler.Compiler;
+import org.eclipse.jdt.internal.compiler.batch.CompilationUnit;
+import org.eclipse.jdt.internal.compiler.batch.FileSystem;
+import org.eclipse.jdt.internal.compiler.env.ICompilationUnit;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+
+import junit.framework.Test;
+
+/**
+ * Compiles units on several processing threads (see ParallelProcessManager), checking that they are processed
+ * concurrently, and that the results are the ones of a compilation on a single thread, in the same order.
+ */
+public class ParallelProcessingTest extends AbstractRegressionTest {
+
+public ParallelProcessingTest(String name) {
+	super(name);
+}
+public static Class<?> testClass() {
+	return ParallelProcessingTest.class;
+}
+public static Test suite() {
+	return buildMinimalComplianceTestSuite(testClass(), F_1_8);
+}
+// the method bodies of X and Y are parsed at the same time, by two threads
+public void test001() {
+	CyclicBarrier barrier = new CyclicBarrier(2);
+	boolean[] concurrent = { true };
+	ICompilationUnit[] units = new ICompilationUnit[2];
+	for (int i = 0; i < units.length; i++) {
+		String name = i == 0 ? "X" : "Y";
+		units[i] = new CompilationUnit(("public class " + name + " { void foo() { bar(); } void bar() {} }").toCharArray(), name + ".java", null) {
+			private final Map<Thread, Integer> reads = new HashMap<>();
+			@Override
+			public char[] getContents() {
+				int count;
+				synchronized (this.reads) {
+					count = this.reads.merge(Thread.currentThread(), 1, Integer::sum);
+				}
+				if (count == 2) {
+					// the thread which parsed the unit for its bindings now parses its method bodies
+					try {
+						barrier.await(10, TimeUnit.SECONDS);
+					} catch (InterruptedException | BrokenBarrierException | TimeoutException e) {
+						concurrent[0] = false;
+					}
+				}
+				return super.getContents();
+			}
+		};
+	}
+	assertEquals("Unexpected results", "X.java\nX.class\nY.java\nY.class\n", compile(units, 2, null));
+	assertTrue("Units not processed concurrently", concurrent[0]);
+}
+// problems and class files of several threads, in unit order
+public void test002() {
+	String[] testFiles = new String[] {
+		"p/A.java",
+		"package p;\n" +
+		"public class A {\n" +
+		"	B b;\n" +
+		"	String s = C.K;\n" +
+		"	void foo() { int i = ; }\n" +
+		"}\n",
+		"p/B.java",
+		"package p;\n" +
+		"public class B extends A {\n" +
+		"	void bar() { undefined(); }\n" +
+		"	Runnable r = () -> foo();\n" +
+		"}\n",
+		"p/C.java",
+		"package p;\n" +
+		"public class C {\n" +
+		"	static final String K = \"k\";\n" +
+		"	Object o = new Object() {\n" +
+		"		@Override public String toString() { return K + D.class; }\n" +
+		"	};\n" +
+		"}\n",
+		"p/D.java",
+		"package p;\n" +
+		"import java.util.*;\n" +
+		"public class D {\n" +
+		"	List<String> l = new ArrayList<>();\n" +
+		"	int size() { return this.l.stream().mapToInt(String::length).sum(); }\n" +
+		"}\n",
+		"p/E.java",
+		"package p;\n" +
+		"public class E extends D implements Runnable {\n" +
+		"	public void run() { String s = size(); }\n" +
+		"}\n",
+	};
+	Map<String, byte[]> expectedClassFiles = new HashMap<>();
+	String expected = compile(Util.compilationUnits(testFiles), 1, expectedClassFiles);
+	for (int threads : new int[] { 2, 5 }) {
+		Map<String, byte[]> classFiles = new HashMap<>();
+		assertEquals("Unexpected results", expected, compile(Util.compilationUnits(testFiles), threads, classFiles));
+		assertEquals("Unexpected class files", expectedClassFiles.keySet(), classFiles.keySet());
+		for (Map.Entry<String, byte[]> entry : classFiles.entrySet())
+			assertTrue("Unexpected bytes in " + entry.getKey(), Arrays.equals(expectedClassFiles.get(entry.getKey()), entry.getValue()));
+	}
+}
+// the results of the units, in the order they are accepted, with their problems and class files
+private String compile(ICompilationUnit[] units, int threads, Map<String, byte[]> classFiles) {
+	FileSystem nameEnvironment = new FileSystem(Util.getJavaClassLibs(), new String[0], null);
+	try {
+		StringBuilder results = new StringBuilder();
+		Compiler compiler = new Compiler(
+			nameEnvironment,
+			getErrorHandlingPolicy(),
+			new CompilerOptions(getCompilerOptions()),
+			result -> {
+				results.append(result.getFileName()).append('\n');
+				if (result.hasProblems()) {
+					for (CategorizedProblem problem : result.getProblems())
+						results.append(problem.getSourceLineNumber()).append(": ").append(problem.getMessage()).append('\n');
+				}
+				ClassFile[] unitClassFiles = result.getClassFiles();
+				Arrays.sort(unitClassFiles, (c1, c2) -> CharOperation.compareTo(c1.fileName(), c2.fileName())); // in no particular order
+				for (ClassFile classFile : unitClassFiles) {
+					String name = new String(classFile.fileName()) + ".class";
+					results.append(name).append('\n');
+					if (classFiles != null)
+						classFiles.put(name, classFile.getBytes());
+				}
+			},
+			getProblemFactory());
+		compiler.processingThreads = threads;
+		compiler.compile(units);
+		return results.toString();
+	} finally {
+		nameEnvironment.cleanup();
+	}
+}
+}
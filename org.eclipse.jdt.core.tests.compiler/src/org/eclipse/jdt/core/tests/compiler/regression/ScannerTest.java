@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.jdt.core.tests.compiler.regression;
 
+import java.util.Arrays;
+
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.ToolFactory;
 import org.eclipse.jdt.core.compiler.IScanner;
@@ -1857,4 +1859,108 @@ public class ScannerTest extends AbstractRegressionTest {
 			assertTrue(false);
 		}
 	}
+	public void testKeywords() {
+		String[] keywords = { "abstract", "boolean", "break", "byte", "case", "catch", "char", "class", "const", "continue",
+				"default", "do", "double", "else", "extends", "false", "final", "finally", "float", "for", "goto", "if",
+				"implements", "import", "instanceof", "int", "interface", "long", "native", "new", "null", "package",
+				"private", "protected", "public", "return", "short", "static", "strictfp", "super", "switch",
+				"synchronized", "this", "throw", "throws", "transient", "true", "try", "void", "volatile", "while" };
+		int[] tokens = { TerminalTokens.TokenNameabstract, TerminalTokens.TokenNameboolean, TerminalTokens.TokenNamebreak,
+				TerminalTokens.TokenNamebyte, TerminalTokens.TokenNamecase, TerminalTokens.TokenNamecatch,
+				TerminalTokens.TokenNamechar, TerminalTokens.TokenNameclass, TerminalTokens.TokenNameconst,
+				TerminalTokens.TokenNamecontinue, TerminalTokens.TokenNamedefault, TerminalTokens.TokenNamedo,
+				TerminalTokens.TokenNamedouble, TerminalTokens.TokenNameelse, TerminalTokens.TokenNameextends,
+				TerminalTokens.TokenNamefalse, TerminalTokens.TokenNamefinal, TerminalTokens.TokenNamefinally,
+				TerminalTokens.TokenNamefloat, TerminalTokens.TokenNamefor, TerminalTokens.TokenNamegoto,
+				TerminalTokens.TokenNameif, TerminalTokens.TokenNameimplements, TerminalTokens.TokenNameimport,
+				TerminalTokens.TokenNameinstanceof, TerminalTokens.TokenNameint, TerminalTokens.TokenNameinterface,
+				TerminalTokens.TokenNamelong, TerminalTokens.TokenNamenative, TerminalTokens.TokenNamenew,
+				TerminalTokens.TokenNamenull, TerminalTokens.TokenNamepackage, TerminalTokens.TokenNameprivate,
+				TerminalTokens.TokenNameprotected, TerminalTokens.TokenNamepublic, TerminalTokens.TokenNamereturn,
+				TerminalTokens.TokenNameshort, TerminalTokens.TokenNamestatic, TerminalTokens.TokenNamestrictfp,
+				TerminalTokens.TokenNamesuper, TerminalTokens.TokenNameswitch, TerminalTokens.TokenNamesynchronized,
+				TerminalTokens.TokenNamethis, TerminalTokens.TokenNamethrow, TerminalTokens.TokenNamethrows,
+				TerminalTokens.TokenNametransient, TerminalTokens.TokenNametrue, TerminalTokens.TokenNametry,
+				TerminalTokens.TokenNamevoid, TerminalTokens.TokenNamevolatile, TerminalTokens.TokenNamewhile };
+		Scanner scanner = new Scanner(false, false, false, ClassFileConstants.getLatestJDKLevel(), null, null, false);
+		try {
+			for (int i = 0; i < keywords.length; i++) {
+				String keyword = keywords[i];
+				scanner.setSource(keyword.toCharArray());
+				assertEquals("Wrong token for " + keyword, tokens[i], scanner.getNextToken());
+				// identifiers which only differ from the keyword by a character, or which extend or shorten it
+				String[] identifiers = {
+						keyword + "x",
+						keyword.substring(0, keyword.length() - 1) + "x",
+						keyword.substring(0, keyword.length() - 1),
+						Character.toUpperCase(keyword.charAt(0)) + keyword.substring(1),
+						"_" + keyword };
+				for (String identifier : identifiers) {
+					if (Arrays.asList(keywords).contains(identifier)) // throw of throws
+						continue;
+					scanner.setSource(identifier.toCharArray());
+					int token = scanner.getNextToken();
+					assertEquals("Wrong token for " + identifier, TerminalTokens.TokenNameIdentifier, token);
+					assertEquals("Wrong identifier", identifier, new String(scanner.getCurrentIdentifierSource()));
+				}
+			}
+			// keywords of earlier source levels and restricted keywords out of a module declaration
+			scanner = new Scanner(false, false, false, ClassFileConstants.JDK1_3, null, null, false);
+			scanner.setSource("assert".toCharArray());
+			assertEquals("Wrong token for assert", TerminalTokens.TokenNameIdentifier, scanner.getNextToken());
+			assertTrue("assert should be an identifier", scanner.useAssertAsAnIndentifier);
+			for (String identifier : new String[] { "module", "requires", "exports", "to", "with" }) {
+				scanner.setSource(identifier.toCharArray());
+				assertEquals("Wrong token for " + identifier, TerminalTokens.TokenNameIdentifier, scanner.getNextToken());
+			}
+			scanner = new Scanner(false, false, false, ClassFileConstants.JDK1_4, null, null, false);
+			scanner.setSource("assert enum".toCharArray());
+			assertEquals("Wrong token for assert", TerminalTokens.TokenNameassert, scanner.getNextToken());
+			assertTrue("Should contain assert", scanner.containsAssertKeyword);
+			assertEquals("Wrong token for enum", TerminalTokens.TokenNameIdentifier, scanner.getNextToken());
+			assertTrue("enum should be an identifier", scanner.useEnumAsAnIndentifier);
+		} catch (InvalidInputException e) {
+			assertTrue(false);
+		}
+	}
+	// whitespaces and comments of all lengths, up to the end of the source
+	public void testWhitespacesAndComments() {
+		Scanner scanner = new Scanner(true, false, false, ClassFileConstants.getLatestJDKLevel(), null, null, false);
+		scanner.recordLineSeparator = true;
+		try {
+			for (int length = 0; length < 20; length++) {
+				String spaces = " \t\f \t\f \t\f \t\f \t\f \t\f \t\f".substring(0, length + 1);
+				String text = "ab*@ /x".repeat(3).substring(0, length) + "\\u0063d";
+				String source = "a" + spaces + "b // " + text + "\n/* " + text + " */" + spaces + "/** @see " + text + "*/c";
+				scanner.setSource(source.toCharArray());
+				StringBuilder buffer = new StringBuilder();
+				int token;
+				while ((token = scanner.getNextToken()) != TerminalTokens.TokenNameEOF)
+					buffer.append(token).append(':').append(source, scanner.startPosition, scanner.currentPosition).append('|');
+				assertEquals("Wrong tokens",
+						TerminalTokens.TokenNameIdentifier + ":a|" +
+						TerminalTokens.TokenNameIdentifier + ":b|" +
+						TerminalTokens.TokenNameCOMMENT_LINE + ":// " + text + "\n|" +
+						TerminalTokens.TokenNameCOMMENT_BLOCK + ":/* " + text + " */|" +
+						TerminalTokens.TokenNameCOMMENT_JAVADOC + ":/** @see " + text + "*/|" +
+						TerminalTokens.TokenNameIdentifier + ":c|",
+						buffer.toString());
+				assertEquals("Wrong line ends", 1, scanner.getLineEnds().length);
+			}
+			for (String source : new String[] { "a /* unterminated", "a /** unterminated *", "a // at end of source" }) {
+				scanner.setSource(source.toCharArray());
+				assertEquals("Wrong token", TerminalTokens.TokenNameIdentifier, scanner.getNextToken());
+				try {
+					int token = scanner.getNextToken();
+					assertEquals("Wrong token", TerminalTokens.TokenNameCOMMENT_LINE, token);
+					assertEquals("Wrong comment end", source.length(), scanner.currentPosition);
+				} catch (InvalidInputException e) {
+					assertEquals("Wrong error", Scanner.UNTERMINATED_COMMENT, e.getMessage());
+					assertEquals("Wrong error position", source.length(), scanner.currentPosition);
+				}
+			}
+		} catch (InvalidInputException e) {
+			assertTrue(false);
+		}
+	}
 }
@@ -25,8 +25,10 @@ package org.eclipse.jdt.core.tests.compiler.regression;
 
 import java.util.ArrayList;
 
+import org.eclipse.jdt.core.tests.compiler.util.ConstantPoolCacheTest;
 import org.eclipse.jdt.core.tests.compiler.util.HashtableOfObjectTest;
 import org.eclipse.jdt.core.tests.compiler.util.JrtUtilTest;
+import org.eclipse.jdt.core.tests.compiler.util.ReadManagerTest;
 import org.eclipse.jdt.core.tests.dom.StandAloneASTParserTest;
 import org.eclipse.jdt.core.tests.junit.extension.TestCase;
 import org.eclipse.jdt.core.tests.util.AbstractCompilerTest;
@@ -157,9 +159,14 @@ public static Test suite() {
 	since_1_8.add(ClassFileReaderTest_1_8.class);
 	since_1_8.add(RepeatableAnnotationTest.class);
 	since_1_8.add(GenericsRegressionTest_1_8.class);
+	since_1_8.add(InferenceCacheTest.class);
+	since_1_8.add(InferenceBudgetTest.class);
+	since_1_8.add(ParallelProcessingTest.class);
+	since_1_8.add(InheritedMethodsTest.class);
 	since_1_8.add(Unicode18Test.class);
 	since_1_8.add(LambdaShapeTests.class);
 	since_1_8.add(StringConcatTest.class);
+	since_1_8.add(MethodBodiesOnDemandTest.class);
 
 	ArrayList since_9 = new ArrayList();
 	since_9.add(Unicode9Test.class);
@@ -240,7 +247,9 @@ public static Test suite() {
 	TestSuite all = new TestSuite(TestAll.class.getName());
 	all.addTest(new TestSuite(StandAloneASTParserTest.class));
 	all.addTest(new TestSuite(HashtableOfObjectTest.class));
+	all.addTest(new TestSuite(ConstantPoolCacheTest.class));
 	all.addTest(new TestSuite(JrtUtilTest.class));
+	all.addTest(new TestSuite(ReadManagerTest.class));
 	int possibleComplianceLevels = AbstractCompilerTest.getPossibleComplianceLevels();
 	if ((possibleComplianceLevels & AbstractCompilerTest.F_1_3) != 0) {
 		ArrayList tests_1_3 = (ArrayList)standardTests.clone();
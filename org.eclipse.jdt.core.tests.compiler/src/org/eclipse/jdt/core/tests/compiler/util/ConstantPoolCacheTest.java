@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.compiler.util;
+
+import org.eclipse.jdt.core.compiler.CharOperation;
+import org.eclipse.jdt.core.tests.junit.extension.TestCase;
+import org.eclipse.jdt.internal.compiler.codegen.CharArrayCache;
+import org.eclipse.jdt.internal.compiler.codegen.MemberRefCache;
+import org.junit.Test;
+
+/**
+ * Checks the open addressing tables which map the entries of a constant pool to their index.
+ */
+public class ConstantPoolCacheTest extends TestCase {
+
+	public ConstantPoolCacheTest(String name) {
+		super(name);
+	}
+
+	private static char[] key(int i) {
+		return ("java/lang/Entry" + i).toCharArray();
+	}
+
+	@Test
+	public void testCharArrayCache() {
+		CharArrayCache cache = new CharArrayCache(3);
+		for (int i = 1; i <= 1000; i++)
+			assertEquals(-i, cache.putIfAbsent(key(i), i));
+		assertEquals(1000, cache.size());
+		for (int i = 1; i <= 1000; i++) {
+			assertEquals(i, cache.putIfAbsent(key(i), -1));
+			assertEquals(i, cache.get(key(i)));
+		}
+		assertEquals(-1, cache.get(key(1001)));
+		assertFalse(cache.containsKey(key(0)));
+		assertTrue(CharOperation.equals(key(7), cache.returnKeyFor(7)));
+	}
+
+	@Test
+	public void testCharArrayCacheRemove() {
+		CharArrayCache cache = new CharArrayCache(3);
+		for (int i = 1; i <= 1000; i++)
+			cache.putIfAbsent(key(i), i);
+		for (int i = 1; i <= 1000; i += 2)
+			cache.remove(key(i));
+		cache.remove(key(1001));
+		assertEquals(500, cache.size());
+		// the keys following a removed key in its probe sequence are still found
+		for (int i = 1; i <= 1000; i++)
+			assertEquals(i % 2 == 0 ? i : -1, cache.get(key(i)));
+		assertNull(cache.returnKeyFor(1));
+		cache.clear();
+		assertEquals(0, cache.size());
+		assertEquals(-1, cache.get(key(2)));
+		assertEquals(-5, cache.putIfAbsent(key(2), 5));
+	}
+
+	@Test
+	public void testMemberRefCache() {
+		MemberRefCache cache = new MemberRefCache(3);
+		char[] owner = "p/X".toCharArray();
+		char[] name = "foo".toCharArray();
+		char[] signature = "()V".toCharArray();
+		assertEquals(-1, cache.putIfAbsent(owner, name, signature, 1));
+		assertEquals(1, cache.putIfAbsent("p/X".toCharArray(), "foo".toCharArray(), "()V".toCharArray(), 9));
+		// overloads, same member of another type, name and type entry
+		assertEquals(-2, cache.putIfAbsent(owner, name, "()I".toCharArray(), 2));
+		assertEquals(-3, cache.putIfAbsent("p/Y".toCharArray(), name, signature, 3));
+		assertEquals(-4, cache.putIfAbsent(CharOperation.NO_CHAR, name, signature, 4));
+		for (int i = 5; i < 1000; i++)
+			assertEquals(-i, cache.putIfAbsent(owner, key(i), signature, i));
+		for (int i = 5; i < 1000; i++)
+			assertEquals(i, cache.putIfAbsent(owner, key(i), signature, -1));
+		assertEquals(2, cache.putIfAbsent(owner, name, "()I".toCharArray(), 0));
+		assertEquals(999, cache.size());
+		cache.clear();
+		assertEquals(0, cache.size());
+		assertEquals(-7, cache.putIfAbsent(owner, name, signature, 7));
+	}
+}
@@ -0,0 +1,218 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.compiler.util;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.core.tests.junit.extension.TestCase;
+import org.eclipse.jdt.internal.compiler.ReadManager;
+import org.eclipse.jdt.internal.compiler.batch.CompilationUnit;
+import org.eclipse.jdt.internal.compiler.impl.CompilerStats;
+import org.junit.Test;
+
+/**
+ * Checks that the contents read ahead of the parser stay within the byte budget of the {@link ReadManager},
+ * and that the parser gets the contents of every unit, whether their reading succeeds, fails or is cancelled.
+ */
+public class ReadManagerTest extends TestCase {
+
+	static final String READING_THREAD = "Compiler Source File Reader";
+
+	// counts the reads of the reading threads, and blocks or fails them on demand
+	static class Unit extends CompilationUnit {
+		final AtomicInteger readsAhead;
+		CountDownLatch blocked;
+		RuntimeException failure;
+
+		Unit(int index, int length, AtomicInteger readsAhead) {
+			super(contents(index, length), "X" + index + ".java", null);
+			this.readsAhead = readsAhead;
+		}
+
+		@Override
+		public char[] getContents() {
+			if (Thread.currentThread().getName().equals(READING_THREAD)) {
+				this.readsAhead.incrementAndGet();
+				if (this.failure != null)
+					throw this.failure;
+				if (this.blocked != null) {
+					try {
+						this.blocked.await(10, TimeUnit.SECONDS);
+					} catch (InterruptedException e) {
+						// read anyway
+					}
+				}
+			}
+			return super.getContents();
+		}
+	}
+
+	public ReadManagerTest(String name) {
+		super(name);
+	}
+
+	static char[] contents(int index, int length) {
+		char[] contents = new char[length];
+		Arrays.fill(contents, (char) ('a' + index % 26));
+		return contents;
+	}
+
+	private static Unit[] units(int count, int length, AtomicInteger readsAhead) {
+		Unit[] units = new Unit[count];
+		for (int i = 0; i < count; i++)
+			units[i] = new Unit(i, length, readsAhead);
+		return units;
+	}
+
+	private static ReadManager readManager(Unit[] units, long budget, CompilerStats stats) {
+		String previous = System.getProperty(ReadManager.BUDGET_PROPERTY);
+		System.setProperty(ReadManager.BUDGET_PROPERTY, String.valueOf(budget));
+		try {
+			return new ReadManager(units, units.length, stats);
+		} finally {
+			if (previous == null)
+				System.clearProperty(ReadManager.BUDGET_PROPERTY);
+			else
+				System.setProperty(ReadManager.BUDGET_PROPERTY, previous);
+		}
+	}
+
+	private static int threadCount() {
+		return Math.min(Runtime.getRuntime().availableProcessors() + 1, 15);
+	}
+
+	// answers the number of reads ahead once the reading threads are idle
+	private static int awaitReadsAhead(AtomicInteger readsAhead) throws InterruptedException {
+		int count;
+		int attempts = 0;
+		do {
+			count = readsAhead.get();
+			Thread.sleep(200);
+		} while ((count == 0 || count != readsAhead.get()) && ++attempts < 50);
+		return count;
+	}
+
+	@Test
+	public void testBudget() throws InterruptedException {
+		AtomicInteger readsAhead = new AtomicInteger();
+		Unit[] units = units(50, 100, readsAhead); // 200 bytes each
+		CompilerStats stats = new CompilerStats();
+		ReadManager manager = readManager(units, 1000, stats);
+		try {
+			int count = awaitReadsAhead(readsAhead);
+			// each thread may overshoot by the unit it is reading
+			assertTrue("Too many units read ahead: " + count, count <= 5 + threadCount());
+			for (int i = 0; i < units.length; i++)
+				assertTrue("Unexpected contents of unit " + i, Arrays.equals(contents(i, 100), manager.getContents(units[i])));
+			assertTrue("Unexpected reads ahead: " + readsAhead.get(), readsAhead.get() <= units.length);
+			assertEquals("Unexpected number of reads", units.length, stats.readAheadHits + stats.readAheadMisses + stats.readAheadStalls);
+			assertTrue("No hit", stats.readAheadHits > 0);
+		} finally {
+			manager.shutdown();
+		}
+	}
+
+	@Test
+	public void testUnitsLargerThanBudget() throws InterruptedException {
+		AtomicInteger readsAhead = new AtomicInteger();
+		Unit[] units = units(10, 1000, readsAhead); // 2000 bytes each
+		ReadManager manager = readManager(units, 100, null);
+		try {
+			int count = awaitReadsAhead(readsAhead);
+			assertTrue("Too many units read ahead: " + count, count <= threadCount());
+			for (int i = 0; i < units.length; i++)
+				assertTrue("Unexpected contents of unit " + i, Arrays.equals(contents(i, 1000), manager.getContents(units[i])));
+		} finally {
+			manager.shutdown();
+		}
+	}
+
+	@Test
+	public void testSkippedUnits() {
+		AtomicInteger readsAhead = new AtomicInteger();
+		Unit[] units = units(20, 100, readsAhead);
+		ReadManager manager = readManager(units, 1000, null);
+		try {
+			// the parser skips units (e.g. already parsed), then goes back to one of them
+			for (int i = 0; i < units.length; i += 3)
+				assertTrue("Unexpected contents of unit " + i, Arrays.equals(contents(i, 100), manager.getContents(units[i])));
+			assertTrue("Unexpected contents of unit 1", Arrays.equals(contents(1, 100), manager.getContents(units[1])));
+			// units which were not given to the read manager are read by the parser thread
+			Unit other = new Unit(20, 100, readsAhead);
+			assertTrue("Unexpected contents of another unit", Arrays.equals(contents(20, 100), manager.getContents(other)));
+		} finally {
+			manager.shutdown();
+		}
+	}
+
+	@Test
+	public void testFailingRead() throws InterruptedException {
+		AtomicInteger readsAhead = new AtomicInteger();
+		Unit[] units = units(5, 100, readsAhead);
+		RuntimeException failure = new IllegalStateException("cannot read X2.java");
+		units[2].failure = failure;
+		ReadManager manager = readManager(units, 1000, null);
+		try {
+			while (readsAhead.get() < 3)
+				Thread.sleep(10); // X2.java was read ahead
+			// the failure of a reading thread is thrown to the parser, at the latest when it asks for the unit
+			RuntimeException thrown = null;
+			for (int i = 0; i <= 2 && thrown == null; i++) {
+				try {
+					assertTrue("Unexpected contents of unit " + i, Arrays.equals(contents(i, 100), manager.getContents(units[i])));
+				} catch (IllegalStateException e) {
+					thrown = e;
+				}
+			}
+			assertSame("Unexpected failure", failure, thrown);
+		} finally {
+			manager.shutdown();
+		}
+	}
+
+	@Test
+	public void testShutdownWhileReading() throws InterruptedException {
+		AtomicInteger readsAhead = new AtomicInteger();
+		Unit[] units = units(3, 100, readsAhead);
+		CountDownLatch blocked = new CountDownLatch(1);
+		units[0].blocked = blocked;
+		CompilerStats stats = new CompilerStats();
+		ReadManager manager = readManager(units, 1000, stats);
+		try {
+			while (readsAhead.get() == 0)
+				Thread.sleep(10);
+			Thread shutdown = new Thread(() -> {
+				try {
+					Thread.sleep(200);
+				} catch (InterruptedException e) {
+					// shut down now
+				}
+				manager.shutdown();
+			});
+			shutdown.start();
+			// the parser waits for the blocked unit until the read manager shuts down, then reads it itself
+			assertTrue("Unexpected contents of unit 0", Arrays.equals(contents(0, 100), manager.getContents(units[0])));
+			shutdown.join();
+			assertEquals("Unexpected stalls", 1, stats.readAheadStalls);
+			assertEquals("Unexpected misses", 1, stats.readAheadMisses);
+			assertTrue("Unexpected contents of unit 1", Arrays.equals(contents(1, 100), manager.getContents(units[1])));
+		} finally {
+			blocked.countDown();
+			manager.shutdown();
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -28,7 +28,10 @@ import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.WorkingCopyOwner;
+import org.eclipse.jdt.core.compiler.IProblem;
 import org.eclipse.jdt.core.dom.*;
+import org.eclipse.jdt.internal.core.JavaModelManager.PerWorkingCopyInfo;
+import org.eclipse.jdt.internal.core.JavaModelManager.PerWorkingCopyInfo.ParsedUnit;
 
 @SuppressWarnings("rawtypes")
 public class ASTConverterBugsTest extends ConverterTestSetup {
@@ -1326,4 +1329,72 @@ public void testBug381503() throws CoreException, IOException {
 		deleteProject("P");
 	}
 }
+/*
+ * The AST of an edited working copy is created without bindings from the unit parsed for its previous AST, with
+ * only the edited method body parsed again, and is the AST of a parse from scratch.
+ */
+public void testIncrementalReparse() throws JavaModelException {
+	String contents =
+		"package p;\n" +
+		"/* header */\n" +
+		"public class X {\n" +
+		"	int foo(int p) {\n" +
+		"		// comment of foo\n" +
+		"		return p;\n" +
+		"	}\n" +
+		"	/** Javadoc of bar */\n" +
+		"	void bar(String... s) {\n" +
+		"		int r = ((foo(1)));\n" +
+		"	}\n" +
+		"	int f = (2); // TODO after bar\n" +
+		"}\n";
+	this.workingCopies = new ICompilationUnit[1];
+	this.workingCopies[0] = getWorkingCopy("/Converter15/src/p/X.java", contents, false);
+	PerWorkingCopyInfo workingCopyInfo = ((org.eclipse.jdt.internal.core.CompilationUnit) this.workingCopies[0]).getPerWorkingCopyInfo();
+	checkReparse(workingCopyInfo, contents, false);
+
+	// the unit is reused after each edit, including after the edited body was converted again
+	contents = contents.replace("return p;", "return p + foo(p - 1) * 2;");
+	checkReparse(workingCopyInfo, contents, true);
+	contents = contents.replace("int r = ((foo(1)));", "int r = ((foo(1))); /* block */ foo(r);");
+	checkReparse(workingCopyInfo, contents, true);
+
+	// an edit of a signature is parsed from scratch
+	contents = contents.replace("void bar(String... s)", "void bar(String s)");
+	checkReparse(workingCopyInfo, contents, false);
+}
+private void checkReparse(PerWorkingCopyInfo workingCopyInfo, String contents, boolean reused) throws JavaModelException {
+	ParsedUnit previous = workingCopyInfo.takeParsedUnit();
+	if (previous != null)
+		workingCopyInfo.setParsedUnit(previous);
+	this.workingCopies[0].getBuffer().setContents(contents);
+	CompilationUnit unit = (CompilationUnit) runConversion(this.workingCopies[0], false);
+	ParsedUnit parsedUnit = workingCopyInfo.takeParsedUnit();
+	workingCopyInfo.setParsedUnit(parsedUnit);
+	assertNotNull("Missing parsed unit", parsedUnit);
+	assertEquals("Unexpected reuse of the parsed unit", reused, previous != null && previous.unit() == parsedUnit.unit());
+
+	CompilationUnit expected = (CompilationUnit) runConversion(contents.toCharArray(), "X.java", this.workingCopies[0].getJavaProject());
+	assertEquals("Unexpected AST", expected.toString(), unit.toString());
+	assertEquals("Unexpected positions", positions(expected), positions(unit));
+	assertEquals("Unexpected line", expected.getLineNumber(contents.length() - 1), unit.getLineNumber(contents.length() - 1));
+}
+private static String positions(CompilationUnit unit) {
+	StringBuilder buffer = new StringBuilder();
+	unit.accept(new ASTVisitor(true) {
+		@Override
+		public void preVisit(ASTNode node) {
+			buffer.append(node.getClass().getSimpleName())
+				.append('[').append(node.getStartPosition()).append(',').append(node.getLength()).append("]\n");
+		}
+	});
+	for (Object comment : unit.getCommentList()) {
+		ASTNode node = (ASTNode) comment;
+		buffer.append(node.getClass().getSimpleName())
+			.append('[').append(node.getStartPosition()).append(',').append(node.getLength()).append("]\n");
+	}
+	for (IProblem problem : unit.getProblems())
+		buffer.append(problem.getMessage()).append('[').append(problem.getSourceStart()).append("]\n");
+	return buffer.toString();
+}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -5589,4 +5589,42 @@ public class ASTConverterTest2 extends ConverterTestSetup {
 		}
 	}
 
+	// only the method body enclosing the focal position is parsed and resolved
+	public void test0611() throws CoreException {
+		ICompilationUnit workingCopy = null;
+		try {
+			String contents =
+				"public class X {\n" +
+				"	int foo() {\n" +
+				"		String s = \"foo\";\n" +
+				"		return s.length();\n" +
+				"	}\n" +
+				"	int bar() {\n" +
+				"		Unknown u = null;\n" +
+				"		return 0;\n" +
+				"	}\n" +
+				"}\n";
+			workingCopy = getWorkingCopy("/Converter/src/X.java", contents);
+
+			ASTParser parser = ASTParser.newParser(getJLS3());
+			parser.setSource(workingCopy);
+			parser.setFocalPosition(contents.indexOf("s.length()"));
+			parser.setResolveBindings(true);
+
+			CompilationUnit unit = (CompilationUnit) parser.createAST(null);
+			assertProblemsSize(unit, 0);
+			TypeDeclaration type = (TypeDeclaration) unit.types().get(0);
+			MethodDeclaration foo = type.getMethods()[0];
+			VariableDeclarationStatement statement = (VariableDeclarationStatement) foo.getBody().statements().get(0);
+			IVariableBinding binding = ((VariableDeclarationFragment) statement.fragments().get(0)).resolveBinding();
+			assertNotNull("No binding", binding);
+			assertEquals("Wrong type", "java.lang.String", binding.getType().getQualifiedName());
+			MethodDeclaration bar = type.getMethods()[1];
+			assertEquals("bar should have an empty body", 0, bar.getBody().statements().size());
+		} finally {
+			if (workingCopy != null)
+				workingCopy.discardWorkingCopy();
+		}
+	}
+
 }
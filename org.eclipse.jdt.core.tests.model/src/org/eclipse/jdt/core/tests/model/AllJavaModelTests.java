@@ -18,6 +18,7 @@ package org.eclipse.jdt.core.tests.model;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 
+import org.eclipse.jdt.core.tests.compiler.CharArenaTest;
 import org.eclipse.jdt.core.tests.compiler.CharDeduplicationTest;
 import org.eclipse.jdt.core.tests.compiler.DeduplicationUtilTest;
 import org.eclipse.jdt.core.tests.compiler.map.CharArrayMapperTest;
@@ -235,6 +236,8 @@ private static Class[] getAllTestClasses() {
 
 		CharDeduplicationTest.class,
 
+		CharArenaTest.class,
+
 		DeduplicationUtilTest.class,
 
 		RecordsElementTests.class,
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 Gayan Perera and others.
+ * Copyright (c) 2021, 2026 Gayan Perera and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,7 +14,10 @@
 package org.eclipse.jdt.core.tests.model;
 
 import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -28,18 +31,24 @@ import java.util.stream.Stream;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.compiler.CharOperation;
 import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.tests.util.Util;
 import org.eclipse.jdt.internal.core.JavaModelManager;
+import org.eclipse.jdt.internal.core.index.DiskIndex;
 import org.eclipse.jdt.internal.core.index.EntryResult;
+import org.eclipse.jdt.internal.core.index.FileIndexLocation;
 import org.eclipse.jdt.internal.core.index.Index;
 import org.eclipse.jdt.internal.core.index.MetaIndex;
 import org.eclipse.jdt.internal.core.search.indexing.IIndexConstants;
 import org.eclipse.jdt.internal.core.search.indexing.IndexManager;
+import org.eclipse.jdt.internal.core.search.indexing.IndexRequest;
 import org.eclipse.jdt.internal.core.search.indexing.ReadWriteMonitor;
+import org.eclipse.jdt.internal.core.search.indexing.SharedIndexStore;
 
 import junit.framework.Test;
 
@@ -178,6 +187,333 @@ public class IndexManagerTests extends ModifyingResourceTests {
 		assertEquals("No results found", 1, indexNames.get().size());
 	}
 
+	public void testConcurrentRequests_OfAContainer_ShouldRunInOrder() {
+		IndexManager manager = newIndexManager(3);
+		RequestLog log = new RequestLog();
+		try {
+			manager.disable(); // queue all the requests before the first one is executed
+			for (int i = 0; i < 5; i++) {
+				// the requests of /A last longer, so that the following ones could start before they end
+				for (String container : new String[] { "/A", "/B", "/C" })
+					manager.request(new LoggedRequest(container + i, container, true, container.equals("/A") ? 40 : 10, manager, log));
+				if (i == 2)
+					manager.request(new LoggedRequest("/D", "/D", false, 20, manager, log));
+			}
+			manager.enable();
+			assertTrue("Indexing was cancelled", manager.waitForIndex(false, null).isOK());
+
+			assertFalse("Requests ran at the same time: " + log.events, log.overlap);
+			assertTrue("No requests ran concurrently: " + log.events, log.maxRunning > 1);
+			assertEquals("Unexpected requests of /A", "/A0 /A1 /A2 /A3 /A4", log.started("/A"));
+			assertEquals("Unexpected requests of /B", "/B0 /B1 /B2 /B3 /B4", log.started("/B"));
+			assertEquals("Unexpected requests of /C", "/C0 /C1 /C2 /C3 /C4", log.started("/C"));
+			// the request without key runs after all the requests before it, and before all the requests after it
+			int keyless = log.events.indexOf("start /D");
+			for (String container : new String[] { "/A", "/B", "/C" }) {
+				assertTrue("Request before " + log.events, log.events.indexOf("end " + container + 2) < keyless);
+				assertTrue("Request after " + log.events, log.events.indexOf("start " + container + 3) > keyless);
+			}
+		} finally {
+			manager.shutdown();
+		}
+	}
+
+	public void testWaitForIndex_ShouldWaitForConcurrentRequests() {
+		IndexManager manager = newIndexManager(2);
+		RequestLog log = new RequestLog();
+		try {
+			manager.disable();
+			manager.request(new LoggedRequest("/A", "/A", true, 50, manager, log));
+			LoggedRequest last = new LoggedRequest("/B", "/B", true, 300, manager, log);
+			manager.request(last);
+			manager.enable();
+			assertTrue("Indexing was cancelled", manager.waitForIndex(false, null).isOK());
+
+			assertTrue("Concurrent request not finished: " + log.events, last.finished);
+			assertEquals("Unexpected awaiting requests", 0, manager.awaitingJobsCount());
+			assertEquals("Requests did not run concurrently", 2, log.maxRunning);
+		} finally {
+			manager.shutdown();
+		}
+	}
+
+	public void testDiscardJobs_ShouldOnlyCancelConcurrentRequestsOfTheFamily() throws InterruptedException {
+		IndexManager manager = newIndexManager(3);
+		RequestLog log = new RequestLog();
+		try {
+			manager.disable();
+			LoggedRequest a = new LoggedRequest("/A0", "/A", true, -1, manager, log);
+			LoggedRequest b = new LoggedRequest("/B0", "/B", true, -1, manager, log);
+			LoggedRequest c = new LoggedRequest("/C0", "/C", true, -1, manager, log);
+			manager.request(a); // executed by the background thread
+			manager.request(b); // executed by the workers
+			manager.request(c);
+			manager.request(new LoggedRequest("/B1", "/B", true, 10, manager, log)); // queued
+			manager.request(new LoggedRequest("/C1", "/C", true, 10, manager, log));
+			manager.enable();
+			log.awaitRunning(3);
+
+			manager.discardJobs("/B");
+
+			assertTrue("Request of the family not cancelled", b.cancelled() && b.finished);
+			assertFalse("Request of another family cancelled", a.cancelled() || a.finished);
+			assertFalse("Request of another family cancelled", c.cancelled() || c.finished);
+			log.release();
+			assertTrue("Indexing was cancelled", manager.waitForIndex(false, null).isOK());
+
+			assertEquals("Unexpected requests of /A", "/A0", log.started("/A"));
+			assertEquals("Unexpected requests of /B", "/B0", log.started("/B"));
+			assertEquals("Unexpected requests of /C", "/C0 /C1", log.started("/C"));
+		} finally {
+			manager.shutdown();
+		}
+	}
+
+	public void testSharedIndexStore_PublishedIndex_ShouldBeImported() throws IOException {
+		File directory = Files.createTempDirectory("shared_indexes").toFile();
+		try {
+			SharedIndexStore store = new SharedIndexStore(new File(directory, "store"));
+			String key = store.computeKey(createLibrary(directory, "lib.jar", "content"));
+			assertEquals("Unexpected key of a copy of the library",
+					key, store.computeKey(createLibrary(new File(directory, "copy"), "lib.jar", "content")));
+			assertFalse("Unexpected key of a library with another name",
+					key.equals(store.computeKey(createLibrary(directory, "other.jar", "content"))));
+			File imported = new File(directory, "imported.index");
+			assertFalse("Unexpected index before publishing", store.copyIndex(key, imported));
+
+			store.publishIndex(key, createIndex(new File(directory, "published.index"), "X"));
+			// by another workspace
+			assertTrue("Index not imported", new SharedIndexStore(new File(directory, "store")).copyIndex(key, imported));
+			assertEquals("Unexpected words", "X: p/X.class", readWords(imported));
+		} finally {
+			Util.delete(directory);
+		}
+	}
+
+	public void testSharedIndexStore_InvalidIndex_ShouldNotBeImported() throws IOException {
+		File directory = Files.createTempDirectory("shared_indexes").toFile();
+		try {
+			SharedIndexStore store = new SharedIndexStore(new File(directory, "store"));
+			String key = store.computeKey(createLibrary(directory, "lib.jar", "content"));
+			File imported = new File(directory, "imported.index");
+			byte[] index = Files.readAllBytes(createIndex(new File(directory, "published.index"), "X").toPath());
+			File invalid = new File(directory, "invalid.index");
+
+			Files.write(invalid.toPath(), "not an index".getBytes());
+			store.publishIndex(key, invalid);
+			assertFalse("Index without signature imported", store.copyIndex(key, imported));
+			assertFalse("Index without signature copied", imported.exists());
+
+			String signature = new String(index, StandardCharsets.ISO_8859_1);
+			Files.write(invalid.toPath(), signature.replace(DiskIndex.INDEX_VERSION, "0.000").getBytes(StandardCharsets.ISO_8859_1));
+			store.publishIndex(key, invalid);
+			assertFalse("Index of another version imported", store.copyIndex(key, imported));
+			assertFalse("Index of another version copied", imported.exists());
+
+			Files.write(invalid.toPath(), Arrays.copyOf(index, index.length / 2));
+			store.publishIndex(key, invalid);
+			assertFalse("Truncated index imported", store.copyIndex(key, imported));
+			assertFalse("Truncated index copied", imported.exists());
+		} finally {
+			Util.delete(directory);
+		}
+	}
+
+	public void testSharedIndexStore_RacingPublishers_ShouldPublishOneOfTheIndexes() throws Exception {
+		File directory = Files.createTempDirectory("shared_indexes").toFile();
+		try {
+			File storeDirectory = new File(directory, "store");
+			String key = new SharedIndexStore(storeDirectory).computeKey(createLibrary(directory, "lib.jar", "content"));
+			File[] indexes = { createIndex(new File(directory, "first.index"), "First"), createIndex(new File(directory, "second.index"), "Second") };
+			List<String> expectedWords = Arrays.asList("First: p/First.class", "Second: p/Second.class");
+			List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+			List<Thread> threads = new ArrayList<>();
+			// the workspaces of two publishers and of an importer share the store
+			for (File index : indexes) {
+				SharedIndexStore store = new SharedIndexStore(storeDirectory);
+				threads.add(new Thread(() -> {
+					try {
+						for (int i = 0; i < 50; i++)
+							store.publishIndex(key, index);
+					} catch (Throwable e) {
+						failures.add(e);
+					}
+				}));
+			}
+			SharedIndexStore importer = new SharedIndexStore(storeDirectory);
+			threads.add(new Thread(() -> {
+				try {
+					for (int i = 0; i < 50; i++) {
+						File imported = new File(directory, "imported" + i + ".index");
+						if (importer.copyIndex(key, imported) && !expectedWords.contains(readWords(imported)))
+							failures.add(new AssertionError("Unexpected words: " + readWords(imported)));
+					}
+				} catch (Throwable e) {
+					failures.add(e);
+				}
+			}));
+			for (Thread thread : threads)
+				thread.start();
+			for (Thread thread : threads)
+				thread.join();
+
+			assertEquals("Unexpected failures", "[]", failures.toString());
+			File imported = new File(directory, "imported.index");
+			assertTrue("Index not imported", importer.copyIndex(key, imported));
+			assertTrue("Unexpected words", expectedWords.contains(readWords(imported)));
+			assertEquals("Unexpected files of the store", key + ".index",
+					Arrays.stream(storeDirectory.list()).filter(name -> !name.startsWith(".")).collect(Collectors.joining(" ")));
+		} finally {
+			Util.delete(directory);
+		}
+	}
+
+	private static File createLibrary(File directory, String name, String content) throws IOException {
+		directory.mkdirs();
+		File library = new File(directory, name);
+		Files.write(library.toPath(), content.getBytes(StandardCharsets.UTF_8));
+		return library;
+	}
+
+	/*
+	 * A saved index of a library, declaring a type of the given name.
+	 */
+	private static File createIndex(File indexFile, String typeName) throws IOException {
+		Index index = new Index(new FileIndexLocation(indexFile), "lib.jar", false);
+		index.addIndexEntry(IIndexConstants.TYPE_DECL, typeName.toCharArray(), "p/" + typeName + ".class");
+		index.save();
+		return indexFile;
+	}
+
+	/*
+	 * The declared types of an index file and their documents.
+	 */
+	private static String readWords(File indexFile) throws IOException {
+		Index index = new Index(new FileIndexLocation(indexFile), "lib.jar", true);
+		EntryResult[] results = index.query(new char[][] { IIndexConstants.TYPE_DECL }, null, SearchPattern.R_EXACT_MATCH | SearchPattern.R_CASE_SENSITIVE);
+		if (results == null)
+			return "";
+		List<String> words = new ArrayList<>();
+		for (EntryResult result : results)
+			words.add(new String(result.getWord()) + ": " + String.join(", ", result.getDocumentNames(index)));
+		return String.join("\n", words);
+	}
+
+	/*
+	 * An index manager executing requests with the given number of threads, which does not save the indexes of the workspace.
+	 */
+	private static IndexManager newIndexManager(int threads) {
+		IndexManager manager = new IndexManager() {
+			@Override
+			protected int concurrentJobsLimit() {
+				return threads - 1;
+			}
+			@Override
+			protected void notifyIdle(long idlingMilliSeconds) {
+				// no index to save
+			}
+		};
+		manager.reset(); // starts the background thread
+		return manager;
+	}
+
+	/*
+	 * The start and the end of the requests executed by an index manager, in order.
+	 */
+	private static class RequestLog {
+		final List<String> events = Collections.synchronizedList(new ArrayList<>());
+		private final List<LoggedRequest> running = new ArrayList<>();
+		volatile int maxRunning;
+		volatile boolean overlap; // requests of a container, or a request without key and another request, ran at the same time
+		volatile boolean released;
+
+		synchronized void started(LoggedRequest request) {
+			for (LoggedRequest other : this.running)
+				if (other.getJobFamily().equals(request.getJobFamily()) || !other.keyed || !request.keyed)
+					this.overlap = true;
+			this.running.add(request);
+			this.maxRunning = Math.max(this.maxRunning, this.running.size());
+			this.events.add("start " + request.name);
+			notifyAll();
+		}
+		synchronized void finished(LoggedRequest request) {
+			this.running.remove(request);
+			this.events.add("end " + request.name);
+		}
+		synchronized void awaitRunning(int count) throws InterruptedException {
+			long end = System.currentTimeMillis() + 10000;
+			while (this.running.size() < count && System.currentTimeMillis() < end)
+				wait(100);
+			assertEquals("Unexpected running requests: " + this.events, count, this.running.size());
+		}
+		void release() {
+			this.released = true;
+		}
+		// the names of the started requests of the given container
+		String started(String container) {
+			synchronized (this.events) {
+				return this.events.stream()
+						.filter(event -> event.startsWith("start " + container))
+						.map(event -> event.substring("start ".length()))
+						.collect(Collectors.joining(" "));
+			}
+		}
+	}
+
+	/*
+	 * A request logging its execution, which lasts the given milliseconds, or until it is cancelled or released if negative.
+	 * Its concurrency key is its container.
+	 */
+	private static class LoggedRequest extends IndexRequest {
+		final String name;
+		final boolean keyed;
+		private final long duration;
+		private final RequestLog log;
+		volatile boolean finished;
+
+		LoggedRequest(String name, String container, boolean keyed, long duration, IndexManager manager, RequestLog log) {
+			super(new Path(container), manager);
+			this.name = name;
+			this.keyed = keyed;
+			this.duration = duration;
+			this.log = log;
+		}
+		@Override
+		public Object concurrencyKey() {
+			return this.keyed ? this.containerPath : null;
+		}
+		@Override
+		public void ensureReadyToRun() {
+			// no index to tag
+		}
+		@Override
+		public void cancel() {
+			this.isCancelled = true;
+		}
+		boolean cancelled() {
+			return this.isCancelled;
+		}
+		@Override
+		public boolean execute(IProgressMonitor progressMonitor) {
+			this.log.started(this);
+			try {
+				long end = System.currentTimeMillis() + this.duration;
+				while (this.duration < 0 ? !this.isCancelled && !this.log.released : System.currentTimeMillis() < end)
+					Thread.sleep(5);
+			} catch (InterruptedException e) {
+				// stop
+			} finally {
+				this.log.finished(this);
+				this.finished = true;
+			}
+			return true;
+		}
+		@Override
+		public String toString() {
+			return "logged request " + this.name;
+		}
+	}
+
 	private void changeFile(String path, String content) {
 		IFile file = getFile(path);
 		if (!file.exists()) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2022 IBM Corporation and others.
+ * Copyright (c) 2012, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,10 @@ import java.io.IOException;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.zip.CRC32;
 
 import junit.framework.Test;
@@ -32,17 +36,28 @@ import org.eclipse.jdt.core.ClasspathContainerInitializer;
 import org.eclipse.jdt.core.IClasspathAttribute;
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.index.*;
 import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchParticipant;
+import org.eclipse.jdt.core.search.SearchPattern;
 import org.eclipse.jdt.core.tests.util.Util;
+import org.eclipse.jdt.internal.compiler.env.AccessRuleSet;
 import org.eclipse.jdt.internal.core.ClasspathEntry;
 import org.eclipse.jdt.internal.core.JavaModelManager;
 import org.eclipse.jdt.internal.core.UserLibraryClasspathContainer;
 import org.eclipse.jdt.internal.core.index.DiskIndex;
+import org.eclipse.jdt.internal.core.index.DocumentNumbers;
+import org.eclipse.jdt.internal.core.index.EntryResult;
+import org.eclipse.jdt.internal.core.index.FileIndexLocation;
 import org.eclipse.jdt.internal.core.index.Index;
+import org.eclipse.jdt.internal.core.search.AbstractSearchScope;
+import org.eclipse.jdt.internal.core.search.IndexQueryRequestor;
+import org.eclipse.jdt.internal.core.search.indexing.IIndexConstants;
 import org.eclipse.jdt.internal.core.search.indexing.IndexManager;
+import org.eclipse.jdt.internal.core.search.matching.PackageReferencePattern;
 import org.osgi.service.prefs.BackingStoreException;
 
 public class JavaIndexTests extends AbstractJavaSearchTests  {
@@ -930,4 +945,306 @@ public class JavaIndexTests extends AbstractJavaSearchTests  {
 			ClasspathEntry.setSharedIndexLocation(null, getClass());
 		}
 	}
+
+	// the category tables written by a merge, which forgets the removed documents, are read back
+	public void testMergedIndex() throws IOException {
+		File indexFile = new File(getExternalResourcePath("Merged.index"));
+		try {
+			Index index = new Index(new FileIndexLocation(indexFile), "container", false);
+			// enough words for several blocks of the category table
+			for (int i = 0; i < 100; i++)
+				index.addIndexEntry(IIndexConstants.TYPE_DECL, ("Type" + i).toCharArray(), "p/A" + (i % 3) + ".java");
+			index.addIndexEntry(IIndexConstants.REF, "Kept".toCharArray(), "p/A0.java");
+			index.addIndexEntry(IIndexConstants.REF, "Kept".toCharArray(), "p/A1.java");
+			index.addIndexEntry(IIndexConstants.REF, "Removed".toCharArray(), "p/A0.java");
+			index.save();
+			index.remove("p/A0.java");
+			index.addIndexEntry(IIndexConstants.TYPE_DECL, "Type0".toCharArray(), "p/B.java");
+			index.addIndexEntry(IIndexConstants.TYPE_DECL, "Type1".toCharArray(), "p/B.java");
+			index.save();
+
+			index = new Index(new FileIndexLocation(indexFile), "container", true);
+			assertEquals("Unexpected exact match",
+				"Type1: p/A1.java, p/B.java",
+				queryResults(index, IIndexConstants.TYPE_DECL, "Type1", SearchPattern.R_EXACT_MATCH | SearchPattern.R_CASE_SENSITIVE));
+			assertEquals("Unexpected exact match of a removed document",
+				"",
+				queryResults(index, IIndexConstants.TYPE_DECL, "Type3", SearchPattern.R_EXACT_MATCH | SearchPattern.R_CASE_SENSITIVE));
+			assertEquals("Unexpected prefix match",
+				"Type91: p/A1.java\n" +
+				"Type92: p/A2.java\n" +
+				"Type94: p/A1.java\n" +
+				"Type95: p/A2.java\n" +
+				"Type97: p/A1.java\n" +
+				"Type98: p/A2.java",
+				queryResults(index, IIndexConstants.TYPE_DECL, "Type9", SearchPattern.R_PREFIX_MATCH | SearchPattern.R_CASE_SENSITIVE));
+			assertEquals("Unexpected pattern match",
+				"Type17: p/A2.java\n" +
+				"Type37: p/A1.java\n" +
+				"Type47: p/A2.java\n" +
+				"Type67: p/A1.java\n" +
+				"Type77: p/A2.java\n" +
+				"Type7: p/A1.java\n" +
+				"Type97: p/A1.java",
+				queryResults(index, IIndexConstants.TYPE_DECL, "type*7", SearchPattern.R_PATTERN_MATCH));
+			assertEquals("Unexpected words",
+				"Kept: p/A1.java",
+				queryResults(index, IIndexConstants.REF, null, SearchPattern.R_EXACT_MATCH | SearchPattern.R_CASE_SENSITIVE));
+		} finally {
+			indexFile.delete();
+		}
+	}
+	// all the words of a category are removed by a merge, the empty table is still written and read
+	public void testMergedIndexWithEmptyCategory() throws IOException {
+		File indexFile = new File(getExternalResourcePath("Merged.index"));
+		try {
+			Index index = new Index(new FileIndexLocation(indexFile), "container", false);
+			index.addIndexEntry(IIndexConstants.REF, "Removed".toCharArray(), "p/A.java");
+			index.addIndexEntry(IIndexConstants.TYPE_DECL, "B".toCharArray(), "p/B.java");
+			index.save();
+			index.remove("p/A.java");
+			index.save();
+
+			index = new Index(new FileIndexLocation(indexFile), "container", true);
+			int[] matchRules = {
+				SearchPattern.R_EXACT_MATCH | SearchPattern.R_CASE_SENSITIVE,
+				SearchPattern.R_PREFIX_MATCH | SearchPattern.R_CASE_SENSITIVE,
+				SearchPattern.R_PREFIX_MATCH,
+				SearchPattern.R_PATTERN_MATCH,
+				SearchPattern.R_CAMELCASE_MATCH,
+				SearchPattern.R_REGEXP_MATCH
+			};
+			for (int matchRule : matchRules)
+				assertEquals("Unexpected match for rule " + matchRule, "", queryResults(index, IIndexConstants.REF, "Rem.*", matchRule));
+			assertEquals("Unexpected words", "", queryResults(index, IIndexConstants.REF, null, SearchPattern.R_EXACT_MATCH | SearchPattern.R_CASE_SENSITIVE));
+			assertEquals("Unexpected words of the other category",
+				"B: p/B.java",
+				queryResults(index, IIndexConstants.TYPE_DECL, null, SearchPattern.R_EXACT_MATCH | SearchPattern.R_CASE_SENSITIVE));
+		} finally {
+			indexFile.delete();
+		}
+	}
+	// the words matching a query with the names of their documents, sorted, one per line
+	private static String queryResults(Index index, char[] category, String key, int matchRule) throws IOException {
+		EntryResult[] results = index.query(new char[][] { category }, key == null ? null : key.toCharArray(), matchRule);
+		if (results == null)
+			return "";
+		List<String> lines = new ArrayList<>();
+		for (EntryResult result : results) {
+			String[] documentNames = result.getDocumentNames(index);
+			Arrays.sort(documentNames);
+			lines.add(new String(result.getWord()) + ": " + String.join(", ", documentNames));
+		}
+		Collections.sort(lines);
+		return String.join("\n", lines);
+	}
+	// the union of compressed lists of document numbers, merged by pairs or through a bit set
+	public void testDocumentNumbersUnion() throws IOException {
+		assertEquals("Unexpected union of no list", "[]", numbers(DocumentNumbers.union(new DocumentNumbers[0], 0)));
+		assertEquals("Unexpected union of an empty list", "[]", numbers(union(new int[0])));
+		assertEquals("Unexpected union of empty lists", "[]", numbers(union(new int[0], new int[0], new int[0])));
+		assertEquals("Unexpected union with an empty list", "[1, 5]", numbers(union(new int[0], new int[] {1, 5})));
+		assertEquals("Unexpected union with an empty list", "[1, 5]", numbers(union(new int[] {1, 5}, new int[0])));
+		assertEquals("Unexpected union of disjoint lists", "[0, 1, 2, 3, 4, 5]", numbers(union(new int[] {0, 2, 4}, new int[] {1, 3, 5})));
+		assertEquals("Unexpected union of overlapping lists", "[1, 2, 3, 4]", numbers(union(new int[] {1, 2, 3}, new int[] {2, 3, 4})));
+		assertEquals("Unexpected union of three lists", "[1, 7, 300]", numbers(union(new int[] {7}, new int[0], new int[] {1, 7, 300})));
+		assertEquals("Unexpected union of disjoint lists", "[0, 1, 2, 3, 4, 5, 63, 64, 65]",
+			numbers(union(new int[] {0, 3, 63}, new int[] {1, 4, 64}, new int[] {2, 5, 65})));
+		// differences written on one to five bytes
+		assertEquals("Unexpected union of large numbers", "[0, 127, 128, 200, 16384, 1048576, 1048577, 2147483647]",
+			numbers(union(new int[] {0, 200, 1 << 20}, new int[] {127, 128, 16384, (1 << 20) + 1, Integer.MAX_VALUE})));
+		assertEquals("Unexpected union of large numbers", "[0, 128, 16383, 16384, 2097152]",
+			numbers(union(new int[] {0, 1 << 21}, new int[] {128}, new int[] {16383, 16384})));
+		// only the given number of lists
+		DocumentNumbers[] lists = { DocumentNumbers.of(new int[] {1}), DocumentNumbers.of(new int[] {2}), DocumentNumbers.of(new int[] {3}) };
+		assertEquals("Unexpected union of the first lists", "[1, 2]", numbers(DocumentNumbers.union(lists, 2)));
+	}
+	// the intersection of compressed lists of document numbers
+	public void testDocumentNumbersIntersect() throws IOException {
+		DocumentNumbers empty = DocumentNumbers.of(new int[0]);
+		DocumentNumbers numbers = DocumentNumbers.of(new int[] {1, 2, 3, 300});
+		assertEquals("Unexpected intersection with an empty list", "[]", numbers(empty.intersect(numbers)));
+		assertEquals("Unexpected intersection with an empty list", "[]", numbers(numbers.intersect(empty)));
+		assertEquals("Unexpected intersection of empty lists", "[]", numbers(empty.intersect(empty)));
+		assertEquals("Unexpected intersection of disjoint lists", "[]",
+			numbers(DocumentNumbers.of(new int[] {0, 2, 4}).intersect(DocumentNumbers.of(new int[] {1, 3, 5}))));
+		assertEquals("Unexpected intersection", "[2, 300]", numbers(numbers.intersect(DocumentNumbers.of(new int[] {2, 300, 301}))));
+		assertEquals("Unexpected intersection with the same list", "[1, 2, 3, 300]", numbers(numbers.intersect(numbers)));
+		// differences written on one to five bytes
+		DocumentNumbers large = DocumentNumbers.of(new int[] {0, 127, 128, 16384, 1 << 21, Integer.MAX_VALUE});
+		assertEquals("Unexpected intersection of large numbers", "[128, 2097152, 2147483647]",
+			numbers(large.intersect(DocumentNumbers.of(new int[] {128, 16383, 1 << 21, Integer.MAX_VALUE}))));
+		assertEquals("Unexpected intersection of large numbers", "[0, 16384]",
+			numbers(DocumentNumbers.of(new int[] {0, 1, 16384, 16385}).intersect(large)));
+		assertEquals("Unexpected intersection of unions", "[2, 3, 300]",
+			numbers(union(new int[] {1, 3}, new int[] {2, 300}).intersect(union(new int[] {2}, new int[] {3, 4}, new int[] {300}))));
+	}
+	private static DocumentNumbers union(int[]... lists) throws IOException {
+		DocumentNumbers[] numbers = new DocumentNumbers[lists.length];
+		for (int i = 0; i < lists.length; i++)
+			numbers[i] = DocumentNumbers.of(lists[i]);
+		return DocumentNumbers.union(numbers, numbers.length);
+	}
+	// the numbers of the list, checking its size
+	private static String numbers(DocumentNumbers documentNumbers) throws IOException {
+		int[] numbers = documentNumbers.toArray();
+		assertEquals("Unexpected size", numbers.length, documentNumbers.size());
+		return Arrays.toString(numbers);
+	}
+	// the documents referencing all the segments of a package name, intersected by number when no document of the memory index was changed
+	public void testIntersectingPattern() throws IOException {
+		File indexFile = new File(getExternalResourcePath("Intersecting.index"));
+		try {
+			Index index = new Index(new FileIndexLocation(indexFile), "/container", false);
+			addPackageReferences(index, "p/A.java", "p", "q");
+			addPackageReferences(index, "p/B.java", "p");
+			addPackageReferences(index, "p/C.java", "q", "r");
+			addPackageReferences(index, "p/D.java", "r", "q", "p");
+			index.save();
+			assertFalse("Unexpected change", index.hasChanged());
+			assertEquals("Unexpected matches",
+				"/container/p/A.java\n" +
+				"/container/p/D.java",
+				indexMatches(index, "p.q"));
+			assertEquals("Unexpected matches", "/container/p/D.java", indexMatches(index, "p.q.r"));
+			assertEquals("Unexpected matches", "", indexMatches(index, "p.s"));
+			assertEquals("Unexpected matches", "", indexMatches(index, "b.r"));
+
+			index.remove("p/D.java");
+			addPackageReferences(index, "p/E.java", "p", "q");
+			assertTrue("Expected a change", index.hasChanged());
+			assertEquals("Unexpected matches",
+				"/container/p/A.java\n" +
+				"/container/p/E.java",
+				indexMatches(index, "p.q"));
+			assertEquals("Unexpected matches", "", indexMatches(index, "p.q.r"));
+			assertEquals("Unexpected matches", "", indexMatches(index, "p.s"));
+
+			index.save();
+			assertFalse("Unexpected change", index.hasChanged());
+			assertEquals("Unexpected matches",
+				"/container/p/A.java\n" +
+				"/container/p/E.java",
+				indexMatches(index, "p.q"));
+			assertEquals("Unexpected matches", "", indexMatches(index, "p.q.r"));
+		} finally {
+			indexFile.delete();
+		}
+	}
+	private static void addPackageReferences(Index index, String documentName, String... segments) {
+		for (String segment : segments)
+			index.addIndexEntry(IIndexConstants.REF, segment.toCharArray(), documentName);
+	}
+	// the paths of the documents found by a package reference pattern, sorted, one per line
+	private static String indexMatches(Index index, String packageName) throws IOException {
+		List<String> paths = new ArrayList<>();
+		IndexQueryRequestor requestor = new IndexQueryRequestor() {
+			@Override
+			public boolean acceptIndexMatch(String documentPath, SearchPattern indexRecord, SearchParticipant participant, AccessRuleSet access) {
+				paths.add(documentPath);
+				return true;
+			}
+		};
+		AbstractSearchScope scope = new AbstractSearchScope() {
+			@Override
+			public boolean encloses(String resourcePath) {
+				return true;
+			}
+			@Override
+			public boolean encloses(IJavaElement element) {
+				return true;
+			}
+			@Override
+			public IPath[] enclosingProjectsAndJars() {
+				return new IPath[0];
+			}
+			@Override
+			public void processDelta(IJavaElementDelta delta, int eventType) {
+				// not used
+			}
+		};
+		new PackageReferencePattern(packageName.toCharArray(), SearchPattern.R_EXACT_MATCH | SearchPattern.R_CASE_SENSITIVE)
+			.findIndexMatches(index, requestor, SearchEngine.getDefaultSearchParticipant(), scope, null);
+		Collections.sort(paths);
+		return String.join("\n", paths);
+	}
+	// the words of a category with a trigram index, which are only read when they have the trigrams of the query, match as in a scan of all the words
+	public void testTrigramSelection() throws IOException {
+		String[] parts = { "Abstract", "Buffer", "Char", "Default", "Event", "File", "Http", "Input", "Java", "List", "Map", "Node", "Output",
+			"Parser", "Query", "Reader", "Stream", "Type", "URL", "Xml", "IO", "X", "$", "_", "a", "io" };
+		File indexFile = new File(getExternalResourcePath("Trigrams.index"));
+		try {
+			Index index = new Index(new FileIndexLocation(indexFile), "container", false);
+			// more words than the smallest table with a trigram index
+			for (int i = 0; i < parts.length; i++) {
+				index.addIndexEntry(IIndexConstants.TYPE_DECL, parts[i].toCharArray(), "p/A.java");
+				for (int j = 0; j < parts.length; j++) {
+					String word = parts[i] + parts[j];
+					if ((i + j) % 5 == 0)
+						word += i;
+					if ((i * j) % 7 == 1)
+						word += "/p/";
+					index.addIndexEntry(IIndexConstants.TYPE_DECL, word.toCharArray(), "p/D" + ((i * parts.length + j) % 13) + ".java");
+				}
+			}
+			index.addIndexEntry(IIndexConstants.TYPE_DECL, "Ab".toCharArray(), "p/B.java");
+			index.addIndexEntry(IIndexConstants.TYPE_DECL, "AB".toCharArray(), "p/B.java");
+			index.save();
+
+			String[] keys = {
+				// patterns
+				"*", "*?*", "*Buf*", "*str*am", "Ab?tract*", "*Map", "h*p*r", "**x", "io*", "Parser*Reader", "*ream*", "?ava*", "*/p/*",
+				// camel case
+				"ABu", "IOS", "HttpMa", "PR", "XmlRea", "URLR", "IOSt", "$A", "JaM", "IOIO", "X_", "XX",
+				// case insensitive
+				"javamap", "JAVAMAP", "inputstr", "ABSTRACTBUFFER", "Streamlist", "eamli", "typeurl12",
+				// shorter than a trigram
+				"a", "Ab", "I", "X", "io", "*a", "a*", "?", "?x", "$", "_"
+			};
+			int[] matchRules = {
+				SearchPattern.R_EXACT_MATCH,
+				SearchPattern.R_PREFIX_MATCH,
+				SearchPattern.R_PATTERN_MATCH,
+				SearchPattern.R_PATTERN_MATCH | SearchPattern.R_CASE_SENSITIVE,
+				SearchPattern.R_CAMELCASE_MATCH,
+				SearchPattern.R_CAMELCASE_MATCH | SearchPattern.R_CASE_SENSITIVE,
+				SearchPattern.R_CAMELCASE_SAME_PART_COUNT_MATCH,
+				SearchPattern.R_CAMELCASE_SAME_PART_COUNT_MATCH | SearchPattern.R_CASE_SENSITIVE,
+				SearchPattern.R_PREFIX_MATCH | SearchPattern.R_SUBSTRING_MATCH,
+				SearchPattern.R_PREFIX_MATCH | SearchPattern.R_SUBWORD_MATCH,
+				SearchPattern.R_CAMELCASE_MATCH | SearchPattern.R_SUBSTRING_MATCH
+			};
+			int matchingQueries = 0;
+			for (String key : keys) {
+				for (int matchRule : matchRules) {
+					String expected = scanResults(index, IIndexConstants.TYPE_DECL, key, matchRule);
+					assertEquals("Unexpected words matching " + key + " with rule " + matchRule,
+						expected,
+						queryResults(index, IIndexConstants.TYPE_DECL, key, matchRule));
+					if (!expected.isEmpty())
+						matchingQueries++;
+				}
+			}
+			assertTrue("Too few matching queries: " + matchingQueries, matchingQueries > keys.length * matchRules.length / 3);
+			assertEquals("Unexpected words",
+				"HttpMap: p/D10.java",
+				queryResults(index, IIndexConstants.TYPE_DECL, "HttpMa", SearchPattern.R_CAMELCASE_MATCH | SearchPattern.R_CASE_SENSITIVE));
+		} finally {
+			indexFile.delete();
+		}
+	}
+	// the words of a scan of all the words of the category which match the key, as answered by queryResults
+	private static String scanResults(Index index, char[] category, String key, int matchRule) throws IOException {
+		EntryResult[] results = index.query(new char[][] { category }, null, matchRule);
+		List<String> lines = new ArrayList<>();
+		for (EntryResult result : results) {
+			if (!Index.isMatch(key.toCharArray(), result.getWord(), matchRule))
+				continue;
+			String[] documentNames = result.getDocumentNames(index);
+			Arrays.sort(documentNames);
+			lines.add(new String(result.getWord()) + ": " + String.join(", ", documentNames));
+		}
+		Collections.sort(lines);
+		return String.join("\n", lines);
+	}
 }
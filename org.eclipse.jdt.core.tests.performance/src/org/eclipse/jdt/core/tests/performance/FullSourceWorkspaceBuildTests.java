@@ -13,18 +13,24 @@
  *******************************************************************************/
 package org.eclipse.jdt.core.tests.performance;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Hashtable;
 import java.util.List;
 
 import junit.framework.Test;
 
 import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IWorkspace;
 import org.eclipse.core.resources.IWorkspaceRoot;
@@ -52,6 +58,10 @@ import org.eclipse.jdt.internal.compiler.parser.TerminalTokens;
 import org.eclipse.jdt.internal.compiler.problem.DefaultProblemFactory;
 import org.eclipse.jdt.internal.compiler.problem.ProblemReporter;
 import org.eclipse.jdt.internal.compiler.util.Util;
+import org.eclipse.jdt.internal.core.JavaModelManager;
+import org.eclipse.jdt.internal.core.builder.JavaBuilder;
+import org.eclipse.jdt.internal.core.builder.ReferenceCollection;
+import org.eclipse.jdt.internal.core.builder.State;
 
 /**
  * Class to test compiler performance.
@@ -700,6 +710,74 @@ public class FullSourceWorkspaceBuildTests extends FullSourceWorkspaceTests {
 		build(JDT_CORE_PROJECT, warningOptions(1/*all warnings*/), false);
 	}
 
+	/**
+	 * Read the JDT/Core project build state, decoding the reference collections
+	 * only when they are asked for.
+	 */
+	public void testReadState() throws CoreException, IOException {
+		tagAsSummary("Read JDT/Core build state", false); // do NOT put in fingerprint
+		readState(false);
+	}
+
+	/**
+	 * Read the JDT/Core project build state and decode all its reference collections,
+	 * as reading a state did before they were decoded lazily.
+	 */
+	public void testReadStateDecodeAll() throws CoreException, IOException {
+		tagAsSummary("Read JDT/Core build state (decode all)", false); // do NOT put in fingerprint
+		readState(true);
+	}
+
+	/**
+	 * Read the saved build state of the JDT/Core project {@link #ITERATIONS_COUNT} times per measure.
+	 * The states read are kept until the end of each measure, so that the used heap dimension
+	 * reports the heap they retain.
+	 */
+	void readState(boolean decodeAll) throws CoreException, IOException {
+		IProject project = JDT_CORE_PROJECT.getProject();
+		State state = (State) JavaModelManager.getJavaModelManager().getLastBuiltState(project, null);
+		if (state == null) {
+			ENV.fullBuild(project.getName());
+			state = (State) JavaModelManager.getJavaModelManager().getLastBuiltState(project, null);
+		}
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		JavaBuilder.writeState(state, new DataOutputStream(output));
+		byte[] bytes = output.toByteArray();
+		if (PRINT) System.out.println("Build state of "+project.getName()+": "+bytes.length+" bytes, "+state.getReferences().size()+" type locators");
+
+		// warm-up
+		for (int i=0; i<WARMUP_COUNT; i++) {
+			readState(project, bytes, decodeAll);
+		}
+
+		// measures
+		State[] states = new State[ITERATIONS_COUNT];
+		for (int i=0; i<MEASURES_COUNT; i++) {
+			runGc();
+			startMeasuring();
+			for (int j=0; j<ITERATIONS_COUNT; j++) {
+				states[j] = readState(project, bytes, decodeAll);
+			}
+			runGc();
+			stopMeasuring();
+			Arrays.fill(states, null);
+		}
+
+		// Commit
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private State readState(IProject project, byte[] bytes, boolean decodeAll) throws CoreException, IOException {
+		State state = JavaBuilder.readState(project, new DataInputStream(new ByteArrayInputStream(bytes)));
+		if (decodeAll) {
+			for (ReferenceCollection collection : state.getReferences().values()) {
+				assertNotNull(collection);
+			}
+		}
+		return state;
+	}
+
 	/**
 	 * Batch compiler build with no warning
 	 *
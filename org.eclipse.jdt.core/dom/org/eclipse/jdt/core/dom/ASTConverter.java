@@ -1033,6 +1033,7 @@ class ASTConverter {
 			argument.type.sourceEnd = retrieveEllipsisStartPosition(argument.type.sourceStart, typeSourceEnd);
 		}
 		Type type = convertType(argument.type);
+		argument.type.sourceEnd = typeSourceEnd;
 		int typeEnd = type.getStartPosition() + type.getLength() - 1;
 		int rightEnd = Math.max(typeEnd, argument.declarationSourceEnd);
 		/*
@@ -1626,6 +1627,7 @@ class ASTConverter {
 			component.type.sourceEnd = retrieveEllipsisStartPosition(component.type.sourceStart, typeSourceEnd);
 		}
 		Type type = convertType(component.type);
+		component.type.sourceEnd = typeSourceEnd;
 		int typeEnd = type.getStartPosition() + type.getLength() - 1;
 		int rightEnd = Math.max(typeEnd, component.declarationSourceEnd);
 		/*
@@ -3910,6 +3912,10 @@ class ASTConverter {
 			recordNodes(parenthesizedExpression, expression);
 		}
 		parenthesizedExpression.setSourceRange(expression.sourceStart, expression.sourceEnd - expression.sourceStart + 1);
+		// the expression is restored once converted, the unit may be converted again (see ASTParser)
+		int sourceStart = expression.sourceStart;
+		int sourceEnd = expression.sourceEnd;
+		int bits = expression.bits;
 		adjustSourcePositionsForParent(expression);
 		trimWhiteSpacesAndComments(expression);
 		// decrement the number of parenthesis
@@ -3917,6 +3923,9 @@ class ASTConverter {
 		expression.bits &= ~org.eclipse.jdt.internal.compiler.ast.ASTNode.ParenthesizedMASK;
 		expression.bits |= (numberOfParenthesis - 1) << org.eclipse.jdt.internal.compiler.ast.ASTNode.ParenthesizedSHIFT;
 		parenthesizedExpression.setExpression(convert(expression));
+		expression.sourceStart = sourceStart;
+		expression.sourceEnd = sourceEnd;
+		expression.bits = bits;
 		return parenthesizedExpression;
 	}
 
@@ -48,6 +48,8 @@ import org.eclipse.jdt.internal.core.BasicCompilationUnit;
 import org.eclipse.jdt.internal.core.BinaryType;
 import org.eclipse.jdt.internal.core.ClassFileWorkingCopy;
 import org.eclipse.jdt.internal.core.DefaultWorkingCopyOwner;
+import org.eclipse.jdt.internal.core.JavaModelManager.PerWorkingCopyInfo;
+import org.eclipse.jdt.internal.core.JavaModelManager.PerWorkingCopyInfo.ParsedUnit;
 import org.eclipse.jdt.internal.core.PackageFragment;
 import org.eclipse.jdt.internal.core.dom.util.DOMASTUtil;
 import org.eclipse.jdt.internal.core.util.CodeSnippetParsingUtil;
@@ -1156,6 +1158,7 @@ public class ASTParser {
 				CompilationUnitDeclaration compilationUnitDeclaration = null;
 				try {
 					NodeSearcher searcher = null;
+					PerWorkingCopyInfo workingCopyInfo = null;
 					org.eclipse.jdt.internal.compiler.env.ICompilationUnit sourceUnit = null;
 					WorkingCopyOwner wcOwner = this.workingCopyOwner;
 					if (this.typeRoot instanceof ClassFileWorkingCopy) {
@@ -1175,6 +1178,9 @@ public class ASTParser {
 							 */
 							sourceUnit = new BasicCompilationUnit(sourceUnit.getContents(), sourceUnit.getPackageName(), new String(sourceUnit.getFileName()), this.project);
 							wcOwner = ((ICompilationUnit) this.typeRoot).getOwner();
+							if (this.typeRoot instanceof org.eclipse.jdt.internal.core.CompilationUnit workingCopy) {
+								workingCopyInfo = workingCopy.getPerWorkingCopyInfo();
+							}
 					} else if (this.typeRoot instanceof IClassFile) {
 						try {
 							String sourceString = this.typeRoot.getSource();
@@ -1236,6 +1242,7 @@ public class ASTParser {
 						flags |= ICompilationUnit.IGNORE_METHOD_BODIES;
 					}
 					if (needToResolveBindings) {
+						workingCopyInfo = null;
 						if ((this.bits & CompilationUnitResolver.BINDING_RECOVERY) != 0) {
 							flags |= ICompilationUnit.ENABLE_BINDINGS_RECOVERY;
 						}
@@ -1260,7 +1267,17 @@ public class ASTParser {
 									flags);
 							needToResolveBindings = false;
 						}
+					} else if (workingCopyInfo != null && searcher == null && (flags & ICompilationUnit.IGNORE_METHOD_BODIES) == 0) {
+						// the unit is kept to reparse only the edited method body the next time
+						compilationUnitDeclaration = CompilationUnitResolver.parse(
+								sourceUnit,
+								workingCopyInfo.takeParsedUnit(),
+								this.compilerOptions,
+								flags,
+								this.project);
+						needToResolveBindings = false;
 					} else {
+						workingCopyInfo = null;
 						compilationUnitDeclaration = CompilationUnitResolver.parse(
 								sourceUnit,
 								searcher,
@@ -1282,6 +1299,9 @@ public class ASTParser {
 						this.project != null,
 						this.project);
 					result.setTypeRoot(this.typeRoot);
+					if (workingCopyInfo != null) {
+						workingCopyInfo.setParsedUnit(new ParsedUnit(compilationUnitDeclaration, sourceUnit.getContents(), new HashMap<>(this.compilerOptions), flags));
+					}
 					return result;
 				} finally {
 					if (compilationUnitDeclaration != null
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -70,6 +70,7 @@ import org.eclipse.jdt.internal.core.CancelableNameEnvironment;
 import org.eclipse.jdt.internal.core.CancelableProblemFactory;
 import org.eclipse.jdt.internal.core.ClasspathEntry;
 import org.eclipse.jdt.internal.core.INameEnvironmentWithProgress;
+import org.eclipse.jdt.internal.core.JavaModelManager.PerWorkingCopyInfo.ParsedUnit;
 import org.eclipse.jdt.internal.core.JavaProject;
 import org.eclipse.jdt.internal.core.LocalVariable;
 import org.eclipse.jdt.internal.core.NameLookup;
@@ -596,22 +597,8 @@ class CompilationUnitResolver extends Compiler {
 		if (sourceUnit == null) {
 			throw new IllegalStateException();
 		}
-		CompilerOptions compilerOptions = new CompilerOptions(settings);
-		boolean statementsRecovery = (flags & ICompilationUnit.ENABLE_STATEMENTS_RECOVERY) != 0;
-		compilerOptions.performMethodsFullRecovery = statementsRecovery;
-		compilerOptions.performStatementsRecovery = statementsRecovery;
-		compilerOptions.ignoreMethodBodies = (flags & ICompilationUnit.IGNORE_METHOD_BODIES) != 0;
-		Parser parser = new CommentRecorderParser(
-			new ProblemReporter(
-					DefaultErrorHandlingPolicies.proceedWithAllProblems(),
-					compilerOptions,
-					new DefaultProblemFactory()),
-			false);
-		if (project != null) {
-			parser.javadocParser.setProjectPath(getProjectPath(project));
-			parser.javadocParser.setProjectSrcClasspath(getSourceClassPaths(project));
-
-		}
+		CompilerOptions compilerOptions = newCompilerOptions(settings, flags);
+		Parser parser = newParser(compilerOptions, project);
 		CompilationResult compilationResult = new CompilationResult(sourceUnit, 0, 0, compilerOptions.maxProblemsPerUnit);
 		CompilationUnitDeclaration compilationUnitDeclaration = parser.dietParse(sourceUnit, compilationResult);
 
@@ -660,6 +647,54 @@ class CompilationUnitResolver extends Compiler {
 		return compilationUnitDeclaration;
 	}
 
+	/**
+	 * Parses the given source of a working copy, like {@link #parse(org.eclipse.jdt.internal.compiler.env.ICompilationUnit, NodeSearcher, Map, int, IJavaProject)}
+	 * does without a node searcher. When the given unit was parsed from the previous contents of the working copy with
+	 * the same settings and flags, and the edit since lies within one of its method bodies, only that body is parsed
+	 * again and the previous unit is answered, updated in place (see
+	 * {@link Parser#reparse(CompilationUnitDeclaration, char[], org.eclipse.jdt.internal.compiler.env.ICompilationUnit, CompilationResult)}).
+	 */
+	public static CompilationUnitDeclaration parse(
+			org.eclipse.jdt.internal.compiler.env.ICompilationUnit sourceUnit,
+			ParsedUnit previous,
+			Map settings,
+			int flags, IJavaProject project) {
+		if (sourceUnit == null) {
+			throw new IllegalStateException();
+		}
+		CompilerOptions compilerOptions = newCompilerOptions(settings, flags);
+		Parser parser = newParser(compilerOptions, project);
+		CompilationResult compilationResult = new CompilationResult(sourceUnit, 0, 0, compilerOptions.maxProblemsPerUnit);
+		if (previous == null || previous.flags() != flags || !previous.options().equals(settings)) {
+			return parser.reparse(null, null, sourceUnit, compilationResult);
+		}
+		return parser.reparse(previous.unit(), previous.contents(), sourceUnit, compilationResult);
+	}
+
+	private static CompilerOptions newCompilerOptions(Map settings, int flags) {
+		CompilerOptions compilerOptions = new CompilerOptions(settings);
+		boolean statementsRecovery = (flags & ICompilationUnit.ENABLE_STATEMENTS_RECOVERY) != 0;
+		compilerOptions.performMethodsFullRecovery = statementsRecovery;
+		compilerOptions.performStatementsRecovery = statementsRecovery;
+		compilerOptions.ignoreMethodBodies = (flags & ICompilationUnit.IGNORE_METHOD_BODIES) != 0;
+		return compilerOptions;
+	}
+
+	private static Parser newParser(CompilerOptions compilerOptions, IJavaProject project) {
+		Parser parser = new CommentRecorderParser(
+			new ProblemReporter(
+					DefaultErrorHandlingPolicies.proceedWithAllProblems(),
+					compilerOptions,
+					new DefaultProblemFactory()),
+			false);
+		if (project != null) {
+			parser.javadocParser.setProjectPath(getProjectPath(project));
+			parser.javadocParser.setProjectSrcClasspath(getSourceClassPaths(project));
+
+		}
+		return parser;
+	}
+
 	public static void resolve(
 		ICompilationUnit[] compilationUnits,
 		String[] bindingKeys,
@@ -1269,37 +1304,12 @@ class CompilationUnitResolver extends Compiler {
 			if (nodeSearcher == null) {
 				this.parser.getMethodBodies(unit); // no-op if method bodies have already been parsed
 			} else {
+				// only the body enclosing the focal position is parsed and resolved, the other ones are deferred
+				unit.resolveMethodBodiesOnDemand = true;
+				this.parser.getMethodBodies(unit); // no-op if method bodies have already been parsed
 				int searchPosition = nodeSearcher.position;
-				char[] source = sourceUnit.getContents();
-				int length = source.length;
-				if (searchPosition >= 0 && searchPosition <= length) {
-					unit.traverse(nodeSearcher, unit.scope);
-
-					org.eclipse.jdt.internal.compiler.ast.ASTNode node = nodeSearcher.found;
-
-		 			if (node != null) {
-						// save existing values to restore them at the end of the parsing process
-						// see bug 47079 for more details
-						int[] oldLineEnds = this.parser.scanner.lineEnds;
-						int oldLinePtr = this.parser.scanner.linePtr;
-
-						this.parser.scanner.setSource(source, unit.compilationResult);
-
-						org.eclipse.jdt.internal.compiler.ast.TypeDeclaration enclosingTypeDeclaration = nodeSearcher.enclosingType;
-						if (node instanceof AbstractMethodDeclaration) {
-							((AbstractMethodDeclaration)node).parseStatements(this.parser, unit);
-						} else if (enclosingTypeDeclaration != null) {
-							if (node instanceof org.eclipse.jdt.internal.compiler.ast.Initializer) {
-								((org.eclipse.jdt.internal.compiler.ast.Initializer) node).parseStatements(this.parser, enclosingTypeDeclaration, unit);
-							} else if (node instanceof org.eclipse.jdt.internal.compiler.ast.TypeDeclaration) {
-								((org.eclipse.jdt.internal.compiler.ast.TypeDeclaration)node).parseMethods(this.parser, unit);
-							}
-						}
-						// this is done to prevent any side effects on the compilation unit result
-						// line separator positions array.
-						this.parser.scanner.lineEnds = oldLineEnds;
-						this.parser.scanner.linePtr = oldLinePtr;
-					}
+				if (searchPosition >= 0 && searchPosition <= sourceUnit.getContents().length) {
+					unit.resolveMethodBodyAt(this.parser, searchPosition);
 				}
 			}
 
@@ -1320,8 +1330,8 @@ class CompilationUnitResolver extends Compiler {
 					// flow analysis
 					if (analyzeCode) unit.analyseCode();
 
-					// code generation
-					if (generateCode) unit.generateCode();
+					// code generation (not for a unit with deferred method bodies)
+					if (generateCode && !unit.resolveMethodBodiesOnDemand) unit.generateCode();
 
 					// finalize problems (suppressWarnings)
 					unit.finalizeProblems();
@@ -133,6 +133,7 @@ import org.eclipse.jdt.internal.codeassist.CompletionEngine;
 import org.eclipse.jdt.internal.codeassist.SelectionEngine;
 import org.eclipse.jdt.internal.compiler.AbstractAnnotationProcessorManager;
 import org.eclipse.jdt.internal.compiler.Compiler;
+import org.eclipse.jdt.internal.compiler.ast.CompilationUnitDeclaration;
 import org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants;
 import org.eclipse.jdt.internal.compiler.env.AccessRestriction;
 import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
@@ -1588,6 +1589,15 @@ public class JavaModelManager implements ISaveParticipant, IContentTypeChangeLis
 		int useCount = 0;
 		IProblemRequestor problemRequestor;
 		CompilationUnit workingCopy;
+		// the unit last parsed to create an AST of the working copy without bindings, see ASTParser
+		private ParsedUnit parsedUnit;
+
+		/**
+		 * A unit parsed from the given contents with the given options and flags, which has not been resolved.
+		 */
+		public static record ParsedUnit(CompilationUnitDeclaration unit, char[] contents, Map<String, String> options, int flags) {
+		}
+
 		public PerWorkingCopyInfo(CompilationUnit workingCopy, IProblemRequestor problemRequestor) {
 			this.workingCopy = workingCopy;
 			this.problemRequestor = problemRequestor;
@@ -1619,6 +1629,18 @@ public class JavaModelManager implements ISaveParticipant, IContentTypeChangeLis
 		public ICompilationUnit getWorkingCopy() {
 			return this.workingCopy;
 		}
+		/**
+		 * Answers the unit last parsed for an AST of the working copy, or <code>null</code> if none. The unit is
+		 * forgotten, since it is reparsed in place after an edit: it is given back once its AST is created.
+		 */
+		public synchronized ParsedUnit takeParsedUnit() {
+			ParsedUnit unit = this.parsedUnit;
+			this.parsedUnit = null;
+			return unit;
+		}
+		public synchronized void setParsedUnit(ParsedUnit unit) {
+			this.parsedUnit = unit;
+		}
 		@Override
 		public boolean isActive() {
 			IProblemRequestor requestor = getProblemRequestor();
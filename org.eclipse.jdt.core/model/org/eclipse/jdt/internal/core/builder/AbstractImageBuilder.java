@@ -579,6 +579,7 @@ protected Compiler newCompiler() {
 	// temporary code to allow the compiler to revert to a single thread
 	String setting = System.getProperty("jdt.compiler.useSingleThread"); //$NON-NLS-1$
 	newCompiler.useSingleThread = setting != null && setting.equals("true"); //$NON-NLS-1$
+	newCompiler.parsingThreads = ParseTaskManager.configuredThreadCount();
 
 	// enable the compiler reference info support
 	options.produceReferenceInfo = true;
@@ -686,11 +687,8 @@ protected void recordParticipantResult(CompilationParticipantResult result) {
 	}
 
 	String[] dependencies = result.dependencies;
-	if (dependencies != null) {
-		ReferenceCollection refs = this.newState.references.get(result.sourceFile.typeLocator());
-		if (refs != null)
-			refs.addDependencies(dependencies);
-	}
+	if (dependencies != null)
+		this.newState.recordDependencies(result.sourceFile.typeLocator(), dependencies);
 }
 
 /**
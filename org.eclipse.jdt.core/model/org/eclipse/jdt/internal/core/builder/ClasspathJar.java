@@ -265,7 +265,9 @@ public NameEnvironmentAnswer findClass(String binaryFileName, String qualifiedPa
 	if (!isPackage(qualifiedPackageName, moduleName)) return null; // most common case
 
 	try {
-		IBinaryType reader = ClassFileReader.read(this.zipFile, qualifiedBinaryFileName);
+		IBinaryType reader = JavaBuilder.CONCURRENT_BUILDS
+			? readSharedClassFile(qualifiedBinaryFileName)
+			: ClassFileReader.read(this.zipFile, qualifiedBinaryFileName);
 		if (reader != null) {
 			char[] modName = this.module == null ? null : this.module.name();
 			if (reader instanceof ClassFileReader) {
@@ -283,6 +285,24 @@ public NameEnvironmentAnswer findClass(String binaryFileName, String qualifiedPa
 	return null;
 }
 
+/**
+ * Reads the given class file through the {@link SharedClassFileCache}, for the projects built concurrently.
+ */
+private ClassFileReader readSharedClassFile(String qualifiedBinaryFileName) throws IOException, ClassFormatException {
+	SharedClassFileCache cache = SharedClassFileCache.INSTANCE;
+	long timestamp = lastModified();
+	byte[] bytes = cache.get(this.zipFilename, timestamp, this.fileSize, qualifiedBinaryFileName);
+	if (bytes == null) {
+		ZipEntry entry = this.zipFile.getEntry(qualifiedBinaryFileName);
+		if (entry == null)
+			return null;
+		bytes = org.eclipse.jdt.internal.compiler.util.Util.getZipEntryByteContent(entry, this.zipFile);
+		cache.put(this.zipFilename, timestamp, this.fileSize, qualifiedBinaryFileName, bytes);
+	}
+	return new ClassFileReader(org.eclipse.jdt.internal.compiler.util.Util.toJarUri(this.zipFilename, qualifiedBinaryFileName),
+			bytes, qualifiedBinaryFileName.toCharArray());
+}
+
 @Override
 public IPath getProjectRelativePath() {
 	if (this.resource == null) return null;
@@ -51,6 +51,11 @@ public class CompressedReader {
 		return this.in.readInt();
 	}
 
+	/** @see CompressedWriter#writeBytes(byte[]) **/
+	public void readBytes(byte[] bytes) throws IOException {
+		this.in.readFully(bytes);
+	}
+
 	/** @see CompressedWriter#writeChars(char[]) **/
 	public char[] readChars() throws IOException {
 		return this.in.readUTF().toCharArray();
@@ -52,6 +52,11 @@ public class CompressedWriter {
 		this.out.writeInt(v);
 	}
 
+	/** @see CompressedReader#readBytes(byte[]) **/
+	public void writeBytes(byte[] bytes) throws IOException {
+		this.out.write(bytes);
+	}
+
 	// ---- compressed outputs: ---
 
 	/**
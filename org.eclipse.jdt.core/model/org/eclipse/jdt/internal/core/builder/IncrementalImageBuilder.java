@@ -32,7 +32,6 @@ import org.eclipse.jdt.internal.core.util.Util;
 import java.io.*;
 import java.net.URI;
 import java.util.*;
-import java.util.Map.Entry;
 
 /**
  * The incremental image builder
@@ -242,11 +241,14 @@ protected void addAffectedSourceFiles(Set<String> qualifiedSet, Set<String> simp
 		internedSimpleNames = null;
 	char[][] internedRootNames = ReferenceCollection.internSimpleNames(rootSet, false);
 
-	next: for (Entry<String, ReferenceCollection> entry : this.newState.references.entrySet()) {
-		String typeLocator = entry.getKey();
+	// look up the type locators referencing one of the names instead of checking every reference collection
+	Collection<String> typeLocators = this.newState.getReferenceCandidates(internedQualifiedNames, internedSimpleNames, internedRootNames);
+	if (typeLocators == null)
+		typeLocators = this.newState.references.keySet();
+	next: for (String typeLocator : typeLocators) {
 		if (affectedTypes != null && !affectedTypes.contains(typeLocator)) continue next;
-		ReferenceCollection refs = entry.getValue();
-		if (refs.includes(internedQualifiedNames, internedSimpleNames, internedRootNames)) {
+		ReferenceCollection refs = this.newState.references.get(typeLocator);
+		if (refs != null && refs.includes(internedQualifiedNames, internedSimpleNames, internedRootNames)) {
 			IFile file = this.javaBuilder.currentProject.getFile(typeLocator);
 			SourceFile sourceFile = findSourceFile(file, true);
 			if (sourceFile == null) continue next;
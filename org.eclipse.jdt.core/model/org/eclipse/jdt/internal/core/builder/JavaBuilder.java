@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,7 @@ package org.eclipse.jdt.internal.core.builder;
 
 import org.eclipse.core.resources.*;
 import org.eclipse.core.runtime.*;
+import org.eclipse.core.runtime.jobs.ISchedulingRule;
 
 import org.eclipse.jdt.core.*;
 import org.eclipse.jdt.core.compiler.*;
@@ -60,6 +61,15 @@ private static final IPath JDT_CORE_SETTINGS_PATH = Path.fromPortableString(Java
  */
 static LinkedHashSet<String> builtProjects;
 
+/**
+ * Allows the workspace to build Java projects concurrently, when it is configured to run concurrent builds
+ * (see {@link IWorkspaceDescription#setMaxConcurrentBuilds(int)}), which bounds the number of projects built at once.
+ * The workspace still builds a project after the projects it references, which include the projects on its
+ * classpath, so only independent projects are built at the same time.
+ * Specify VM property: {@code -Dorg.eclipse.jdt.core.builder.concurrentBuilds=true}
+ */
+public static boolean CONCURRENT_BUILDS = Boolean.getBoolean("org.eclipse.jdt.core.builder.concurrentBuilds"); //$NON-NLS-1$
+
 public static IMarker[] getProblemsFor(IResource resource) {
 	try {
 		if (resource != null && resource.exists()) {
@@ -262,6 +272,17 @@ protected IProject[] build(int kind, Map ignored, IProgressMonitor monitor) thro
 	return requiredProjects;
 }
 
+/**
+ * Answers the project being built when projects may be built concurrently: a build only modifies the
+ * resources of its project, and reads the output of the prerequisite projects, which are built before.
+ */
+@Override
+public ISchedulingRule getRule(int kind, Map<String, String> args) {
+	if (CONCURRENT_BUILDS)
+		return getProject();
+	return super.getRule(kind, args);
+}
+
 private void buildAll() {
 	this.notifier.checkCancel();
 	this.notifier.subTask(Messages.bind(Messages.build_preparingBuild, this.currentProject.getName()));
@@ -634,10 +655,12 @@ private int initializeBuilder(int kind, boolean forBuild) throws CoreException {
 
 		// Flush the existing external files cache if this is the beginning of a build cycle
 		String projectName = this.currentProject.getName();
-		if (builtProjects == null || builtProjects.contains(projectName)) {
-			builtProjects = new LinkedHashSet();
+		synchronized (JavaBuilder.class) { // projects may be built concurrently
+			if (builtProjects == null || builtProjects.contains(projectName)) {
+				builtProjects = new LinkedHashSet();
+			}
+			builtProjects.add(projectName);
 		}
-		builtProjects.add(projectName);
 	}
 
 	this.binaryLocationsPerProject = new SimpleLookupTable(3);
@@ -0,0 +1,179 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.builder;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The {@link State#references} of a state, keyed by type locator, which decodes the reference collections
+ * read from a saved state only when they are asked for.
+ * <p>
+ * A value is either a {@link ReferenceCollection}, or the offset of its encoding in the references block
+ * of the saved state. Asking for a value through {@link #get(Object)} or an entry decodes and keeps it;
+ * {@link #peek(String)} decodes without keeping, for the callers which go over all the collections once.
+ * The encoded block is immutable, so the states copied from this one share it.
+ * </p>
+ */
+class LazyReferenceMap extends AbstractMap<String, ReferenceCollection> {
+
+	/**
+	 * References block of a saved state, with the interned names its entries refer to by index.
+	 */
+	static class EncodedReferences {
+		final byte[] bytes;
+		final char[][] internedRootNames;
+		final char[][] internedSimpleNames;
+		final char[][][] internedQualifiedNames;
+
+		EncodedReferences(byte[] bytes, char[][] internedRootNames, char[][] internedSimpleNames, char[][][] internedQualifiedNames) {
+			this.bytes = bytes;
+			this.internedRootNames = internedRootNames;
+			this.internedSimpleNames = internedSimpleNames;
+			this.internedQualifiedNames = internedQualifiedNames;
+		}
+
+		ReferenceCollection decode(int offset) {
+			CompressedReader in = new CompressedReader(new DataInputStream(
+				new ByteArrayInputStream(this.bytes, offset, this.bytes.length - offset)));
+			try {
+				return State.readReferenceCollection(in, this.internedRootNames, this.internedSimpleNames, this.internedQualifiedNames);
+			} catch (IOException e) {
+				// the block was fully read along with the state, so it cannot be truncated
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+
+	// type locator -> ReferenceCollection, or Integer offset into the encoded references
+	private final LinkedHashMap<String, Object> entries;
+	private EncodedReferences encoded;
+
+	LazyReferenceMap(int size) {
+		this.entries = new LinkedHashMap<>(size);
+	}
+
+	LazyReferenceMap(Map<String, ReferenceCollection> references) {
+		if (references instanceof LazyReferenceMap) {
+			LazyReferenceMap other = (LazyReferenceMap) references;
+			this.entries = new LinkedHashMap<>(other.entries);
+			this.encoded = other.encoded;
+		} else {
+			this.entries = new LinkedHashMap<>(references);
+		}
+	}
+
+	void setEncodedReferences(EncodedReferences encodedReferences) {
+		this.encoded = encodedReferences;
+	}
+
+	/**
+	 * Records the collection of the given type locator as encoded at the given offset.
+	 */
+	void putEncoded(String typeLocator, int offset) {
+		this.entries.put(typeLocator, Integer.valueOf(offset));
+	}
+
+	/**
+	 * Answers the collection of the given type locator, without keeping it decoded.
+	 */
+	ReferenceCollection peek(String typeLocator) {
+		return toCollection(this.entries.get(typeLocator));
+	}
+
+	private ReferenceCollection toCollection(Object value) {
+		if (value instanceof Integer)
+			return this.encoded.decode(((Integer) value).intValue());
+		return (ReferenceCollection) value;
+	}
+
+	@Override
+	public ReferenceCollection get(Object key) {
+		Object value = this.entries.get(key);
+		if (!(value instanceof Integer))
+			return (ReferenceCollection) value;
+		ReferenceCollection collection = toCollection(value);
+		// replacing the value of an existing key does not change the iteration order
+		this.entries.put((String) key, collection);
+		return collection;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return this.entries.containsKey(key);
+	}
+
+	@Override
+	public ReferenceCollection put(String key, ReferenceCollection value) {
+		return toCollection(this.entries.put(key, value));
+	}
+
+	@Override
+	public ReferenceCollection remove(Object key) {
+		return toCollection(this.entries.remove(key));
+	}
+
+	@Override
+	public int size() {
+		return this.entries.size();
+	}
+
+	@Override
+	public void clear() {
+		this.entries.clear();
+	}
+
+	@Override
+	public Set<String> keySet() {
+		return this.entries.keySet();
+	}
+
+	@Override
+	public Set<Entry<String, ReferenceCollection>> entrySet() {
+		return new AbstractSet<Entry<String, ReferenceCollection>>() {
+			@Override
+			public Iterator<Entry<String, ReferenceCollection>> iterator() {
+				Iterator<Entry<String, Object>> iterator = LazyReferenceMap.this.entries.entrySet().iterator();
+				return new Iterator<Entry<String, ReferenceCollection>>() {
+					@Override
+					public boolean hasNext() {
+						return iterator.hasNext();
+					}
+					@Override
+					public Entry<String, ReferenceCollection> next() {
+						Entry<String, Object> entry = iterator.next();
+						if (entry.getValue() instanceof Integer)
+							entry.setValue(toCollection(entry.getValue()));
+						return new SimpleEntry<>(entry.getKey(), (ReferenceCollection) entry.getValue());
+					}
+					@Override
+					public void remove() {
+						iterator.remove();
+					}
+				};
+			}
+			@Override
+			public int size() {
+				return LazyReferenceMap.this.entries.size();
+			}
+		};
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2010 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -57,7 +57,9 @@ public void addDependencies(String[] typeNameDependencies) {
 			int qLength = qualifiedTypeName.length;
 			QualifiedNameSet internedNames = InternedQualifiedNames[qLength <= MaxQualifiedNames ? qLength - 1 : 0];
 			qualifiedTypeName = internSimpleNames(qualifiedTypeName, false, false);
-			qualifiedTypeName = internedNames.add(qualifiedTypeName);
+			synchronized (internedNames) {
+				qualifiedTypeName = internedNames.add(qualifiedTypeName);
+			}
 			int idx;
 			while ((idx = Arrays.binarySearch(this.qualifiedNameReferences, qualifiedTypeName, SortedCharArrays.CHAR_CHAR_ARR_COMPARATOR)) < 0) {
 				this.simpleNameReferences = ensureContainedInSortedOrder(this.simpleNameReferences, qualifiedTypeName[qualifiedTypeName.length - 1]);
@@ -275,6 +277,8 @@ static final char[][][] EmptyQualifiedNames = new char[0][][];
 static final char[][] EmptySimpleNames = CharOperation.NO_CHAR_CHAR;
 
 // each array contains qualified char[][], one for size 2, 3, 4, 5, 6, 7 & the rest
+// the sets are shared by the projects built concurrently (see JavaBuilder.CONCURRENT_BUILDS), so each one is
+// locked while a name is added to it
 static final int MaxQualifiedNames = 7;
 static QualifiedNameSet[] InternedQualifiedNames = new QualifiedNameSet[MaxQualifiedNames];
 // each array contains simple char[], one for size 1 to 29 & the rest
@@ -380,7 +384,9 @@ static char[][][] internQualifiedNames(char[][][] qualifiedNames, boolean keepWe
 			}
 			prev = qualifiedName;
 		}
-		keepers[index++] = internedNames.add(qualifiedName);
+		synchronized (internedNames) {
+			keepers[index++] = internedNames.add(qualifiedName);
+		}
 	}
 	if (length > index) {
 		if (index == 0) return EmptyQualifiedNames;
@@ -474,7 +480,9 @@ static char[][] internSimpleNames(char[][] simpleNames, boolean removeWellKnown,
 		// InternedSimpleNames[1] is for size 1...
 		// InternedSimpleNames[29] is for size 29
 		NameSet internedNames = InternedSimpleNames[sLength < MaxSimpleNames ? sLength : 0];
-		keepers[index++] = internedNames.add(name);
+		synchronized (internedNames) {
+			keepers[index++] = internedNames.add(name);
+		}
 		// This code is duplicated to encourage the JIT to inline more stuff
 		if (doSort && isSorted) {
 			if (prev != null && SortedCharArrays.compareCharArray(prev, name) > 0) {
@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.builder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.core.compiler.CharOperation;
+import org.eclipse.jdt.internal.compiler.util.HashtableOfObject;
+
+/**
+ * Inverted view of the {@link State#references}: for each referenced simple, qualified and root name,
+ * the type locators whose {@link ReferenceCollection} contains that name.
+ * <p>
+ * The index answers candidates, which still have to be checked with {@link ReferenceCollection#includes(char[][][], char[][], char[][])}.
+ * This lets it grow without ever removing postings: the names of a collection that was replaced or removed
+ * only produce false candidates, which the check rejects. The owning state rebuilds the index once
+ * too many collections were recorded compared to the live ones (see {@link #isStale(int)}).
+ * </p>
+ * <p>
+ * Since postings are only ever added, a new state can share the index of the state it was copied from:
+ * the index stays a superset of the names of both states.
+ * </p>
+ */
+class ReferenceIndex {
+
+// type locator -> id, and id -> type locator
+private final Map<String, Integer> locatorIds;
+private final List<String> locators;
+// name -> int[] postings, the first slot holds the number of locator ids which follow
+private final HashtableOfObject simpleNames;
+private final HashtableOfObject qualifiedNames; // keyed by the names joined with '/'
+private final HashtableOfObject rootNames;
+private int recordCount; // number of collections added to the index, including replaced ones
+
+ReferenceIndex(Map<String, ReferenceCollection> references) {
+	int size = references.size();
+	this.locatorIds = new HashMap<>((int) (size / 0.75 + 1));
+	this.locators = new ArrayList<>(size);
+	this.simpleNames = new HashtableOfObject(size * 4 + 3);
+	this.qualifiedNames = new HashtableOfObject(size * 2 + 3);
+	this.rootNames = new HashtableOfObject(13);
+	for (String typeLocator : references.keySet()) {
+		// do not keep decoded the collections of a saved state which are not asked for
+		add(typeLocator, references instanceof LazyReferenceMap
+			? ((LazyReferenceMap) references).peek(typeLocator)
+			: references.get(typeLocator));
+	}
+}
+
+/**
+ * Records the names of the given collection, which is now the one of the given type locator.
+ */
+void add(String typeLocator, ReferenceCollection collection) {
+	this.recordCount++;
+	Integer id = this.locatorIds.get(typeLocator);
+	if (id == null) {
+		id = Integer.valueOf(this.locators.size());
+		this.locatorIds.put(typeLocator, id);
+		this.locators.add(typeLocator);
+	}
+	int locatorId = id.intValue();
+	for (char[] name : collection.simpleNameReferences)
+		addPosting(this.simpleNames, name, locatorId);
+	for (char[][] name : collection.qualifiedNameReferences)
+		addPosting(this.qualifiedNames, CharOperation.concatWith(name, '/'), locatorId);
+	for (char[] name : collection.rootReferences)
+		addPosting(this.rootNames, name, locatorId);
+}
+
+private static void addPosting(HashtableOfObject table, char[] name, int locatorId) {
+	int[] postings = (int[]) table.get(name);
+	if (postings == null) {
+		table.put(name, new int[] { 1, locatorId, 0 });
+		return;
+	}
+	int count = postings[0];
+	if (postings[count] == locatorId)
+		return; // recorded again with the same name
+	if (++count == postings.length)
+		table.put(name, postings = Arrays.copyOf(postings, count * 2));
+	postings[count] = locatorId;
+	postings[0] = count;
+}
+
+/**
+ * Answers whether there were so many collections recorded since the index was built, compared to the given
+ * number of live collections, that it should be rebuilt.
+ */
+boolean isStale(int liveCount) {
+	return this.recordCount > 2 * liveCount + 32;
+}
+
+/**
+ * Answers the type locators which may include the given names, in the order they were first recorded,
+ * or <code>null</code> if any type locator may include them. The names follow the conventions of
+ * {@link ReferenceCollection#includes(char[][][], char[][], char[][])}, where a <code>null</code>
+ * array stands for a well known name.
+ */
+List<String> candidates(char[][][] qualifiedNamesToFind, char[][] simpleNamesToFind, char[][] rootNamesToFind) {
+	// pick a kind of name which a collection must contain to be included
+	BitSet ids = new BitSet(this.locators.size());
+	if (simpleNamesToFind != null) {
+		for (char[] name : simpleNamesToFind)
+			addPostings(this.simpleNames, name, ids);
+	} else if (qualifiedNamesToFind != null) {
+		for (char[][] name : qualifiedNamesToFind) {
+			addPostings(this.qualifiedNames, CharOperation.concatWith(name, '/'), ids);
+			if (name.length == 1) // may be a simple name, see ReferenceCollection.includesQualifiedName()
+				addPostings(this.simpleNames, name[0], ids);
+		}
+	} else if (rootNamesToFind != null) {
+		for (char[] name : rootNamesToFind)
+			addPostings(this.rootNames, name, ids);
+	} else {
+		return null;
+	}
+	List<String> result = new ArrayList<>(ids.cardinality());
+	for (int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id + 1))
+		result.add(this.locators.get(id));
+	return result;
+}
+
+private static void addPostings(HashtableOfObject table, char[] name, BitSet ids) {
+	int[] postings = (int[]) table.get(name);
+	if (postings != null) {
+		for (int i = 1, count = postings[0]; i <= count; i++)
+			ids.set(postings[i]);
+	}
+}
+}
@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.builder;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * Contents of the class files read from jars, shared by the builds of all the projects, so that
+ * projects built concurrently against the same jars do not each inflate the same class files.
+ * <p>
+ * Only the bytes are shared: each build creates its own readers from them, since a reader gets
+ * state specific to the classpath entry it was found on (its module for instance).
+ * The cache is bounded by a byte budget (see {@link #BUDGET_PROPERTY}) and drops the least recently
+ * used class files first. The contents of a jar are dropped when its modification time or size changes.
+ * </p>
+ */
+class SharedClassFileCache {
+
+static final String BUDGET_PROPERTY = "org.eclipse.jdt.core.builder.sharedClassFileCacheSize"; //$NON-NLS-1$
+static final long DEFAULT_BUDGET = 64 * 1024 * 1024;
+
+static final SharedClassFileCache INSTANCE = new SharedClassFileCache(Long.getLong(BUDGET_PROPERTY, DEFAULT_BUDGET).longValue());
+
+static class CachedClassFile {
+	final long lastModified;
+	final long fileSize;
+	final byte[] bytes;
+
+	CachedClassFile(long lastModified, long fileSize, byte[] bytes) {
+		this.lastModified = lastModified;
+		this.fileSize = fileSize;
+		this.bytes = bytes;
+	}
+}
+
+private final long budget;
+private long size; // bytes held by the cache
+// "jar path!entry name" -> contents, least recently used first
+private final LinkedHashMap<String, CachedClassFile> classFiles = new LinkedHashMap<>(256, 0.75f, true);
+
+SharedClassFileCache(long budget) {
+	this.budget = budget;
+}
+
+/**
+ * Answers the contents of the given class file of the given jar, or <code>null</code> if they are not cached
+ * for that version of the jar.
+ */
+synchronized byte[] get(String zipFilename, long lastModified, long fileSize, String entryName) {
+	String key = zipFilename + '!' + entryName;
+	CachedClassFile classFile = this.classFiles.get(key);
+	if (classFile == null)
+		return null;
+	if (classFile.lastModified != lastModified || classFile.fileSize != fileSize) {
+		this.classFiles.remove(key); // the jar changed
+		this.size -= classFile.bytes.length;
+		return null;
+	}
+	return classFile.bytes;
+}
+
+synchronized void put(String zipFilename, long lastModified, long fileSize, String entryName, byte[] bytes) {
+	if (bytes.length > this.budget)
+		return;
+	CachedClassFile previous = this.classFiles.put(zipFilename + '!' + entryName, new CachedClassFile(lastModified, fileSize, bytes));
+	if (previous != null)
+		this.size -= previous.bytes.length;
+	this.size += bytes.length;
+	for (Iterator<CachedClassFile> iterator = this.classFiles.values().iterator(); this.size > this.budget && iterator.hasNext();) {
+		this.size -= iterator.next().bytes.length;
+		iterator.remove();
+	}
+}
+
+synchronized void clear() {
+	this.classFiles.clear();
+	this.size = 0;
+}
+}
@@ -18,6 +18,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.core.builder;
 
+import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
@@ -68,6 +69,8 @@ public ClasspathLocation[] testBinaryLocations;
 Map<String, ReferenceCollection> references;
 // keyed by qualified type name "p1/p2/A", value is the project relative path which defines this type "src1/p1/p2/A.java"
 public Map<String, String> typeLocators;
+// inverted view of the references, built on demand and shared with the states copied from this one
+private ReferenceIndex referenceIndex;
 
 int buildNumber;
 long lastStructuralBuildTime;
@@ -79,7 +82,7 @@ private long previousStructuralBuildTime;
 private StringSet structurallyChangedTypes;
 public static int MaxStructurallyChangedTypes = 100; // keep track of ? structurally changed types, otherwise consider all to be changed
 
-public static final byte VERSION = 0x0026;
+public static final byte VERSION = 0x0027;
 
 static final byte SOURCE_FOLDER = 1;
 static final byte BINARY_FOLDER = 2;
@@ -104,7 +107,7 @@ protected State(JavaBuilder javaBuilder) {
 	this.binaryLocations = javaBuilder.nameEnvironment.binaryLocations;
 	this.testSourceLocations = javaBuilder.testNameEnvironment.sourceLocations;
 	this.testBinaryLocations = javaBuilder.testNameEnvironment.binaryLocations;
-	this.references = new LinkedHashMap<>(7);
+	this.references = new LazyReferenceMap(7);
 	this.typeLocators = new LinkedHashMap<>(7);
 
 	this.buildNumber = 0; // indicates a full build
@@ -127,8 +130,9 @@ void copyFrom(State lastState) {
 	this.lastStructuralBuildTime = lastState.lastStructuralBuildTime;
 	this.structuralBuildTimes = lastState.structuralBuildTimes;
 
-	this.references = new LinkedHashMap<>(lastState.references);
+	this.references = new LazyReferenceMap(lastState.references);
 	this.typeLocators = new LinkedHashMap<>(lastState.typeLocators);
+	this.referenceIndex = lastState.referenceIndex;
 }
 
 /**
@@ -175,6 +179,16 @@ public Map<String, ReferenceCollection> getReferences() {
 	return this.references;
 }
 
+/**
+ * Answers the type locators whose reference collection may include the given names, or <code>null</code>
+ * if any of them may. Candidates still have to be checked with {@link ReferenceCollection#includes(char[][][], char[][], char[][])}.
+ */
+List<String> getReferenceCandidates(char[][][] qualifiedNames, char[][] simpleNames, char[][] rootNames) {
+	if (this.referenceIndex == null || this.referenceIndex.isStale(this.references.size()))
+		this.referenceIndex = new ReferenceIndex(this.references);
+	return this.referenceIndex.candidates(qualifiedNames, simpleNames, rootNames);
+}
+
 StringSet getStructurallyChangedTypes(State prereqState) {
 	if (prereqState != null && prereqState.previousStructuralBuildTime > 0) {
 		Object o = this.structuralBuildTimes.get(prereqState.javaProjectName);
@@ -227,12 +241,25 @@ boolean isSourceFolderEmpty(IContainer sourceFolder) {
 }
 
 void record(String typeLocator, char[][][] qualifiedRefs, char[][] simpleRefs, char[][] rootRefs, char[] mainTypeName, ArrayList typeNames) {
+	ReferenceCollection collection;
 	if (typeNames.size() == 1 && CharOperation.equals(mainTypeName, (char[]) typeNames.get(0))) {
-		this.references.put(typeLocator, new ReferenceCollection(qualifiedRefs, simpleRefs, rootRefs));
+		collection = new ReferenceCollection(qualifiedRefs, simpleRefs, rootRefs);
 	} else {
 		char[][] definedTypeNames = new char[typeNames.size()][]; // can be empty when no types are defined
 		typeNames.toArray(definedTypeNames);
-		this.references.put(typeLocator, new AdditionalTypeCollection(definedTypeNames, qualifiedRefs, simpleRefs, rootRefs));
+		collection = new AdditionalTypeCollection(definedTypeNames, qualifiedRefs, simpleRefs, rootRefs);
+	}
+	this.references.put(typeLocator, collection);
+	if (this.referenceIndex != null)
+		this.referenceIndex.add(typeLocator, collection);
+}
+
+void recordDependencies(String typeLocator, String[] typeNameDependencies) {
+	ReferenceCollection collection = this.references.get(typeLocator);
+	if (collection != null) {
+		collection.addDependencies(typeNameDependencies);
+		if (this.referenceIndex != null)
+			this.referenceIndex.add(typeLocator, collection);
 	}
 }
 
@@ -337,44 +364,36 @@ static State read(IProject project, DataInputStream input) throws IOException, C
 	}
 	internedQualifiedNames = ReferenceCollection.internQualifiedNames(internedQualifiedNames, false /* drop well known */, false /* do not sort */);
 
+	// the reference collections are only decoded when asked for
 	length = in.readInt();
-	newState.references = new LinkedHashMap((int) (length / 0.75 + 1));
-	for (int i = 0; i < length; i++) {
-		String typeLocator = internedTypeLocators[in.readInt()];
-		ReferenceCollection collection = null;
-		switch (in.readByte()) {
-			case 1 :
-				char[][] additionalTypeNames = readNames(in);
-				char[][][] qualifiedNames = new char[in.readInt()][][];
-				for (int j = 0, m = qualifiedNames.length; j < m; j++)
-					qualifiedNames[j] = internedQualifiedNames[in.readIntInRange(internedQualifiedNames.length)];
-				char[][] simpleNames = new char[in.readInt()][];
-				for (int j = 0, m = simpleNames.length; j < m; j++)
-					simpleNames[j] = internedSimpleNames[in.readIntInRange(internedSimpleNames.length)];
-				char[][] rootNames = new char[in.readInt()][];
-				for (int j = 0, m = rootNames.length; j < m; j++)
-					rootNames[j] = internedRootNames[in.readIntInRange(internedRootNames.length)];
-				collection = new AdditionalTypeCollection(additionalTypeNames, qualifiedNames, simpleNames, rootNames);
-				break;
-			case 2 :
-				char[][][] qNames = new char[in.readInt()][][];
-				for (int j = 0, m = qNames.length; j < m; j++)
-					qNames[j] = internedQualifiedNames[in.readIntInRange(internedQualifiedNames.length)];
-				char[][] sNames = new char[in.readInt()][];
-				for (int j = 0, m = sNames.length; j < m; j++)
-					sNames[j] = internedSimpleNames[in.readIntInRange(internedSimpleNames.length)];
-				char[][] rNames = new char[in.readInt()][];
-				for (int j = 0, m = rNames.length; j < m; j++)
-					rNames[j] = internedRootNames[in.readIntInRange(internedRootNames.length)];
-				collection = new ReferenceCollection(qNames, sNames, rNames);
-		}
-		newState.references.put(typeLocator, collection);
-	}
+	LazyReferenceMap references = new LazyReferenceMap((int) (length / 0.75 + 1));
+	for (int i = 0; i < length; i++)
+		references.putEncoded(internedTypeLocators[in.readInt()], in.readInt());
+	byte[] encodedReferences = new byte[in.readInt()];
+	in.readBytes(encodedReferences);
+	references.setEncodedReferences(new LazyReferenceMap.EncodedReferences(encodedReferences, internedRootNames, internedSimpleNames, internedQualifiedNames));
+	newState.references = references;
 	if (JavaBuilder.DEBUG)
 		System.out.println("Successfully read state for " + newState.javaProjectName); //$NON-NLS-1$
 	return newState;
 }
 
+static ReferenceCollection readReferenceCollection(CompressedReader in, char[][] internedRootNames, char[][] internedSimpleNames, char[][][] internedQualifiedNames) throws IOException {
+	char[][] additionalTypeNames = in.readByte() == 1 ? readNames(in) : null;
+	char[][][] qualifiedNames = new char[in.readInt()][][];
+	for (int j = 0, m = qualifiedNames.length; j < m; j++)
+		qualifiedNames[j] = internedQualifiedNames[in.readIntInRange(internedQualifiedNames.length)];
+	char[][] simpleNames = new char[in.readInt()][];
+	for (int j = 0, m = simpleNames.length; j < m; j++)
+		simpleNames[j] = internedSimpleNames[in.readIntInRange(internedSimpleNames.length)];
+	char[][] rootNames = new char[in.readInt()][];
+	for (int j = 0, m = rootNames.length; j < m; j++)
+		rootNames[j] = internedRootNames[in.readIntInRange(internedRootNames.length)];
+	if (additionalTypeNames != null)
+		return new AdditionalTypeCollection(additionalTypeNames, qualifiedNames, simpleNames, rootNames);
+	return new ReferenceCollection(qualifiedNames, simpleNames, rootNames);
+}
+
 private static ClasspathMultiDirectory[] readSourceLocations(IProject project, CompressedReader in, List<ClasspathLocation> allLocationsForEEA) throws IOException {
 	int length = in.readInt();
 	ClasspathMultiDirectory[] sourceLocations = new ClasspathMultiDirectory[length];
@@ -631,7 +650,15 @@ void write(DataOutputStream output) throws IOException {
 	SimpleLookupTable internedRootNames = new SimpleLookupTable(3);
 	SimpleLookupTable internedQualifiedNames = new SimpleLookupTable(31);
 	SimpleLookupTable internedSimpleNames = new SimpleLookupTable(31);
-	for (ReferenceCollection collection : this.references.values()) {
+	// collections which were not asked for since the state was read are only decoded for writing them
+	ReferenceCollection[] collections = new ReferenceCollection[this.references.size()];
+	int collectionCount = 0;
+	for (String typeLocator : this.references.keySet()) {
+		collections[collectionCount++] = this.references instanceof LazyReferenceMap
+			? ((LazyReferenceMap) this.references).peek(typeLocator)
+			: this.references.get(typeLocator);
+	}
+	for (ReferenceCollection collection : collections) {
 		char[][] rNames = collection.rootReferences;
 		for (int j = 0, m = rNames.length; j < m; j++) {
 			char[] rName = rNames[j];
@@ -702,48 +729,61 @@ void write(DataOutputStream output) throws IOException {
 /*
  * References table
  * int		interned locator id
- * ReferenceCollection
+ * int		offset of the ReferenceCollection in the references block
+ *
+ * References block, so that reading a state only decodes the collections asked for
+ * int		length
+ * ReferenceCollection[]
 */
+	ByteArrayOutputStream block = new ByteArrayOutputStream();
+	CompressedWriter blockOut = new CompressedWriter(new DataOutputStream(block));
 	out.writeInt(length = this.references.size());
 	if (length > 0) {
-		for (Entry<String, ReferenceCollection> entry : this.references.entrySet()) {
-			String key = entry.getKey();
+		int i = 0;
+		for (String key : this.references.keySet()) {
 			length--;
 			Integer index = (Integer) internedTypeLocators.get(key);
 			out.writeInt(index.intValue());
-			ReferenceCollection collection = entry.getValue();
-			if (collection instanceof AdditionalTypeCollection) {
-				out.writeByte(1);
-				AdditionalTypeCollection atc = (AdditionalTypeCollection) collection;
-				writeNames(atc.definedTypeNames, out);
-			} else {
-				out.writeByte(2);
-			}
-			char[][][] qNames = collection.qualifiedNameReferences;
-			int qLength = qNames.length;
-			out.writeInt(qLength);
-			for (int j = 0; j < qLength; j++) {
-				index = (Integer) internedQualifiedNames.get(qNames[j]);
-				out.writeIntInRange(index.intValue(), internedQualifiedNames.elementSize);
-			}
-			char[][] sNames = collection.simpleNameReferences;
-			int sLength = sNames.length;
-			out.writeInt(sLength);
-			for (int j = 0; j < sLength; j++) {
-				index = (Integer) internedSimpleNames.get(sNames[j]);
-				out.writeIntInRange(index.intValue(), internedSimpleNames.elementSize);
-			}
-			char[][] rNames = collection.rootReferences;
-			int rLength = rNames.length;
-			out.writeInt(rLength);
-			for (int j = 0; j < rLength; j++) {
-				index = (Integer) internedRootNames.get(rNames[j]);
-				out.writeIntInRange(index.intValue(), internedRootNames.elementSize);
-			}
+			out.writeInt(block.size());
+			writeReferenceCollection(collections[i++], blockOut, internedRootNames, internedSimpleNames, internedQualifiedNames);
 		}
 		if (JavaBuilder.DEBUG && length != 0)
 			System.out.println("references table is inconsistent"); //$NON-NLS-1$
 	}
+	out.writeInt(block.size());
+	out.writeBytes(block.toByteArray());
+}
+
+private void writeReferenceCollection(ReferenceCollection collection, CompressedWriter out, SimpleLookupTable internedRootNames,
+		SimpleLookupTable internedSimpleNames, SimpleLookupTable internedQualifiedNames) throws IOException {
+	if (collection instanceof AdditionalTypeCollection) {
+		out.writeByte(1);
+		AdditionalTypeCollection atc = (AdditionalTypeCollection) collection;
+		writeNames(atc.definedTypeNames, out);
+	} else {
+		out.writeByte(2);
+	}
+	char[][][] qNames = collection.qualifiedNameReferences;
+	int qLength = qNames.length;
+	out.writeInt(qLength);
+	for (int j = 0; j < qLength; j++) {
+		Integer index = (Integer) internedQualifiedNames.get(qNames[j]);
+		out.writeIntInRange(index.intValue(), internedQualifiedNames.elementSize);
+	}
+	char[][] sNames = collection.simpleNameReferences;
+	int sLength = sNames.length;
+	out.writeInt(sLength);
+	for (int j = 0; j < sLength; j++) {
+		Integer index = (Integer) internedSimpleNames.get(sNames[j]);
+		out.writeIntInRange(index.intValue(), internedSimpleNames.elementSize);
+	}
+	char[][] rNames = collection.rootReferences;
+	int rLength = rNames.length;
+	out.writeInt(rLength);
+	for (int j = 0; j < rLength; j++) {
+		Integer index = (Integer) internedRootNames.get(rNames[j]);
+		out.writeIntInRange(index.intValue(), internedRootNames.elementSize);
+	}
 }
 
 private void writeSourceLocations(CompressedWriter out, ClasspathMultiDirectory[] srcLocations) throws IOException {
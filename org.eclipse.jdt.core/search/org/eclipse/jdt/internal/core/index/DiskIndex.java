@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,8 +14,12 @@
 package org.eclipse.jdt.internal.core.index;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 import java.util.regex.Pattern;
 
 import org.eclipse.jdt.core.compiler.CharOperation;
@@ -36,14 +40,14 @@ private int headerInfoOffset;
 private int numberOfChunks;
 private int sizeOfLastChunk;
 private int[] chunkOffsets;
-private int documentReferenceSize; // 1, 2 or more bytes... depends on # of document names
 private int startOfCategoryTables;
 private HashtableOfIntValues categoryOffsets, categoryEnds;
 
 private int cacheUserCount;
 private String[][] cachedChunks; // decompressed chunks of document names
-private HashtableOfObject categoryTables; // category name -> HashtableOfObject(words -> int[] of document #'s) or offset if not read yet
+private HashtableOfObject categoryTables; // category name -> CategoryTable once read, or HashtableOfObject(words -> int[] of document #'s) when writing
 private char[] cachedCategoryName;
+private ByteBuffer mappedIndex; // the index file mapped in memory, or null if the file is read through streams
 
 private static final int DEFAULT_BUFFER_SIZE = 2048;
 private static int BUFFER_READ_SIZE = DEFAULT_BUFFER_SIZE;
@@ -53,7 +57,7 @@ private int bufferIndex, bufferEnd; // used when reading from the file into the
 private int streamEnd; // used when writing data from the streamBuffer to the file
 char separator = Index.DEFAULT_SEPARATOR;
 
-public static final String INDEX_VERSION = "1.134"; //$NON-NLS-1$
+public static final String INDEX_VERSION = "1.136"; //$NON-NLS-1$
 public static final String SIGNATURE = "INDEX VERSION " + INDEX_VERSION; //$NON-NLS-1$
 private static final char[] SIGNATURE_CHARS = SIGNATURE.toCharArray();
 public static boolean DEBUG = false;
@@ -62,6 +66,17 @@ private static final int RE_INDEXED = -1;
 private static final int DELETED = -2;
 
 private static final int CHUNK_SIZE = 100;
+private static final int BLOCK_SIZE = 32; // number of sorted words in a block of a category table
+
+// index files are not mapped on Windows since mapped files can not be deleted or replaced until they are unmapped by the GC
+public static final String MAP_INDEX_FILES_PROPERTY = "jdt.core.index.mapFiles"; //$NON-NLS-1$
+private static final boolean MAP_INDEX_FILES = Boolean.parseBoolean(System.getProperty(MAP_INDEX_FILES_PROPERTY,
+		String.valueOf(!System.getProperty("os.name").toLowerCase().contains("windows")))); //$NON-NLS-1$ //$NON-NLS-2$
+
+// categories whose tables have a trigram index, to answer pattern, camel case and substring queries without reading all their words
+public static final String TRIGRAM_CATEGORIES_PROPERTY = "jdt.core.index.trigramCategories"; //$NON-NLS-1$
+private static final SimpleSetOfCharArray TRIGRAM_CATEGORIES = getTrigramCategories();
+private static final int TRIGRAM_MIN_WORDS = 8 * BLOCK_SIZE; // smaller tables are read quickly enough
 
 private static final SimpleSetOfCharArray INTERNED_CATEGORY_NAMES = new SimpleSetOfCharArray(20);
 private static final String TMP_EXT = ".tmp"; //$NON-NLS-1$
@@ -90,13 +105,184 @@ int[] asArray() {
 }
 }
 
+/**
+ * A category table read from the index file: its words are sorted and split in blocks of BLOCK_SIZE words,
+ * and only the first word of each block is kept in memory. The entries of the blocks are decoded in place when
+ * queried, from the mapped index file or from the bytes of the table if the file is not mapped.
+ * The tables of large categories may also have the trigrams of their words, to select the words read by a query.
+ */
+static class CategoryTable {
+
+final ByteBuffer buffer;
+final int bufferOffset; // offset in the index file of the first byte of the buffer
+final int wordCount;
+final int[] blockOffsets;
+final char[][] firstWords;
+final int trigramCount;
+final int trigramsOffset; // offset to the sorted trigrams of the words, if the table has a trigram index
+
+CategoryTable(ByteBuffer buffer, int bufferOffset, int tableOffset) throws IOException {
+	this.buffer = buffer;
+	this.bufferOffset = bufferOffset;
+	TableCursor cursor = cursor(tableOffset);
+	cursor.readInt(); // offset to the start of the table
+	this.wordCount = cursor.readInt();
+	int blockCount = cursor.readInt();
+	cursor.readInt(); // offset to the end of the table
+	this.trigramCount = cursor.readInt();
+	this.trigramsOffset = cursor.readInt();
+	this.blockOffsets = new int[blockCount];
+	this.firstWords = new char[blockCount][];
+	for (int i = 0; i < blockCount; i++) {
+		this.blockOffsets[i] = cursor.readInt();
+		this.firstWords[i] = cursor.readWord(null, 0);
+	}
+}
+TableCursor cursor(int offset) {
+	return new TableCursor(this.buffer, offset - this.bufferOffset);
+}
+/**
+ * Answers the index of the last block whose first word is less than or equal to the given word, or -1 if the word is
+ * less than all the words of the table.
+ */
+int findBlock(char[] word) {
+	int low = 0, high = this.firstWords.length - 1;
+	while (low <= high) {
+		int mid = (low + high) >>> 1;
+		if (CharOperation.compareTo(this.firstWords[mid], word) <= 0)
+			low = mid + 1;
+		else
+			high = mid - 1;
+	}
+	return high;
+}
+/**
+ * Answers the sorted numbers of the words which may match a query, given the alternatives of trigrams of the query,
+ * see {@link Trigrams#forQuery(char[], int)}.
+ */
+DocumentNumbers selectWords(long[][] alternatives) throws IOException {
+	DocumentNumbers[] selections = new DocumentNumbers[alternatives.length];
+	for (int i = 0, l = alternatives.length; i < l; i++) {
+		long[] trigrams = alternatives[i];
+		DocumentNumbers[] words = new DocumentNumbers[trigrams.length];
+		for (int j = 0, length = trigrams.length; j < length; j++) {
+			if ((words[j] = wordsWithTrigram(trigrams[j])) == null) break; // no word has all the trigrams
+		}
+		if (words[trigrams.length - 1] == null) continue;
+
+		// intersect the shortest lists first
+		Arrays.sort(words, (first, second) -> Integer.compare(first.size(), second.size()));
+		DocumentNumbers selection = words[0];
+		for (int j = 1, length = words.length; j < length && selection.size() > 0; j++)
+			selection = selection.intersect(words[j]);
+		selections[i] = selection;
+	}
+	int count = 0;
+	for (int i = 0, l = selections.length; i < l; i++)
+		if (selections[i] != null)
+			selections[count++] = selections[i];
+	return DocumentNumbers.union(selections, count);
+}
+/**
+ * Answers the numbers of the words which have the given trigram, or null if none has it.
+ */
+private DocumentNumbers wordsWithTrigram(long trigram) {
+	// the trigrams are sorted, each followed by the number of its only word (negated) or the offset to its word numbers
+	int start = this.trigramsOffset - this.bufferOffset;
+	int low = 0, high = this.trigramCount - 1;
+	while (low <= high) {
+		int mid = (low + high) >>> 1;
+		int position = start + mid * 12;
+		long current = this.buffer.getLong(position);
+		if (current < trigram) {
+			low = mid + 1;
+		} else if (current > trigram) {
+			high = mid - 1;
+		} else {
+			int value = this.buffer.getInt(position + 8);
+			return value < 0 ? DocumentNumbers.of(-value - 1) : DocumentNumbers.read(this.buffer, value - this.bufferOffset);
+		}
+	}
+	return null;
+}
+}
+
+/**
+ * Reads the entries of a category table from a buffer, at absolute positions so that the buffer can be shared.
+ */
+static class TableCursor {
+
+final ByteBuffer buffer;
+int position;
+
+TableCursor(ByteBuffer buffer, int position) {
+	this.buffer = buffer;
+	this.position = position;
+}
+int readInt() {
+	int value = this.buffer.getInt(this.position);
+	this.position += 4;
+	return value;
+}
+int readVarInt() {
+	int value = 0;
+	for (int shift = 0;; shift += 7) {
+		byte b = this.buffer.get(this.position++);
+		value |= (b & 0x7F) << shift;
+		if (b >= 0) return value;
+	}
+}
+/**
+ * Reads the characters written by writeStreamChars(), following the given number of characters of the previous word.
+ */
+char[] readWord(char[] previousWord, int prefixLength) throws UTFDataFormatException {
+	int length = (this.buffer.get(this.position++) & 0xFF) << 8;
+	length += this.buffer.get(this.position++) & 0xFF;
+	char[] word = new char[prefixLength + length];
+	if (prefixLength > 0)
+		System.arraycopy(previousWord, 0, word, 0, prefixLength);
+	for (int i = prefixLength, l = word.length; i < l; i++) {
+		int b = this.buffer.get(this.position++);
+		if (b >= 0) { // typical case of pure ASCII chars
+			word[i] = (char) b;
+			continue;
+		}
+		switch (b & 0xF0) {
+			case 0xC0 :
+			case 0xD0 :
+				int next = this.buffer.get(this.position++);
+				if ((next & 0xC0) != 0x80)
+					throw new UTFDataFormatException();
+				word[i] = (char) (((b & 0x1F) << 6) | (next & 0x3F));
+				break;
+			case 0xE0 :
+				int first = this.buffer.get(this.position++);
+				int second = this.buffer.get(this.position++);
+				if ((first & second & 0xC0) != 0x80)
+					throw new UTFDataFormatException();
+				word[i] = (char) (((b & 0x0F) << 12) | ((first & 0x3F) << 6) | (second & 0x3F));
+				break;
+			default:
+				throw new UTFDataFormatException();
+		}
+	}
+	return word;
+}
+int[] readDocumentNumbers() {
+	// the sorted document numbers are written as the differences between consecutive numbers
+	int[] documentNumbers = new int[readVarInt()];
+	for (int i = 0, documentNumber = 0, l = documentNumbers.length; i < l; i++)
+		documentNumbers[i] = documentNumber += readVarInt();
+	return documentNumbers;
+}
+}
+
 
 DiskIndex() {
 	this.headerInfoOffset = -1;
 	this.numberOfChunks = -1;
 	this.sizeOfLastChunk = -1;
 	this.chunkOffsets = null;
-	this.documentReferenceSize = -1;
 	this.cacheUserCount = -1;
 	this.cachedChunks = null;
 	this.categoryTables = null;
@@ -111,6 +297,18 @@ DiskIndex(IndexLocation location) throws IOException {
 	}
 	this.indexLocation = location;
 }
+private static SimpleSetOfCharArray getTrigramCategories() {
+	// the declarations of types and methods are the words searched with patterns and camel case by default
+	String property = System.getProperty(TRIGRAM_CATEGORIES_PROPERTY, "typeDecl,methodDecl"); //$NON-NLS-1$
+	char[][] names = CharOperation.splitOn(',', property.toCharArray());
+	SimpleSetOfCharArray categories = new SimpleSetOfCharArray(names.length);
+	for (char[] name : names) {
+		name = CharOperation.trim(name);
+		if (name.length > 0)
+			categories.add(name);
+	}
+	return categories;
+}
 SimpleSet addDocumentNames(String substring, MemoryIndex memoryIndex) throws IOException {
 	// must skip over documents which have been added/changed/deleted in the memory index
 	String[] docNames = readAllDocumentNames();
@@ -143,7 +341,7 @@ SimpleSet addDocumentNames(String substring, MemoryIndex memoryIndex) throws IOE
 	}
 	return results;
 }
-private HashtableOfObject addQueryResult(HashtableOfObject results, char[] word, Object docs, MemoryIndex memoryIndex, boolean prevResults) throws IOException {
+private HashtableOfObject addQueryResult(HashtableOfObject results, char[] word, DocumentNumbers docs, MemoryIndex memoryIndex, boolean prevResults) throws IOException {
 	// must skip over documents which have been added/changed/deleted in the memory index
 	if (results == null)
 		results = new HashtableOfObject(13);
@@ -156,7 +354,7 @@ private HashtableOfObject addQueryResult(HashtableOfObject results, char[] word,
 	} else {
 		SimpleLookupTable docsToRefs = memoryIndex.docsToReferences;
 		if (result == null) result = new EntryResult(word, null);
-		int[] docNumbers = readDocumentNumbers(docs);
+		int[] docNumbers = docs.toArray();
 		for (int i = 0, l = docNumbers.length; i < l; i++) {
 			String docName = readDocumentName(docNumbers[i]);
 			if (!docsToRefs.containsKey(docName))
@@ -176,81 +374,114 @@ HashtableOfObject addQueryResults(char[][] categories, char[] key, int matchRule
 	// No need to check the results table for duplicates while processing the
 	// first category table or if the first category tables doesn't have any results.
 	boolean prevResults = false;
-	if (key == null) {
-		for (int i = 0, l = categories.length; i < l; i++) {
-			HashtableOfObject wordsToDocNumbers = readCategoryTable(categories[i], true); // cache if key is null since its a definite match
-			if (wordsToDocNumbers != null) {
-				char[][] words = wordsToDocNumbers.keyTable;
-				Object[] values = wordsToDocNumbers.valueTable;
-				if (results == null)
-					results = new HashtableOfObject(wordsToDocNumbers.elementSize);
-				for (int j = 0, m = words.length; j < m; j++)
-					if (words[j] != null)
-						results = addQueryResult(results, words[j], values[j], memoryIndex, prevResults);
-			}
-			prevResults = results != null;
-		}
-		if (results != null && this.cachedChunks == null)
-			cacheDocumentNames();
-	} else {
+	Pattern pattern = key != null && matchRule == SearchPattern.R_REGEXP_MATCH ? Pattern.compile(new String(key)) : null;
+	for (int i = 0, l = categories.length; i < l; i++) {
+		CategoryTable table = readCategoryTable(categories[i]);
+		if (table != null)
+			results = addQueryResults(results, table, key, matchRule, pattern, memoryIndex, prevResults);
+		prevResults = results != null;
+	}
+	if (key == null && results != null && this.cachedChunks == null)
+		cacheDocumentNames(); // all the document names will be needed since its a definite match
+	return results;
+}
+private HashtableOfObject addQueryResults(HashtableOfObject results, CategoryTable table, char[] key, int matchRule, Pattern pattern, MemoryIndex memoryIndex, boolean prevResults) throws IOException {
+	if (table.wordCount == 0) return results; // all the words of the category were removed by a merge
+
+	// only scan the blocks which can contain the matching words of exact and prefix queries
+	// and only read the words which have the trigrams of the other queries, if the table has a trigram index
+	int firstBlock = 0;
+	int lastBlock = table.blockOffsets.length - 1;
+	long[][] trigrams = null;
+	if (key != null) {
 		switch (matchRule) {
 			case SearchPattern.R_EXACT_MATCH | SearchPattern.R_CASE_SENSITIVE:
-				for (int i = 0, l = categories.length; i < l; i++) {
-					HashtableOfObject wordsToDocNumbers = readCategoryTable(categories[i], false);
-					Object value;
-					if (wordsToDocNumbers != null && (value = wordsToDocNumbers.get(key)) != null)
-						results = addQueryResult(results, key, value, memoryIndex, prevResults);
-					prevResults = results != null;
-				}
+				lastBlock = firstBlock = table.findBlock(key);
 				break;
 			case SearchPattern.R_PREFIX_MATCH | SearchPattern.R_CASE_SENSITIVE:
-				for (int i = 0, l = categories.length; i < l; i++) {
-					HashtableOfObject wordsToDocNumbers = readCategoryTable(categories[i], false);
-					if (wordsToDocNumbers != null) {
-						char[][] words = wordsToDocNumbers.keyTable;
-						Object[] values = wordsToDocNumbers.valueTable;
-						for (int j = 0, m = words.length; j < m; j++) {
-							char[] word = words[j];
-							if (word != null && key[0] == word[0] && CharOperation.prefixEquals(key, word))
-								results = addQueryResult(results, word, values[j], memoryIndex, prevResults);
-						}
-					}
-					prevResults = results != null;
-				}
+				firstBlock = Math.max(table.findBlock(key), 0);
 				break;
 			case SearchPattern.R_REGEXP_MATCH:
-				Pattern pattern = Pattern.compile(new String(key));
-				for (int i = 0, l = categories.length; i < l; i++) {
-					HashtableOfObject wordsToDocNumbers = readCategoryTable(categories[i], false);
-					if (wordsToDocNumbers != null) {
-						char[][] words = wordsToDocNumbers.keyTable;
-						Object[] values = wordsToDocNumbers.valueTable;
-						for (int j = 0, m = words.length; j < m; j++) {
-							char[] word = words[j];
-							if (word != null && pattern.matcher(new String(word)).matches())
-								results = addQueryResult(results, word, values[j], memoryIndex, prevResults);
-						}
-					}
-					prevResults = results != null;
-				}
 				break;
 			default:
-				for (int i = 0, l = categories.length; i < l; i++) {
-					HashtableOfObject wordsToDocNumbers = readCategoryTable(categories[i], false);
-					if (wordsToDocNumbers != null) {
-						char[][] words = wordsToDocNumbers.keyTable;
-						Object[] values = wordsToDocNumbers.valueTable;
-						for (int j = 0, m = words.length; j < m; j++) {
-							char[] word = words[j];
-							if (word != null && Index.isMatch(key, word, matchRule))
-								results = addQueryResult(results, word, values[j], memoryIndex, prevResults);
+				if (table.trigramCount > 0)
+					trigrams = Trigrams.forQuery(key, matchRule);
+		}
+	}
+	if (firstBlock < 0) return results;
+
+	try {
+		if (trigrams != null)
+			return addSelectedResults(results, table, table.selectWords(trigrams), key, matchRule, memoryIndex, prevResults);
+
+		TableCursor cursor = table.cursor(table.blockOffsets[firstBlock]);
+		char[] word = null;
+		for (int i = firstBlock * BLOCK_SIZE, l = Math.min(table.wordCount, (lastBlock + 1) * BLOCK_SIZE); i < l; i++) {
+			word = cursor.readWord(word, cursor.readVarInt());
+			int documentCount = cursor.readVarInt();
+			int documentNumbers = cursor.readVarInt(); // the document number if there is only one, otherwise the offset to the numbers
+			if (key != null) {
+				switch (matchRule) {
+					case SearchPattern.R_EXACT_MATCH | SearchPattern.R_CASE_SENSITIVE:
+						int comparison = CharOperation.compareTo(word, key);
+						if (comparison < 0) continue;
+						if (comparison > 0) return results;
+						break;
+					case SearchPattern.R_PREFIX_MATCH | SearchPattern.R_CASE_SENSITIVE:
+						if (!CharOperation.prefixEquals(key, word)) {
+							if (CharOperation.compareTo(word, key) > 0) return results; // the following words cannot match either
+							continue;
 						}
-					}
-					prevResults = results != null;
+						break;
+					case SearchPattern.R_REGEXP_MATCH:
+						if (!pattern.matcher(new String(word)).matches()) continue;
+						break;
+					default:
+						if (!Index.isMatch(key, word, matchRule)) continue;
 				}
+			}
+			DocumentNumbers docs = documentCount == 1
+				? DocumentNumbers.of(documentNumbers)
+				: DocumentNumbers.read(table.buffer, documentNumbers - table.bufferOffset); // decoded when needed
+			results = addQueryResult(results, word, docs, memoryIndex, prevResults);
 		}
+	} catch (IndexOutOfBoundsException e) {
+		throw new IOException("Failed to read index data from " + this.indexLocation, e); //$NON-NLS-1$
 	}
+	return results;
+}
+/**
+ * Adds the results of the selected words of a table which match the key.
+ */
+private HashtableOfObject addSelectedResults(HashtableOfObject results, CategoryTable table, DocumentNumbers selectedWords, char[] key, int matchRule, MemoryIndex memoryIndex, boolean prevResults) throws IOException {
+	int[] wordNumbers = selectedWords.toArray();
+	TableCursor cursor = null;
+	char[] word = null;
+	int next = 0; // number of the next word read by the cursor
+	for (int i = 0, l = wordNumbers.length; i < l; i++) {
+		int wordNumber = wordNumbers[i];
+		int block = wordNumber / BLOCK_SIZE;
+		if (cursor == null || block != next / BLOCK_SIZE) {
+			// the first word of a block does not share characters with the previous word
+			cursor = table.cursor(table.blockOffsets[block]);
+			next = block * BLOCK_SIZE;
+		}
+		for (; next < wordNumber; next++) { // skip the previous words of the block
+			word = cursor.readWord(word, cursor.readVarInt());
+			cursor.readVarInt();
+			cursor.readVarInt();
+		}
+		word = cursor.readWord(word, cursor.readVarInt());
+		int documentCount = cursor.readVarInt();
+		int documentNumbers = cursor.readVarInt();
+		next++;
+		if (!Index.isMatch(key, word, matchRule)) continue;
 
+		DocumentNumbers docs = documentCount == 1
+			? DocumentNumbers.of(documentNumbers)
+			: DocumentNumbers.read(table.buffer, documentNumbers - table.bufferOffset); // decoded when needed
+		results = addQueryResult(results, word, docs, memoryIndex, prevResults);
+	}
 	return results;
 }
 private synchronized void cacheDocumentNames() throws IOException {
@@ -411,6 +642,13 @@ void initialize(boolean reuseExistingFile) throws IOException {
 				}
 				this.headerInfoOffset = readStreamInt(stream);
 				if (this.headerInfoOffset > 0) { // file is empty if its not set
+					long length = this.indexLocation.length();
+					if (length != -1 && this.headerInfoOffset >= length) {
+						// the file was truncated
+						if (DEBUG)
+							System.out.println("Index file is corrupted " + this.indexLocation); //$NON-NLS-1$
+						throw new IOException("Index file is corrupted " + this.indexLocation); //$NON-NLS-1$
+					}
 					stream.skip(this.headerInfoOffset - this.bufferEnd); // assume that the header info offset is over current buffer end
 					this.bufferIndex = 0;
 					this.bufferEnd = stream.read(this.streamBuffer, 0, this.streamBuffer.length);
@@ -483,7 +721,7 @@ private void mergeCategory(char[] categoryName, DiskIndex onDisk, int[] position
 	if (wordsToDocs == null)
 		wordsToDocs = new HashtableOfObject(3);
 
-	HashtableOfObject oldWordsToDocs = onDisk.readCategoryTable(categoryName, true);
+	HashtableOfObject oldWordsToDocs = onDisk.readCategoryWords(categoryName);
 	if (oldWordsToDocs != null) {
 		char[][] oldWords = oldWordsToDocs.keyTable;
 		Object[] oldArrayOffsets = oldWordsToDocs.valueTable;
@@ -645,7 +883,7 @@ private synchronized String[] readAllDocumentNames() throws IOException {
 		this.streamBuffer = null;
 	}
 }
-private synchronized HashtableOfObject readCategoryTable(char[] categoryName, boolean readDocNumbers) throws IOException {
+private synchronized CategoryTable readCategoryTable(char[] categoryName) throws IOException {
 	// result will be null if categoryName is unknown
 	int offset = this.categoryOffsets.get(categoryName);
 	if (offset == HashtableOfIntValues.NO_VALUE) {
@@ -655,91 +893,78 @@ private synchronized HashtableOfObject readCategoryTable(char[] categoryName, bo
 	if (this.categoryTables == null) {
 		this.categoryTables = new HashtableOfObject(3);
 	} else {
-		HashtableOfObject cachedTable = (HashtableOfObject) this.categoryTables.get(categoryName);
-		if (cachedTable != null) {
-			if (readDocNumbers) { // must cache remaining document number arrays
-				Object[] arrayOffsets = cachedTable.valueTable;
-				for (int i = 0, l = arrayOffsets.length; i < l; i++)
-					if (arrayOffsets[i] instanceof Integer)
-						arrayOffsets[i] = readDocumentNumbers(arrayOffsets[i]);
-			}
+		CategoryTable cachedTable = (CategoryTable) this.categoryTables.get(categoryName);
+		if (cachedTable != null)
 			return cachedTable;
-		}
 	}
 
-	InputStream stream = this.indexLocation.getInputStream();
-	HashtableOfObject categoryTable = null;
-	char[][] matchingWords = null;
-	int count = 0;
-	int firstOffset = -1;
-	this.streamBuffer = new byte[BUFFER_READ_SIZE];
+	CategoryTable categoryTable;
 	try {
-		stream.skip(offset);
-		this.bufferIndex = 0;
-		this.bufferEnd = stream.read(this.streamBuffer, 0, this.streamBuffer.length);
-		int size = readStreamInt(stream);
-		try {
-			categoryTable = new HashtableOfObject(size);
-		} catch (NegativeArraySizeException | OutOfMemoryError e) {
-			String message = "Failed to read index data from " + this.indexLocation + " at offset " + offset //$NON-NLS-1$ //$NON-NLS-2$
-					+ " and size " + size; //$NON-NLS-1$
-			throw new IOException(message, e);
-		}
-		int largeArraySize = 256;
-		for (int i = 0; i < size; i++) {
-			char[] word = readStreamChars(stream);
-			int arrayOffset = readStreamInt(stream);
-			// if arrayOffset is:
-			//		<= 0 then the array size == 1 with the value -> -arrayOffset
-			//		> 1 & < 256 then the size of the array is > 1 & < 256, the document array follows immediately
-			//		256 if the array size >= 256 followed by another int which is the offset to the array (written prior to the table)
-			if (arrayOffset <= 0) {
-				categoryTable.putUnsafely(word, new int[] {-arrayOffset}); // store 1 element array by negating documentNumber
-			} else if (arrayOffset < largeArraySize) {
-				categoryTable.putUnsafely(word, readStreamDocumentArray(stream, arrayOffset)); // read in-lined array providing size
-			} else {
-				arrayOffset = readStreamInt(stream); // read actual offset
-				if (readDocNumbers) {
-					if (matchingWords == null)
-						matchingWords = new char[size][];
-					if (count == 0)
-						firstOffset = arrayOffset;
-					matchingWords[count++] = word;
-				}
-				categoryTable.putUnsafely(word, Integer.valueOf(arrayOffset)); // offset to array in the file
+		if (mapIndexFile()) {
+			categoryTable = new CategoryTable(this.mappedIndex, 0, offset);
+		} else {
+			// read the bytes of the table, from the start of its document numbers to the end of its block index
+			int start, end;
+			try (DataInputStream stream = new DataInputStream(this.indexLocation.getInputStream())) {
+				stream.skipNBytes(offset);
+				start = stream.readInt();
+				stream.skipNBytes(8);
+				end = stream.readInt();
+			} finally {
+				this.indexLocation.close();
+			}
+			byte[] bytes;
+			try (DataInputStream stream = new DataInputStream(this.indexLocation.getInputStream())) {
+				stream.skipNBytes(start);
+				stream.readFully(bytes = new byte[end - start]);
+			} finally {
+				this.indexLocation.close();
 			}
+			categoryTable = new CategoryTable(ByteBuffer.wrap(bytes), start, offset);
 		}
-		this.categoryTables.put(INTERNED_CATEGORY_NAMES.get(categoryName), categoryTable);
-		// cache the table as long as its not too big
-		// in practice, some tables can be greater than 500K when they contain more than 10K elements
-		this.cachedCategoryName = categoryTable.elementSize < 20000 ? categoryName : null;
-	} catch (IOException ioe) {
-		this.streamBuffer = null;
-		throw ioe;
-	} finally {
-		stream.close();
-		this.indexLocation.close();
+	} catch (IndexOutOfBoundsException | NegativeArraySizeException | OutOfMemoryError e) {
+		throw new IOException("Failed to read index data from " + this.indexLocation + " at offset " + offset, e); //$NON-NLS-1$ //$NON-NLS-2$
 	}
+	this.categoryTables.put(INTERNED_CATEGORY_NAMES.get(categoryName), categoryTable);
+	// cache the table as long as its not too big
+	// only the first word of each block is in memory when the file is mapped
+	this.cachedCategoryName = categoryTable.buffer == this.mappedIndex || categoryTable.wordCount < 20000 ? categoryName : null;
+	return categoryTable;
+}
+private HashtableOfObject readCategoryWords(char[] categoryName) throws IOException {
+	// result will be null if categoryName is unknown
+	CategoryTable table = readCategoryTable(categoryName);
+	if (table == null) return null;
 
-	if (matchingWords != null && count > 0) {
-		stream = this.indexLocation.getInputStream();
-		try {
-			stream.skip(firstOffset);
-			this.bufferIndex = 0;
-			this.bufferEnd = stream.read(this.streamBuffer, 0, this.streamBuffer.length);
-			for (int i = 0; i < count; i++) { // each array follows the previous one
-				categoryTable.put(matchingWords[i], readStreamDocumentArray(stream, readStreamInt(stream)));
-			}
-		} catch (IOException ioe) {
-			this.streamBuffer = null;
-			throw ioe;
-		} finally {
-			stream.close();
-			this.indexLocation.close();
+	HashtableOfObject wordsToDocNumbers = new HashtableOfObject(table.wordCount);
+	if (table.wordCount == 0) return wordsToDocNumbers;
+	try {
+		TableCursor cursor = table.cursor(table.blockOffsets[0]);
+		char[] word = null;
+		for (int i = 0, l = table.wordCount; i < l; i++) {
+			word = cursor.readWord(word, cursor.readVarInt());
+			int documentCount = cursor.readVarInt();
+			int documentNumbers = cursor.readVarInt();
+			wordsToDocNumbers.putUnsafely(word, documentCount == 1 ? new int[] {documentNumbers} : table.cursor(documentNumbers).readDocumentNumbers());
 		}
+	} catch (IndexOutOfBoundsException e) {
+		throw new IOException("Failed to read index data from " + this.indexLocation, e); //$NON-NLS-1$
 	}
-	this.streamBuffer = null;
-	return categoryTable;
+	return wordsToDocNumbers;
+}
+private boolean mapIndexFile() {
+	if (this.mappedIndex == null) {
+		File file = MAP_INDEX_FILES ? this.indexLocation.getIndexFile() : null;
+		if (file == null) return false; // pre-built index in a jar
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			this.mappedIndex = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		} catch (IOException | UnsupportedOperationException e) {
+			if (DEBUG)
+				System.out.println("mapIndexFile - Failed to map index " + this.indexLocation); //$NON-NLS-1$
+			return false;
+		}
+	}
+	return true;
 }
 private void readChunk(String[] docNames, InputStream stream, int index, int size) throws IOException {
 	String current = new String(readStreamChars(stream));
@@ -783,16 +1008,25 @@ synchronized String readDocumentName(int docNumber) throws IOException {
 			throw new IllegalArgumentException();
 		this.streamBuffer = new byte[numberOfBytes];
 		this.bufferIndex = 0;
-		InputStream file = this.indexLocation.getInputStream();
-		try (file) {
-			file.skip(start);
-			if (file.read(this.streamBuffer, 0, numberOfBytes) != numberOfBytes)
-				throw new IOException();
-		} catch (IOException ioe) {
-			this.streamBuffer = null;
-			throw ioe;
-		} finally {
-			this.indexLocation.close();
+		if (mapIndexFile()) {
+			try {
+				this.mappedIndex.get(start, this.streamBuffer, 0, numberOfBytes);
+			} catch (IndexOutOfBoundsException e) {
+				this.streamBuffer = null;
+				throw new IOException("Failed to read index data from " + this.indexLocation, e); //$NON-NLS-1$
+			}
+		} else {
+			InputStream file = this.indexLocation.getInputStream();
+			try (file) {
+				file.skip(start);
+				if (file.read(this.streamBuffer, 0, numberOfBytes) != numberOfBytes)
+					throw new IOException();
+			} catch (IOException ioe) {
+				this.streamBuffer = null;
+				throw ioe;
+			} finally {
+				this.indexLocation.close();
+			}
 		}
 		int numberOfNames = isLastChunk ? this.sizeOfLastChunk : CHUNK_SIZE;
 		chunk = new String[numberOfNames];
@@ -807,30 +1041,11 @@ synchronized String readDocumentName(int docNumber) throws IOException {
 	this.streamBuffer = null;
 	return chunk[docNumber - (chunkNumber * CHUNK_SIZE)];
 }
-synchronized int[] readDocumentNumbers(Object arrayOffset) throws IOException {
-	// arrayOffset is either a cached array of docNumbers or an Integer offset in the file
-	if (arrayOffset instanceof int[])
-		return (int[]) arrayOffset;
-
-	InputStream stream = this.indexLocation.getInputStream();
-	try (stream) {
-		int offset = ((Integer) arrayOffset).intValue();
-		stream.skip(offset);
-		this.streamBuffer = new byte[BUFFER_READ_SIZE];
-		this.bufferIndex = 0;
-		this.bufferEnd = stream.read(this.streamBuffer, 0, this.streamBuffer.length);
-		return readStreamDocumentArray(stream, readStreamInt(stream));
-	} finally {
-		this.indexLocation.close();
-		this.streamBuffer = null;
-	}
-}
 private void readHeaderInfo(InputStream stream) throws IOException {
 
 	// must be same order as writeHeaderInfo()
 	this.numberOfChunks = readStreamInt(stream);
 	this.sizeOfLastChunk = this.streamBuffer[this.bufferIndex++] & 0xFF;
-	this.documentReferenceSize = this.streamBuffer[this.bufferIndex++] & 0xFF;
 	this.separator = (char) (this.streamBuffer[this.bufferIndex++] & 0xFF);
 	long length = this.indexLocation.length();
 	if (length != -1 && this.numberOfChunks > length) {
@@ -846,14 +1061,14 @@ private void readHeaderInfo(InputStream stream) throws IOException {
 	this.startOfCategoryTables = readStreamInt(stream);
 
 	int size = readStreamInt(stream);
-	this.categoryOffsets = new HashtableOfIntValues(size);
-	this.categoryEnds = new HashtableOfIntValues(size);
 	if (length != -1 && size > length) {
 		//  not an accurate check, but good enough  https://bugs.eclipse.org/bugs/show_bug.cgi?id=350612
 		if (DEBUG)
 			System.out.println("Index file is corrupted " + this.indexLocation); //$NON-NLS-1$
 		throw new IOException("Index file is corrupted " + this.indexLocation); //$NON-NLS-1$
 	}
+	this.categoryOffsets = new HashtableOfIntValues(size);
+	this.categoryEnds = new HashtableOfIntValues(size);
 	char[] previousCategory = null;
 	int offset = -1;
 	for (int i = 0; i < size; i++) {
@@ -989,47 +1204,6 @@ private char[] readStreamChars(InputStream stream) throws IOException {
 	}
 	return word;
 }
-private int[] readStreamDocumentArray(InputStream stream, int arraySize) throws IOException {
-	int[] indexes = new int[arraySize];
-	if (arraySize == 0) return indexes;
-
-	int i = 0;
-	switch (this.documentReferenceSize) {
-		case 1 :
-			while (i < arraySize) {
-				// how many bytes without refilling the buffer?
-				int bytesInBuffer = i + this.bufferEnd - this.bufferIndex;
-				if (bytesInBuffer > arraySize)
-					bytesInBuffer = arraySize;
-				while (i < bytesInBuffer) {
-					indexes[i++] = this.streamBuffer[this.bufferIndex++] & 0xFF;
-				}
-				if (i < arraySize && stream != null)
-					readStreamBuffer(stream);
-			}
-			break;
-		case 2 :
-			while (i < arraySize) {
-				// how many shorts without refilling the buffer?
-				int shortsInBuffer = i + ((this.bufferEnd - this.bufferIndex) / 2);
-				if (shortsInBuffer > arraySize)
-					shortsInBuffer = arraySize;
-				while (i < shortsInBuffer) {
-					int val = (this.streamBuffer[this.bufferIndex++] & 0xFF) << 8;
-					indexes[i++] = val + (this.streamBuffer[this.bufferIndex++] & 0xFF);
-				}
-				if (i < arraySize && stream != null)
-					readStreamBuffer(stream);
-			}
-			break;
-		default :
-			while (i < arraySize) {
-				indexes[i++] = readStreamInt(stream);
-			}
-			break;
-	}
-	return indexes;
-}
 private int readStreamInt(InputStream stream) throws IOException {
 	if (this.bufferIndex + 4 >= this.bufferEnd) {
 		readStreamBuffer(stream);
@@ -1060,7 +1234,6 @@ private void writeAllDocumentNames(String[] sortedDocNames, FileOutputStream str
 		this.numberOfChunks--;
 		this.sizeOfLastChunk = CHUNK_SIZE;
 	}
-	this.documentReferenceSize = size <= 0x7F ? 1 : (size <= 0x7FFF ? 2 : 4); // number of bytes used to encode a reference
 
 	this.chunkOffsets = new int[this.numberOfChunks];
 	int lastIndex = this.numberOfChunks - 1;
@@ -1115,105 +1288,149 @@ private void writeCategories(FileOutputStream stream) throws IOException {
 }
 private void writeCategoryTable(char[] categoryName, HashtableOfObject wordsToDocs, FileOutputStream stream) throws IOException {
 	// the format of a category table is as follows:
-	// any document number arrays with >= 256 elements are written before the table (the offset to each array is remembered)
-	// then the number of word->int[] pairs in the table is written
-	// for each word -> int[] pair, the word is written followed by:
-	//		an int <= 0 if the array size == 1
-	//		an int > 1 & < 256 for the size of the array if its > 1 & < 256, the document array follows immediately
-	//		256 if the array size >= 256 followed by another int which is the offset to the array (written prior to the table)
-
-	int largeArraySize = 256;
+	// the document numbers of the words which are in more than one document are written first (the offset to each list is remembered)
+	// then the words are written in blocks of BLOCK_SIZE sorted words, for each word:
+	//		the number of characters shared with the previous word of its block, then the remaining characters
+	//		the number of documents, followed by the document number if there is one or else the offset to the document numbers
+	// then, for the categories which have a trigram index, the numbers of the words which have each trigram of the words
+	// (the offset to each list is remembered), followed by the sorted trigrams, each with the offset to its word numbers,
+	// or with the negated number of its word if only one word has it, see Trigrams
+	// then the table header is written: the offset to the start of the table, the number of words, the number of blocks,
+	// the offset to the end of the table, the number of trigrams and the offset to the trigrams,
+	// followed by the offset and the first word of each block
+	// all the numbers but the offsets of the header and the trigrams are written as variable length ints
+
+	int tableStart = this.streamEnd;
+	int size = wordsToDocs.elementSize;
+	char[][] words = new char[size][];
+	int count = 0;
+	char[][] keys = wordsToDocs.keyTable;
 	Object[] values = wordsToDocs.valueTable;
-	for (int i = 0, l = values.length; i < l; i++) {
-		Object o = values[i];
-		if (o != null) {
-			if (o instanceof IntList)
-				o = values[i] = ((IntList) values[i]).asArray();
-			int[] documentNumbers = (int[]) o;
-			if (documentNumbers.length >= largeArraySize) {
-				values[i] = Integer.valueOf(this.streamEnd);
-				writeDocumentNumbers(documentNumbers, stream);
-			}
+	for (int i = 0, l = keys.length; i < l; i++) {
+		if (keys[i] != null) {
+			if (values[i] instanceof IntList)
+				values[i] = ((IntList) values[i]).asArray();
+			words[count++] = keys[i];
+		}
+	}
+	Util.sort(words);
+	int[] documentNumbers = new int[size]; // the document number, or the offset to the document numbers
+	for (int i = 0; i < size; i++) {
+		int[] numbers = (int[]) wordsToDocs.get(words[i]);
+		if (numbers.length == 1) {
+			documentNumbers[i] = numbers[0];
+		} else {
+			documentNumbers[i] = this.streamEnd;
+			writeDocumentNumbers(numbers, stream);
 		}
 	}
 
-	this.categoryOffsets.put(categoryName, this.streamEnd); // remember the offset to the start of the table
-	this.categoryTables.put(categoryName, null); // flush cached table
-	writeStreamInt(stream, wordsToDocs.elementSize);
-	char[][] words = wordsToDocs.keyTable;
-	for (int i = 0, l = words.length; i < l; i++) {
-		Object o = values[i];
-		if (o != null) {
-			writeStreamChars(stream, words[i]);
-			if (o instanceof int[]) {
-				int[] documentNumbers = (int[]) o;
-				if (documentNumbers.length == 1)
-					writeStreamInt(stream, -documentNumbers[0]); // store an array of 1 element by negating the documentNumber (can be zero)
-				else
-					writeDocumentNumbers(documentNumbers, stream);
+	int blockCount = (size + BLOCK_SIZE - 1) / BLOCK_SIZE;
+	int[] blockOffsets = new int[blockCount];
+	char[] previous = null;
+	for (int i = 0; i < size; i++) {
+		char[] word = words[i];
+		int prefixLength = 0; // number of identical characters at the beginning
+		if (i % BLOCK_SIZE == 0) {
+			blockOffsets[i / BLOCK_SIZE] = this.streamEnd;
+		} else {
+			int max = Math.min(previous.length, word.length);
+			while (prefixLength < max && previous[prefixLength] == word[prefixLength])
+				prefixLength++;
+		}
+		writeStreamVarInt(stream, prefixLength);
+		writeStreamChars(stream, prefixLength == 0 ? word : CharOperation.subarray(word, prefixLength, word.length));
+		writeStreamVarInt(stream, ((int[]) wordsToDocs.get(word)).length);
+		writeStreamVarInt(stream, documentNumbers[i]);
+		previous = word;
+	}
+
+	int trigramCount = 0;
+	int trigramsOffset = 0;
+	if (size >= TRIGRAM_MIN_WORDS && TRIGRAM_CATEGORIES.includes(categoryName)) {
+		long[][] wordTrigrams = new long[size][];
+		int total = 0;
+		for (int i = 0; i < size; i++)
+			total += (wordTrigrams[i] = Trigrams.of(words[i])).length;
+		long[] trigrams = new long[total];
+		for (int i = 0, position = 0; i < size; position += wordTrigrams[i++].length)
+			System.arraycopy(wordTrigrams[i], 0, trigrams, position, wordTrigrams[i].length);
+		Arrays.sort(trigrams);
+		for (int i = 0; i < total; i++)
+			if (trigramCount == 0 || trigrams[i] != trigrams[trigramCount - 1])
+				trigrams[trigramCount++] = trigrams[i];
+
+		// group the word numbers by trigram, in the order of the words
+		int[] starts = new int[trigramCount + 1];
+		int[][] trigramIndexes = new int[size][];
+		for (int i = 0; i < size; i++) {
+			long[] current = wordTrigrams[i];
+			int[] indexes = trigramIndexes[i] = new int[current.length];
+			for (int j = 0, l = current.length; j < l; j++)
+				starts[(indexes[j] = Arrays.binarySearch(trigrams, 0, trigramCount, current[j])) + 1]++;
+		}
+		for (int i = 0; i < trigramCount; i++)
+			starts[i + 1] += starts[i];
+		int[] wordNumbers = new int[total];
+		int[] ends = Arrays.copyOf(starts, trigramCount);
+		for (int i = 0; i < size; i++) {
+			int[] indexes = trigramIndexes[i];
+			for (int j = 0, l = indexes.length; j < l; j++)
+				wordNumbers[ends[indexes[j]]++] = i;
+		}
+
+		int[] trigramWords = new int[trigramCount]; // the offset to the word numbers, or the negated word number
+		for (int i = 0; i < trigramCount; i++) {
+			if (starts[i + 1] - starts[i] == 1) {
+				trigramWords[i] = -wordNumbers[starts[i]] - 1;
 			} else {
-				writeStreamInt(stream, largeArraySize); // mark to identify that an offset follows
-				writeStreamInt(stream, ((Integer) o).intValue()); // offset in the file of the array of document numbers
+				trigramWords[i] = this.streamEnd;
+				writeDocumentNumbers(Arrays.copyOfRange(wordNumbers, starts[i], starts[i + 1]), stream);
 			}
 		}
+		trigramsOffset = this.streamEnd;
+		for (int i = 0; i < trigramCount; i++) {
+			writeStreamInt(stream, (int) (trigrams[i] >>> 32));
+			writeStreamInt(stream, (int) trigrams[i]);
+			writeStreamInt(stream, trigramWords[i]);
+		}
+	}
+
+	int tableEnd = this.streamEnd + 24;
+	for (int i = 0; i < blockCount; i++)
+		tableEnd += 6 + utf8Length(words[i * BLOCK_SIZE]);
+	this.categoryOffsets.put(categoryName, this.streamEnd); // remember the offset to the header of the table
+	this.categoryTables.put(categoryName, null); // flush cached table
+	writeStreamInt(stream, tableStart);
+	writeStreamInt(stream, size);
+	writeStreamInt(stream, blockCount);
+	writeStreamInt(stream, tableEnd);
+	writeStreamInt(stream, trigramCount);
+	writeStreamInt(stream, trigramsOffset);
+	for (int i = 0; i < blockCount; i++) {
+		writeStreamInt(stream, blockOffsets[i]);
+		writeStreamChars(stream, words[i * BLOCK_SIZE]);
 	}
 }
 private void writeDocumentNumbers(int[] documentNumbers, FileOutputStream stream) throws IOException {
-	// must store length as a positive int to detect in-lined array of 1 element
-	int length = documentNumbers.length;
-	writeStreamInt(stream, length);
+	// the number of documents followed by the differences between the sorted document numbers
 	Util.sort(documentNumbers);
-	int start = 0;
-	switch (this.documentReferenceSize) {
-		case 1 :
-			while ((this.bufferIndex + length - start) >= BUFFER_WRITE_SIZE) {
-				// when documentNumbers is large, write BUFFER_WRITE_SIZE parts & fall thru to write the last part
-				int bytesLeft = BUFFER_WRITE_SIZE - this.bufferIndex;
-				for (int i=0; i < bytesLeft; i++) {
-					this.streamBuffer[this.bufferIndex++] = (byte) documentNumbers[start++];
-				}
-				stream.write(this.streamBuffer, 0, this.bufferIndex);
-				this.bufferIndex = 0;
-			}
-			while (start < length) {
-				this.streamBuffer[this.bufferIndex++] = (byte) documentNumbers[start++];
-			}
-			this.streamEnd += length;
-			break;
-		case 2 :
-			while ((this.bufferIndex + ((length - start) * 2)) >= BUFFER_WRITE_SIZE) {
-				// when documentNumbers is large, write BUFFER_WRITE_SIZE parts & fall thru to write the last part
-				int shortsLeft = (BUFFER_WRITE_SIZE - this.bufferIndex) / 2;
-				for (int i=0; i < shortsLeft; i++) {
-					this.streamBuffer[this.bufferIndex++] = (byte) (documentNumbers[start] >> 8);
-					this.streamBuffer[this.bufferIndex++] = (byte) documentNumbers[start++];
-				}
-				stream.write(this.streamBuffer, 0, this.bufferIndex);
-				this.bufferIndex = 0;
-			}
-			while (start < length) {
-				this.streamBuffer[this.bufferIndex++] = (byte) (documentNumbers[start] >> 8);
-				this.streamBuffer[this.bufferIndex++] = (byte) documentNumbers[start++];
-			}
-			this.streamEnd += length * 2;
-			break;
-		default :
-			while (start < length) {
-				writeStreamInt(stream, documentNumbers[start++]);
-			}
-			break;
+	writeStreamVarInt(stream, documentNumbers.length);
+	int previous = 0;
+	for (int i = 0, l = documentNumbers.length; i < l; i++) {
+		writeStreamVarInt(stream, documentNumbers[i] - previous);
+		previous = documentNumbers[i];
 	}
 }
 private void writeHeaderInfo(FileOutputStream stream) throws IOException {
 	writeStreamInt(stream, this.numberOfChunks);
-	if ((this.bufferIndex + 3) >= BUFFER_WRITE_SIZE)  {
+	if ((this.bufferIndex + 2) >= BUFFER_WRITE_SIZE)  {
 		stream.write(this.streamBuffer, 0, this.bufferIndex);
 		this.bufferIndex = 0;
 	}
 	this.streamBuffer[this.bufferIndex++] = (byte) this.sizeOfLastChunk;
-	this.streamBuffer[this.bufferIndex++] = (byte) this.documentReferenceSize;
 	this.streamBuffer[this.bufferIndex++] = (byte) this.separator;
-	this.streamEnd += 3;
+	this.streamEnd += 2;
 
 	// apend the file with chunk offsets
 	for (int i = 0; i < this.numberOfChunks; i++) {
@@ -1337,6 +1554,27 @@ private void writeStreamChars(FileOutputStream stream, char[] array, int start,
 	}
 	this.streamEnd += this.bufferIndex - oldIndex;
 }
+private static int utf8Length(char[] array) {
+	// number of bytes written by writeStreamChars(), without the length
+	int length = 0;
+	for (char ch : array)
+		length += (ch & 0x007F) == ch ? 1 : (ch & 0x07FF) == ch ? 2 : 3;
+	return length;
+}
+private void writeStreamVarInt(FileOutputStream stream, int val) throws IOException {
+	// 7 bits per byte, the high bit of a byte is set if more bytes follow
+	if ((this.bufferIndex + 5) >= BUFFER_WRITE_SIZE)  {
+		stream.write(this.streamBuffer, 0, this.bufferIndex);
+		this.bufferIndex = 0;
+	}
+	int oldIndex = this.bufferIndex;
+	while ((val & ~0x7F) != 0) {
+		this.streamBuffer[this.bufferIndex++] = (byte) ((val & 0x7F) | 0x80);
+		val >>>= 7;
+	}
+	this.streamBuffer[this.bufferIndex++] = (byte) val;
+	this.streamEnd += this.bufferIndex - oldIndex;
+}
 private void writeStreamInt(FileOutputStream stream, int val) throws IOException {
 	if ((this.bufferIndex + 4) >= BUFFER_WRITE_SIZE)  {
 		stream.write(this.streamBuffer, 0, this.bufferIndex);
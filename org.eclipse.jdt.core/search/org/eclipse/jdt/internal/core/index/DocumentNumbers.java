@@ -0,0 +1,241 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.index;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * The sorted numbers of the documents of a disk index which contain a word, kept compressed as in the category tables
+ * of the index file: the differences between consecutive numbers are written as variable length ints.
+ * <p>
+ * The numbers are only decoded while they are iterated, so the documents containing several words, or any of several
+ * words, are computed without keeping decoded copies of the lists nor reading the names of the documents.
+ * </p>
+ * <p>
+ * The numbers of the words of a category table which have a trigram are kept in the same way, see {@link Trigrams}.
+ * </p>
+ */
+public final class DocumentNumbers {
+
+private final ByteBuffer buffer;
+private final int start; // position in the buffer of the difference to the first number
+private final int size;
+
+private static final DocumentNumbers EMPTY = new DocumentNumbers(ByteBuffer.allocate(0), 0, 0);
+
+private DocumentNumbers(ByteBuffer buffer, int start, int size) {
+	this.buffer = buffer;
+	this.start = start;
+	this.size = size;
+}
+/**
+ * Answers the list of a single document.
+ */
+static DocumentNumbers of(int documentNumber) {
+	Encoder encoder = new Encoder(5);
+	encoder.add(documentNumber);
+	return encoder.toDocumentNumbers();
+}
+/**
+ * Answers the list of the given numbers, which must be increasing.
+ */
+public static DocumentNumbers of(int[] documentNumbers) {
+	if (documentNumbers.length == 0) return EMPTY;
+	Encoder encoder = new Encoder(documentNumbers.length);
+	for (int documentNumber : documentNumbers)
+		encoder.add(documentNumber);
+	return encoder.toDocumentNumbers();
+}
+/**
+ * Answers the list whose number of documents is written at the given position of the buffer, followed by the
+ * differences between the numbers. The buffer is shared, not copied.
+ */
+static DocumentNumbers read(ByteBuffer buffer, int position) {
+	Decoder decoder = new Decoder(buffer, position, 1);
+	int count = decoder.readVarInt();
+	return count == 0 ? EMPTY : new DocumentNumbers(buffer, decoder.position, count);
+}
+/**
+ * Answers the documents which are in any of the given lists.
+ */
+public static DocumentNumbers union(DocumentNumbers[] lists, int length) throws IOException {
+	if (length == 0) return EMPTY;
+	try {
+		if (length == 1) return lists[0];
+		if (length == 2) return lists[0].union(lists[1]);
+
+		// mark the numbers of all the lists in a bit set, then encode the marked numbers in order
+		long[] bits = new long[64];
+		for (int i = 0; i < length; i++) {
+			Decoder decoder = lists[i].decoder();
+			for (int number; (number = decoder.next()) >= 0;) {
+				int word = number >>> 6;
+				if (word >= bits.length)
+					bits = Arrays.copyOf(bits, Math.max(word + 1, bits.length * 2));
+				bits[word] |= 1L << number;
+			}
+		}
+		Encoder encoder = new Encoder(length);
+		for (int word = 0, l = bits.length; word < l; word++) {
+			for (long remaining = bits[word]; remaining != 0; remaining &= remaining - 1)
+				encoder.add((word << 6) + Long.numberOfTrailingZeros(remaining));
+		}
+		return encoder.toDocumentNumbers();
+	} catch (IndexOutOfBoundsException e) {
+		throw new IOException("Failed to read document numbers", e); //$NON-NLS-1$
+	}
+}
+private DocumentNumbers union(DocumentNumbers other) {
+	if (this.size == 0) return other;
+	if (other.size == 0) return this;
+
+	Encoder encoder = new Encoder(this.size + other.size);
+	Decoder these = decoder(), those = other.decoder();
+	int number = these.next(), otherNumber = those.next();
+	while (number >= 0 && otherNumber >= 0) {
+		if (number < otherNumber) {
+			encoder.add(number);
+			number = these.next();
+		} else {
+			encoder.add(otherNumber);
+			if (number == otherNumber)
+				number = these.next();
+			otherNumber = those.next();
+		}
+	}
+	for (; number >= 0; number = these.next())
+		encoder.add(number);
+	for (; otherNumber >= 0; otherNumber = those.next())
+		encoder.add(otherNumber);
+	return encoder.toDocumentNumbers();
+}
+/**
+ * Answers the documents which are both in this list and in the given list.
+ */
+public DocumentNumbers intersect(DocumentNumbers other) throws IOException {
+	if (this.size == 0 || other.size == 0) return EMPTY;
+
+	try {
+		Encoder encoder = new Encoder(Math.min(this.size, other.size));
+		Decoder these = decoder(), those = other.decoder();
+		int number = these.next(), otherNumber = those.next();
+		while (number >= 0 && otherNumber >= 0) {
+			if (number < otherNumber) {
+				number = these.next();
+			} else {
+				if (number == otherNumber) {
+					encoder.add(number);
+					number = these.next();
+				}
+				otherNumber = those.next();
+			}
+		}
+		return encoder.count == 0 ? EMPTY : encoder.toDocumentNumbers();
+	} catch (IndexOutOfBoundsException e) {
+		throw new IOException("Failed to read document numbers", e); //$NON-NLS-1$
+	}
+}
+private Decoder decoder() {
+	return new Decoder(this.buffer, this.start, this.size);
+}
+/**
+ * Answers the names of the documents, read from the disk index of the given index.
+ */
+public String[] getDocumentNames(Index index) throws IOException {
+	int[] numbers = toArray();
+	String[] names = new String[numbers.length];
+	for (int i = 0, l = numbers.length; i < l; i++)
+		names[i] = index.diskIndex.readDocumentName(numbers[i]);
+	return names;
+}
+public int size() {
+	return this.size;
+}
+public int[] toArray() throws IOException {
+	try {
+		int[] numbers = new int[this.size];
+		Decoder decoder = decoder();
+		for (int i = 0; i < this.size; i++)
+			numbers[i] = decoder.next();
+		return numbers;
+	} catch (IndexOutOfBoundsException e) {
+		throw new IOException("Failed to read document numbers", e); //$NON-NLS-1$
+	}
+}
+
+/**
+ * Iterates over the numbers of a list, decoding one number at a time.
+ */
+private static class Decoder {
+
+final ByteBuffer buffer;
+int position;
+int remaining;
+int current;
+
+Decoder(ByteBuffer buffer, int position, int count) {
+	this.buffer = buffer;
+	this.position = position;
+	this.remaining = count;
+}
+int readVarInt() {
+	int value = 0;
+	for (int shift = 0;; shift += 7) {
+		byte b = this.buffer.get(this.position++);
+		value |= (b & 0x7F) << shift;
+		if (b >= 0) return value;
+	}
+}
+/**
+ * Answers the next number of the list, or -1 when all of them were read.
+ */
+int next() {
+	if (this.remaining == 0) return -1;
+	this.remaining--;
+	return this.current += readVarInt();
+}
+}
+
+/**
+ * Writes a list of increasing numbers.
+ */
+private static class Encoder {
+
+byte[] bytes;
+int length;
+int count;
+int previous;
+
+Encoder(int capacity) {
+	this.bytes = new byte[Math.max(capacity, 5)];
+}
+void add(int number) {
+	if (this.length + 5 > this.bytes.length)
+		System.arraycopy(this.bytes, 0, this.bytes = new byte[this.bytes.length * 2], 0, this.length);
+	int value = number - this.previous;
+	this.previous = number;
+	this.count++;
+	while ((value & ~0x7F) != 0) {
+		this.bytes[this.length++] = (byte) ((value & 0x7F) | 0x80);
+		value >>>= 7;
+	}
+	this.bytes[this.length++] = (byte) value;
+}
+DocumentNumbers toDocumentNumbers() {
+	return new DocumentNumbers(ByteBuffer.wrap(this.bytes, 0, this.length), 0, this.count);
+}
+}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2010 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,54 +13,58 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.core.index;
 
+import java.io.IOException;
+
 import org.eclipse.jdt.core.compiler.CharOperation;
 import org.eclipse.jdt.internal.compiler.util.SimpleSet;
 
 public class EntryResult {
 
 private char[] word;
-private Object[] documentTables;
+private DocumentNumbers[] documentTables; // documents of the disk index, one list per category
 private SimpleSet documentNames;
 
-public EntryResult(char[] word, Object table) {
+public EntryResult(char[] word, DocumentNumbers table) {
 	this.word = word;
 	if (table != null)
-		this.documentTables = new Object[] {table};
+		this.documentTables = new DocumentNumbers[] {table};
 }
 public void addDocumentName(String documentName) {
 	if (this.documentNames == null)
 		this.documentNames = new SimpleSet(3);
 	this.documentNames.add(documentName);
 }
-public void addDocumentTable(Object table) {
+public void addDocumentTable(DocumentNumbers table) {
 	if (this.documentTables != null) {
 		int length = this.documentTables.length;
-		System.arraycopy(this.documentTables, 0, this.documentTables = new Object[length + 1], 0, length);
+		System.arraycopy(this.documentTables, 0, this.documentTables = new DocumentNumbers[length + 1], 0, length);
 		this.documentTables[length] = table;
 	} else {
-		this.documentTables = new Object[] {table};
+		this.documentTables = new DocumentNumbers[] {table};
 	}
 }
 public char[] getWord() {
 	return this.word;
 }
-public String[] getDocumentNames(Index index) throws java.io.IOException {
+/**
+ * Answers the numbers of the documents of the disk index which contain the word, or null if some of the documents
+ * were found in the memory index and are only known by their name.
+ */
+public DocumentNumbers getDocumentNumbers() throws IOException {
+	if (this.documentNames != null || this.documentTables == null)
+		return null;
+	return DocumentNumbers.union(this.documentTables, this.documentTables.length);
+}
+public String[] getDocumentNames(Index index) throws IOException {
 	if (this.documentTables != null) {
-		int length = this.documentTables.length;
-		if (length == 1 && this.documentNames == null) { // have a single table
-			Object offset = this.documentTables[0];
-			int[] numbers = index.diskIndex.readDocumentNumbers(offset);
-			String[] names = new String[numbers.length];
-			for (int i = 0, l = numbers.length; i < l; i++)
-				names[i] = index.diskIndex.readDocumentName(numbers[i]);
-			return names;
-		}
+		if (this.documentNames == null) // only have tables, merge their numbers before reading the names
+			return getDocumentNumbers().getDocumentNames(index);
 
-		for (int i = 0; i < length; i++) {
-			Object offset = this.documentTables[i];
-			int[] numbers = index.diskIndex.readDocumentNumbers(offset);
+		DiskIndex diskIndex = index.diskIndex;
+		for (int i = 0, length = this.documentTables.length; i < length; i++) {
+			int[] numbers = this.documentTables[i].toArray();
 			for (int j = 0, k = numbers.length; j < k; j++)
-				addDocumentName(index.diskIndex.readDocumentName(numbers[j]));
+				addDocumentName(diskIndex.readDocumentName(numbers[j]));
 		}
 	}
 
@@ -0,0 +1,200 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.index;
+
+import java.util.Arrays;
+
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.internal.compiler.parser.ScannerHelper;
+
+/**
+ * Computes the trigrams which select the words of a category table that may match a pattern, camel case or
+ * substring query, so that only these words are compared to the query.
+ * <p>
+ * A word has two kinds of trigrams: the trigrams of its lower case characters, and the trigrams of its humps, i.e. the
+ * characters which are neither lower case letters nor digits and which camel case patterns must match one after the
+ * other. Both sequences start with a marker, so that the first characters of a word also make trigrams. A query gives
+ * alternatives of trigrams: a word can only match the query if it has all the trigrams of one of the alternatives.
+ * </p>
+ */
+final class Trigrams {
+
+private static final char START = '\0'; // marks the start of a word
+private static final long HUMPS = 1L << 48; // distinguishes the trigrams of the humps from the trigrams of the characters
+
+private Trigrams() {
+	// not instantiable
+}
+private static long trigram(char first, char second, char third, long kind) {
+	return kind | ((long) first << 32) | ((long) second << 16) | third;
+}
+/**
+ * Answers the sorted trigrams of the given word.
+ */
+static long[] of(char[] word) {
+	int length = word.length;
+	long[] trigrams = new long[2 * length];
+	int count = 0;
+	char first = START, second = 0, hump = START, previousHump = 0;
+	int humps = 1;
+	for (int i = 0; i < length; i++) {
+		char c = word[i];
+		char lowerCase = ScannerHelper.toLowerCase(c);
+		if (i >= 1)
+			trigrams[count++] = trigram(first, second, lowerCase, 0);
+		first = i == 0 ? START : second;
+		second = lowerCase;
+		if (isHump(c)) {
+			if (++humps >= 3)
+				trigrams[count++] = trigram(previousHump, hump, c, HUMPS);
+			previousHump = hump;
+			hump = c;
+		}
+	}
+	if (count == 0) return new long[0];
+	Arrays.sort(trigrams, 0, count);
+	int distinct = 1;
+	for (int i = 1; i < count; i++)
+		if (trigrams[i] != trigrams[distinct - 1])
+			trigrams[distinct++] = trigrams[i];
+	return Arrays.copyOf(trigrams, distinct);
+}
+/**
+ * Answers the alternatives of trigrams of the words which may match the given key with the given match rule, as
+ * decided by {@link Index#isMatch(char[], char[], int)}, or null if the words cannot be selected by their trigrams.
+ */
+static long[][] forQuery(char[] key, int matchRule) {
+	int length = key.length;
+	if (length == 0) return null;
+
+	long[][] alternatives = new long[2][];
+	int count = 0;
+	if ((matchRule & SearchPattern.R_SUBSTRING_MATCH) != 0) {
+		alternatives[count++] = ofCharacters(key, 0, length, false);
+		matchRule &= ~SearchPattern.R_SUBSTRING_MATCH;
+	}
+	if ((matchRule & SearchPattern.R_SUBWORD_MATCH) != 0)
+		return null; // the characters of a sub word pattern do not need to be consecutive in a word
+
+	switch (matchRule & Index.MATCH_RULE_INDEX_MASK) {
+		case SearchPattern.R_EXACT_MATCH :
+		case SearchPattern.R_PREFIX_MATCH :
+		case SearchPattern.R_EXACT_MATCH | SearchPattern.R_CASE_SENSITIVE :
+		case SearchPattern.R_PREFIX_MATCH | SearchPattern.R_CASE_SENSITIVE :
+			alternatives[count++] = ofCharacters(key, 0, length, true);
+			break;
+		case SearchPattern.R_PATTERN_MATCH :
+		case SearchPattern.R_PATTERN_MATCH | SearchPattern.R_CASE_SENSITIVE :
+			alternatives[count++] = ofPattern(key);
+			break;
+		case SearchPattern.R_CAMELCASE_MATCH :
+		case SearchPattern.R_CAMELCASE_SAME_PART_COUNT_MATCH :
+			// the key also matches the words it is a prefix of
+			alternatives = Arrays.copyOf(alternatives, 3);
+			alternatives[count++] = ofCharacters(key, 0, length, true);
+			//$FALL-THROUGH$
+		case SearchPattern.R_CAMELCASE_MATCH | SearchPattern.R_CASE_SENSITIVE :
+		case SearchPattern.R_CAMELCASE_SAME_PART_COUNT_MATCH | SearchPattern.R_CASE_SENSITIVE :
+			alternatives[count++] = ofCamelCase(key);
+			break;
+		default :
+			return null;
+	}
+	for (int i = 0; i < count; i++)
+		if (alternatives[i].length == 0)
+			return null; // any word may match
+	return count == alternatives.length ? alternatives : Arrays.copyOf(alternatives, count);
+}
+/**
+ * Answers the trigrams of the lower case characters of the given part of a key, which a word contains when it
+ * contains these characters, or when it starts with them if the part is anchored.
+ */
+private static long[] ofCharacters(char[] key, int start, int end, boolean anchored) {
+	int length = end - start + (anchored ? 1 : 0);
+	if (length < 3) return new long[0];
+	long[] trigrams = new long[length - 2];
+	char first = anchored ? START : ScannerHelper.toLowerCase(key[start++]);
+	char second = ScannerHelper.toLowerCase(key[start++]);
+	for (int i = 0; start < end; i++) {
+		char third = ScannerHelper.toLowerCase(key[start++]);
+		trigrams[i] = trigram(first, second, third, 0);
+		first = second;
+		second = third;
+	}
+	return trigrams;
+}
+/**
+ * Answers the trigrams of the characters of a pattern, except its wild cards.
+ */
+private static long[] ofPattern(char[] pattern) {
+	long[] trigrams = new long[0];
+	for (int start = 0, end = 0, length = pattern.length; start < length; start = end + 1) {
+		end = start;
+		while (end < length && pattern[end] != '*' && pattern[end] != '?')
+			end++;
+		// the characters before the first wild card match the first characters of a word
+		long[] fragment = ofCharacters(pattern, start, end, start == 0);
+		if (fragment.length > 0) {
+			int count = trigrams.length;
+			System.arraycopy(trigrams, 0, trigrams = new long[count + fragment.length], 0, count);
+			System.arraycopy(fragment, 0, trigrams, count, fragment.length);
+		}
+	}
+	return trigrams;
+}
+/**
+ * Answers the trigrams of a camel case pattern: the humps of the pattern are the first humps of a matching word, and its
+ * characters before its second hump are the first characters of the word.
+ */
+private static long[] ofCamelCase(char[] pattern) {
+	int head = 1;
+	while (head < pattern.length && !isCamelCaseHead(pattern[head]))
+		head++;
+	long[] trigrams = ofCharacters(pattern, 0, head, true);
+
+	char hump = START, previousHump = 0;
+	int humps = 1;
+	for (int i = 0, length = pattern.length; i < length; i++) {
+		char c = pattern[i];
+		if (isHump(c)) {
+			if (++humps >= 3) {
+				int count = trigrams.length;
+				System.arraycopy(trigrams, 0, trigrams = new long[count + 1], 0, count);
+				trigrams[count] = trigram(previousHump, hump, c, HUMPS);
+			}
+			previousHump = hump;
+			hump = c;
+		}
+	}
+	return trigrams;
+}
+/**
+ * Answers whether the given character of a word is a hump, i.e. a character that the upper case characters of a camel
+ * case pattern are compared to, see {@link org.eclipse.jdt.core.compiler.CharOperation#camelCaseMatch(char[], char[])}.
+ */
+private static boolean isHump(char c) {
+	if (c < ScannerHelper.MAX_OBVIOUS)
+		return (ScannerHelper.OBVIOUS_IDENT_CHAR_NATURES[c] & (ScannerHelper.C_LOWER_LETTER | ScannerHelper.C_SPECIAL | ScannerHelper.C_DIGIT)) == 0;
+	return !(Character.isJavaIdentifierPart(c) && !Character.isUpperCase(c)) && !Character.isDigit(c);
+}
+/**
+ * Answers whether the given character of a camel case pattern can match a character of a word other than itself, i.e.
+ * whether the characters of the pattern before it must be the first characters of a matching word.
+ */
+private static boolean isCamelCaseHead(char c) {
+	if (c < ScannerHelper.MAX_OBVIOUS)
+		return (ScannerHelper.OBVIOUS_IDENT_CHAR_NATURES[c] & (ScannerHelper.C_UPPER_LETTER | ScannerHelper.C_DIGIT)) != 0;
+	return !(Character.isJavaIdentifierPart(c) && !Character.isUpperCase(c) && !Character.isDigit(c));
+}
+}
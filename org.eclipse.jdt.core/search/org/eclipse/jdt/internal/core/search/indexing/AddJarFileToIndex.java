@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -110,6 +110,11 @@ class AddJarFileToIndex extends BinaryContainer {
 				return true;
 			}
 
+			// another workspace may have indexed the same library already
+			// (the library is only hashed when its index can be imported or is rebuilt, not when its index file is reused)
+			boolean importable = !this.forceIndexUpdate && this.manager.canImportSharedIndex(this.containerPath);
+			String sharedIndexKey = importable ? this.manager.computeSharedIndexKey(getLibraryFile()) : null;
+			boolean sharedIndex = this.manager.importSharedIndex(this.containerPath, sharedIndexKey);
 			index = this.manager.getIndexForUpdate(this.containerPath, true, /*reuse index file*/ true /*create if none*/);
 			if (index == null) {
 				if (JobManager.VERBOSE)
@@ -174,6 +179,14 @@ class AddJarFileToIndex extends BinaryContainer {
 				long initialTime = System.currentTimeMillis();
 
 				String[] paths = index.queryDocumentNames(""); // all file names //$NON-NLS-1$
+				if (paths != null && sharedIndex) {
+					// the shared index was built from a library with the same content
+					if (JobManager.VERBOSE)
+						org.eclipse.jdt.internal.core.util.Util.verbose("-> no indexing required (index copied from the shared index store) for " + zip.getName()); //$NON-NLS-1$
+					this.manager.saveIndex(index); // to ensure its placed into the saved state
+					this.manager.updateMetaIndex(index);
+					return true;
+				}
 				if (paths != null) {
 					int max = paths.length;
 					/* check integrity of the existing index file
@@ -215,6 +228,10 @@ class AddJarFileToIndex extends BinaryContainer {
 				}
 
 				// Index the jar for the first time or reindex the jar in case the previous index file has been corrupted
+				if (!importable && !this.forceIndexUpdate) {
+					// the rebuilt index can be published
+					sharedIndexKey = this.manager.computeSharedIndexKey(getLibraryFile());
+				}
 				// index already existed: recreate it so that we forget about previous entries
 				SearchParticipant participant = SearchEngine.getDefaultSearchParticipant();
 				if (!this.manager.resetIndex(this.containerPath)) {
@@ -269,6 +286,7 @@ class AddJarFileToIndex extends BinaryContainer {
 				}
 				else {
 					this.manager.saveIndex(index);
+					this.manager.publishSharedIndex(index, sharedIndexKey);
 				}
 				if (JobManager.VERBOSE)
 					org.eclipse.jdt.internal.core.util.Util.verbose("-> done indexing of " //$NON-NLS-1$
@@ -317,6 +335,13 @@ class AddJarFileToIndex extends BinaryContainer {
 		return "indexing " + this.containerPath.toString(); //$NON-NLS-1$
 	}
 
+	private File getLibraryFile() {
+		if (this.resource == null)
+			return this.containerPath.toFile(); // external jar
+		IPath location = this.resource.getLocation();
+		return location == null ? null : location.toFile();
+	}
+
 	protected boolean hasPreBuiltIndex() {
 		return !this.forceIndexUpdate && (this.indexFileURL != null && this.indexFileURL.exists());
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016 IBM Corporation and others.
+ * Copyright (c) 2016, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -169,6 +169,11 @@ public class AddJrtToIndex extends BinaryContainer {
 				return true;
 			}
 
+			// another workspace may have indexed the same JDK already
+			// (the library is only hashed when its index can be imported or is rebuilt, not when its index file is reused)
+			boolean importable = !this.forceIndexUpdate && this.manager.canImportSharedIndex(this.containerPath);
+			String sharedIndexKey = importable ? this.manager.computeSharedIndexKey(getModulesImage()) : null;
+			boolean sharedIndex = this.manager.importSharedIndex(this.containerPath, sharedIndexKey);
 			final Index index = this.manager.getIndexForUpdate(this.containerPath, true, /*reuse index file*/ true /*create if none*/);
 			if (index == null) {
 				if (JobManager.VERBOSE)
@@ -220,6 +225,14 @@ public class AddJrtToIndex extends BinaryContainer {
 					org.eclipse.jdt.internal.core.util.Util.verbose("-> indexing " + fileName); //$NON-NLS-1$
 				long initialTime = System.currentTimeMillis();
 				String[] paths = index.queryDocumentNames(""); // all file names //$NON-NLS-1$
+				if (paths != null && sharedIndex) {
+					// the shared index was built from the same modules image
+					if (JobManager.VERBOSE)
+						org.eclipse.jdt.internal.core.util.Util.verbose("-> no indexing required (index copied from the shared index store) for " + fileName); //$NON-NLS-1$
+					this.manager.saveIndex(index); // to ensure its placed into the saved state
+					this.manager.updateMetaIndex(index);
+					return true;
+				}
 				if (paths != null) {
 					int max = paths.length;
 					/* check integrity of the existing index file
@@ -256,6 +269,10 @@ public class AddJrtToIndex extends BinaryContainer {
 				}
 
 				// Index the jrt for the first time or reindex the jrt in case the previous index file has been corrupted
+				if (!importable && !this.forceIndexUpdate) {
+					// the rebuilt index can be published
+					sharedIndexKey = this.manager.computeSharedIndexKey(getModulesImage());
+				}
 				// index already existed: recreate it so that we forget about previous entries
 				if (!this.manager.resetIndex(this.containerPath)) {
 					// failed to recreate index, see 73330
@@ -272,6 +289,7 @@ public class AddJrtToIndex extends BinaryContainer {
 				}
 				else {
 					this.manager.saveIndex(index);
+					this.manager.publishSharedIndex(index, sharedIndexKey);
 				}
 				if (JobManager.VERBOSE)
 					org.eclipse.jdt.internal.core.util.Util.verbose("-> done indexing of " //$NON-NLS-1$
@@ -310,6 +328,23 @@ public class AddJrtToIndex extends BinaryContainer {
 		return "indexing " + this.containerPath.toString(); //$NON-NLS-1$
 	}
 
+	/**
+	 * Returns the image of the modules of the JDK, whose content identifies the indexed classes.
+	 */
+	private File getModulesImage() {
+		File jrt;
+		if (this.resource == null) {
+			jrt = this.containerPath.toFile();
+		} else {
+			IPath location = this.resource.getLocation();
+			if (location == null) return null;
+			jrt = location.toFile();
+		}
+		File lib = jrt.getParentFile();
+		File modules = lib == null ? null : new File(lib, "modules"); //$NON-NLS-1$
+		return modules != null && modules.isFile() ? modules : null;
+	}
+
 	protected boolean hasPreBuiltIndex() {
 		return !this.forceIndexUpdate && (this.indexFileURL != null && this.indexFileURL.exists());
 	}
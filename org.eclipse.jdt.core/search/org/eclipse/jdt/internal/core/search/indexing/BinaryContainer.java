@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016 IBM Corporation and others.
+ * Copyright (c) 2016, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -27,6 +27,12 @@ public abstract class BinaryContainer extends IndexRequest {
 		super(containerPath, manager);
 	}
 
+	@Override
+	public Object concurrencyKey() {
+		// each jar has its own index
+		return this.containerPath;
+	}
+
 	private boolean isIdentifier() throws InvalidInputException {
 		switch(this.scanner.scanIdentifier()) {
 			// assert and enum will not be recognized as java identifiers
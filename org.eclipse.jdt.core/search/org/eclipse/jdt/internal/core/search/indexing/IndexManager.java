@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -76,6 +76,7 @@ import org.eclipse.jdt.internal.core.index.IndexLocation;
 import org.eclipse.jdt.internal.core.index.IndexQualifier;
 import org.eclipse.jdt.internal.core.index.MetaIndex;
 import org.eclipse.jdt.internal.core.search.BasicSearchEngine;
+import org.eclipse.jdt.internal.core.search.JavaSearchParticipant;
 import org.eclipse.jdt.internal.core.search.PatternSearchJob;
 import org.eclipse.jdt.internal.core.search.indexing.QualifierQuery.QueryCategory;
 import org.eclipse.jdt.internal.core.search.processing.IJob;
@@ -151,6 +152,22 @@ public class IndexManager extends JobManager implements IIndexConstants {
 	public static final String INDEX_MANAGER_NOTIFY_IDLE_WAIT_PROPERTY = "jdt.core.indexManager.notifyIdleWait"; //$NON-NLS-1$
 	private static final long INDEX_MANAGER_NOTIFY_IDLE_WAIT = getNotifyIdleWait();
 
+	// number of threads indexing jars and sources concurrently (1 = only the background thread)
+	public static final String INDEX_MANAGER_THREADS_PROPERTY = "jdt.core.indexManager.threads"; //$NON-NLS-1$
+	private static final int INDEX_MANAGER_THREADS = getIndexingThreads();
+
+	// directory of the indexes of libraries shared with other workspaces, none if not set
+	public static final String SHARED_INDEXES_DIRECTORY_PROPERTY = "jdt.core.indexManager.sharedIndexesDirectory"; //$NON-NLS-1$
+	private static final String SHARED_INDEXES_DIRECTORY = System.getProperty(SHARED_INDEXES_DIRECTORY_PROPERTY);
+	private final SharedIndexStore sharedIndexStore = SHARED_INDEXES_DIRECTORY == null || SHARED_INDEXES_DIRECTORY.isEmpty()
+			? null : new SharedIndexStore(new File(SHARED_INDEXES_DIRECTORY));
+
+	/**
+	 * Key of the requests indexing source documents: they share the state of their search participant, so they are
+	 * executed one after the other, but concurrently with the requests indexing jars.
+	 */
+	private static final Object DOCUMENTS_CONCURRENCY_KEY = new Object();
+
 	// Debug
 	public static boolean DEBUG = false;
 
@@ -783,6 +800,79 @@ public void indexLibrary(IPath path, IProject requestingProject, URL indexURL, f
 	requestIfNotWaiting(request);
 }
 
+/**
+ * Answers the key of the given library in the shared index store, or null if there is no shared index store or the
+ * library cannot be read. The key hashes the whole library, so an indexing job computes it at most once, and only
+ * when it may import or publish the index.
+ */
+String computeSharedIndexKey(File library) {
+	if (this.sharedIndexStore == null || library == null) return null;
+	try {
+		return this.sharedIndexStore.computeKey(library);
+	} catch (IOException e) {
+		if (VERBOSE) {
+			Util.verbose("-> failed to compute the shared index key of " + library + ':'); //$NON-NLS-1$
+			e.printStackTrace();
+		}
+		return null;
+	}
+}
+/**
+ * Answers whether the index of the given container may be copied from the shared index store, i.e. whether the
+ * store is enabled and the container has no index file yet.
+ */
+boolean canImportSharedIndex(IPath containerPath) {
+	if (this.sharedIndexStore == null) return false;
+	File indexFile = computeIndexLocation(containerPath).getIndexFile();
+	return indexFile != null && !indexFile.exists();
+}
+/**
+ * Copies the index with the given key from the shared index store to the index file of the given container, unless
+ * the key is null, the container already has an index file, or the store has no valid index with this key.
+ *
+ * @return whether the index file was copied
+ */
+boolean importSharedIndex(IPath containerPath, String sharedIndexKey) {
+	if (sharedIndexKey == null) return false;
+	File indexFile = computeIndexLocation(containerPath).getIndexFile();
+	if (indexFile == null || indexFile.exists()) return false;
+	try {
+		if (!this.sharedIndexStore.copyIndex(sharedIndexKey, indexFile)) {
+			if (VERBOSE)
+				Util.verbose("-> no valid shared index for " + containerPath); //$NON-NLS-1$
+			return false;
+		}
+	} catch (IOException e) {
+		if (VERBOSE) {
+			Util.verbose("-> failed to copy the shared index of " + containerPath + ':'); //$NON-NLS-1$
+			e.printStackTrace();
+		}
+		indexFile.delete();
+		return false;
+	}
+	if (VERBOSE)
+		Util.verbose("-> copied the shared index of " + containerPath + " to " + indexFile); //$NON-NLS-1$ //$NON-NLS-2$
+	return true;
+}
+/**
+ * Adds the saved index to the shared index store with the given key, unless the key is null.
+ */
+void publishSharedIndex(Index index, String sharedIndexKey) {
+	if (sharedIndexKey == null || index.hasChanged()) return; // not saved
+	File indexFile = index.getIndexFile();
+	if (indexFile == null) return;
+	try {
+		this.sharedIndexStore.publishIndex(sharedIndexKey, indexFile);
+		if (VERBOSE)
+			Util.verbose("-> added the index of " + index.containerPath + " to the shared index store"); //$NON-NLS-1$ //$NON-NLS-2$
+	} catch (IOException e) {
+		if (VERBOSE) {
+			Util.verbose("-> failed to add the index of " + index.containerPath + " to the shared index store:"); //$NON-NLS-1$ //$NON-NLS-2$
+			e.printStackTrace();
+		}
+	}
+}
+
 synchronized boolean addIndex(IPath containerPath, IndexLocation indexFile) {
 	getIndexStates().put(indexFile, REUSE_STATE);
 	this.indexLocations.put(containerPath, indexFile);
@@ -828,6 +918,19 @@ protected synchronized void moveToNextJob() {
 	this.needToSave = true;
 	super.moveToNextJob();
 }
+@Override
+protected synchronized void concurrentJobDone(IJob job) {
+	this.needToSave = true;
+	super.concurrentJobDone(job);
+}
+@Override
+protected int concurrentJobsLimit() {
+	return INDEX_MANAGER_THREADS - 1;
+}
+@Override
+protected Object concurrencyKey(IJob job) {
+	return job instanceof IndexRequest ? ((IndexRequest) job).concurrencyKey() : null;
+}
 /**
  * No more job awaiting.
  */
@@ -1274,6 +1377,10 @@ public void scheduleDocumentIndexing(final SearchDocument searchDocument, IPath
 //		 this.indexer.makeDirty(targetLocation);
 //	}
 	request(new IndexRequest(container, this) {
+		@Override
+		public Object concurrencyKey() {
+			return searchParticipant instanceof JavaSearchParticipant ? DOCUMENTS_CONCURRENCY_KEY : null;
+		}
 		@Override
 		public boolean execute(IProgressMonitor progressMonitor) {
 			if (this.isCancelled || progressMonitor != null && progressMonitor.isCanceled()) return true;
@@ -1543,6 +1650,18 @@ private void writeSavedIndexNamesFile() {
 	this.nameRegistry.write(arrays);
 }
 
+private static int getIndexingThreads() {
+	int threads = 1;
+	String threadsPropertyValue = System.getProperty(INDEX_MANAGER_THREADS_PROPERTY);
+	if (threadsPropertyValue != null) {
+		try {
+			threads = Math.max(1, Integer.parseInt(threadsPropertyValue));
+		} catch (NumberFormatException e) {
+			Util.log(e, "Failed to parse value of property \"" + INDEX_MANAGER_THREADS_PROPERTY + "\": " + threadsPropertyValue); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+	return threads;
+}
 private static long getNotifyIdleWait() {
 	long idleWait = 1000;
 	String idleWaitPropertyValue = System.getProperty(INDEX_MANAGER_NOTIFY_IDLE_WAIT_PROPERTY);
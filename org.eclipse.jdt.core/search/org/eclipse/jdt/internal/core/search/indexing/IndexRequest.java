@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -42,6 +42,16 @@ public abstract class IndexRequest implements IJob {
 		// tag the index as inconsistent
 		this.manager.aboutToUpdateIndex(this.containerPath, updatedIndexState());
 	}
+	/**
+	 * Answers the key under which this request can be executed concurrently with the requests of other keys, or null
+	 * if it can only be executed after all the requests submitted before it, which is the default.
+	 * The requests of a key must only update the index of their container.
+	 *
+	 * @see org.eclipse.jdt.internal.core.search.processing.JobManager#concurrencyKey(IJob)
+	 */
+	public Object concurrencyKey() {
+		return null;
+	}
 	@Override
 	public String getJobFamily() {
 		return this.containerPath.toString();
@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.search.indexing;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import org.eclipse.jdt.internal.core.index.DiskIndex;
+import org.eclipse.jdt.internal.core.index.FileIndexLocation;
+import org.eclipse.jdt.internal.core.index.Index;
+
+/**
+ * A directory of index files which is shared by workspaces, and possibly by several processes at once. Its indexes
+ * are keyed by the content of the libraries they index, so that a library indexed in a workspace does not have to be
+ * indexed again in another one.
+ * <p>
+ * The index files are copied in and out of the store while holding a lock on the store, so that no process reads an
+ * index which another process is still writing. The indexes copied out of the store are checked before they are used.
+ * </p>
+ */
+public class SharedIndexStore {
+	private static final String LOCK_FILE_NAME = ".lock"; //$NON-NLS-1$
+	private static final String INDEX_EXTENSION = ".index"; //$NON-NLS-1$
+	private static final String TMP_EXTENSION = ".tmp"; //$NON-NLS-1$
+
+	/**
+	 * File locks are held on behalf of the whole JVM, which cannot lock a file twice: the stores of this JVM take
+	 * turns to lock their directory.
+	 */
+	private static final Object JVM_LOCK = new Object();
+
+	private final File directory;
+
+	public SharedIndexStore(File directory) {
+		this.directory = directory;
+	}
+
+	/**
+	 * Returns the key of the index of the given library in the store: a hash of its content, of its name (the name of
+	 * a jar file gives the name of its automatic module) and of the version of the index files.
+	 */
+	public String computeKey(File library) throws IOException {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+		} catch (NoSuchAlgorithmException e) {
+			throw new IOException(e);
+		}
+		digest.update(DiskIndex.SIGNATURE.getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) 0);
+		digest.update(library.getName().getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) 0);
+		byte[] buffer = new byte[8192];
+		try (InputStream stream = Files.newInputStream(library.toPath())) {
+			for (int read; (read = stream.read(buffer)) >= 0;)
+				digest.update(buffer, 0, read);
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	/**
+	 * Copies the index with the given key to the given file, unless the index of the store has not the signature of
+	 * the current index files or a corrupted header.
+	 *
+	 * @return whether the store has a valid index with the given key, the given file is not created otherwise
+	 */
+	public boolean copyIndex(String key, File target) throws IOException {
+		File indexFile = new File(this.directory, key + INDEX_EXTENSION);
+		if (!indexFile.isFile()) return false;
+
+		synchronized (JVM_LOCK) {
+			try (FileChannel channel = openLockFile(); FileLock lock = channel.lock(0, Long.MAX_VALUE, true /*shared*/)) {
+				if (!indexFile.isFile()) return false; // removed by another process
+				Files.copy(indexFile.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		try {
+			// reads the signature and the header of the copy
+			new Index(new FileIndexLocation(target), key, true /*reuse index file*/);
+		} catch (IOException | RuntimeException e) {
+			Files.deleteIfExists(target.toPath());
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Adds the given index file to the store with the given key, replacing any index already stored with this key.
+	 */
+	public void publishIndex(String key, File indexFile) throws IOException {
+		if (!this.directory.isDirectory())
+			Files.createDirectories(this.directory.toPath());
+
+		synchronized (JVM_LOCK) {
+			try (FileChannel channel = openLockFile(); FileLock lock = channel.lock(0, Long.MAX_VALUE, false /*exclusive*/)) {
+				Path tmpFile = Files.createTempFile(this.directory.toPath(), key, TMP_EXTENSION);
+				try {
+					Files.copy(indexFile.toPath(), tmpFile, StandardCopyOption.REPLACE_EXISTING);
+					Files.move(tmpFile, new File(this.directory, key + INDEX_EXTENSION).toPath(),
+							StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				} finally {
+					Files.deleteIfExists(tmpFile);
+				}
+			}
+		}
+	}
+
+	private FileChannel openLockFile() throws IOException {
+		// the channel must be readable to take a shared lock, and writable to take an exclusive one
+		return FileChannel.open(new File(this.directory, LOCK_FILE_NAME).toPath(), StandardOpenOption.CREATE,
+				StandardOpenOption.READ, StandardOpenOption.WRITE);
+	}
+
+	@Override
+	public String toString() {
+		return "Shared index store " + this.directory; //$NON-NLS-1$
+	}
+}
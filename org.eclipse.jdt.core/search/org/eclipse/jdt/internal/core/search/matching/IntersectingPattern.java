@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -38,21 +38,32 @@ public void findIndexMatches(Index index, IndexQueryRequestor requestor, SearchP
 
 	resetQuery();
 	SimpleSet intersectedNames = null;
+	DocumentNumbers intersectedNumbers = null;
+	String[] matchingNames = null;
 	try {
 		index.startQuery();
+		// when no document was changed in the memory index, all the documents are known by their number in the disk index:
+		// intersect the compressed lists of numbers and only read the names of the documents matching all the queries
+		boolean intersectNumbers = !index.hasChanged();
 		do {
 			SearchPattern pattern = currentPattern();
 			EntryResult[] entries = pattern.queryIn(index);
 			if (entries == null) return;
 
 			SearchPattern decodedResult = pattern.getBlankPattern();
-			SimpleSet newIntersectedNames = new SimpleSet(3);
+			SimpleSet newIntersectedNames = intersectNumbers ? null : new SimpleSet(3);
+			DocumentNumbers[] matchingNumbers = intersectNumbers ? new DocumentNumbers[entries.length] : null;
+			int matchingCount = 0;
 			for (int i = 0, l = entries.length; i < l; i++) {
 				if (progressMonitor != null && progressMonitor.isCanceled()) throw new OperationCanceledException();
 
 				EntryResult entry = entries[i];
 				decodedResult.decodeIndexKey(entry.getWord());
 				if (pattern.matchesDecodedKey(decodedResult)) {
+					if (intersectNumbers) {
+						matchingNumbers[matchingCount++] = entry.getDocumentNumbers();
+						continue;
+					}
 					String[] names = entry.getDocumentNames(index);
 					if (intersectedNames != null) {
 						for (int j = 0, n = names.length; j < n; j++)
@@ -65,16 +76,27 @@ public void findIndexMatches(Index index, IndexQueryRequestor requestor, SearchP
 				}
 			}
 
-			if (newIntersectedNames.elementSize == 0) return;
-			intersectedNames = newIntersectedNames;
+			if (intersectNumbers) {
+				DocumentNumbers newIntersectedNumbers = DocumentNumbers.union(matchingNumbers, matchingCount);
+				if (intersectedNumbers != null)
+					newIntersectedNumbers = intersectedNumbers.intersect(newIntersectedNumbers);
+				if (newIntersectedNumbers.size() == 0) return;
+				intersectedNumbers = newIntersectedNumbers;
+			} else {
+				if (newIntersectedNames.elementSize == 0) return;
+				intersectedNames = newIntersectedNames;
+			}
 		} while (hasNextQuery());
+
+		if (intersectNumbers)
+			matchingNames = intersectedNumbers.getDocumentNames(index);
 	} finally {
 		index.stopQuery();
 	}
 
 	String containerPath = index.containerPath;
 	char separator = index.separator;
-	Object[] names = intersectedNames.values;
+	Object[] names = matchingNames != null ? matchingNames : intersectedNames.values;
 	for (int i = 0, l = names.length; i < l; i++)
 		if (names[i] != null)
 			acceptMatch((String) names[i], containerPath, separator, null/*no pattern*/, requestor, participant, scope, progressMonitor); // AndPatterns cannot provide the decoded result
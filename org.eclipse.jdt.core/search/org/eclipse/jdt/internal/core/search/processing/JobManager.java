@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,10 +13,16 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.core.search.processing;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 
@@ -41,6 +47,25 @@ public abstract class JobManager {
 
 	private volatile boolean executing;
 
+	/**
+	 * jobs of the queue which are being executed by the workers, see {@link #startConcurrentJobs()}
+	 * <br>
+	 * synchronized by JobManager.this
+	 */
+	private final Set<IJob> concurrentJobs = Collections.newSetFromMap(new IdentityHashMap<>());
+
+	/**
+	 * threads executing the concurrent jobs, created when first needed
+	 * <br>
+	 * synchronized by JobManager.this
+	 */
+	private ExecutorService workers;
+
+	/**
+	 * Number of queued jobs looked at for jobs which can be executed concurrently.
+	 */
+	private static final int CONCURRENT_JOBS_LOOKAHEAD = 1000;
+
 	/**
 	 * background processing
 	 * <br>
@@ -161,6 +186,29 @@ public abstract class JobManager {
 				}
 			}
 
+			synchronized (this) {
+				// cancel the concurrent jobs of the family and wait until they have finished
+				boolean waiting;
+				do {
+					waiting = false;
+					for (IJob concurrentJob : this.concurrentJobs) {
+						if (jobFamily == null || concurrentJob.belongsTo(jobFamily)) {
+							concurrentJob.cancel();
+							waiting = true;
+						}
+					}
+					if (waiting) {
+						if (VERBOSE)
+							Util.verbose("-> waiting end of concurrent background jobs - " + this.concurrentJobs); //$NON-NLS-1$
+						try {
+							this.wait(50);
+						} catch (InterruptedException e) {
+							// ignore
+						}
+					}
+				} while (waiting);
+			}
+
 			synchronized(this) {
 				Iterator<IJob> it = this.awaitingJobs.iterator();
 				boolean notify = false;
@@ -212,7 +260,8 @@ public abstract class JobManager {
 			if(job == first) {
 				break;
 			}
-			if (request.test(job)) {
+			// nor the jobs which have already started concurrently
+			if (!this.concurrentJobs.contains(job) && request.test(job)) {
 				return true;
 			}
 		}
@@ -235,6 +284,85 @@ public abstract class JobManager {
 			}
 		}
 	}
+	/**
+	 * Answers how many jobs may be executed by workers while the background thread executes the first job of the
+	 * queue, 0 (no concurrent jobs) by default.
+	 */
+	protected int concurrentJobsLimit() {
+		return 0;
+	}
+	/**
+	 * Answers the key of the given job when it can be executed concurrently with jobs of other keys, or null if the
+	 * job can only be executed once all the jobs requested before it have completed, which is the default.
+	 * Jobs of equal keys, for example the jobs updating the same index, are executed one after the other in the
+	 * order they were requested.
+	 */
+	protected Object concurrencyKey(IJob job) {
+		return null;
+	}
+	/**
+	 * Starts executing with the workers the queued jobs which can be executed concurrently: the jobs, following the
+	 * first one, whose key is not the key of a job requested before them, up to the first job without key.
+	 */
+	private synchronized void startConcurrentJobs() {
+		int limit = concurrentJobsLimit();
+		if (this.concurrentJobs.size() >= limit || this.enableCount <= 0 || this.awaitingJobs.size() <= 1)
+			return;
+		Set<Object> keys = new HashSet<>();
+		int lookahead = CONCURRENT_JOBS_LOOKAHEAD;
+		for (Iterator<IJob> it = this.awaitingJobs.iterator(); it.hasNext() && lookahead-- > 0;) {
+			IJob job = it.next();
+			Object key = concurrencyKey(job);
+			if (key == null)
+				break; // the following jobs wait for this one
+			// the first job is executed by the background thread
+			if (keys.add(key) && keys.size() > 1 && !this.concurrentJobs.contains(job)) {
+				if (this.workers == null) {
+					this.workers = Executors.newFixedThreadPool(limit, runnable -> {
+						Thread t = new Thread(runnable, processName());
+						t.setDaemon(true);
+						t.setPriority(Thread.NORM_PRIORITY-1);
+						t.setContextClassLoader(this.getClass().getClassLoader());
+						return t;
+					});
+				}
+				if (VERBOSE)
+					Util.verbose("STARTING concurrent background job - " + job); //$NON-NLS-1$
+				this.concurrentJobs.add(job);
+				this.workers.execute(() -> executeConcurrentJob(job));
+				if (this.concurrentJobs.size() >= limit)
+					break;
+			}
+		}
+	}
+	private void executeConcurrentJob(IJob job) {
+		try {
+			JavaModelManager.getJavaModelManager().cacheZipFiles(job);
+			job.execute(null);
+		} catch (RuntimeException | Error e) {
+			// keep the job manager alive, the index of the job will be inconsistent
+			Util.log(e, "Background Indexer Crash Recovery"); //$NON-NLS-1$
+		} finally {
+			JavaModelManager.getJavaModelManager().flushZipFiles(job);
+			if (VERBOSE)
+				Util.verbose("FINISHED concurrent background job - " + job); //$NON-NLS-1$
+			concurrentJobDone(job);
+		}
+	}
+	/**
+	 * Removes the given job, executed by a worker, from the queue.
+	 */
+	protected synchronized void concurrentJobDone(IJob job) {
+		this.concurrentJobs.remove(job);
+		for (Iterator<IJob> it = this.awaitingJobs.iterator(); it.hasNext();) {
+			if (it.next() == job) {
+				it.remove();
+				break;
+			}
+		}
+		notifyAll(); // wake up the background thread if it waits for this job, and waiters for awaitingJobsCount()
+		startConcurrentJobs();
+	}
 	/**
 	 * When idle, give chance to do something
 	 */
@@ -401,6 +529,9 @@ public abstract class JobManager {
 			Util.verbose("AWAITING JOBS count: " + awaitingJobsCount()); //$NON-NLS-1$
 		}
 		notifyAll(); // wake up the background thread if it is waiting
+		if (this.executing) {
+			startConcurrentJobs(); // the background thread is busy with the first job
+		}
 	}
 	/**
 	 * Flush current state
@@ -487,6 +618,11 @@ public abstract class JobManager {
 							} else {
 								this.wait(); // wait until a new job is posted or disabled indexer is enabled again
 							}
+						} else if (this.concurrentJobs.contains(job)) {
+							// the first job was started by a worker
+							idlingStart = null;
+							this.wait(); // wait until it has completed
+							continue;
 						}
 					}
 					if (job == null) {
@@ -524,6 +660,7 @@ public abstract class JobManager {
 							JavaModelManager.getJavaModelManager().cacheZipFiles(this);
 							cacheZipFiles = true;
 						}
+						startConcurrentJobs();
 						job.execute(null); // may enqueue a new job
 					} finally {
 						this.executing = false;
@@ -585,6 +722,14 @@ public abstract class JobManager {
 				// in case processing thread is handling a job
 				thread.join();
 			}
+			ExecutorService pool;
+			synchronized (this) {
+				pool = this.workers;
+				this.workers = null;
+			}
+			if (pool != null) {
+				pool.shutdown();
+			}
 			Job job = this.progressJob;
 			if (job != null) {
 				job.cancel();